@@ -49,7 +49,8 @@ class CharybdisProcessorITest {
             new File(PACKAGE_PATH, "AptTestKeyspaceDefinition.java"),
             new File(PACKAGE_PATH, "User.java"),
             new File(PACKAGE_PATH, "Country.java"),
-            new File(PACKAGE_PATH, "Address.java")
+            new File(PACKAGE_PATH, "Address.java"),
+            new File(PACKAGE_PATH, "UserEmail.java")
         ));
 
     Iterable<String> options = Arrays.asList("-d", "target/test-classes");
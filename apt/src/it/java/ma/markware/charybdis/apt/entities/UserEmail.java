@@ -0,0 +1,59 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.apt.entities;
+
+import java.util.UUID;
+import ma.markware.charybdis.model.annotation.Projection;
+
+@Projection(table = User.class)
+public class UserEmail {
+
+  private UUID id;
+
+  private int age;
+
+  private String email;
+
+  public UserEmail() {
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(final UUID id) {
+    this.id = id;
+  }
+
+  public int getAge() {
+    return age;
+  }
+
+  public void setAge(final int age) {
+    this.age = age;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(final String email) {
+    this.email = email;
+  }
+}
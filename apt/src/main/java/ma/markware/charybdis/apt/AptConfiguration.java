@@ -19,6 +19,7 @@
 package ma.markware.charybdis.apt;
 
 import ma.markware.charybdis.apt.metatype.KeyspaceMetaType;
+import ma.markware.charybdis.apt.metatype.ProjectionMetaType;
 import ma.markware.charybdis.apt.metatype.TableMetaType;
 import ma.markware.charybdis.apt.metatype.UdtMetaType;
 import ma.markware.charybdis.apt.parser.EntityParser;
@@ -55,6 +56,13 @@ public interface AptConfiguration {
    */
   EntityParser<TableMetaType> getTableParser();
 
+  /**
+   * Extracts parser of classes annotated with {@link ma.markware.charybdis.model.annotation.Projection}
+   *
+   * @return File parser of @Projection annotated classes
+   */
+  EntityParser<ProjectionMetaType> getProjectionParser();
+
   /**
    * Extracts serializer used to write {@link ma.markware.charybdis.model.field.metadata.KeyspaceMetadata} custom implementation
    *
@@ -79,6 +87,14 @@ public interface AptConfiguration {
    */
   EntitySerializer<TableMetaType> getTableSerializer();
 
+  /**
+   * Extracts serializer used to write {@link ma.markware.charybdis.model.field.metadata.ProjectionMetadata} custom implementation
+   *
+   * @return {@link ProjectionMetaType} serializer to generate {@link ma.markware.charybdis.model.field.metadata.ProjectionMetadata}
+   * implementations
+   */
+  EntitySerializer<ProjectionMetaType> getProjectionSerializer();
+
   /**
    * Extracts serializer used to write ddl cql scripts
    *
@@ -27,6 +27,7 @@ import java.util.Set;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.Element;
 import ma.markware.charybdis.apt.metatype.KeyspaceMetaType;
+import ma.markware.charybdis.apt.metatype.ProjectionMetaType;
 import ma.markware.charybdis.apt.metatype.TableMetaType;
 import ma.markware.charybdis.apt.metatype.UdtMetaType;
 import ma.markware.charybdis.model.annotation.Udt;
@@ -44,6 +45,7 @@ public class AptContext {
   List<KeyspaceMetaType> keyspaceMetaTypes;
   List<UdtMetaType> udtMetaTypes;
   List<TableMetaType> tableMetaTypes;
+  List<ProjectionMetaType> projectionMetaTypes;
 
   /**
    * Used to initialize charybdis' annotation processor.
@@ -61,6 +63,7 @@ public class AptContext {
     keyspaceMetaTypes = new ArrayList<>();
     udtMetaTypes = new ArrayList<>();
     tableMetaTypes = new ArrayList<>();
+    projectionMetaTypes = new ArrayList<>();
 
     for (final Element element : roundEnv.getElementsAnnotatedWith(Udt.class)) {
       String udtName = configuration.getUdtParser().resolveName(element);
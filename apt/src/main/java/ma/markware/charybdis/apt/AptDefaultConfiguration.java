@@ -24,12 +24,14 @@ import javax.lang.model.util.Types;
 import ma.markware.charybdis.apt.parser.ColumnFieldParser;
 import ma.markware.charybdis.apt.parser.FieldTypeParser;
 import ma.markware.charybdis.apt.parser.KeyspaceParser;
+import ma.markware.charybdis.apt.parser.ProjectionParser;
 import ma.markware.charybdis.apt.parser.TableParser;
 import ma.markware.charybdis.apt.parser.UdtFieldParser;
 import ma.markware.charybdis.apt.parser.UdtParser;
 import ma.markware.charybdis.apt.serializer.ColumnFieldSerializer;
 import ma.markware.charybdis.apt.serializer.DdlScriptSerializer;
 import ma.markware.charybdis.apt.serializer.KeyspaceSerializer;
+import ma.markware.charybdis.apt.serializer.ProjectionSerializer;
 import ma.markware.charybdis.apt.serializer.TableSerializer;
 import ma.markware.charybdis.apt.serializer.UdtFieldSerializer;
 import ma.markware.charybdis.apt.serializer.UdtSerializer;
@@ -44,20 +46,25 @@ public class AptDefaultConfiguration implements AptConfiguration {
   private final KeyspaceParser keyspaceParser;
   private final UdtParser udtParser;
   private final TableParser tableParser;
+  private final ProjectionParser projectionParser;
   private final KeyspaceSerializer keyspaceSerializer;
   private final UdtSerializer udtSerializer;
   private final TableSerializer tableSerializer;
+  private final ProjectionSerializer projectionSerializer;
   private final DdlScriptSerializer ddlScriptSerializer;
 
   private AptDefaultConfiguration(final KeyspaceParser keyspaceParser, final UdtParser udtParser,
-      final TableParser tableParser, final KeyspaceSerializer keyspaceSerializer, final UdtSerializer udtSerializer,
-      final TableSerializer tableSerializer, final DdlScriptSerializer ddlScriptSerializer) {
+      final TableParser tableParser, final ProjectionParser projectionParser, final KeyspaceSerializer keyspaceSerializer,
+      final UdtSerializer udtSerializer, final TableSerializer tableSerializer, final ProjectionSerializer projectionSerializer,
+      final DdlScriptSerializer ddlScriptSerializer) {
     this.keyspaceParser = keyspaceParser;
     this.udtParser = udtParser;
     this.tableParser = tableParser;
+    this.projectionParser = projectionParser;
     this.keyspaceSerializer = keyspaceSerializer;
     this.udtSerializer = udtSerializer;
     this.tableSerializer = tableSerializer;
+    this.projectionSerializer = projectionSerializer;
     this.ddlScriptSerializer = ddlScriptSerializer;
   }
 
@@ -75,13 +82,16 @@ public class AptDefaultConfiguration implements AptConfiguration {
     UdtFieldParser udtFieldParser = new UdtFieldParser(fieldTypeParser, types);
     ColumnFieldSerializer columnFieldSerializer = new ColumnFieldSerializer(aptContext);
     UdtFieldSerializer udtFieldSerializer = new UdtFieldSerializer(aptContext);
+    TableParser tableParser = new TableParser(columnFieldParser, aptContext, types);
     return new AptDefaultConfiguration(
         new KeyspaceParser(aptContext),
         new UdtParser(udtFieldParser, aptContext, types),
-        new TableParser(columnFieldParser, aptContext, types),
+        tableParser,
+        new ProjectionParser(tableParser, aptContext, types),
         new KeyspaceSerializer(filer),
         new UdtSerializer(udtFieldSerializer, aptContext, filer),
         new TableSerializer(columnFieldSerializer, filer),
+        new ProjectionSerializer(filer),
         new DdlScriptSerializer(aptContext, filer));
   }
 
@@ -112,6 +122,11 @@ public class AptDefaultConfiguration implements AptConfiguration {
   /**
    * {@inheritDoc}
    */
+  @Override
+  public ProjectionParser getProjectionParser() {
+    return projectionParser;
+  }
+
   @Override
   public KeyspaceSerializer getKeyspaceSerializer() {
     return keyspaceSerializer;
@@ -136,6 +151,11 @@ public class AptDefaultConfiguration implements AptConfiguration {
   /**
    * {@inheritDoc}
    */
+  @Override
+  public ProjectionSerializer getProjectionSerializer() {
+    return projectionSerializer;
+  }
+
   @Override
   public DdlScriptSerializer getDdlScriptSerializer() {
     return ddlScriptSerializer;
@@ -33,6 +33,7 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import ma.markware.charybdis.apt.metatype.KeyspaceMetaType;
+import ma.markware.charybdis.apt.metatype.ProjectionMetaType;
 import ma.markware.charybdis.apt.metatype.TableMetaType;
 import ma.markware.charybdis.apt.metatype.UdtMetaType;
 import ma.markware.charybdis.apt.parser.EntityParser;
@@ -40,6 +41,7 @@ import ma.markware.charybdis.apt.serializer.DdlScriptSerializer;
 import ma.markware.charybdis.apt.serializer.EntitySerializer;
 import ma.markware.charybdis.apt.utils.TypeUtils;
 import ma.markware.charybdis.model.annotation.Keyspace;
+import ma.markware.charybdis.model.annotation.Projection;
 import ma.markware.charybdis.model.annotation.Table;
 import ma.markware.charybdis.model.annotation.Udt;
 
@@ -50,6 +52,7 @@ import ma.markware.charybdis.model.annotation.Udt;
  *   <li>{@link Keyspace}</li>
  *   <li>{@link Udt}</li>
  *   <li>{@link Table}</li>
+ *   <li>{@link Projection}</li>
  * </ul>
  *
  * @author Oussama Markad
@@ -84,6 +87,7 @@ public class CharybdisProcessor extends AbstractProcessor {
     supportedAnnotationTypes.add(Keyspace.class.getCanonicalName());
     supportedAnnotationTypes.add(Table.class.getCanonicalName());
     supportedAnnotationTypes.add(Udt.class.getCanonicalName());
+    supportedAnnotationTypes.add(Projection.class.getCanonicalName());
     return supportedAnnotationTypes;
   }
 
@@ -122,6 +126,8 @@ public class CharybdisProcessor extends AbstractProcessor {
     aptContext.udtMetaTypes.addAll(parseUdtClasses(roundEnv.getElementsAnnotatedWith(Udt.class), aptConfiguration.getUdtParser()));
 
     aptContext.tableMetaTypes.addAll(parseTableClasses(roundEnv.getElementsAnnotatedWith(Table.class), aptConfiguration.getTableParser()));
+
+    aptContext.projectionMetaTypes.addAll(parseProjectionClasses(roundEnv.getElementsAnnotatedWith(Projection.class), aptConfiguration.getProjectionParser()));
   }
 
   private List<KeyspaceMetaType> parseKeyspaceClasses(Set<? extends Element> annotatedClasses, EntityParser<KeyspaceMetaType> keyspaceParser) {
@@ -142,6 +148,12 @@ public class CharybdisProcessor extends AbstractProcessor {
                            .collect(Collectors.toList());
   }
 
+  private List<ProjectionMetaType> parseProjectionClasses(Set<? extends Element> annotatedClasses, EntityParser<ProjectionMetaType> projectionParser) {
+    return annotatedClasses.stream()
+                           .map(projectionParser::parse)
+                           .collect(Collectors.toList());
+  }
+
   private void serialize() {
 
     serializeKeyspaceMetadata(aptContext.keyspaceMetaTypes, aptConfiguration.getKeyspaceSerializer());
@@ -150,6 +162,8 @@ public class CharybdisProcessor extends AbstractProcessor {
 
     serializeTableMetadata(aptContext.tableMetaTypes, aptConfiguration.getTableSerializer());
 
+    serializeProjectionMetadata(aptContext.projectionMetaTypes, aptConfiguration.getProjectionSerializer());
+
     serializeDdlScriptFiles(aptContext.keyspaceMetaTypes, aptContext.udtMetaTypes, aptContext.tableMetaTypes, aptConfiguration.getDdlScriptSerializer());
   }
 
@@ -165,6 +179,10 @@ public class CharybdisProcessor extends AbstractProcessor {
     tableMetaTypes.forEach(tableSerializer::serialize);
   }
 
+  private void serializeProjectionMetadata(final List<ProjectionMetaType> projectionMetaTypes, final EntitySerializer<ProjectionMetaType> projectionSerializer) {
+    projectionMetaTypes.forEach(projectionSerializer::serialize);
+  }
+
   private void serializeDdlScriptFiles(final List<KeyspaceMetaType> keyspaceMetaTypes, final List<UdtMetaType> udtMetaTypes,
       final List<TableMetaType> tableMetaTypes, final DdlScriptSerializer ddlScriptSerializer) {
     if (!keyspaceMetaTypes.isEmpty() || !udtMetaTypes.isEmpty() || !tableMetaTypes.isEmpty()) {
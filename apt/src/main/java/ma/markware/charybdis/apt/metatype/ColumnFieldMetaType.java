@@ -39,6 +39,7 @@ public class ColumnFieldMetaType extends AbstractFieldMetaType {
   private SequenceModel sequenceModel;
   private boolean isCreationDate;
   private boolean isLastUpdatedDate;
+  private boolean isLazy;
 
   public ColumnFieldMetaType(AbstractFieldMetaType abstractFieldMetaType) {
     super(abstractFieldMetaType);
@@ -123,4 +124,12 @@ public class ColumnFieldMetaType extends AbstractFieldMetaType {
   public void setLastUpdatedDate(final boolean lastUpdatedDate) {
     isLastUpdatedDate = lastUpdatedDate;
   }
+
+  public boolean isLazy() {
+    return isLazy;
+  }
+
+  public void setLazy(final boolean lazy) {
+    isLazy = lazy;
+  }
 }
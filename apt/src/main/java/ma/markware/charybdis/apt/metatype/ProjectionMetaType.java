@@ -0,0 +1,62 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.apt.metatype;
+
+import java.util.List;
+
+/**
+ * A specific Class meta-type.
+ * Holds metadata found on classes annotated with {@link ma.markware.charybdis.model.annotation.Projection}.
+ *
+ * @author Oussama Markad
+ */
+public class ProjectionMetaType extends AbstractEntityMetaType {
+
+  private String projectionName;
+  private TableMetaType table;
+  private List<ColumnFieldMetaType> columns;
+
+  public ProjectionMetaType(final AbstractEntityMetaType abstractEntityMetaType) {
+    super(abstractEntityMetaType);
+  }
+
+  public String getProjectionName() {
+    return projectionName;
+  }
+
+  public void setProjectionName(final String projectionName) {
+    this.projectionName = projectionName;
+  }
+
+  public TableMetaType getTable() {
+    return table;
+  }
+
+  public void setTable(final TableMetaType table) {
+    this.table = table;
+  }
+
+  public List<ColumnFieldMetaType> getColumns() {
+    return columns;
+  }
+
+  public void setColumns(final List<ColumnFieldMetaType> columns) {
+    this.columns = columns;
+  }
+}
@@ -34,6 +34,8 @@ public class TableMetaType extends AbstractEntityMetaType {
   private ConsistencyLevel defaultWriteConsistency;
   private ConsistencyLevel defaultReadConsistency;
   private SerialConsistencyLevel defaultSerialConsistency;
+  private boolean updateIfExists;
+  private boolean insertNullAsUnset;
 
   private List<ColumnFieldMetaType> columns;
   private List<ColumnFieldMetaType> partitionKeyColumns;
@@ -75,6 +77,22 @@ public class TableMetaType extends AbstractEntityMetaType {
     this.defaultSerialConsistency = defaultSerialConsistency;
   }
 
+  public boolean isUpdateIfExists() {
+    return updateIfExists;
+  }
+
+  public void setUpdateIfExists(final boolean updateIfExists) {
+    this.updateIfExists = updateIfExists;
+  }
+
+  public boolean isInsertNullAsUnset() {
+    return insertNullAsUnset;
+  }
+
+  public void setInsertNullAsUnset(final boolean insertNullAsUnset) {
+    this.insertNullAsUnset = insertNullAsUnset;
+  }
+
   public List<ColumnFieldMetaType> getColumns() {
     return columns;
   }
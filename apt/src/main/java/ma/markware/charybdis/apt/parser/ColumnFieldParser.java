@@ -112,12 +112,28 @@ public class ColumnFieldParser extends AbstractFieldParser<ColumnFieldMetaType>
       validatePrimaryKeyTypes(columnMetaType);
     }
 
+    if (column.lazy()) {
+      if (!isLazyCandidate(columnMetaType)) {
+        throw new CharybdisParsingException(format("Lazy decoding is only supported on list, set and map columns outside the primary key, column '%s'",
+                                                   columnMetaType.getDeserializationName()));
+      }
+      columnMetaType.setLazy(true);
+    }
+
     // TODO: ...Check if date type supported
     columnMetaType.setCreationDate(FieldUtils.getAnnotation(classElement, fieldElement, CreationDate.class, types) != null);
     columnMetaType.setLastUpdatedDate(FieldUtils.getAnnotation(classElement, fieldElement, LastUpdatedDate.class, types) != null);
     return columnMetaType;
   }
 
+  /**
+   * @return true if column can be decoded lazily: a list, set or map column outside the primary key.
+   */
+  static boolean isLazyCandidate(final ColumnFieldMetaType columnFieldMetaType) {
+    return !columnFieldMetaType.isPartitionKey() && !columnFieldMetaType.isClusteringKey()
+        && (columnFieldMetaType.isList() || columnFieldMetaType.isSet() || columnFieldMetaType.isMap());
+  }
+
   private void validatePrimaryKeyTypes(final ColumnFieldMetaType columnFieldMetaType) {
     FieldTypeMetaType columnFieldType = columnFieldMetaType.getFieldType();
     if (!EnumSet.of(FieldTypeKind.NORMAL, FieldTypeKind.ENUM).contains(columnFieldType.getFieldTypeKind()) && !columnFieldType.isFrozen()) {
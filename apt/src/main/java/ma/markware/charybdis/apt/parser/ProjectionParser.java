@@ -0,0 +1,138 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.apt.parser;
+
+import static java.lang.String.format;
+
+import com.squareup.javapoet.TypeName;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import ma.markware.charybdis.apt.AptContext;
+import ma.markware.charybdis.apt.exception.CharybdisParsingException;
+import ma.markware.charybdis.apt.metatype.AbstractEntityMetaType;
+import ma.markware.charybdis.apt.metatype.ColumnFieldMetaType;
+import ma.markware.charybdis.apt.metatype.ProjectionMetaType;
+import ma.markware.charybdis.apt.metatype.TableMetaType;
+import ma.markware.charybdis.apt.utils.ClassUtils;
+import ma.markware.charybdis.apt.utils.FieldUtils;
+import ma.markware.charybdis.apt.utils.ParserUtils;
+import ma.markware.charybdis.apt.utils.TypeUtils;
+import ma.markware.charybdis.model.annotation.Projection;
+import ma.markware.charybdis.model.annotation.Table;
+
+/**
+ * A specific Class parser.
+ * Parses classes annotated with {@link ma.markware.charybdis.model.annotation.Projection}.
+ *
+ * @author Oussama Markad
+ */
+public class ProjectionParser extends AbstractEntityParser<ProjectionMetaType> {
+
+  private final EntityParser<TableMetaType> tableParser;
+  private final AptContext aptContext;
+  private final Types types;
+
+  public ProjectionParser(EntityParser<TableMetaType> tableParser, AptContext aptContext, Types types) {
+    this.tableParser = tableParser;
+    this.aptContext = aptContext;
+    this.types = types;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ProjectionMetaType parse(final Element annotatedClass) {
+    validateMandatoryConstructors(annotatedClass);
+
+    String className = annotatedClass.getSimpleName().toString();
+    Element tableClass = types.asElement(getProjectedTableType(annotatedClass));
+    if (tableClass == null || tableClass.getAnnotation(Table.class) == null) {
+      throw new CharybdisParsingException(format("Projection '%s' should reference a class annotated with @Table", className));
+    }
+    TableMetaType tableMetaType = tableParser.parse(tableClass);
+
+    AbstractEntityMetaType abstractEntityMetaType = parseGenericEntity(annotatedClass, tableMetaType.getKeyspaceName(), aptContext);
+    final ProjectionMetaType projectionMetaType = new ProjectionMetaType(abstractEntityMetaType);
+    projectionMetaType.setProjectionName(resolveName(annotatedClass));
+    projectionMetaType.setTable(tableMetaType);
+
+    List<ColumnFieldMetaType> columns = ParserUtils.extractFields(annotatedClass, types)
+                                                   .filter(fieldElement -> !fieldElement.getModifiers().contains(Modifier.STATIC))
+                                                   .map(fieldElement -> parseProjectedColumn(className, fieldElement, tableMetaType))
+                                                   .collect(Collectors.toList());
+    if (columns.isEmpty()) {
+      throw new CharybdisParsingException(format("Projection '%s' should define at least one column", className));
+    }
+    projectionMetaType.setColumns(columns);
+
+    return projectionMetaType;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolveName(final Element annotatedClass) {
+    return resolveName(null, annotatedClass.getSimpleName());
+  }
+
+  /**
+   * Class attributes of annotations are only accessible as type mirrors at compile time.
+   */
+  private TypeMirror getProjectedTableType(final Element annotatedClass) {
+    try {
+      annotatedClass.getAnnotation(Projection.class).table();
+    } catch (MirroredTypeException e) {
+      return e.getTypeMirror();
+    }
+    throw new CharybdisParsingException(format("Projected table of '%s' could not be resolved", annotatedClass.getSimpleName()));
+  }
+
+  /**
+   * Matches projection field with the table column of same name and type.
+   */
+  private ColumnFieldMetaType parseProjectedColumn(final String className, final Element fieldElement, final TableMetaType tableMetaType) {
+    String fieldName = fieldElement.getSimpleName().toString();
+    ColumnFieldMetaType column = tableMetaType.getColumns().stream()
+                                              .filter(columnFieldMetaType -> columnFieldMetaType.getDeserializationName().equals(fieldName))
+                                              .findFirst()
+                                              .orElseThrow(() -> new CharybdisParsingException(
+                                                  format("Field '%s' in projection '%s' does not match any column of table '%s'", fieldName, className,
+                                                         tableMetaType.getTableName())));
+
+    TypeName fieldType = ClassUtils.primitiveToWrapper(TypeName.get(fieldElement.asType()));
+    if (!TypeUtils.isTypeEquals(fieldType, column.getFieldType().getDeserializationTypeName())) {
+      throw new CharybdisParsingException(format("Field '%s' in projection '%s' should have type '%s' of column '%s'", fieldName, className,
+                                                 column.getFieldType().getDeserializationTypeCanonicalName(), column.getSerializationName()));
+    }
+
+    // Projections are only read, a public setter is enough
+    FieldUtils.getSetterMethodFromField(fieldElement, types)
+              .orElseThrow(() -> new CharybdisParsingException(
+                  format("A public setter [name: '%s', parameter type: '%s', return type: void] is mandatory for field '%s' in class '%s'",
+                         column.getSetterName(), column.getFieldType().getDeserializationTypeCanonicalName(), fieldName, className)));
+    return column;
+  }
+}
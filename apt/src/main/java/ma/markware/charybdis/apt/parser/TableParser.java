@@ -73,6 +73,8 @@ public class TableParser extends AbstractEntityParser<TableMetaType> {
     tableMetaType.setDefaultReadConsistency(table.readConsistency());
     tableMetaType.setDefaultWriteConsistency(table.writeConsistency());
     tableMetaType.setDefaultSerialConsistency(table.serialConsistency());
+    tableMetaType.setUpdateIfExists(table.updateIfExists());
+    tableMetaType.setInsertNullAsUnset(table.insertNullAsUnset());
 
     // Extract fields and super fields annotated with @Column
     Stream<? extends Element> fields = ParserUtils.extractFields(annotatedClass, types);
@@ -81,6 +83,12 @@ public class TableParser extends AbstractEntityParser<TableMetaType> {
                                                     .filter(Objects::nonNull)
                                                     .collect(Collectors.toList());
 
+    if (table.lazyCollections()) {
+      columns.stream()
+             .filter(ColumnFieldParser::isLazyCandidate)
+             .forEach(column -> column.setLazy(true));
+    }
+
     tableMetaType.setColumns(columns);
 
     tableMetaType.setPartitionKeyColumns(columns.stream()
@@ -41,6 +41,9 @@ import ma.markware.charybdis.apt.exception.CharybdisSerializationException;
 import ma.markware.charybdis.apt.metatype.AbstractFieldMetaType;
 import ma.markware.charybdis.apt.metatype.FieldTypeMetaType;
 import ma.markware.charybdis.apt.utils.NameUtils;
+import ma.markware.charybdis.model.lazy.LazyList;
+import ma.markware.charybdis.model.lazy.LazyMap;
+import ma.markware.charybdis.model.lazy.LazySet;
 import ma.markware.charybdis.model.utils.StringUtils;
 
 /**
@@ -68,15 +71,20 @@ abstract class AbstractFieldSerializer<FIELD_META_TYPE extends AbstractFieldMeta
   public FieldSpec serializeFieldGenericType(final FIELD_META_TYPE fieldMetaType) {
     FieldTypeMetaType fieldType = fieldMetaType.getFieldType();
     if (fieldType.isCustom() || fieldType.isComplex()) {
-      return FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(GenericType.class), fieldType.getSerializationTypeName()),
-                                                         NameUtils.resolveGenericTypeName(fieldMetaType.getDeserializationName()))
-                      .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
-                      .initializer("new $T<$L>(){}", GenericType.class, fieldType.getSerializationTypeCanonicalName())
-                      .build();
+      return buildFieldGenericType(fieldMetaType);
     }
     return null;
   }
 
+  FieldSpec buildFieldGenericType(final AbstractFieldMetaType fieldMetaType) {
+    FieldTypeMetaType fieldType = fieldMetaType.getFieldType();
+    return FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(GenericType.class), fieldType.getSerializationTypeName()),
+                                                       NameUtils.resolveGenericTypeName(fieldMetaType.getDeserializationName()))
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T<$L>(){}", GenericType.class, fieldType.getSerializationTypeCanonicalName())
+                    .build();
+  }
+
   MethodSpec buildFieldMetadataSerializeMethod(final AbstractFieldMetaType fieldMetaType) {
     return buildFieldMetadataSerializeMethod(fieldMetaType.getFieldType(), SerializationConstants.SERIALIZE_FIELD_METHOD);
   }
@@ -115,6 +123,40 @@ abstract class AbstractFieldSerializer<FIELD_META_TYPE extends AbstractFieldMeta
                      .build();
   }
 
+  MethodSpec buildFieldMetadataDeserializeMethod(final FieldTypeMetaType fieldType, final String methodName) {
+    String parameterName = "field";
+    CodeBlock.Builder codeBlockBuilder = CodeBlock.builder();
+    if (fieldType.isCustom()) {
+      recursiveDeserialize(parameterName, "result0", codeBlockBuilder, fieldType, 1);
+      codeBlockBuilder.addStatement("return result0");
+    } else {
+      switch (fieldType.getFieldTypeKind()) {
+        case UDT:
+          codeBlockBuilder.addStatement("if ($N == null) return null", parameterName);
+          UdtContext udtContext = aptContext.getUdtContext(fieldType.getDeserializationTypeCanonicalName());
+          if (udtContext == null) {
+            throw new CharybdisSerializationException(format("The UDT metadata is not found for type '%s'", fieldType.getDeserializationTypeCanonicalName()));
+          }
+          codeBlockBuilder.addStatement("return $L.$L.$L($N)", udtContext.getUdtMetadataClassName(), udtContext.getUdtName(), SerializationConstants.DESERIALIZE_METHOD, parameterName);
+          break;
+        case ENUM:
+          codeBlockBuilder.addStatement("if ($N == null) return null", parameterName);
+          codeBlockBuilder.addStatement("return $L.valueOf($N)", fieldType.getDeserializationTypeCanonicalName(), parameterName);
+          break;
+        default:
+          codeBlockBuilder.addStatement("return $N", parameterName);
+          break;
+      }
+    }
+
+    return MethodSpec.methodBuilder(methodName)
+                     .addModifiers(Modifier.PUBLIC)
+                     .addParameter(fieldType.getSerializationTypeName(), parameterName)
+                     .returns(fieldType.getDeserializationTypeName())
+                     .addCode(codeBlockBuilder.build())
+                     .build();
+  }
+
   MethodSpec buildFieldMetadataDeserializeMethod(final AbstractFieldMetaType fieldMetaType, final ParameterSpec sourceParam) {
     return buildFieldMetadataDeserializeMethod(fieldMetaType, sourceParam, null);
   }
@@ -179,6 +221,44 @@ abstract class AbstractFieldSerializer<FIELD_META_TYPE extends AbstractFieldMeta
                      .build();
   }
 
+  MethodSpec buildFieldMetadataLazyDeserializeMethod(final AbstractFieldMetaType fieldMetaType, final ParameterSpec sourceParam,
+      final ParameterSpec indexParam) {
+    FieldTypeMetaType fieldType = fieldMetaType.getFieldType();
+    Class<?> lazyClass;
+    switch (fieldType.getFieldTypeKind()) {
+      case LIST:
+        lazyClass = LazyList.class;
+        break;
+      case SET:
+        lazyClass = LazySet.class;
+        break;
+      case MAP:
+        lazyClass = LazyMap.class;
+        break;
+      default:
+        throw new CharybdisSerializationException(format("Lazy decoding is not supported for type '%s'", fieldType.getDeserializationTypeCanonicalName()));
+    }
+    String genericTypeName = NameUtils.resolveGenericTypeName(fieldMetaType.getDeserializationName());
+    String sourceElement = "rawValue";
+    CodeBlock.Builder codeBlockBuilder = CodeBlock.builder();
+    if (fieldType.isCustom()) {
+      // Conversion is deferred along with decoding
+      codeBlockBuilder.add("return $T.of($N, $N, $N, $L -> {\n$>", lazyClass, sourceParam, indexParam, genericTypeName, sourceElement);
+      recursiveDeserialize(sourceElement, "result0", codeBlockBuilder, fieldType, 1);
+      codeBlockBuilder.addStatement("return result0");
+      codeBlockBuilder.add("$<});\n");
+    } else {
+      codeBlockBuilder.addStatement("return $T.of($N, $N, $N, $L -> $L)", lazyClass, sourceParam, indexParam, genericTypeName, sourceElement, sourceElement);
+    }
+    return MethodSpec.methodBuilder(SerializationConstants.DESERIALIZE_FIELD_METHOD)
+                     .addModifiers(Modifier.PUBLIC)
+                     .addParameters(Arrays.asList(sourceParam, indexParam))
+                     .returns(fieldType.getDeserializationTypeName())
+                     .addStatement("if ($N == null || $N.isNull($N)) return null", sourceParam, sourceParam, indexParam)
+                     .addCode(codeBlockBuilder.build())
+                     .build();
+  }
+
   private void  recursiveDeserialize(final String sourceElement, final String destinationElement, final CodeBlock.Builder codeBlockBuilder,
       final FieldTypeMetaType fieldType, int depth) {
     String newSourceElement;
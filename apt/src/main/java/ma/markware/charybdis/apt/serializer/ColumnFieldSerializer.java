@@ -41,6 +41,7 @@ import ma.markware.charybdis.model.field.metadata.PartitionKeyColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.SetColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.UdtColumnMetadata;
 import ma.markware.charybdis.model.option.ClusteringOrder;
+import ma.markware.charybdis.model.utils.StringUtils;
 
 /**
  * A generic Field serializer.
@@ -60,11 +61,17 @@ public class ColumnFieldSerializer extends AbstractFieldSerializer<ColumnFieldMe
     ParameterizedTypeName fieldType = ParameterizedTypeName.get(ClassName.get(ColumnMetadata.class), columnFieldTypeMetaType.getDeserializationTypeName(),
                                                                 columnFieldTypeMetaType.getSerializationTypeName());
     ParameterSpec rowParameter = ParameterSpec.builder(Row.class, "row").build();
+    ParameterSpec indexParameter = ParameterSpec.builder(int.class, "index").build();
 
     List<MethodSpec> methods = new ArrayList<>(Arrays.asList(buildColumnMetadataGetNameMethod(columnFieldMetaType),
                                                              buildColumnMetadataGetFieldClassMethod(columnFieldMetaType),
-                                                             buildFieldMetadataSerializeMethod(columnFieldMetaType),
-                                                             buildFieldMetadataDeserializeMethod(columnFieldMetaType, rowParameter)));
+                                                             buildFieldMetadataSerializeMethod(columnFieldMetaType)));
+    methods.add(buildColumnMetadataDeserializeByNameMethod(columnFieldMetaType, rowParameter));
+    if (columnFieldMetaType.isLazy()) {
+      methods.add(buildFieldMetadataLazyDeserializeMethod(columnFieldMetaType, rowParameter, indexParameter));
+    } else {
+      methods.add(buildFieldMetadataDeserializeMethod(columnFieldMetaType, rowParameter, indexParameter));
+    }
 
     if (columnFieldMetaType.isIndexed()) {
       methods.add(buildColumnMetadataGetIndexNameMethod(columnFieldMetaType));
@@ -92,9 +99,10 @@ public class ColumnFieldSerializer extends AbstractFieldSerializer<ColumnFieldMe
           fieldType = ParameterizedTypeName.get(ClassName.get(MapColumnMetadata.class),
                                                 keyMetaType.getDeserializationTypeName(), valueMetaType.getDeserializationTypeName(),
                                                 keyMetaType.getSerializationTypeName(), valueMetaType.getSerializationTypeName());
-          // Add key serialization method + value serialization method
+          // Add key serialization method + value serialization and deserialization methods
           methods.add(buildMapKeyMetadataSerializeMethod(keyMetaType));
           methods.add(buildMapValueMetadataSerializeMethod(valueMetaType));
+          methods.add(buildMapValueMetadataDeserializeMethod(valueMetaType));
         } else if (columnFieldMetaType.isList()) {
           List<FieldTypeMetaType> fieldSubTypes = columnFieldTypeMetaType.getSubTypes();
           FieldTypeMetaType itemMetaType = fieldSubTypes.get(0);
@@ -120,6 +128,30 @@ public class ColumnFieldSerializer extends AbstractFieldSerializer<ColumnFieldMe
                                     .build());
   }
 
+  /**
+   * {@inheritDoc}
+   * Lazy columns also need a generic type, to decode their raw value on first access.
+   */
+  @Override
+  public FieldSpec serializeFieldGenericType(final ColumnFieldMetaType columnFieldMetaType) {
+    if (columnFieldMetaType.isLazy()) {
+      return buildFieldGenericType(columnFieldMetaType);
+    }
+    return super.serializeFieldGenericType(columnFieldMetaType);
+  }
+
+  private MethodSpec buildColumnMetadataDeserializeByNameMethod(final ColumnFieldMetaType columnFieldMetaType, final ParameterSpec rowParameter) {
+    String columnName = StringUtils.quoteString(columnFieldMetaType.getSerializationName());
+    return MethodSpec.methodBuilder(SerializationConstants.DESERIALIZE_FIELD_METHOD)
+                     .addModifiers(Modifier.PUBLIC)
+                     .addParameter(rowParameter)
+                     .returns(columnFieldMetaType.getFieldType().getDeserializationTypeName())
+                     .addStatement("if ($N == null || $N.isNull($L)) return null", rowParameter, rowParameter, columnName)
+                     .addStatement("return $L($N, $N.getColumnDefinitions().firstIndexOf($L))", SerializationConstants.DESERIALIZE_FIELD_METHOD, rowParameter,
+                                   rowParameter, columnName)
+                     .build();
+  }
+
   private MethodSpec buildColumnMetadataGetNameMethod(ColumnFieldMetaType columnFieldMetaType) {
     return MethodSpec.methodBuilder(SerializationConstants.GET_NAME_METHOD)
                      .addModifiers(Modifier.PUBLIC)
@@ -180,6 +212,10 @@ public class ColumnFieldSerializer extends AbstractFieldSerializer<ColumnFieldMe
     return buildFieldMetadataSerializeMethod(fieldTypeMetaType, SerializationConstants.SERIALIZE_MAP_VALUE_METHOD);
   }
 
+  private MethodSpec buildMapValueMetadataDeserializeMethod(final FieldTypeMetaType fieldTypeMetaType) {
+    return buildFieldMetadataDeserializeMethod(fieldTypeMetaType, SerializationConstants.DESERIALIZE_MAP_VALUE_METHOD);
+  }
+
   private MethodSpec buildListItemMetadataSerializeMethod(final FieldTypeMetaType fieldTypeMetaType) {
     return buildFieldMetadataSerializeMethod(fieldTypeMetaType, SerializationConstants.SERIALIZE_LIST_ITEM_METHOD);
   }
@@ -0,0 +1,164 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.apt.serializer;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Modifier;
+import ma.markware.charybdis.apt.metatype.ColumnFieldMetaType;
+import ma.markware.charybdis.apt.metatype.ProjectionMetaType;
+import ma.markware.charybdis.apt.metatype.TableMetaType;
+import ma.markware.charybdis.apt.utils.ClassUtils;
+import ma.markware.charybdis.model.field.metadata.ColumnIndices;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.ProjectionMetadata;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+
+/**
+ * A specific Class serializer.
+ * Serializes Projection metadata {@link ma.markware.charybdis.apt.metatype.ProjectionMetaType} into java methods and fields.
+ * Projected columns are read with the column metadata of the generated table class.
+ *
+ * @author Oussama Markad
+ */
+public class ProjectionSerializer implements EntitySerializer<ProjectionMetaType> {
+
+  private static final ParameterizedTypeName COLUMNS_TYPE = ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(ColumnMetadata.class));
+
+  private final Filer filer;
+
+  public ProjectionSerializer(final Filer filer) {
+    this.filer = filer;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serialize(final ProjectionMetaType projectionMetaType) {
+    String className = projectionMetaType.getDeserializationName();
+    String packageName = projectionMetaType.getPackageName();
+    String generatedClassName = resolveClassName(className);
+    TableMetaType tableMetaType = projectionMetaType.getTable();
+    ClassName tableClassName = ClassName.get(tableMetaType.getPackageName(),
+                                             tableMetaType.getDeserializationName() + SerializationConstants.TABLE_SERIALIZATION_SUFFIX);
+
+    TypeSpec projectionMetadataSerialization = TypeSpec.classBuilder(generatedClassName)
+                                                       .addModifiers(Modifier.PUBLIC)
+                                                       .addSuperinterface(ParameterizedTypeName.get(ClassName.get(ProjectionMetadata.class),
+                                                                                                    ClassUtils.primitiveToWrapper(
+                                                                                                        projectionMetaType.getTypeName())))
+                                                       .addFields(Arrays.asList(
+                                                           buildStaticInstance(packageName, generatedClassName, projectionMetaType.getProjectionName()),
+                                                           buildColumnNamesField(projectionMetaType.getColumns()),
+                                                           buildColumnIndicesField(),
+                                                           buildColumnsField(tableClassName, projectionMetaType.getColumns())))
+                                                       .addMethods(Arrays.asList(
+                                                           buildPrivateConstructor(),
+                                                           buildGetTableMetadataMethod(tableClassName, tableMetaType.getTableName()),
+                                                           buildGetColumnsMethod(),
+                                                           buildDeserializeMethod(tableClassName, projectionMetaType)))
+                                                       .build();
+
+    writeSerialization(packageName, className, projectionMetadataSerialization, filer);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolveClassName(final String metaTypeClassName) {
+    return metaTypeClassName + SerializationConstants.PROJECTION_SERIALIZATION_SUFFIX;
+  }
+
+  private FieldSpec buildColumnNamesField(final List<ColumnFieldMetaType> columnFieldMetaTypes) {
+    CodeBlock columnNames = columnFieldMetaTypes.stream()
+                                                .map(columnFieldMetaType -> CodeBlock.of("$S", columnFieldMetaType.getSerializationName()))
+                                                .collect(CodeBlock.joining(", "));
+    return FieldSpec.builder(String[].class, SerializationConstants.COLUMN_NAMES_ATTRIBUTE)
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("{ $L }", columnNames)
+                    .build();
+  }
+
+  private FieldSpec buildColumnIndicesField() {
+    return FieldSpec.builder(ColumnIndices.class, SerializationConstants.COLUMN_INDICES_ATTRIBUTE)
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T($N)", ColumnIndices.class, SerializationConstants.COLUMN_NAMES_ATTRIBUTE)
+                    .build();
+  }
+
+  private FieldSpec buildColumnsField(final ClassName tableClassName, final List<ColumnFieldMetaType> columnFieldMetaTypes) {
+    CodeBlock columns = columnFieldMetaTypes.stream()
+                                            .map(columnFieldMetaType -> CodeBlock.of("$T.$N", tableClassName, columnFieldMetaType.getDeserializationName()))
+                                            .collect(CodeBlock.joining(", "));
+    return FieldSpec.builder(COLUMNS_TYPE, SerializationConstants.COLUMNS_ATTRIBUTE)
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.unmodifiableList($T.asList($L))", Collections.class, Arrays.class, columns)
+                    .build();
+  }
+
+  private MethodSpec buildGetTableMetadataMethod(final ClassName tableClassName, final String tableName) {
+    return MethodSpec.methodBuilder(SerializationConstants.GET_TABLE_METADATA_METHOD)
+                     .addModifiers(Modifier.PUBLIC)
+                     .returns(ParameterizedTypeName.get(ClassName.get(TableMetadata.class), WildcardTypeName.subtypeOf(Object.class)))
+                     .addStatement("return $T.$N", tableClassName, tableName)
+                     .build();
+  }
+
+  private MethodSpec buildGetColumnsMethod() {
+    return MethodSpec.methodBuilder(SerializationConstants.GET_COLUMNS_METHOD)
+                     .addModifiers(Modifier.PUBLIC)
+                     .returns(COLUMNS_TYPE)
+                     .addStatement("return $N", SerializationConstants.COLUMNS_ATTRIBUTE)
+                     .build();
+  }
+
+  private static MethodSpec buildDeserializeMethod(final ClassName tableClassName, final ProjectionMetaType projectionMetaType) {
+    final String parameterName = "row";
+    final String indicesName = "indices";
+    CodeBlock.Builder codeBlockBuilder = CodeBlock.builder().addStatement("if ($N == null) return null", parameterName);
+    codeBlockBuilder.addStatement("int[] $N = $N.$L($N.getColumnDefinitions())", indicesName, SerializationConstants.COLUMN_INDICES_ATTRIBUTE,
+                                  SerializationConstants.RESOLVE_COLUMN_INDICES_METHOD, parameterName);
+    codeBlockBuilder.addStatement("$T projection = new $T()", projectionMetaType.getTypeName(), projectionMetaType.getTypeName());
+    List<ColumnFieldMetaType> columns = projectionMetaType.getColumns();
+    for (int i = 0; i < columns.size(); i++) {
+      ColumnFieldMetaType columnField = columns.get(i);
+      codeBlockBuilder.addStatement("projection.$L($T.$L.$L($N, $N[$L]))", columnField.getSetterName(), tableClassName, columnField.getDeserializationName(),
+                                    SerializationConstants.DESERIALIZE_ROW_METHOD, parameterName, indicesName, i);
+    }
+    codeBlockBuilder.addStatement("return projection");
+    return MethodSpec.methodBuilder(SerializationConstants.DESERIALIZE_METHOD)
+                     .addModifiers(Modifier.PUBLIC)
+                     .addParameter(Row.class, parameterName)
+                     .returns(projectionMetaType.getTypeName())
+                     .addCode(codeBlockBuilder.build())
+                     .build();
+  }
+}
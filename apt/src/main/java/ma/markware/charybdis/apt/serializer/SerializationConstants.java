@@ -25,9 +25,25 @@ final class SerializationConstants {
   static final String KEYSPACE_SERIALIZATION_SUFFIX = "_Keyspace";
   static final String UDT_SERIALIZATION_SUFFIX = "_Udt";
   static final String TABLE_SERIALIZATION_SUFFIX = "_Table";
+  static final String PROJECTION_SERIALIZATION_SUFFIX = "_Projection";
   static final String KEYSPACE_NAME_ATTRIBUTE = "KEYSPACE_NAME";
   static final String UDT_NAME_ATTRIBUTE = "UDT_NAME";
   static final String TABLE_NAME_ATTRIBUTE = "TABLE_NAME";
+  static final String COLUMN_NAMES_ATTRIBUTE = "COLUMN_NAMES";
+  static final String PRIMARY_KEY_NAMES_ATTRIBUTE = "PRIMARY_KEY_NAMES";
+  static final String REGULAR_COLUMN_NAMES_ATTRIBUTE = "REGULAR_COLUMN_NAMES";
+  static final String INSERT_QUERY_ATTRIBUTE = "INSERT_QUERY";
+  static final String SELECT_BY_PRIMARY_KEY_QUERY_ATTRIBUTE = "SELECT_BY_PRIMARY_KEY_QUERY";
+  static final String DELETE_BY_PRIMARY_KEY_QUERY_ATTRIBUTE = "DELETE_BY_PRIMARY_KEY_QUERY";
+  static final String UPDATE_QUERY_ATTRIBUTE = "UPDATE_QUERY";
+  static final String UPSERT_QUERY_ATTRIBUTE = "UPSERT_QUERY";
+  static final String COLUMN_INDICES_ATTRIBUTE = "COLUMN_INDICES";
+  static final String COLUMNS_ATTRIBUTE = "COLUMNS";
+  static final String COLUMNS_METADATA_ATTRIBUTE = "COLUMNS_METADATA";
+  static final String PARTITION_KEY_COLUMNS_ATTRIBUTE = "PARTITION_KEY_COLUMNS";
+  static final String CLUSTERING_KEY_COLUMNS_ATTRIBUTE = "CLUSTERING_KEY_COLUMNS";
+  static final String PRIMARY_KEY_COLUMNS_ATTRIBUTE = "PRIMARY_KEY_COLUMNS";
+  static final String PRIMARY_KEY_ORDINALS_ATTRIBUTE = "PRIMARY_KEY_ORDINALS";
   static final String UDT_FIELD = "udt";
   static final String GET_KEYSPACE_NAME_METHOD = "getKeyspaceName";
   static final String GET_UDT_NAME_METHOD = "getUdtName";
@@ -36,6 +52,8 @@ final class SerializationConstants {
   static final String GET_DEFAULT_WRITE_CONSISTENCY_METHOD = "getDefaultWriteConsistency";
   static final String GET_DEFAULT_READ_CONSISTENCY_METHOD = "getDefaultReadConsistency";
   static final String GET_DEFAULT_SERIAL_CONSISTENCY_METHOD = "getDefaultSerialConsistency";
+  static final String IS_UPDATE_IF_EXISTS_METHOD = "isUpdateIfExists";
+  static final String IS_INSERT_NULL_AS_UNSET_METHOD = "isInsertNullAsUnset";
   static final String GET_NAME_METHOD = "getName";
   static final String GET_FIELD_CLASS_METHOD = "getFieldClass";
   static final String GET_PARTITION_KEY_INDEX_METHOD = "getPartitionKeyIndex";
@@ -46,9 +64,11 @@ final class SerializationConstants {
   static final String SERIALIZE_LIST_ITEM_METHOD = "serializeItem";
   static final String SERIALIZE_MAP_KEY_METHOD = "serializeKey";
   static final String SERIALIZE_MAP_VALUE_METHOD = "serializeValue";
+  static final String DESERIALIZE_MAP_VALUE_METHOD = "deserializeValue";
   static final String DESERIALIZE_FIELD_METHOD = "deserialize";
   static final String DESERIALIZE_UDT_VALUE_METHOD = "deserialize";
   static final String DESERIALIZE_ROW_METHOD = "deserialize";
+  static final String RESOLVE_COLUMN_INDICES_METHOD = "resolve";
   static final String GET_COLUMNS_METADATA_METHOD = "getColumnsMetadata";
   static final String GET_PARTITION_KEY_COLUMNS_METHOD = "getPartitionKeyColumns";
   static final String GET_CLUSTERING_KEY_COLUMNS_METHOD = "getClusteringKeyColumns";
@@ -57,9 +77,20 @@ final class SerializationConstants {
   static final String GET_PRIMARY_KEY_SIZE_METHOD = "getPrimaryKeySize";
   static final String GET_PRIMARY_KEYS_METHOD = "getPrimaryKeys";
   static final String GET_COLUMNS_SIZE_METHOD = "getColumnsSize";
+  static final String GET_COLUMNS_METHOD = "getColumns";
+  static final String GET_TABLE_METADATA_METHOD = "getTableMetadata";
+  static final String GET_COLUMN_NAMES_METHOD = "getColumnNames";
+  static final String GET_PRIMARY_KEY_NAMES_METHOD = "getPrimaryKeyNames";
+  static final String GET_REGULAR_COLUMN_NAMES_METHOD = "getRegularColumnNames";
+  static final String GET_INSERT_QUERY_METHOD = "getInsertQuery";
+  static final String GET_SELECT_BY_PRIMARY_KEY_QUERY_METHOD = "getSelectByPrimaryKeyQuery";
+  static final String GET_DELETE_BY_PRIMARY_KEY_QUERY_METHOD = "getDeleteByPrimaryKeyQuery";
+  static final String GET_UPDATE_QUERY_METHOD = "getUpdateQuery";
+  static final String GET_UPSERT_QUERY_METHOD = "getUpsertQuery";
   static final String SET_GENERATED_VALUES_METHOD = "setGeneratedValues";
   static final String SET_CREATION_DATE_METHOD = "setCreationDate";
   static final String SET_LAST_UPDATED_DATE_METHOD = "setLastUpdatedDate";
   static final String SERIALIZE_METHOD = "serialize";
+  static final String SERIALIZE_INTO_METHOD = "serializeInto";
   static final String DESERIALIZE_METHOD = "deserialize";
 }
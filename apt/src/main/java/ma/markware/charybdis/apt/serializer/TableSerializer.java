@@ -20,13 +20,24 @@ package ma.markware.charybdis.apt.serializer;
 
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.squareup.javapoet.ClassName;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.relation.Relation;
+import com.datastax.oss.driver.api.querybuilder.term.Term;
+import com.datastax.oss.driver.api.querybuilder.update.Assignment;
+import com.datastax.oss.driver.api.querybuilder.update.Update;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -37,6 +48,7 @@ import ma.markware.charybdis.apt.metatype.ColumnFieldMetaType;
 import ma.markware.charybdis.apt.metatype.TableMetaType;
 import ma.markware.charybdis.apt.utils.ClassUtils;
 import ma.markware.charybdis.apt.utils.CollectionUtils;
+import ma.markware.charybdis.model.field.metadata.ColumnIndices;
 import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.TableMetadata;
 import ma.markware.charybdis.model.option.ConsistencyLevel;
@@ -51,6 +63,11 @@ import ma.markware.charybdis.model.option.SerialConsistencyLevel;
  */
 public class TableSerializer implements EntitySerializer<TableMetaType> {
 
+  private static final ParameterizedTypeName COLUMNS_MAP_TYPE = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class),
+                                                                                          ClassName.get(ColumnMetadata.class));
+  private static final ParameterizedTypeName COLUMNS_TYPE = ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(ColumnMetadata.class));
+  private static final ParameterizedTypeName COLUMN_NAMES_TYPE = ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(String.class));
+
   private final FieldSerializer<ColumnFieldMetaType> columnFieldSerializer;
   private final Filer filer;
 
@@ -81,7 +98,23 @@ public class TableSerializer implements EntitySerializer<TableMetaType> {
                                                       tableMetaType.getColumns().stream().map(columnFieldSerializer::serializeField).collect(Collectors.toList()),
                                                       buildStaticInstance(packageName, generatedClassName, tableName),
                                                       buildEntityNameField(SerializationConstants.KEYSPACE_NAME_ATTRIBUTE, keyspaceName),
-                                                      buildEntityNameField(SerializationConstants.TABLE_NAME_ATTRIBUTE, tableName)))
+                                                      buildEntityNameField(SerializationConstants.TABLE_NAME_ATTRIBUTE, tableName),
+                                                      buildColumnNamesField(SerializationConstants.COLUMN_NAMES_ATTRIBUTE, tableMetaType.getColumns()),
+                                                      buildColumnNamesField(SerializationConstants.PRIMARY_KEY_NAMES_ATTRIBUTE, getPrimaryKeyColumns(tableMetaType)),
+                                                      buildColumnNamesField(SerializationConstants.REGULAR_COLUMN_NAMES_ATTRIBUTE, getRegularColumns(tableMetaType)),
+                                                      buildColumnIndicesField(),
+                                                      buildColumnsField(tableMetaType.getColumns()),
+                                                      buildColumnsMapField(SerializationConstants.COLUMNS_METADATA_ATTRIBUTE),
+                                                      buildColumnsMapField(SerializationConstants.PARTITION_KEY_COLUMNS_ATTRIBUTE),
+                                                      buildColumnsMapField(SerializationConstants.CLUSTERING_KEY_COLUMNS_ATTRIBUTE),
+                                                      buildColumnsMapField(SerializationConstants.PRIMARY_KEY_COLUMNS_ATTRIBUTE),
+                                                      buildPrimaryKeyOrdinalsField(),
+                                                      buildQueryField(SerializationConstants.INSERT_QUERY_ATTRIBUTE, buildInsertQuery(tableMetaType)),
+                                                      buildQueryField(SerializationConstants.SELECT_BY_PRIMARY_KEY_QUERY_ATTRIBUTE, buildSelectByPrimaryKeyQuery(tableMetaType)),
+                                                      buildQueryField(SerializationConstants.DELETE_BY_PRIMARY_KEY_QUERY_ATTRIBUTE, buildDeleteByPrimaryKeyQuery(tableMetaType)),
+                                                      buildQueryField(SerializationConstants.UPDATE_QUERY_ATTRIBUTE, buildUpdateQuery(tableMetaType, true)),
+                                                      buildQueryField(SerializationConstants.UPSERT_QUERY_ATTRIBUTE, buildUpdateQuery(tableMetaType, false))))
+                                                  .addStaticBlock(buildColumnsStaticBlock(tableMetaType))
                                                   .addMethods(Arrays.asList(
                                                       buildPrivateConstructor(),
                                                       buildGetEntityNameMethod(SerializationConstants.GET_KEYSPACE_NAME_METHOD, SerializationConstants.KEYSPACE_NAME_ATTRIBUTE),
@@ -89,18 +122,35 @@ public class TableSerializer implements EntitySerializer<TableMetaType> {
                                                       buildGetDefaultReadConsistencyMethod(tableMetaType.getDefaultReadConsistency()),
                                                       buildGetDefaultWriteConsistencyMethod(tableMetaType.getDefaultWriteConsistency()),
                                                       buildGetDefaultSerialConsistencyMethod(tableMetaType.getDefaultSerialConsistency()),
-                                                      buildColumnsGetterMethod(SerializationConstants.GET_COLUMNS_METADATA_METHOD, tableMetaType.getColumns()),
-                                                      buildColumnsGetterMethod(SerializationConstants.GET_PARTITION_KEY_COLUMNS_METHOD, tableMetaType.getPartitionKeyColumns()),
-                                                      buildColumnsGetterMethod(SerializationConstants.GET_CLUSTERING_KEY_COLUMNS_METHOD, tableMetaType.getClusteringKeyColumns()),
-                                                      buildGetPrimaryKeysMethod(),
+                                                      buildBooleanGetterMethod(SerializationConstants.IS_UPDATE_IF_EXISTS_METHOD, tableMetaType.isUpdateIfExists()),
+                                                      buildBooleanGetterMethod(SerializationConstants.IS_INSERT_NULL_AS_UNSET_METHOD, tableMetaType.isInsertNullAsUnset()),
+                                                      buildColumnsGetterMethod(SerializationConstants.GET_COLUMNS_METADATA_METHOD, SerializationConstants.COLUMNS_METADATA_ATTRIBUTE),
+                                                      buildColumnsGetterMethod(SerializationConstants.GET_PARTITION_KEY_COLUMNS_METHOD,
+                                                                               SerializationConstants.PARTITION_KEY_COLUMNS_ATTRIBUTE),
+                                                      buildColumnsGetterMethod(SerializationConstants.GET_CLUSTERING_KEY_COLUMNS_METHOD,
+                                                                               SerializationConstants.CLUSTERING_KEY_COLUMNS_ATTRIBUTE),
+                                                      buildColumnsGetterMethod(SerializationConstants.GET_PRIMARY_KEYS_METHOD, SerializationConstants.PRIMARY_KEY_COLUMNS_ATTRIBUTE),
                                                       buildGetColumnMetadata(),
                                                       buildIsPrimaryKeyMethod(),
+                                                      buildIsPrimaryKeyOrdinalMethod(),
                                                       buildGetPrimaryKeySizeMethod(),
                                                       buildGetColumnsSizeMethod(),
+                                                      buildGetAttributeMethod(SerializationConstants.GET_COLUMNS_METHOD, COLUMNS_TYPE, SerializationConstants.COLUMNS_ATTRIBUTE),
+                                                      buildGetAttributeMethod(SerializationConstants.GET_COLUMN_NAMES_METHOD, COLUMN_NAMES_TYPE, SerializationConstants.COLUMN_NAMES_ATTRIBUTE),
+                                                      buildGetAttributeMethod(SerializationConstants.GET_PRIMARY_KEY_NAMES_METHOD, COLUMN_NAMES_TYPE, SerializationConstants.PRIMARY_KEY_NAMES_ATTRIBUTE),
+                                                      buildGetAttributeMethod(SerializationConstants.GET_REGULAR_COLUMN_NAMES_METHOD, COLUMN_NAMES_TYPE, SerializationConstants.REGULAR_COLUMN_NAMES_ATTRIBUTE),
+                                                      buildGetAttributeMethod(SerializationConstants.GET_INSERT_QUERY_METHOD, ClassName.get(String.class), SerializationConstants.INSERT_QUERY_ATTRIBUTE),
+                                                      buildGetAttributeMethod(SerializationConstants.GET_SELECT_BY_PRIMARY_KEY_QUERY_METHOD, ClassName.get(String.class),
+                                                                              SerializationConstants.SELECT_BY_PRIMARY_KEY_QUERY_ATTRIBUTE),
+                                                      buildGetAttributeMethod(SerializationConstants.GET_DELETE_BY_PRIMARY_KEY_QUERY_METHOD, ClassName.get(String.class),
+                                                                              SerializationConstants.DELETE_BY_PRIMARY_KEY_QUERY_ATTRIBUTE),
+                                                      buildGetAttributeMethod(SerializationConstants.GET_UPDATE_QUERY_METHOD, ClassName.get(String.class), SerializationConstants.UPDATE_QUERY_ATTRIBUTE),
+                                                      buildGetAttributeMethod(SerializationConstants.GET_UPSERT_QUERY_METHOD, ClassName.get(String.class), SerializationConstants.UPSERT_QUERY_ATTRIBUTE),
                                                       buildSetGeneratedValuesMethod(tableMetaType),
                                                       buildSetCreationDateMethod(tableMetaType),
                                                       buildSetLastUpdatedDateMethod(tableMetaType),
                                                       buildSerializeMethod(tableMetaType),
+                                                      buildSerializeIntoMethod(tableMetaType),
                                                       buildDeserializeMethod(tableMetaType)))
                                                   .build();
 
@@ -131,6 +181,14 @@ public class TableSerializer implements EntitySerializer<TableMetaType> {
                      .build();
   }
 
+  private MethodSpec buildBooleanGetterMethod(final String methodName, final boolean value) {
+    return MethodSpec.methodBuilder(methodName)
+                     .addModifiers(Modifier.PUBLIC)
+                     .returns(boolean.class)
+                     .addStatement("return $L", value)
+                     .build();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -139,18 +197,66 @@ public class TableSerializer implements EntitySerializer<TableMetaType> {
     return metaTypeClassName + SerializationConstants.TABLE_SERIALIZATION_SUFFIX;
   }
 
-  private MethodSpec buildColumnsGetterMethod(final String methodName, final List<ColumnFieldMetaType> columnFieldMetaTypes) {
-    ParameterizedTypeName methodReturnType = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class),
-                                                                       ClassName.get(ColumnMetadata.class));
-    CodeBlock.Builder codeBlockBuilder = CodeBlock.builder().addStatement("$T results = new $T<>()", methodReturnType, HashMap.class);
+  private FieldSpec buildColumnsField(final List<ColumnFieldMetaType> columnFieldMetaTypes) {
+    CodeBlock columns = columnFieldMetaTypes.stream()
+                                            .map(columnFieldMetaType -> CodeBlock.of("$N", columnFieldMetaType.getDeserializationName()))
+                                            .collect(CodeBlock.joining(", "));
+    return FieldSpec.builder(COLUMNS_TYPE, SerializationConstants.COLUMNS_ATTRIBUTE)
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.unmodifiableList($T.asList($L))", Collections.class, Arrays.class, columns)
+                    .build();
+  }
+
+  private FieldSpec buildColumnsMapField(final String attributeName) {
+    return FieldSpec.builder(COLUMNS_MAP_TYPE, attributeName)
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .build();
+  }
+
+  private FieldSpec buildPrimaryKeyOrdinalsField() {
+    return FieldSpec.builder(BitSet.class, SerializationConstants.PRIMARY_KEY_ORDINALS_ATTRIBUTE)
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .build();
+  }
+
+  /**
+   * Column maps and primary key ordinals are computed once, when generated class is initialized.
+   */
+  private CodeBlock buildColumnsStaticBlock(final TableMetaType tableMetaType) {
+    CodeBlock.Builder codeBlockBuilder = CodeBlock.builder();
+    addColumnsMapInitialization(codeBlockBuilder, SerializationConstants.COLUMNS_METADATA_ATTRIBUTE, "columnsMetadata", tableMetaType.getColumns());
+    addColumnsMapInitialization(codeBlockBuilder, SerializationConstants.PARTITION_KEY_COLUMNS_ATTRIBUTE, "partitionKeyColumns",
+                                tableMetaType.getPartitionKeyColumns());
+    addColumnsMapInitialization(codeBlockBuilder, SerializationConstants.CLUSTERING_KEY_COLUMNS_ATTRIBUTE, "clusteringKeyColumns",
+                                tableMetaType.getClusteringKeyColumns());
+    addColumnsMapInitialization(codeBlockBuilder, SerializationConstants.PRIMARY_KEY_COLUMNS_ATTRIBUTE, "primaryKeyColumns",
+                                getPrimaryKeyColumns(tableMetaType));
+
+    List<ColumnFieldMetaType> columns = tableMetaType.getColumns();
+    codeBlockBuilder.addStatement("$N = new $T($L)", SerializationConstants.PRIMARY_KEY_ORDINALS_ATTRIBUTE, BitSet.class, columns.size());
+    for (int i = 0; i < columns.size(); i++) {
+      ColumnFieldMetaType columnField = columns.get(i);
+      if (columnField.isPartitionKey() || columnField.isClusteringKey()) {
+        codeBlockBuilder.addStatement("$N.set($L)", SerializationConstants.PRIMARY_KEY_ORDINALS_ATTRIBUTE, i);
+      }
+    }
+    return codeBlockBuilder.build();
+  }
+
+  private void addColumnsMapInitialization(final CodeBlock.Builder codeBlockBuilder, final String attributeName, final String variableName,
+      final List<ColumnFieldMetaType> columnFieldMetaTypes) {
+    codeBlockBuilder.addStatement("$T $N = new $T<>()", COLUMNS_MAP_TYPE, variableName, HashMap.class);
     for (ColumnFieldMetaType columnFieldMetaType : columnFieldMetaTypes) {
-      codeBlockBuilder.addStatement("results.put($S, $N)", columnFieldMetaType.getSerializationName(), columnFieldMetaType.getDeserializationName());
+      codeBlockBuilder.addStatement("$N.put($S, $N)", variableName, columnFieldMetaType.getSerializationName(), columnFieldMetaType.getDeserializationName());
     }
-    codeBlockBuilder.addStatement("return results");
+    codeBlockBuilder.addStatement("$N = $T.unmodifiableMap($N)", attributeName, Collections.class, variableName);
+  }
+
+  private MethodSpec buildColumnsGetterMethod(final String methodName, final String attributeName) {
     return MethodSpec.methodBuilder(methodName)
                      .addModifiers(Modifier.PUBLIC)
-                     .returns(methodReturnType)
-                     .addCode(codeBlockBuilder.build())
+                     .returns(COLUMNS_MAP_TYPE)
+                     .addStatement("return $N", attributeName)
                      .build();
   }
 
@@ -160,7 +266,7 @@ public class TableSerializer implements EntitySerializer<TableMetaType> {
                      .addModifiers(Modifier.PUBLIC)
                      .addParameter(String.class, parameterName)
                      .returns(ColumnMetadata.class)
-                     .addStatement("return $L().get($N)", SerializationConstants.GET_COLUMNS_METADATA_METHOD, parameterName)
+                     .addStatement("return $N.get($N)", SerializationConstants.COLUMNS_METADATA_ATTRIBUTE, parameterName)
                      .build();
   }
 
@@ -170,22 +276,17 @@ public class TableSerializer implements EntitySerializer<TableMetaType> {
                      .addModifiers(Modifier.PUBLIC)
                      .addParameter(String.class, parameterName)
                      .returns(boolean.class)
-                     .addStatement("return $L().containsKey($N) || $L().containsKey($N)",
-                                   SerializationConstants.GET_PARTITION_KEY_COLUMNS_METHOD, parameterName,
-                                   SerializationConstants.GET_CLUSTERING_KEY_COLUMNS_METHOD, parameterName)
+                     .addStatement("return $N.containsKey($N)", SerializationConstants.PRIMARY_KEY_COLUMNS_ATTRIBUTE, parameterName)
                      .build();
   }
 
-  private MethodSpec buildGetPrimaryKeysMethod() {
-    ParameterizedTypeName returnType = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class),
-                                                                 ClassName.get(ColumnMetadata.class));
-    return MethodSpec.methodBuilder(SerializationConstants.GET_PRIMARY_KEYS_METHOD)
+  private MethodSpec buildIsPrimaryKeyOrdinalMethod() {
+    final String parameterName = "columnOrdinal";
+    return MethodSpec.methodBuilder(SerializationConstants.IS_PRIMARY_KEY_COLUMN_METHOD)
                      .addModifiers(Modifier.PUBLIC)
-                     .returns(returnType)
-                     .addStatement("$T result = new $T<>()", returnType, HashMap.class)
-                     .addStatement("result.putAll($L())", SerializationConstants.GET_PARTITION_KEY_COLUMNS_METHOD)
-                     .addStatement("result.putAll($L())", SerializationConstants.GET_CLUSTERING_KEY_COLUMNS_METHOD)
-                     .addStatement("return result")
+                     .addParameter(int.class, parameterName)
+                     .returns(boolean.class)
+                     .addStatement("return $N.get($N)", SerializationConstants.PRIMARY_KEY_ORDINALS_ATTRIBUTE, parameterName)
                      .build();
   }
 
@@ -193,8 +294,7 @@ public class TableSerializer implements EntitySerializer<TableMetaType> {
     return MethodSpec.methodBuilder(SerializationConstants.GET_PRIMARY_KEY_SIZE_METHOD)
                      .addModifiers(Modifier.PUBLIC)
                      .returns(int.class)
-                     .addStatement("return $L().size() + $L().size()",
-                                   SerializationConstants.GET_PARTITION_KEY_COLUMNS_METHOD, SerializationConstants.GET_CLUSTERING_KEY_COLUMNS_METHOD)
+                     .addStatement("return $N.size()", SerializationConstants.PRIMARY_KEY_NAMES_ATTRIBUTE)
                      .build();
   }
 
@@ -202,10 +302,96 @@ public class TableSerializer implements EntitySerializer<TableMetaType> {
     return MethodSpec.methodBuilder(SerializationConstants.GET_COLUMNS_SIZE_METHOD)
                      .addModifiers(Modifier.PUBLIC)
                      .returns(int.class)
-                     .addStatement("return $L().size()", SerializationConstants.GET_COLUMNS_METADATA_METHOD)
+                     .addStatement("return $N.size()", SerializationConstants.COLUMN_NAMES_ATTRIBUTE)
+                     .build();
+  }
+
+  private FieldSpec buildColumnNamesField(final String attributeName, final List<ColumnFieldMetaType> columnFieldMetaTypes) {
+    CodeBlock columnNames = columnFieldMetaTypes.stream()
+                                                .map(columnFieldMetaType -> CodeBlock.of("$S", columnFieldMetaType.getSerializationName()))
+                                                .collect(CodeBlock.joining(", "));
+    return FieldSpec.builder(COLUMN_NAMES_TYPE, attributeName)
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.unmodifiableList($T.asList($L))", Collections.class, Arrays.class, columnNames)
+                    .build();
+  }
+
+  private FieldSpec buildColumnIndicesField() {
+    return FieldSpec.builder(ColumnIndices.class, SerializationConstants.COLUMN_INDICES_ATTRIBUTE)
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T($N)", ColumnIndices.class, SerializationConstants.COLUMN_NAMES_ATTRIBUTE)
+                    .build();
+  }
+
+  private FieldSpec buildQueryField(final String attributeName, final String query) {
+    return FieldSpec.builder(String.class, attributeName)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer(query == null ? CodeBlock.of("null") : CodeBlock.of("$S", query))
+                    .build();
+  }
+
+  private MethodSpec buildGetAttributeMethod(final String methodName, final TypeName returnType, final String attributeName) {
+    return MethodSpec.methodBuilder(methodName)
+                     .addModifiers(Modifier.PUBLIC)
+                     .returns(returnType)
+                     .addStatement("return $N", attributeName)
                      .build();
   }
 
+  private static List<ColumnFieldMetaType> getPrimaryKeyColumns(final TableMetaType tableMetaType) {
+    return CollectionUtils.addAll(new ArrayList<>(tableMetaType.getPartitionKeyColumns()), tableMetaType.getClusteringKeyColumns());
+  }
+
+  private static List<ColumnFieldMetaType> getRegularColumns(final TableMetaType tableMetaType) {
+    return tableMetaType.getColumns().stream()
+                        .filter(columnFieldMetaType -> !columnFieldMetaType.isPartitionKey() && !columnFieldMetaType.isClusteringKey())
+                        .collect(Collectors.toList());
+  }
+
+  private static List<Relation> buildPrimaryKeyRelations(final TableMetaType tableMetaType) {
+    return getPrimaryKeyColumns(tableMetaType).stream()
+                                              .map(columnFieldMetaType -> Relation.column(columnFieldMetaType.getSerializationName())
+                                                                                  .isEqualTo(QueryBuilder.bindMarker()))
+                                              .collect(Collectors.toList());
+  }
+
+  private static String buildInsertQuery(final TableMetaType tableMetaType) {
+    Map<String, Term> values = new LinkedHashMap<>();
+    for (ColumnFieldMetaType columnFieldMetaType : tableMetaType.getColumns()) {
+      values.put(columnFieldMetaType.getSerializationName(), QueryBuilder.bindMarker());
+    }
+    return QueryBuilder.insertInto(tableMetaType.getKeyspaceName(), tableMetaType.getTableName())
+                       .values(values)
+                       .asCql();
+  }
+
+  private static String buildSelectByPrimaryKeyQuery(final TableMetaType tableMetaType) {
+    return QueryBuilder.selectFrom(tableMetaType.getKeyspaceName(), tableMetaType.getTableName())
+                       .all()
+                       .where(buildPrimaryKeyRelations(tableMetaType))
+                       .asCql();
+  }
+
+  private static String buildDeleteByPrimaryKeyQuery(final TableMetaType tableMetaType) {
+    return QueryBuilder.deleteFrom(tableMetaType.getKeyspaceName(), tableMetaType.getTableName())
+                       .where(buildPrimaryKeyRelations(tableMetaType))
+                       .asCql();
+  }
+
+  private static String buildUpdateQuery(final TableMetaType tableMetaType, final boolean ifExists) {
+    List<ColumnFieldMetaType> regularColumns = getRegularColumns(tableMetaType);
+    if (regularColumns.isEmpty()) {
+      return null;
+    }
+    Update update = QueryBuilder.update(tableMetaType.getKeyspaceName(), tableMetaType.getTableName())
+                                .set(regularColumns.stream()
+                                                   .map(columnFieldMetaType -> Assignment.setColumn(columnFieldMetaType.getSerializationName(),
+                                                                                                    QueryBuilder.bindMarker()))
+                                                   .collect(Collectors.toList()))
+                                .where(buildPrimaryKeyRelations(tableMetaType));
+    return ifExists ? update.ifExists().asCql() : update.asCql();
+  }
+
   private MethodSpec buildSetGeneratedValuesMethod(final TableMetaType tableMetaType) {
     final String parameterName = "entity";
     MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(SerializationConstants.SET_GENERATED_VALUES_METHOD)
@@ -275,14 +461,36 @@ public class TableSerializer implements EntitySerializer<TableMetaType> {
                      .build();
   }
 
+  private MethodSpec buildSerializeIntoMethod(final TableMetaType tableMetaType) {
+    final String parameterName = "entity";
+    final String bindValuesParameterName = "bindValues";
+    CodeBlock.Builder codeBlockBuilder = CodeBlock.builder().addStatement("if ($N == null) return", parameterName);
+    List<ColumnFieldMetaType> columns = tableMetaType.getColumns();
+    for (int i = 0; i < columns.size(); i++) {
+      ColumnFieldMetaType columnField = columns.get(i);
+      codeBlockBuilder.addStatement("$N[$L] = $L.$L($N.$L())", bindValuesParameterName, i, columnField.getDeserializationName(),
+                                    SerializationConstants.SERIALIZE_FIELD_METHOD, parameterName, columnField.getGetterName());
+    }
+    return MethodSpec.methodBuilder(SerializationConstants.SERIALIZE_INTO_METHOD)
+                     .addModifiers(Modifier.PUBLIC)
+                     .addParameter(tableMetaType.getTypeName(), parameterName)
+                     .addParameter(Object[].class, bindValuesParameterName)
+                     .addCode(codeBlockBuilder.build())
+                     .build();
+  }
+
   private static MethodSpec buildDeserializeMethod(TableMetaType tableMetaType) {
     final String parameterName = "row";
+    final String indicesName = "indices";
     CodeBlock.Builder codeBlockBuilder = CodeBlock.builder().addStatement("if ($N == null) return null", parameterName);
+    codeBlockBuilder.addStatement("int[] $N = $N.$L($N.getColumnDefinitions())", indicesName, SerializationConstants.COLUMN_INDICES_ATTRIBUTE,
+                                  SerializationConstants.RESOLVE_COLUMN_INDICES_METHOD, parameterName);
     codeBlockBuilder.addStatement("$T entity = new $T()", tableMetaType.getTypeName(), tableMetaType.getTypeName());
-    for (ColumnFieldMetaType columnField : tableMetaType.getColumns()) {
-      String columnSetterName = columnField.getSetterName();
-      codeBlockBuilder.addStatement("entity.$L($L.$L($N))", columnSetterName, columnField.getDeserializationName(), SerializationConstants.DESERIALIZE_ROW_METHOD,
-                                    parameterName);
+    List<ColumnFieldMetaType> columns = tableMetaType.getColumns();
+    for (int i = 0; i < columns.size(); i++) {
+      ColumnFieldMetaType columnField = columns.get(i);
+      codeBlockBuilder.addStatement("entity.$L($L.$L($N, $N[$L]))", columnField.getSetterName(), columnField.getDeserializationName(),
+                                    SerializationConstants.DESERIALIZE_ROW_METHOD, parameterName, indicesName, i);
     }
     codeBlockBuilder.addStatement("return entity");
     return MethodSpec.methodBuilder(SerializationConstants.DESERIALIZE_METHOD)
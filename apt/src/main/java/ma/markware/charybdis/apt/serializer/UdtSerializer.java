@@ -137,8 +137,10 @@ public class UdtSerializer implements EntitySerializer<UdtMetaType> {
     CodeBlock.Builder methodBuilder = CodeBlock.builder().addStatement("if ($N == null) return null", parameterName);
     methodBuilder.addStatement("$T udtValue = $N.newValue()", UdtValue.class,
                                                                        SerializationConstants.UDT_FIELD);
-    for (UdtFieldMetaType udtField : udtMetaType.getUdtFields()) {
-      String udtFieldName = udtField.getSerializationName();
+    // Fields of a new udt value are null, each field is serialized once and set by its index in udt definition
+    List<UdtFieldMetaType> udtFields = udtMetaType.getUdtFields();
+    for (int udtFieldIndex = 0; udtFieldIndex < udtFields.size(); udtFieldIndex++) {
+      UdtFieldMetaType udtField = udtFields.get(udtFieldIndex);
       String fieldName = udtField.getDeserializationName();
       String fieldValueName = fieldName + "Value";
       String udtGetterName = udtField.getGetterName();
@@ -147,37 +149,31 @@ public class UdtSerializer implements EntitySerializer<UdtMetaType> {
 
       methodBuilder.addStatement("$L $N = $N.$L($N.$L())", udtFieldType.getSerializationTypeCanonicalName(), fieldValueName, fieldName,
                                  SerializationConstants.SERIALIZE_METHOD, parameterName, udtGetterName);
-      methodBuilder.beginControlFlow("if ($N == null)", fieldValueName);
-      methodBuilder.addStatement("udtValue.setToNull($S)", udtFieldName);
-      methodBuilder.nextControlFlow("else");
+      methodBuilder.beginControlFlow("if ($N != null)", fieldValueName);
       if (udtFieldType.isComplex()) {
-        methodBuilder.addStatement("udtValue.set($S, $N.$L($N.$L()), $N)", udtFieldName, fieldName, SerializationConstants.SERIALIZE_METHOD,
-                          parameterName, udtGetterName, NameUtils.resolveGenericTypeName(fieldName));
+        methodBuilder.addStatement("udtValue.set($L, $N, $N)", udtFieldIndex, fieldValueName, NameUtils.resolveGenericTypeName(fieldName));
       } else {
         switch (udtFieldType.getFieldTypeKind()) {
           case LIST:
             FieldTypeMetaType listSubType = fieldSubTypes.get(0);
-            methodBuilder.addStatement("udtValue.setList($S, $N.$L($N.$L()), $L.class)", udtFieldName, fieldName,
-                                       SerializationConstants.SERIALIZE_METHOD, parameterName, udtGetterName,
+            methodBuilder.addStatement("udtValue.setList($L, $N, $L.class)", udtFieldIndex, fieldValueName,
                                        listSubType.getSerializationTypeCanonicalName());
             break;
           case SET:
             FieldTypeMetaType setSubType = fieldSubTypes.get(0);
-            methodBuilder.addStatement("udtValue.setSet($S, $N.$L($N.$L()), $L.class)", udtFieldName, fieldName,
-                                       SerializationConstants.SERIALIZE_METHOD, parameterName, udtGetterName,
+            methodBuilder.addStatement("udtValue.setSet($L, $N, $L.class)", udtFieldIndex, fieldValueName,
                                        setSubType.getSerializationTypeCanonicalName());
             break;
           case MAP:
             FieldTypeMetaType udtFieldSubKeyType = fieldSubTypes.get(0);
             FieldTypeMetaType udtFieldSubValueType = fieldSubTypes.get(1);
-            methodBuilder.addStatement("udtValue.setMap($S, $N.$L($N.$L()), $L.class, $L.class)", udtFieldName, fieldName,
-                              SerializationConstants.SERIALIZE_METHOD, parameterName, udtGetterName, udtFieldSubKeyType.getSerializationTypeCanonicalName(),
-                              udtFieldSubValueType.getSerializationTypeCanonicalName());
+            methodBuilder.addStatement("udtValue.setMap($L, $N, $L.class, $L.class)", udtFieldIndex, fieldValueName,
+                                       udtFieldSubKeyType.getSerializationTypeCanonicalName(),
+                                       udtFieldSubValueType.getSerializationTypeCanonicalName());
             break;
           default:
-            methodBuilder.addStatement("udtValue.set($S, $N.$L($N.$L()), $L.class)", udtFieldName, fieldName,
-                                       SerializationConstants.SERIALIZE_METHOD, parameterName,
-                                       udtGetterName, udtFieldType.getSerializationTypeCanonicalName());
+            methodBuilder.addStatement("udtValue.set($L, $N, $L.class)", udtFieldIndex, fieldValueName,
+                                       udtFieldType.getSerializationTypeCanonicalName());
             break;
         }
       }
@@ -189,9 +185,7 @@ public class UdtSerializer implements EntitySerializer<UdtMetaType> {
                      .addModifiers(Modifier.PUBLIC)
                      .addParameter(udtMetaType.getTypeName(), parameterName)
                      .returns(UdtValue.class)
-//                     .addStatement("if ($N == null) return null", parameterName)
                      .addCode(methodBuilder.build())
-//                     .addStatement("return udtValue")
                      .build();
   }
 
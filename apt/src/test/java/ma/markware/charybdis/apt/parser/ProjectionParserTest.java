@@ -0,0 +1,118 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.apt.parser;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import ma.markware.charybdis.apt.AptConfiguration;
+import ma.markware.charybdis.apt.AptContext;
+import ma.markware.charybdis.apt.AptDefaultConfiguration;
+import ma.markware.charybdis.apt.CompilationExtension;
+import ma.markware.charybdis.apt.exception.CharybdisParsingException;
+import ma.markware.charybdis.apt.metatype.AbstractFieldMetaType;
+import ma.markware.charybdis.apt.metatype.ProjectionMetaType;
+import ma.markware.charybdis.model.annotation.Udt;
+import ma.markware.charybdis.test.entities.TestEntitySummary;
+import ma.markware.charybdis.test.entities.TestExtraUdt;
+import ma.markware.charybdis.test.entities.TestKeyspaceDefinition;
+import ma.markware.charybdis.test.entities.TestNestedUdt;
+import ma.markware.charybdis.test.entities.TestUdt;
+import ma.markware.charybdis.test.entities.invalid.TestProjectionWithUnknownColumn;
+import ma.markware.charybdis.test.entities.invalid.TestProjectionWithWrongColumnType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@ExtendWith({CompilationExtension.class})
+class ProjectionParserTest {
+
+  @Mock
+  private RoundEnvironment roundEnvironment;
+
+  private AptConfiguration configuration;
+
+  @BeforeAll
+  @SuppressWarnings("unchecked")
+  void setup(Elements elements) {
+    MockitoAnnotations.initMocks(this);
+    Set elementsAnnotatedWithUdt = new HashSet<>(asList(elements.getTypeElement(TestNestedUdt.class.getCanonicalName()),
+                                                        elements.getTypeElement(TestUdt.class.getCanonicalName()),
+                                                        elements.getTypeElement(TestExtraUdt.class.getCanonicalName())));
+    when(roundEnvironment.getElementsAnnotatedWith(Udt.class)).thenReturn(elementsAnnotatedWithUdt);
+  }
+
+  @BeforeEach
+  void initProcessorContext(Types types, Elements elements, Filer filer) {
+    AptContext aptContext = new AptContext();
+    this.configuration = AptDefaultConfiguration.initConfig(aptContext, types, elements, filer);
+    aptContext.init(roundEnvironment, configuration);
+    configuration.getKeyspaceParser().parse(elements.getTypeElement(TestKeyspaceDefinition.class.getCanonicalName()));
+  }
+
+  @Test
+  void parseProjectionTest(Elements elements) {
+    ProjectionMetaType projectionMetaType = configuration.getProjectionParser()
+                                                         .parse(elements.getTypeElement(TestEntitySummary.class.getCanonicalName()));
+    assertThat(projectionMetaType.getProjectionName()).isEqualTo("testentitysummary");
+    assertThat(projectionMetaType.getKeyspaceName()).isEqualTo("test_keyspace");
+    assertThat(projectionMetaType.getTable().getTableName()).isEqualTo("test_entity");
+    assertThat(projectionMetaType.getColumns())
+        .extracting(AbstractFieldMetaType::getSerializationName, AbstractFieldMetaType::getSetterName)
+        .containsExactly(
+            tuple("id", "setId"),
+            tuple("date", "setDate"),
+            tuple("enumvalue", "setEnumValue"),
+            tuple("map", "setMap"));
+  }
+
+  @Test
+  @DisplayName("Compilation should fail if projection field is not a table column")
+  void should_throw_exception_when_projection_field_is_unknown(Elements elements) {
+    assertThatExceptionOfType(CharybdisParsingException.class)
+        .isThrownBy(() -> configuration.getProjectionParser()
+                                       .parse(elements.getTypeElement(TestProjectionWithUnknownColumn.class.getCanonicalName())))
+        .withMessage("Field 'unknown' in projection 'TestProjectionWithUnknownColumn' does not match any column of table 'test_entity'");
+  }
+
+  @Test
+  @DisplayName("Compilation should fail if projection field type differs from column type")
+  void should_throw_exception_when_projection_field_has_wrong_type(Elements elements) {
+    assertThatExceptionOfType(CharybdisParsingException.class)
+        .isThrownBy(() -> configuration.getProjectionParser()
+                                       .parse(elements.getTypeElement(TestProjectionWithWrongColumnType.class.getCanonicalName())))
+        .withMessage("Field 'id' in projection 'TestProjectionWithWrongColumnType' should have type 'java.util.UUID' of column 'id'");
+  }
+}
@@ -57,8 +57,10 @@ import ma.markware.charybdis.test.entities.TestEntityWithNoPartitionKey;
 import ma.markware.charybdis.test.entities.TestEnum;
 import ma.markware.charybdis.test.entities.TestExtraUdt;
 import ma.markware.charybdis.test.entities.TestKeyspaceDefinition;
+import ma.markware.charybdis.test.entities.TestLazyEntity;
 import ma.markware.charybdis.test.entities.TestNestedUdt;
 import ma.markware.charybdis.test.entities.TestUdt;
+import ma.markware.charybdis.test.entities.invalid.TestEntityWithInvalidLazyColumn;
 import ma.markware.charybdis.test.entities.invalid.TestEntityWithNonFrozenNestedCollectionField;
 import ma.markware.charybdis.test.entities.invalid.TestEntityWithNonFrozenNestedUdtField;
 import org.junit.jupiter.api.BeforeAll;
@@ -253,4 +255,21 @@ class TableParserTest {
                                        .parse(elements.getTypeElement(TestEntityWithNonFrozenNestedUdtField.class.getCanonicalName())))
         .withMessage("Error while parsing field 'shouldBeFrozenField'");
   }
+
+  @Test
+  void parseTable_should_mark_collection_columns_lazy(Elements elements) {
+    TableMetaType tableMetaType = configuration.getTableParser().parse(elements.getTypeElement(TestLazyEntity.class.getCanonicalName()));
+    assertThat(tableMetaType.getColumns())
+        .extracting(AbstractFieldMetaType::getSerializationName, ColumnFieldMetaType::isLazy)
+        .containsExactlyInAnyOrder(tuple("id", false), tuple("name", false), tuple("list", true), tuple("enumset", true), tuple("udtmap", true));
+  }
+
+  @Test
+  @DisplayName("Compilation should fail if lazy column is not a collection")
+  void should_throw_exception_when_lazy_column_not_collection(Elements elements) {
+    assertThatExceptionOfType(CharybdisParsingException.class)
+        .isThrownBy(() -> configuration.getTableParser()
+                                       .parse(elements.getTypeElement(TestEntityWithInvalidLazyColumn.class.getCanonicalName())))
+        .withMessage("Lazy decoding is only supported on list, set and map columns outside the primary key, column 'name'");
+  }
 }
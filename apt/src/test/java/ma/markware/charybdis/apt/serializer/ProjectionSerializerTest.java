@@ -0,0 +1,97 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.apt.serializer;
+
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import ma.markware.charybdis.apt.AptConfiguration;
+import ma.markware.charybdis.apt.AptContext;
+import ma.markware.charybdis.apt.AptDefaultConfiguration;
+import ma.markware.charybdis.apt.CompilationExtension;
+import ma.markware.charybdis.apt.metatype.ProjectionMetaType;
+import ma.markware.charybdis.model.annotation.Udt;
+import ma.markware.charybdis.test.entities.TestEntitySummary;
+import ma.markware.charybdis.test.entities.TestExtraUdt;
+import ma.markware.charybdis.test.entities.TestKeyspaceDefinition;
+import ma.markware.charybdis.test.entities.TestNestedUdt;
+import ma.markware.charybdis.test.entities.TestUdt;
+import ma.markware.charybdis.test.metadata.TestEntitySummary_Projection;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@ExtendWith({CompilationExtension.class})
+class ProjectionSerializerTest {
+
+  @Mock
+  private RoundEnvironment roundEnvironment;
+  @Mock
+  private Filer filer;
+
+  private AptConfiguration configuration;
+
+  @BeforeAll
+  @SuppressWarnings("unchecked")
+  void setup(Types types, Elements elements) {
+    MockitoAnnotations.initMocks(this);
+
+    Set elementsAnnotatedWithUdt = new HashSet<>(asList(elements.getTypeElement(TestNestedUdt.class.getCanonicalName()),
+                                                        elements.getTypeElement(TestUdt.class.getCanonicalName()),
+                                                        elements.getTypeElement(TestExtraUdt.class.getCanonicalName())));
+    when(roundEnvironment.getElementsAnnotatedWith(Udt.class)).thenReturn(elementsAnnotatedWithUdt);
+
+    final AptContext aptContext = new AptContext();
+    configuration = AptDefaultConfiguration.initConfig(aptContext, types, elements, filer);
+    aptContext.init(roundEnvironment, configuration);
+
+    configuration.getKeyspaceParser()
+                 .parse(elements.getTypeElement(TestKeyspaceDefinition.class.getCanonicalName()));
+  }
+
+  @Test
+  void serializeProjectionTest(Elements elements) throws IOException {
+    // Given
+    StringWriter generatedFileWriter = new StringWriter();
+    when(filer.createSourceFile(any(), any())).thenReturn(SerializerTestHelper.createJavaFileObject(generatedFileWriter));
+    ProjectionMetaType projectionMetaType = configuration.getProjectionParser()
+                                                         .parse(elements.getTypeElement(TestEntitySummary.class.getCanonicalName()));
+
+    // When
+    configuration.getProjectionSerializer()
+                 .serialize(projectionMetaType);
+
+    // Then
+    SerializerTestHelper.assertThatFileIsGeneratedAsExpected(TestEntitySummary_Projection.class, generatedFileWriter.toString());
+  }
+}
@@ -47,12 +47,16 @@ import ma.markware.charybdis.test.entities.TestEntity;
 import ma.markware.charybdis.test.entities.TestEntityByDate;
 import ma.markware.charybdis.test.entities.TestExtraUdt;
 import ma.markware.charybdis.test.entities.TestKeyspaceDefinition;
+import ma.markware.charybdis.test.entities.TestLazyEntity;
 import ma.markware.charybdis.test.entities.TestNestedUdt;
 import ma.markware.charybdis.test.entities.TestUdt;
+import ma.markware.charybdis.test.entities.TestUpsertEntity;
 import ma.markware.charybdis.test.entities.invalid.TestEntityWithUnknownUdt;
 import ma.markware.charybdis.test.entities.invalid.TestUnknownUdt;
 import ma.markware.charybdis.test.metadata.TestEntityByDate_Table;
 import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import ma.markware.charybdis.test.metadata.TestLazyEntity_Table;
+import ma.markware.charybdis.test.metadata.TestUpsertEntity_Table;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -131,7 +135,9 @@ class TableSerializerTest {
   private Stream<Arguments> getTableArguments() {
     return Stream.of(
         Arguments.of(configuration.getTableParser().parse(elements.getTypeElement(TestEntity.class.getCanonicalName())), TestEntity_Table.class),
-        Arguments.of(configuration.getTableParser().parse(elements.getTypeElement(TestEntityByDate.class.getCanonicalName())), TestEntityByDate_Table.class)
+        Arguments.of(configuration.getTableParser().parse(elements.getTypeElement(TestEntityByDate.class.getCanonicalName())), TestEntityByDate_Table.class),
+        Arguments.of(configuration.getTableParser().parse(elements.getTypeElement(TestLazyEntity.class.getCanonicalName())), TestLazyEntity_Table.class),
+        Arguments.of(configuration.getTableParser().parse(elements.getTypeElement(TestUpsertEntity.class.getCanonicalName())), TestUpsertEntity_Table.class)
     );
   }
 }
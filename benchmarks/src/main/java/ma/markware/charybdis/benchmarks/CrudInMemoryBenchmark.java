@@ -0,0 +1,110 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import ma.markware.charybdis.CqlTemplate;
+import ma.markware.charybdis.crud.CrudQueryBuilder;
+import ma.markware.charybdis.dsl.DslQueryBuilder;
+import ma.markware.charybdis.dsl.Record;
+import ma.markware.charybdis.dsl.select.DslSelectTemplate;
+import ma.markware.charybdis.test.entities.TestEntity;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import ma.markware.charybdis.test.tools.memory.InMemoryCqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end crud operations through {@link CqlTemplate}, against an in-memory session.
+ * Measures include statement building, preparation cache lookups, serialization and result mapping, but no network nor server costs.
+ *
+ * @author Oussama Markad
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CrudInMemoryBenchmark {
+
+  private CrudQueryBuilder crud;
+  private DslQueryBuilder dsl;
+  private DslSelectTemplate selectTemplate;
+  private TestEntity entity;
+
+  @Setup
+  public void setup() throws IOException {
+    InMemoryCqlSession session = new InMemoryCqlSession();
+    try (InputStream ddl = CrudInMemoryBenchmark.class.getClassLoader().getResourceAsStream("ddl_create_int.cql")) {
+      if (ddl == null) {
+        throw new IllegalStateException("ddl_create_int.cql not found in classpath");
+      }
+      session.executeScript(new Scanner(ddl, StandardCharsets.UTF_8.name()).useDelimiter("\\A").next());
+    }
+    CqlTemplate cqlTemplate = new CqlTemplate(session);
+    crud = cqlTemplate.crud();
+    dsl = cqlTemplate.dsl();
+    selectTemplate = dsl.prepare(dsl.select(TestEntity_Table.flag).from(TestEntity_Table.test_entity).where(TestEntity_Table.id.eq(null)));
+    entity = new TestEntity(TestEntity_INST1.entity1);
+    entity.setId(UUID.randomUUID());
+    crud.create(TestEntity_Table.test_entity, entity);
+  }
+
+  @Benchmark
+  public TestEntity create() {
+    TestEntity newEntity = new TestEntity(TestEntity_INST1.entity1);
+    newEntity.setId(UUID.randomUUID());
+    return crud.create(TestEntity_Table.test_entity, newEntity);
+  }
+
+  @Benchmark
+  public TestEntity findOne() {
+    return crud.findOne(TestEntity_Table.test_entity, TestEntity_Table.id.eq(entity.getId()));
+  }
+
+  @Benchmark
+  public Record dslFetchOne() {
+    return dsl.select(TestEntity_Table.flag).from(TestEntity_Table.test_entity).where(TestEntity_Table.id.eq(entity.getId())).fetchOne();
+  }
+
+  @Benchmark
+  public Record dslTemplateFetchOne() {
+    return selectTemplate.bind(entity.getId()).fetchOne();
+  }
+
+  @Benchmark
+  public TestEntity update() {
+    return crud.update(TestEntity_Table.test_entity, entity);
+  }
+}
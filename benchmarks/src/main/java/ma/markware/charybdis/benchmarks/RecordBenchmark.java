@@ -0,0 +1,68 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.benchmarks;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import ma.markware.charybdis.benchmarks.stub.StubRow;
+import ma.markware.charybdis.dsl.Record;
+import ma.markware.charybdis.dsl.utils.RecordUtils;
+import ma.markware.charybdis.model.field.SelectableField;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversion of a result row to a DSL {@link Record}, selecting all columns.
+ *
+ * @author Oussama Markad
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordBenchmark {
+
+  private Row row;
+  private List<SelectableField> selectedFields;
+
+  @Setup
+  public void setup() {
+    row = StubRow.of(TestEntity_Table.test_entity, TestEntity_INST1.entity1);
+    selectedFields = new ArrayList<>(TestEntity_Table.test_entity.getColumns());
+  }
+
+  @Benchmark
+  public Record rowToRecord() {
+    return RecordUtils.rowToRecord(row, selectedFields);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.model.criteria.CriteriaExpression;
+import ma.markware.charybdis.model.criteria.CriteriaOperator;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
+import ma.markware.charybdis.query.DeleteQuery;
+import ma.markware.charybdis.query.InsertQuery;
+import ma.markware.charybdis.query.SelectQuery;
+import ma.markware.charybdis.query.StatementTuple;
+import ma.markware.charybdis.query.UpdateQuery;
+import ma.markware.charybdis.query.clause.WhereClause;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Statement building of non canonical queries, as done by DSL API and by CRUD API when a primary key is missing.
+ *
+ * @author Oussama Markad
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatementBuildingBenchmark {
+
+  private InsertQuery insertQuery;
+  private UpdateQuery updateQuery;
+  private SelectQuery selectQuery;
+  private DeleteQuery deleteQuery;
+  private CriteriaExpression criteria;
+
+  @Setup
+  public void setup() {
+    TestEntity_Table table = TestEntity_Table.test_entity;
+    Object[] bindValues = new Object[table.getColumnsSize()];
+    table.serializeInto(TestEntity_INST1.entity1, bindValues);
+
+    insertQuery = new InsertQuery(new ExecutionContext());
+    insertQuery.setTable(table);
+    insertQuery.setColumnNamesAndValues(table.getColumnNames(), bindValues);
+
+    updateQuery = new UpdateQuery(new ExecutionContext());
+    updateQuery.setTable(table);
+    List<ColumnMetadata> columns = table.getColumns();
+    for (int i = 0; i < columns.size(); i++) {
+      if (table.isPrimaryKey(i)) {
+        updateQuery.setWhere(new CriteriaExpression(columns.get(i), CriteriaOperator.EQ, bindValues[i]));
+      } else {
+        updateQuery.setSerializedAssignment(columns.get(i), bindValues[i]);
+      }
+    }
+
+    selectQuery = new SelectQuery(new ExecutionContext());
+    selectQuery.setTableAndSelectors(table);
+    selectQuery.setWhereClause(TestEntity_Table.id.eq(TestEntity_INST1.id));
+    selectQuery.setWhereClause(TestEntity_Table.date.gt(TestEntity_INST1.date));
+
+    deleteQuery = new DeleteQuery(new ExecutionContext());
+    deleteQuery.setTable(table);
+    deleteQuery.setWhere(TestEntity_Table.id.eq(TestEntity_INST1.id));
+
+    criteria = TestEntity_Table.id.eq(TestEntity_INST1.id);
+  }
+
+  @Benchmark
+  public StatementTuple buildInsert() {
+    return insertQuery.buildStatement();
+  }
+
+  @Benchmark
+  public StatementTuple buildUpdate() {
+    return updateQuery.buildStatement();
+  }
+
+  @Benchmark
+  public StatementTuple buildSelect() {
+    return selectQuery.buildStatement();
+  }
+
+  @Benchmark
+  public StatementTuple buildDelete() {
+    return deleteQuery.buildStatement();
+  }
+
+  @Benchmark
+  public WhereClause whereClause() {
+    return WhereClause.from(criteria);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.benchmarks;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import ma.markware.charybdis.benchmarks.stub.StubRow;
+import ma.markware.charybdis.test.entities.TestEntity;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Generated table metadata: entity serialization to bind values, and deserialization from a result row.
+ *
+ * @author Oussama Markad
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableSerializationBenchmark {
+
+  private TestEntity entity;
+  private Object[] bindValues;
+  private Row row;
+
+  @Setup
+  public void setup() {
+    entity = TestEntity_INST1.entity1;
+    bindValues = new Object[TestEntity_Table.test_entity.getColumnsSize()];
+    row = StubRow.of(TestEntity_Table.test_entity, entity);
+  }
+
+  @Benchmark
+  public Map<String, Object> serialize() {
+    return TestEntity_Table.test_entity.serialize(entity);
+  }
+
+  @Benchmark
+  public Object[] serializeInto() {
+    TestEntity_Table.test_entity.serializeInto(entity, bindValues);
+    return bindValues;
+  }
+
+  @Benchmark
+  public TestEntity deserialize() {
+    return TestEntity_Table.test_entity.deserialize(row);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.benchmarks;
+
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import ma.markware.charybdis.test.entities.TestUdt;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestUdt_Udt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Generated udt metadata: serialization to a {@link UdtValue} and back, on an udt nesting collections of udts.
+ * {@link #serializeByName()} is the baseline of udt serialization as previously generated, with each field serialized twice
+ * and set by name.
+ *
+ * @author Oussama Markad
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UdtSerializationBenchmark {
+
+  private TestUdt udt;
+  private UdtValue udtValue;
+
+  @Setup
+  public void setup() {
+    udt = TestEntity_INST1.udt1;
+    udtValue = TestUdt_Udt.test_udt.serialize(udt);
+  }
+
+  @Benchmark
+  public UdtValue serialize() {
+    return TestUdt_Udt.test_udt.serialize(udt);
+  }
+
+  @Benchmark
+  public UdtValue serializeByName() {
+    return serializeByName(udt);
+  }
+
+  @Benchmark
+  public TestUdt deserialize() {
+    return TestUdt_Udt.test_udt.deserialize(udtValue);
+  }
+
+  private static UdtValue serializeByName(TestUdt entity) {
+    if (entity == null) return null;
+    UdtValue udtValue = TestUdt_Udt.udt.newValue();
+    UdtValue udtNestedValue = TestUdt_Udt.udtNested.serialize(entity.getUdtNested());
+    if (udtNestedValue == null) {
+      udtValue.setToNull("udtnested");
+    } else {
+      udtValue.set("udtnested", TestUdt_Udt.udtNested.serialize(entity.getUdtNested()), UdtValue.class);
+    }
+    Integer numberValue = TestUdt_Udt.number.serialize(entity.getNumber());
+    if (numberValue == null) {
+      udtValue.setToNull("number");
+    } else {
+      udtValue.set("number", TestUdt_Udt.number.serialize(entity.getNumber()), Integer.class);
+    }
+    String valueValue = TestUdt_Udt.value.serialize(entity.getValue());
+    if (valueValue == null) {
+      udtValue.setToNull("value");
+    } else {
+      udtValue.set("value", TestUdt_Udt.value.serialize(entity.getValue()), String.class);
+    }
+    List<UdtValue> udtNestedListValue = TestUdt_Udt.udtNestedList.serialize(entity.getUdtNestedList());
+    if (udtNestedListValue == null) {
+      udtValue.setToNull("udtnestedlist");
+    } else {
+      udtValue.setList("udtnestedlist", TestUdt_Udt.udtNestedList.serialize(entity.getUdtNestedList()), UdtValue.class);
+    }
+    Set<List<UdtValue>> udtNestedNestedSetValue = TestUdt_Udt.udtNestedNestedSet.serialize(entity.getUdtNestedNestedSet());
+    if (udtNestedNestedSetValue == null) {
+      udtValue.setToNull("udtnestednestedset");
+    } else {
+      udtValue.set("udtnestednestedset", TestUdt_Udt.udtNestedNestedSet.serialize(entity.getUdtNestedNestedSet()),
+                   TestUdt_Udt.udtNestedNestedSetGenericType);
+    }
+    Map<String, List<UdtValue>> udtNestedMapValue = TestUdt_Udt.udtNestedMap.serialize(entity.getUdtNestedMap());
+    if (udtNestedMapValue == null) {
+      udtValue.setToNull("udtnestedmap");
+    } else {
+      udtValue.set("udtnestedmap", TestUdt_Udt.udtNestedMap.serialize(entity.getUdtNestedMap()), TestUdt_Udt.udtNestedMapGenericType);
+    }
+    return udtValue;
+  }
+}
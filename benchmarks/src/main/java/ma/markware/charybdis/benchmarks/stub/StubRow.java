@@ -0,0 +1,201 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.benchmarks.stub;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+
+/**
+ * In-memory row holding the encoded columns of an entity, as a driver row read from a result set would.
+ * Values are decoded through the default codec registry on each read, so that deserialization benchmarks
+ * measure the same work as with rows received from a cluster.
+ *
+ * @author Oussama Markad
+ */
+public class StubRow implements Row {
+
+  private final Map<String, Integer> indexes = new HashMap<>();
+  private final StubColumnDefinitions columnDefinitions = new StubColumnDefinitions();
+  private final DataType[] types;
+  private final ByteBuffer[] values;
+
+  private StubRow(final String[] names, final Object[] serializedValues) {
+    this.types = new DataType[names.length];
+    this.values = new ByteBuffer[names.length];
+    for (int i = 0; i < names.length; i++) {
+      indexes.put(names[i], i);
+      if (serializedValues[i] == null) {
+        types[i] = DataTypes.TEXT;
+      } else {
+        TypeCodec<Object> codec = CodecRegistry.DEFAULT.codecFor(serializedValues[i]);
+        types[i] = codec.getCqlType();
+        values[i] = codec.encode(serializedValues[i], ProtocolVersion.DEFAULT);
+      }
+    }
+  }
+
+  /**
+   * @return row of all columns of an entity, in table columns order.
+   */
+  public static <T> StubRow of(final TableMetadata<T> tableMetadata, final T entity) {
+    List<ColumnMetadata> columns = tableMetadata.getColumns();
+    String[] names = new String[columns.size()];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = columns.get(i).getName();
+    }
+    Object[] serializedValues = new Object[names.length];
+    tableMetadata.serializeInto(entity, serializedValues);
+    return new StubRow(names, serializedValues);
+  }
+
+  @Override
+  public ColumnDefinitions getColumnDefinitions() {
+    return columnDefinitions;
+  }
+
+  @Override
+  public ByteBuffer getBytesUnsafe(final int i) {
+    ByteBuffer value = values[i];
+    return value == null ? null : value.duplicate();
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public DataType getType(final int i) {
+    return types[i];
+  }
+
+  @Override
+  public int firstIndexOf(final String name) {
+    return columnDefinitions.firstIndexOf(name);
+  }
+
+  @Override
+  public DataType getType(final String name) {
+    int index = firstIndexOf(name);
+    if (index < 0) {
+      throw new IllegalArgumentException(name + " is not a column in this row");
+    }
+    return types[index];
+  }
+
+  @Override
+  public int firstIndexOf(final CqlIdentifier id) {
+    return firstIndexOf(id.asInternal());
+  }
+
+  @Override
+  public DataType getType(final CqlIdentifier id) {
+    return getType(id.asInternal());
+  }
+
+  @Override
+  public CodecRegistry codecRegistry() {
+    return CodecRegistry.DEFAULT;
+  }
+
+  @Override
+  public ProtocolVersion protocolVersion() {
+    return ProtocolVersion.DEFAULT;
+  }
+
+  @Override
+  public boolean isDetached() {
+    return false;
+  }
+
+  @Override
+  public void attach(final AttachmentPoint attachmentPoint) {
+  }
+
+  @Override
+  public String toString() {
+    return "StubRow" + indexes.keySet();
+  }
+
+  /**
+   * Column definitions only resolving column positions by name, which is all generated metadata need.
+   */
+  private class StubColumnDefinitions implements ColumnDefinitions {
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public ColumnDefinition get(final int i) {
+      throw new UnsupportedOperationException("Column definition details are not available in stub rows");
+    }
+
+    @Override
+    public boolean contains(final String name) {
+      return indexes.containsKey(name);
+    }
+
+    @Override
+    public boolean contains(final CqlIdentifier id) {
+      return contains(id.asInternal());
+    }
+
+    @Override
+    public int firstIndexOf(final String name) {
+      Integer index = indexes.get(name);
+      return index == null ? -1 : index;
+    }
+
+    @Override
+    public int firstIndexOf(final CqlIdentifier id) {
+      return firstIndexOf(id.asInternal());
+    }
+
+    @Override
+    public Iterator<ColumnDefinition> iterator() {
+      throw new UnsupportedOperationException("Column definition details are not available in stub rows");
+    }
+
+    @Override
+    public boolean isDetached() {
+      return false;
+    }
+
+    @Override
+    public void attach(final AttachmentPoint attachmentPoint) {
+    }
+  }
+}
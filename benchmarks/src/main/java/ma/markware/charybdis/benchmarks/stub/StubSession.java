@@ -0,0 +1,63 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.benchmarks.stub;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cql session that prepares statements without any cluster, any other operation is unsupported.
+ *
+ * @author Oussama Markad
+ */
+public final class StubSession {
+
+  private StubSession() {
+  }
+
+  /**
+   * @param name session name, prepared statements are cached by session name.
+   * @return session returning the same prepared statement for every query.
+   */
+  public static CqlSession create(final String name) {
+    PreparedStatement preparedStatement = (PreparedStatement) Proxy.newProxyInstance(StubSession.class.getClassLoader(),
+        new Class<?>[]{ PreparedStatement.class }, (proxy, method, args) -> {
+          if ("toString".equals(method.getName())) {
+            return "StubPreparedStatement";
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+    return (CqlSession) Proxy.newProxyInstance(StubSession.class.getClassLoader(), new Class<?>[]{ CqlSession.class }, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getName":
+          return name;
+        case "prepare":
+          return preparedStatement;
+        case "prepareAsync":
+          return CompletableFuture.completedFuture(preparedStatement);
+        case "toString":
+          return "StubSession(" + name + ")";
+        default:
+          throw new UnsupportedOperationException(method.getName());
+      }
+    });
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import java.util.concurrent.TimeUnit;
+import ma.markware.charybdis.benchmarks.stub.StubSession;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Prepared statement lookups once warmed up, which is the cost paid by every query execution.
+ * Lives in {@code ma.markware.charybdis.query} as {@link PreparedStatementFactory} is package-private.
+ *
+ * @author Oussama Markad
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreparedStatementFactoryBenchmark {
+
+  private CqlSession session;
+  private String query;
+  private String canonicalQuery;
+
+  @Setup
+  public void setup() {
+    session = StubSession.create("benchmark_session");
+    query = "SELECT * FROM test_keyspace.test_entity WHERE id=? AND date>?";
+    canonicalQuery = TestEntity_Table.test_entity.getSelectByPrimaryKeyQuery();
+    PreparedStatementFactory.createPreparedStatement(session, query);
+    PreparedStatementFactory.getCanonicalPreparedStatement(session, canonicalQuery);
+  }
+
+  @Benchmark
+  public PreparedStatement cachedLookup() {
+    return PreparedStatementFactory.createPreparedStatement(session, query);
+  }
+
+  @Benchmark
+  public PreparedStatement canonicalLookup() {
+    return PreparedStatementFactory.getCanonicalPreparedStatement(session, canonicalQuery);
+  }
+}
@@ -22,10 +22,17 @@ package ma.markware.charybdis;
 import com.datastax.oss.driver.api.core.CqlSession;
 import ma.markware.charybdis.batch.Batch;
 import ma.markware.charybdis.batch.BatchQueryBuilder;
+import ma.markware.charybdis.cache.LRUCacheStatisticsMXBean;
 import ma.markware.charybdis.crud.CrudQueryBatchBuilder;
 import ma.markware.charybdis.crud.CrudQueryBuilder;
+import ma.markware.charybdis.crud.EntityCache;
 import ma.markware.charybdis.dsl.DslQueryBatchBuilder;
 import ma.markware.charybdis.dsl.DslQueryBuilder;
+import ma.markware.charybdis.metrics.QueryListener;
+import ma.markware.charybdis.metrics.QueryListeners;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.query.PreparedStatementCache;
+import ma.markware.charybdis.query.QueryRetryPolicy;
 import ma.markware.charybdis.session.DefaultSessionFactory;
 import ma.markware.charybdis.session.SessionFactory;
 import ma.markware.charybdis.session.StandaloneSessionFactory;
@@ -41,6 +48,8 @@ import ma.markware.charybdis.session.StandaloneSessionFactory;
 public class CqlTemplate {
 
   private final SessionFactory sessionFactory;
+  private final Integer preparedStatementCacheSize;
+  private volatile CqlSession configuredSession;
 
   /**
    * Initialize the data manager using a custom session factory.
@@ -49,6 +58,21 @@ public class CqlTemplate {
    */
   public CqlTemplate(SessionFactory customSessionFactory) {
     this.sessionFactory = customSessionFactory;
+    this.preparedStatementCacheSize = null;
+  }
+
+  /**
+   * Initialize the data manager using a custom session factory, and a prepared statements cache of its own.
+   *
+   * @param customSessionFactory Instance of {@link SessionFactory} responsible of creating cql sessions.
+   * @param preparedStatementCacheSize number of prepared statements above which least recently used ones are evicted.
+   */
+  public CqlTemplate(SessionFactory customSessionFactory, int preparedStatementCacheSize) {
+    if (preparedStatementCacheSize <= 0) {
+      throw new IllegalArgumentException("prepared statements cache size should be positive");
+    }
+    this.sessionFactory = customSessionFactory;
+    this.preparedStatementCacheSize = preparedStatementCacheSize;
   }
 
   /**
@@ -78,13 +102,23 @@ public class CqlTemplate {
     this(new StandaloneSessionFactory(session));
   }
 
+  /**
+   * Initialize the data manager with an existing session, and a prepared statements cache of its own.
+   *
+   * @param session open cql session.
+   * @param preparedStatementCacheSize number of prepared statements above which least recently used ones are evicted.
+   */
+  public CqlTemplate(CqlSession session, int preparedStatementCacheSize) {
+    this(new StandaloneSessionFactory(session), preparedStatementCacheSize);
+  }
+
   /**
    * Create a Dsl API entry point.
    *
    * @return Dsl API
    */
   public DslQueryBuilder dsl() {
-    return new DslQueryBuilder(sessionFactory.getSession());
+    return new DslQueryBuilder(getSession());
   }
 
   /**
@@ -103,7 +137,7 @@ public class CqlTemplate {
    * @return Crud API
    */
   public CrudQueryBuilder crud() {
-    return new CrudQueryBuilder(sessionFactory.getSession());
+    return new CrudQueryBuilder(getSession());
   }
 
   /**
@@ -120,6 +154,86 @@ public class CqlTemplate {
    * @return entry point to Batch API
    */
   public BatchQueryBuilder batch() {
-    return new BatchQueryBuilder(sessionFactory.getSession());
+    return new BatchQueryBuilder(getSession());
+  }
+
+  /**
+   * Cache entities of a table in memory, so that Crud API lookups by primary key ({@code findOne}, {@code findOptional}) are served
+   * without querying DB. Crud API writes on this table invalidate cached entities, other writes are only seen once cached entities expire.
+   * Meant for tables that rarely change.
+   *
+   * @param table table whose entities are cached.
+   * @param maxCapacity number of entities above which least recently used ones are evicted.
+   * @param expireAfterWriteMillis duration in milliseconds after which a cached entity is read again from DB, {@code 0} for no expiry.
+   * @return this data manager
+   */
+  public CqlTemplate withEntityCache(TableMetadata<?> table, int maxCapacity, long expireAfterWriteMillis) {
+    EntityCache.configure(getSession().getName(), table, maxCapacity, expireAfterWriteMillis);
+    return this;
+  }
+
+  /**
+   * Statistics of the entity cache of a table: hits, misses, evictions...
+   *
+   * @param table cached table.
+   * @return entity cache statistics, {@code null} if table is not cached.
+   */
+  public LRUCacheStatisticsMXBean getEntityCacheStatistics(TableMetadata<?> table) {
+    return EntityCache.getStatistics(getSession().getName(), table);
+  }
+
+  /**
+   * Statistics of the prepared statements cache used by this data manager: hits, misses, evictions and average preparation time.
+   * They are also registered in the platform MBean server under {@code javax.cache:type=CacheStatistics}.
+   *
+   * @return prepared statements cache statistics
+   */
+  public LRUCacheStatisticsMXBean getPreparedStatementCacheStatistics() {
+    return PreparedStatementCache.getStatistics(getSession().getName());
+  }
+
+  /**
+   * Notify a listener of the phases (statement building, preparation, execution, deserialization) of every query executed through
+   * this data manager's session, e.g. {@link ma.markware.charybdis.metrics.QueryMetricsRecorder} to get latency percentiles by table and phase.
+   *
+   * @param listener listener to notify.
+   * @return this data manager
+   */
+  public CqlTemplate withQueryListener(QueryListener listener) {
+    QueryListeners.register(getSession().getName(), listener);
+    return this;
+  }
+
+  /**
+   * Stop notifying a listener registered with {@link #withQueryListener(QueryListener)}.
+   *
+   * @param listener registered listener.
+   * @return this data manager
+   */
+  public CqlTemplate removeQueryListener(QueryListener listener) {
+    QueryListeners.unregister(getSession().getName(), listener);
+    return this;
+  }
+
+  /**
+   * Retry idempotent queries failing with a transient error (timeout, unavailable or overloaded coordinator...), instead of throwing right away.
+   * Reads are idempotent, writes are only if they have a fixed timestamp and are neither lightweight transactions
+   * nor counter updates nor list appends.
+   *
+   * @param retryPolicy retry policy of queries executed through this data manager's session.
+   * @return this data manager
+   */
+  public CqlTemplate withRetryPolicy(QueryRetryPolicy retryPolicy) {
+    QueryRetryPolicy.configure(getSession().getName(), retryPolicy);
+    return this;
+  }
+
+  private CqlSession getSession() {
+    CqlSession session = sessionFactory.getSession();
+    if (preparedStatementCacheSize != null && session != configuredSession) {
+      PreparedStatementCache.configure(session.getName(), preparedStatementCacheSize);
+      configuredSession = session;
+    }
+    return session;
   }
 }
@@ -38,6 +38,7 @@ public class ExecutionContext {
   private SerialConsistencyLevel defaultSerialConsistencyLevel;
   private DriverExecutionProfile driverExecutionProfile;
   private String executionProfileName;
+  private Boolean nullAsUnset;
 
   public ExecutionContext() {
   }
@@ -49,6 +50,7 @@ public class ExecutionContext {
     defaultConsistencyLevel = source.defaultConsistencyLevel;
     serialConsistencyLevel = source.serialConsistencyLevel;
     defaultSerialConsistencyLevel = source.defaultSerialConsistencyLevel;
+    nullAsUnset = source.nullAsUnset;
   }
 
   @VisibleForTesting
@@ -153,6 +155,21 @@ public class ExecutionContext {
     this.executionProfileName = executionProfileName;
   }
 
+  /**
+   * @return true if null values are left unset on insert, {@code null} if table default applies.
+   */
+  public Boolean getNullAsUnset() {
+    return nullAsUnset;
+  }
+
+  /**
+   * Set null values handling on insert.
+   * @param nullAsUnset true to leave null values unset, false to bind them to null.
+   */
+  public void setNullAsUnset(final Boolean nullAsUnset) {
+    this.nullAsUnset = nullAsUnset;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -164,12 +181,13 @@ public class ExecutionContext {
     final ExecutionContext that = (ExecutionContext) o;
     return consistencyLevel == that.consistencyLevel && defaultConsistencyLevel == that.defaultConsistencyLevel
         && serialConsistencyLevel == that.serialConsistencyLevel && defaultSerialConsistencyLevel == that.defaultSerialConsistencyLevel
-        && Objects.equals(driverExecutionProfile, that.driverExecutionProfile) && Objects.equals(executionProfileName, that.executionProfileName);
+        && Objects.equals(driverExecutionProfile, that.driverExecutionProfile) && Objects.equals(executionProfileName, that.executionProfileName)
+        && Objects.equals(nullAsUnset, that.nullAsUnset);
   }
 
   @Override
   public int hashCode() {
     return Objects.hash(consistencyLevel, defaultConsistencyLevel, serialConsistencyLevel, defaultSerialConsistencyLevel, driverExecutionProfile,
-                        executionProfileName);
+                        executionProfileName, nullAsUnset);
   }
 }
@@ -21,6 +21,9 @@ package ma.markware.charybdis.batch;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.ExecutionContext;
 import ma.markware.charybdis.query.BatchQuery;
 
@@ -33,6 +36,7 @@ public class Batch {
 
   private final CqlSession session;
   private final BatchQuery batchQuery;
+  private final List<Runnable> executionCallbacks = new ArrayList<>();
 
   Batch(final CqlSession session, final ExecutionContext executionContext) {
     this.session = session;
@@ -73,11 +77,57 @@ public class Batch {
     return this;
   }
 
+  /**
+   * Group statements by partition, and execute each group as a separate batch, concurrently.
+   * Sub-batches are limited to {@value BatchQuery#DEFAULT_MAX_STATEMENTS_PER_BATCH} statements
+   * and {@value BatchQuery#DEFAULT_MAX_BATCH_SIZE_IN_BYTES} bytes.
+   * Only supported in unlogged batches, as atomicity would not be guaranteed across sub-batches.
+   *
+   * @return updated batch query
+   */
+  public Batch groupByPartition() {
+    return groupByPartition(BatchQuery.DEFAULT_MAX_STATEMENTS_PER_BATCH, BatchQuery.DEFAULT_MAX_BATCH_SIZE_IN_BYTES);
+  }
+
+  /**
+   * Group statements by partition, and execute each group as a separate batch, concurrently.
+   * Groups exceeding given limits are split into several batches.
+   * Only supported in unlogged batches, as atomicity would not be guaranteed across sub-batches.
+   *
+   * @param maxStatementsPerBatch maximum number of statements in a batch.
+   * @param maxBatchSizeInBytes maximum serialized size of a batch in bytes.
+   * @return updated batch query
+   */
+  public Batch groupByPartition(int maxStatementsPerBatch, int maxBatchSizeInBytes) {
+    batchQuery.setGroupByPartition(maxStatementsPerBatch, maxBatchSizeInBytes);
+    return this;
+  }
+
   /**
    * Execute batch query.
    */
   public void execute() {
-    batchQuery.execute(session);
+    try {
+      batchQuery.execute(session);
+    } finally {
+      runExecutionCallbacks();
+    }
+  }
+
+  /**
+   * Execute batch query asynchronously.
+   *
+   * @return completion stage of batch execution.
+   */
+  public CompletionStage<Void> executeAsync() {
+    CompletionStage<Void> execution;
+    try {
+      execution = batchQuery.executeAsync(session);
+    } catch (final RuntimeException e) {
+      runExecutionCallbacks();
+      throw e;
+    }
+    return execution.whenComplete((result, throwable) -> runExecutionCallbacks());
   }
 
   /**
@@ -87,4 +137,18 @@ public class Batch {
   public void addStatement(BatchableStatement<?> statement) {
     batchQuery.addStatement(statement);
   }
+
+  /**
+   * Register a callback run once batch query is executed, whether execution succeeded or not.
+   * @param callback callback to run after execution.
+   */
+  public void addExecutionCallback(Runnable callback) {
+    executionCallbacks.add(callback);
+  }
+
+  private void runExecutionCallbacks() {
+    List<Runnable> callbacks = new ArrayList<>(executionCallbacks);
+    executionCallbacks.clear();
+    callbacks.forEach(Runnable::run);
+  }
 }
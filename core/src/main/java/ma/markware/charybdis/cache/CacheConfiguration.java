@@ -31,12 +31,54 @@ import javax.cache.configuration.Configuration;
  */
 public class CacheConfiguration<K, V> implements Configuration<K, V> {
 
+  public static final int DEFAULT_INITIAL_CAPACITY = 200;
+  public static final int DEFAULT_MAX_CAPACITY = 500;
+
   private final Class<K> keyType;
   private final Class<V> valueType;
+  private final int initialCapacity;
+  private final int maxCapacity;
+  private final boolean statisticsEnabled;
+  private final long expireAfterWriteMillis;
 
   public CacheConfiguration(final Class<K> keyType, final Class<V> valueType) {
+    this(keyType, valueType, DEFAULT_INITIAL_CAPACITY, DEFAULT_MAX_CAPACITY, false);
+  }
+
+  /**
+   * @param keyType cache key type
+   * @param valueType cache value type
+   * @param initialCapacity number of entries the cache is sized for at creation
+   * @param maxCapacity number of entries above which least recently used entries are evicted
+   * @param statisticsEnabled whether cache statistics are recorded and registered as a {@link javax.cache.management.CacheStatisticsMXBean}
+   */
+  public CacheConfiguration(final Class<K> keyType, final Class<V> valueType, final int initialCapacity, final int maxCapacity,
+      final boolean statisticsEnabled) {
+    this(keyType, valueType, initialCapacity, maxCapacity, statisticsEnabled, 0);
+  }
+
+  /**
+   * @param keyType cache key type
+   * @param valueType cache value type
+   * @param initialCapacity number of entries the cache is sized for at creation
+   * @param maxCapacity number of entries above which least recently used entries are evicted
+   * @param statisticsEnabled whether cache statistics are recorded and registered as a {@link javax.cache.management.CacheStatisticsMXBean}
+   * @param expireAfterWriteMillis duration in milliseconds after which an entry expires once written, {@code 0} for no expiry
+   */
+  public CacheConfiguration(final Class<K> keyType, final Class<V> valueType, final int initialCapacity, final int maxCapacity,
+      final boolean statisticsEnabled, final long expireAfterWriteMillis) {
+    if (maxCapacity <= 0) {
+      throw new IllegalArgumentException("cache max capacity should be positive");
+    }
+    if (expireAfterWriteMillis < 0) {
+      throw new IllegalArgumentException("cache expiry duration should not be negative");
+    }
     this.keyType = keyType;
     this.valueType = valueType;
+    this.initialCapacity = Math.min(initialCapacity, maxCapacity);
+    this.maxCapacity = maxCapacity;
+    this.statisticsEnabled = statisticsEnabled;
+    this.expireAfterWriteMillis = expireAfterWriteMillis;
   }
 
   @Override
@@ -53,4 +95,20 @@ public class CacheConfiguration<K, V> implements Configuration<K, V> {
   public boolean isStoreByValue() {
     return true;
   }
+
+  public int getInitialCapacity() {
+    return initialCapacity;
+  }
+
+  public int getMaxCapacity() {
+    return maxCapacity;
+  }
+
+  public boolean isStatisticsEnabled() {
+    return statisticsEnabled;
+  }
+
+  public long getExpireAfterWriteMillis() {
+    return expireAfterWriteMillis;
+  }
 }
@@ -21,6 +21,7 @@ package ma.markware.charybdis.cache;
 
 import static java.lang.String.format;
 
+import java.lang.management.ManagementFactory;
 import java.net.URI;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,6 +32,10 @@ import javax.cache.CacheException;
 import javax.cache.CacheManager;
 import javax.cache.configuration.Configuration;
 import javax.cache.spi.CachingProvider;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,8 +49,7 @@ class InMemoryCacheManager implements CacheManager {
   static final InMemoryCacheManager INSTANCE = new InMemoryCacheManager();
 
   private static final Logger log = LoggerFactory.getLogger(InMemoryCacheManager.class);
-  private static final int CACHE_INITIAL_CAPACITY = 200;
-  private static final int CACHE_MAX_CAPACITY = 500;
+  private static final String CACHE_MANAGER_NAME = "charybdis";
 
   private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
   private final AtomicBoolean isClosed = new AtomicBoolean(false);
@@ -71,15 +75,25 @@ class InMemoryCacheManager implements CacheManager {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public <K, V, C extends Configuration<K, V>> Cache<K, V> createCache(final String name, final C configuration) {
     ensureOpen();
     checkNotNull(name, "cache name cannot be null");
     checkNotNull(configuration, "cache configuration cannot be null");
-    if (caches.containsKey(name)) {
+    LRUCache<K, V> newCache;
+    if (configuration instanceof CacheConfiguration) {
+      CacheConfiguration<K, V> cacheConfiguration = (CacheConfiguration<K, V>) configuration;
+      newCache = new LRUCache<>(name, cacheConfiguration.getInitialCapacity(), cacheConfiguration.getMaxCapacity(), configuration);
+    } else {
+      newCache = new LRUCache<>(name, CacheConfiguration.DEFAULT_INITIAL_CAPACITY, CacheConfiguration.DEFAULT_MAX_CAPACITY, configuration);
+    }
+    // Atomic, so that concurrent creations of the same cache cannot both succeed
+    if (caches.putIfAbsent(name, newCache) != null) {
       throw new CacheException(format("A cache named '%s' already exists", name));
     }
-    LRUCache<K, V> newCache = new LRUCache<>(name, CACHE_INITIAL_CAPACITY, CACHE_MAX_CAPACITY, configuration);
-    caches.put(name, newCache);
+    if (newCache.getStatistics().isEnabled()) {
+      registerStatistics(newCache);
+    }
     return newCache;
   }
 
@@ -122,10 +136,10 @@ class InMemoryCacheManager implements CacheManager {
   public void destroyCache(final String name) {
     ensureOpen();
     checkNotNull(name, "cache name cannot be null");
-    Cache cache = caches.get(name);
+    Cache cache = caches.remove(name);
     if (cache != null) {
       cache.close();
-      caches.remove(name);
+      unregisterStatistics(name);
     }
   }
 
@@ -133,14 +147,31 @@ class InMemoryCacheManager implements CacheManager {
   public void enableManagement(final String cacheName, final boolean enabled) {
   }
 
+  /**
+   * Enable or disable statistics recording of a cache.
+   * When enabled, statistics are registered in the platform MBean server as a {@link LRUCacheStatisticsMXBean}, under the name
+   * {@code javax.cache:type=CacheStatistics,CacheManager=charybdis,Cache=<cacheName>}.
+   */
   @Override
   public void enableStatistics(final String cacheName, final boolean enabled) {
+    ensureOpen();
+    checkNotNull(cacheName, "cache name cannot be null");
+    Cache cache = caches.get(cacheName);
+    if (cache instanceof LRUCache) {
+      ((LRUCache) cache).getStatistics().setEnabled(enabled);
+      if (enabled) {
+        registerStatistics((LRUCache) cache);
+      } else {
+        unregisterStatistics(cacheName);
+      }
+    }
   }
 
   @Override
   public void close() {
     if (isClosed.compareAndSet(false, true)) {
       caches.values().forEach(Cache::close);
+      caches.keySet().forEach(this::unregisterStatistics);
     }
   }
 
@@ -164,6 +195,39 @@ class InMemoryCacheManager implements CacheManager {
     }
   }
 
+  private void registerStatistics(final LRUCache cache) {
+    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName objectName = statisticsObjectName(cache.getName());
+      if (mBeanServer.isRegistered(objectName)) {
+        mBeanServer.unregisterMBean(objectName);
+      }
+      mBeanServer.registerMBean(new StandardMBean(cache.getStatistics(), LRUCacheStatisticsMXBean.class, true), objectName);
+    } catch (JMException e) {
+      log.warn("Could not register statistics of cache '{}'", cache.getName(), e);
+    }
+  }
+
+  private void unregisterStatistics(final String cacheName) {
+    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName objectName = statisticsObjectName(cacheName);
+      if (mBeanServer.isRegistered(objectName)) {
+        mBeanServer.unregisterMBean(objectName);
+      }
+    } catch (JMException e) {
+      log.warn("Could not unregister statistics of cache '{}'", cacheName, e);
+    }
+  }
+
+  static ObjectName statisticsObjectName(final String cacheName) throws JMException {
+    return new ObjectName(format("javax.cache:type=CacheStatistics,CacheManager=%s,Cache=%s", CACHE_MANAGER_NAME, mBeanSafe(cacheName)));
+  }
+
+  private static String mBeanSafe(final String name) {
+    return name.replaceAll("[,:=\n]", ".");
+  }
+
   private void ensureOpen() {
     if (isClosed()) {
       throw new IllegalStateException("CacheManager InMemoryCacheManager is already closed");
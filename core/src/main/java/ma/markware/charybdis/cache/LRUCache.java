@@ -22,12 +22,13 @@ package ma.markware.charybdis.cache;
 import static java.lang.String.format;
 
 import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.cache.Cache;
 import javax.cache.CacheManager;
@@ -42,6 +43,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Least recently used cache.
+ * When configured with an expiry duration, entries are also dropped once they are older than this duration (checked on read).
  *
  * @param <K> key type
  * @param <V> value type
@@ -53,25 +55,37 @@ class LRUCache<K, V> implements Cache<K, V> {
   private static final Logger log = LoggerFactory.getLogger(LRUCache.class);
 
   private final String name;
-  private final ConcurrentLinkedHashMap<K, V> cache;
+  private final ConcurrentLinkedHashMap<K, TimedValue<V>> cache;
   private final AtomicBoolean isClosed;
   private final Configuration<K, V> cacheConfig;
+  private final LRUCacheStatistics statistics;
+  private final long expireAfterWriteNanos;
 
   LRUCache(final String name, final int initialCacheCapacity, final int maxCacheCapacity, final Configuration<K, V> cacheConfig) {
     this.name = name;
-    this.cache = new ConcurrentLinkedHashMap.Builder<K, V>()
+    this.statistics = new LRUCacheStatistics(cacheConfig instanceof CacheConfiguration
+                                                 && ((CacheConfiguration<?, ?>) cacheConfig).isStatisticsEnabled());
+    this.cache = new ConcurrentLinkedHashMap.Builder<K, TimedValue<V>>()
         .initialCapacity(initialCacheCapacity)
         .maximumWeightedCapacity(maxCacheCapacity)
-        .listener((key, value) -> log.info("Cache Eviction : [key: {}, value: {}]", key, value))
+        .listener((key, value) -> {
+          statistics.recordEviction();
+          log.debug("Cache Eviction : [cache: {}, key: {}]", name, key);
+        })
         .build();
     this.isClosed = new AtomicBoolean(false);
     this.cacheConfig = cacheConfig;
+    long expireAfterWriteMillis = cacheConfig instanceof CacheConfiguration ? ((CacheConfiguration<?, ?>) cacheConfig).getExpireAfterWriteMillis() : 0;
+    this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(expireAfterWriteMillis);
   }
 
   @Override
   public V get(final K k) {
     ensureOpen();
-    return cache.get(k);
+    long start = statistics.startTime();
+    V v = getIfNotExpired(k);
+    statistics.recordGet(v != null, start);
+    return v;
   }
 
   @Override
@@ -81,102 +95,128 @@ class LRUCache<K, V> implements Cache<K, V> {
       // Should throw NPE
       return null;
     }
-    return set.stream().filter(cache::containsKey)
-              .collect(Collectors.toMap(setItem -> setItem, cache::get));
+    Map<K, V> values = new HashMap<>();
+    for (K k : set) {
+      V v = get(k);
+      if (v != null) {
+        values.put(k, v);
+      }
+    }
+    return values;
   }
 
   @Override
   public boolean containsKey(final K k) {
     ensureOpen();
-    return cache.containsKey(k);
+    return getIfNotExpired(k) != null;
   }
 
   @Override
   public void put(final K k, final V v) {
     ensureOpen();
-    cache.put(k, v);
+    long start = statistics.startTime();
+    cache.put(k, new TimedValue<>(v));
+    statistics.recordPut(start);
   }
 
   @Override
   public V getAndPut(final K k, final V v) {
     ensureOpen();
-    V v1 = cache.get(k);
-    cache.put(k, v);
+    long start = statistics.startTime();
+    dropIfExpired(k);
+    V v1 = valueOf(cache.put(k, new TimedValue<>(v)));
+    statistics.recordGet(v1 != null, start);
+    statistics.recordPut(start);
     return v1;
   }
 
   @Override
   public void putAll(final Map<? extends K, ? extends V> map) {
     ensureOpen();
-    cache.putAll(map);
+    map.forEach(this::put);
   }
 
   @Override
   public boolean putIfAbsent(final K k, final V v) {
     ensureOpen();
-    return cache.putIfAbsent(k, v) != null;
+    long start = statistics.startTime();
+    dropIfExpired(k);
+    boolean exists = cache.putIfAbsent(k, new TimedValue<>(v)) != null;
+    if (!exists) {
+      statistics.recordPut(start);
+    }
+    return exists;
   }
 
   @Override
   public boolean remove(final K k) {
     ensureOpen();
-    return cache.remove(k) != null;
+    return getAndRemove(k) != null;
   }
 
   @Override
   public boolean remove(final K k, final V v) {
     ensureOpen();
-    return cache.remove(k, v);
+    long start = statistics.startTime();
+    TimedValue<V> current = getEntryIfNotExpired(k);
+    boolean removed = current != null && Objects.equals(current.value, v) && cache.remove(k, current);
+    if (removed) {
+      statistics.recordRemoval(start);
+    }
+    return removed;
   }
 
   @Override
   public V getAndRemove(final K k) {
     ensureOpen();
-    return cache.remove(k);
+    long start = statistics.startTime();
+    TimedValue<V> removed = cache.remove(k);
+    if (removed == null) {
+      return null;
+    }
+    statistics.recordRemoval(start);
+    return isExpired(removed) ? null : removed.value;
   }
 
   @Override
   public boolean replace(final K k, final V v, final V v1) {
     ensureOpen();
-    return cache.replace(k, v, v1);
+    TimedValue<V> current = getEntryIfNotExpired(k);
+    return current != null && Objects.equals(current.value, v) && cache.replace(k, current, new TimedValue<>(v1));
   }
 
   @Override
   public boolean replace(final K k, final V v) {
     ensureOpen();
-    if (cache.containsKey(k)) {
-      cache.put(k, v);
-      return true;
-    }
-    return false;
+    dropIfExpired(k);
+    return cache.replace(k, new TimedValue<>(v)) != null;
   }
 
   @Override
   public V getAndReplace(final K k, final V v) {
     ensureOpen();
-    V v1 = cache.get(k);
-    replace(k, v);
-    return v1;
+    dropIfExpired(k);
+    return valueOf(cache.replace(k, new TimedValue<>(v)));
   }
 
   @Override
   public void removeAll(final Set<? extends K> set) {
     ensureOpen();
     if (set != null) {
-      set.forEach(cache::remove);
+      set.forEach(this::remove);
     }
   }
 
   @Override
   public void removeAll() {
     ensureOpen();
-    cache.clear();
+    clearEntries();
   }
 
   @Override
   public void clear() {
     ensureOpen();
-    cache.clear();
+    clearEntries();
   }
 
   @Override
@@ -213,6 +253,9 @@ class LRUCache<K, V> implements Cache<K, V> {
     if (LRUCache.class.isAssignableFrom(clazz)) {
       return (T) this;
     }
+    if (LRUCacheStatisticsMXBean.class.isAssignableFrom(clazz)) {
+      return (T) statistics;
+    }
     throw new IllegalArgumentException("Cannot unwrap to " + clazz);
   }
 
@@ -223,7 +266,7 @@ class LRUCache<K, V> implements Cache<K, V> {
     Iterator<LRUCacheEntry<K, V>> iterator =
         cache.entrySet()
              .stream()
-             .map(entry -> new LRUCacheEntry<>(entry.getKey(), entry.getValue()))
+             .map(entry -> new LRUCacheEntry<>(entry.getKey(), entry.getValue().value))
              .iterator();
 
     return new Iterator<Entry<K, V>>() {
@@ -255,6 +298,50 @@ class LRUCache<K, V> implements Cache<K, V> {
     };
   }
 
+  LRUCacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Read a value, dropping it if it has expired.
+   */
+  private V getIfNotExpired(final K k) {
+    return valueOf(getEntryIfNotExpired(k));
+  }
+
+  /**
+   * Read an entry, dropping it if it has expired.
+   * Write time is stored with the value, so an entry is never dropped on behalf of another write of the same key.
+   */
+  private TimedValue<V> getEntryIfNotExpired(final K k) {
+    TimedValue<V> timedValue = cache.get(k);
+    if (timedValue != null && isExpired(timedValue)) {
+      if (cache.remove(k, timedValue)) {
+        log.debug("Cache Expiry : [cache: {}, key: {}]", name, k);
+      }
+      return null;
+    }
+    return timedValue;
+  }
+
+  private void dropIfExpired(final K k) {
+    if (expireAfterWriteNanos > 0) {
+      getEntryIfNotExpired(k);
+    }
+  }
+
+  private boolean isExpired(final TimedValue<V> timedValue) {
+    return expireAfterWriteNanos > 0 && System.nanoTime() - timedValue.writeTime >= expireAfterWriteNanos;
+  }
+
+  private static <V> V valueOf(final TimedValue<V> timedValue) {
+    return timedValue == null ? null : timedValue.value;
+  }
+
+  private void clearEntries() {
+    cache.clear();
+  }
+
   private void ensureOpen() {
     if (isClosed()) {
       throw new IllegalStateException("Cache LRUCache is already closed");
@@ -287,6 +374,20 @@ class LRUCache<K, V> implements Cache<K, V> {
     throw new UnsupportedOperationException("LRUCache deregisterCacheEntryListener method unsupported");
   }
 
+  /**
+   * Cached value with its write time. Compared by identity, so that conditional removals and replacements only apply to this very write.
+   */
+  private static final class TimedValue<V> {
+
+    private final V value;
+    private final long writeTime;
+
+    private TimedValue(final V value) {
+      this.value = value;
+      this.writeTime = System.nanoTime();
+    }
+  }
+
   static class LRUCacheEntry<K, V> implements Cache.Entry<K, V> {
 
     private final K key;
@@ -0,0 +1,187 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics recorded by {@link LRUCache}, when enabled.
+ *
+ * @author Oussama Markad
+ */
+public class LRUCacheStatistics implements LRUCacheStatisticsMXBean {
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder puts = new LongAdder();
+  private final LongAdder removals = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder getTimeNanos = new LongAdder();
+  private final LongAdder putTimeNanos = new LongAdder();
+  private final LongAdder removeTimeNanos = new LongAdder();
+  private final LongAdder loadTimeNanos = new LongAdder();
+  private volatile boolean enabled;
+
+  LRUCacheStatistics(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * @return start time of an operation to be recorded, it is only read when statistics are enabled.
+   */
+  long startTime() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  void recordGet(final boolean hit, final long startNanos) {
+    if (enabled) {
+      (hit ? hits : misses).increment();
+      getTimeNanos.add(System.nanoTime() - startNanos);
+    }
+  }
+
+  void recordPut(final long startNanos) {
+    if (enabled) {
+      puts.increment();
+      putTimeNanos.add(System.nanoTime() - startNanos);
+    }
+  }
+
+  void recordRemoval(final long startNanos) {
+    if (enabled) {
+      removals.increment();
+      removeTimeNanos.add(System.nanoTime() - startNanos);
+    }
+  }
+
+  void recordEviction() {
+    if (enabled) {
+      evictions.increment();
+    }
+  }
+
+  /**
+   * Record the computation of a value that was missing from cache.
+   *
+   * @param durationNanos load duration in nanoseconds.
+   */
+  public void recordLoad(final long durationNanos) {
+    if (enabled) {
+      loads.increment();
+      loadTimeNanos.add(durationNanos);
+    }
+  }
+
+  @Override
+  public void clear() {
+    hits.reset();
+    misses.reset();
+    puts.reset();
+    removals.reset();
+    evictions.reset();
+    loads.reset();
+    getTimeNanos.reset();
+    putTimeNanos.reset();
+    removeTimeNanos.reset();
+    loadTimeNanos.reset();
+  }
+
+  @Override
+  public long getCacheHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public float getCacheHitPercentage() {
+    return percentage(getCacheHits(), getCacheGets());
+  }
+
+  @Override
+  public long getCacheMisses() {
+    return misses.sum();
+  }
+
+  @Override
+  public float getCacheMissPercentage() {
+    return percentage(getCacheMisses(), getCacheGets());
+  }
+
+  @Override
+  public long getCacheGets() {
+    return getCacheHits() + getCacheMisses();
+  }
+
+  @Override
+  public long getCachePuts() {
+    return puts.sum();
+  }
+
+  @Override
+  public long getCacheRemovals() {
+    return removals.sum();
+  }
+
+  @Override
+  public long getCacheEvictions() {
+    return evictions.sum();
+  }
+
+  @Override
+  public float getAverageGetTime() {
+    return averageMicros(getTimeNanos.sum(), getCacheGets());
+  }
+
+  @Override
+  public float getAveragePutTime() {
+    return averageMicros(putTimeNanos.sum(), getCachePuts());
+  }
+
+  @Override
+  public float getAverageRemoveTime() {
+    return averageMicros(removeTimeNanos.sum(), getCacheRemovals());
+  }
+
+  @Override
+  public long getCacheLoads() {
+    return loads.sum();
+  }
+
+  @Override
+  public float getAverageLoadTime() {
+    return averageMicros(loadTimeNanos.sum(), getCacheLoads());
+  }
+
+  private static float percentage(final long count, final long total) {
+    return total == 0 ? 0 : (float) count * 100 / total;
+  }
+
+  private static float averageMicros(final long totalNanos, final long count) {
+    return count == 0 ? 0 : (float) totalNanos / TimeUnit.MICROSECONDS.toNanos(1) / count;
+  }
+}
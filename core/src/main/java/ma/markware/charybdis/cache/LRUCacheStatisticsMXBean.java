@@ -0,0 +1,41 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.cache;
+
+import javax.cache.management.CacheStatisticsMXBean;
+
+/**
+ * Statistics of {@link LRUCache}.
+ * On top of JCache statistics, it exposes loads, i.e. computations of values missing from cache
+ * (preparations of statements for the prepared statement cache).
+ *
+ * @author Oussama Markad
+ */
+public interface LRUCacheStatisticsMXBean extends CacheStatisticsMXBean {
+
+  /**
+   * @return number of values loaded after a cache miss.
+   */
+  long getCacheLoads();
+
+  /**
+   * @return mean time to load a missing value, in microseconds.
+   */
+  float getAverageLoadTime();
+}
@@ -0,0 +1,135 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs an asynchronous task for each element of a source, with a bounded number of pending tasks <b>(Internal use only)</b>.
+ * Elements are pulled lazily from the source: a new task is only submitted when a previous one completes.
+ *
+ * Execution completes once the source is exhausted and every submitted task completed. It completes exceptionally
+ * if the source fails (once pending tasks complete), or as soon as it is aborted, in which case no more tasks are submitted.
+ *
+ * @param <E> source elements.
+ *
+ * @author Oussama Markad
+ */
+final class BoundedAsyncExecutor<E> {
+
+  private final Iterator<E> source;
+  private final int maxInFlight;
+  private final Function<E, CompletionStage<?>> task;
+  private final CompletableFuture<Void> completion = new CompletableFuture<>();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger workInProgress = new AtomicInteger();
+  private volatile boolean exhausted;
+  private volatile Throwable sourceFailure;
+
+  /**
+   * @param source elements to run a task for, consumed lazily.
+   * @param maxInFlight maximum number of pending tasks.
+   * @param task asynchronous task of an element.
+   */
+  BoundedAsyncExecutor(final Iterator<E> source, final int maxInFlight, final Function<E, CompletionStage<?>> task) {
+    this.source = source;
+    this.maxInFlight = maxInFlight;
+    this.task = task;
+  }
+
+  /**
+   * Start execution.
+   *
+   * @return completion stage of the whole execution.
+   */
+  CompletionStage<Void> execute() {
+    drain();
+    return completion;
+  }
+
+  /**
+   * Stop submitting tasks, and complete execution exceptionally right away.
+   */
+  void abort(final Throwable throwable) {
+    completion.completeExceptionally(throwable);
+  }
+
+  /**
+   * @return true if execution completed, normally or not.
+   */
+  boolean isDone() {
+    return completion.isDone();
+  }
+
+  /**
+   * Fill the in-flight window from the source.
+   * Re-entrant calls (from tasks completing on the calling thread) are turned into extra loop iterations, to keep stack depth constant.
+   */
+  private void drain() {
+    if (workInProgress.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      while (!exhausted && !completion.isDone() && inFlight.get() < maxInFlight) {
+        E element;
+        try {
+          if (!source.hasNext()) {
+            exhausted = true;
+            break;
+          }
+          element = source.next();
+        } catch (RuntimeException e) {
+          sourceFailure = e;
+          exhausted = true;
+          break;
+        }
+        inFlight.incrementAndGet();
+        submit(element);
+      }
+      if (exhausted && inFlight.get() == 0 && !completion.isDone()) {
+        if (sourceFailure != null) {
+          completion.completeExceptionally(sourceFailure);
+        } else {
+          completion.complete(null);
+        }
+      }
+      missed = workInProgress.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void submit(final E element) {
+    CompletionStage<?> execution;
+    try {
+      execution = task.apply(element);
+    } catch (RuntimeException e) {
+      inFlight.decrementAndGet();
+      abort(e);
+      return;
+    }
+    execution.whenComplete((ignored, throwable) -> {
+      inFlight.decrementAndGet();
+      drain();
+    });
+  }
+}
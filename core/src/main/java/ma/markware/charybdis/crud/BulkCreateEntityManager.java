@@ -0,0 +1,145 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.query.AsyncResultSetUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Responsible of bulk entity creation in DB <b>(Internal use only)</b>.
+ * This service is used exclusively by CRUD API.
+ *
+ * Entities are pulled lazily from their source and inserted asynchronously through {@link CreateEntityManager},
+ * no more than 'maxInFlight' insertions are pending at any time: a new insertion is only submitted when a previous one completes.
+ *
+ * @param <T> entities to persist
+ *
+ * @author Oussama Markad
+ */
+class BulkCreateEntityManager<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(BulkCreateEntityManager.class);
+
+  static final int DEFAULT_MAX_IN_FLIGHT = 128;
+
+  private final ExecutionContext executionContext;
+  private final AtomicInteger createdCount = new AtomicInteger();
+  private final AtomicInteger notAppliedCount = new AtomicInteger();
+  private final Queue<BulkCreateResult.Failure<T>> failures = new ConcurrentLinkedQueue<>();
+  private TableMetadata<T> tableMetadata;
+  private Iterator<T> entities;
+  private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+  private boolean ifNotExists;
+
+  BulkCreateEntityManager(ExecutionContext executionContext) {
+    this.executionContext = executionContext;
+  }
+
+  /**
+   * Specify table in insert queries.
+   */
+  BulkCreateEntityManager<T> withTableMetadata(TableMetadata<T> table) {
+    this.tableMetadata = table;
+    return this;
+  }
+
+  /**
+   * Specify entities to insert, they are consumed lazily.
+   */
+  BulkCreateEntityManager<T> withEntities(Iterator<T> entities) {
+    this.entities = entities;
+    return this;
+  }
+
+  /**
+   * Specify maximum number of pending insertions.
+   */
+  BulkCreateEntityManager<T> withMaxInFlight(int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be strictly positive");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  /**
+   * Specify if insert queries should overwrite any existing entity.
+   */
+  BulkCreateEntityManager<T> withIfNotExists(boolean ifNotExists) {
+    this.ifNotExists = ifNotExists;
+    return this;
+  }
+
+  /**
+   * Execute insert queries.
+   *
+   * @return aggregate result of insertions.
+   */
+  BulkCreateResult<T> save(CqlSession session) {
+    return AsyncResultSetUtils.await(saveAsync(session));
+  }
+
+  /**
+   * Execute insert queries asynchronously.
+   *
+   * @return completion stage of the aggregate result of insertions, completed once every insertion completes.
+   */
+  CompletionStage<BulkCreateResult<T>> saveAsync(CqlSession session) {
+    return new BoundedAsyncExecutor<>(entities, maxInFlight, (T entity) -> insert(session, entity))
+        .execute()
+        .whenComplete((ignored, throwable) -> {
+          if (throwable != null) {
+            log.error("Error reading entities to create in table {}", tableMetadata.getTableName(), throwable);
+          }
+        })
+        .thenApply(ignored -> new BulkCreateResult<>(createdCount.get(), notAppliedCount.get(), new ArrayList<>(failures)));
+  }
+
+  private CompletionStage<T> insert(CqlSession session, T entity) {
+    CompletionStage<T> insertion;
+    try {
+      insertion = new CreateEntityManager<T>(executionContext).withTableMetadata(tableMetadata).withEntity(entity).withIfNotExists(ifNotExists)
+                                                           .saveAsync(session);
+    } catch (RuntimeException e) {
+      CompletableFuture<T> failedInsertion = new CompletableFuture<>();
+      failedInsertion.completeExceptionally(e);
+      insertion = failedInsertion;
+    }
+    return insertion.whenComplete((createdEntity, throwable) -> {
+      if (throwable != null) {
+        failures.add(new BulkCreateResult.Failure<>(entity, throwable));
+      } else if (createdEntity != null) {
+        createdCount.incrementAndGet();
+      } else {
+        notAppliedCount.incrementAndGet();
+      }
+    });
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregate result of a bulk creation, see {@link CrudQueryBuilder#createAll(ma.markware.charybdis.model.field.metadata.TableMetadata, Iterable)}.
+ *
+ * @param <T> entities java type.
+ *
+ * @author Oussama Markad
+ */
+public class BulkCreateResult<T> {
+
+  private final int createdCount;
+  private final int notAppliedCount;
+  private final List<Failure<T>> failures;
+
+  BulkCreateResult(final int createdCount, final int notAppliedCount, final List<Failure<T>> failures) {
+    this.createdCount = createdCount;
+    this.notAppliedCount = notAppliedCount;
+    this.failures = Collections.unmodifiableList(failures);
+  }
+
+  /**
+   * @return number of entities persisted.
+   */
+  public int getCreatedCount() {
+    return createdCount;
+  }
+
+  /**
+   * @return number of entities whose insertion was not applied (e.g. 'ifNotExists' enabled and entity already present).
+   */
+  public int getNotAppliedCount() {
+    return notAppliedCount;
+  }
+
+  /**
+   * @return entities whose insertion failed, with the cause of each failure.
+   */
+  public List<Failure<T>> getFailures() {
+    return failures;
+  }
+
+  /**
+   * @return total number of entities submitted.
+   */
+  public int getTotalCount() {
+    return createdCount + notAppliedCount + failures.size();
+  }
+
+  /**
+   * @return true if no insertion failed.
+   */
+  public boolean isSuccessful() {
+    return failures.isEmpty();
+  }
+
+  /**
+   * Failed insertion of an entity.
+   *
+   * @param <T> entity java type.
+   */
+  public static class Failure<T> {
+
+    private final T entity;
+    private final Throwable cause;
+
+    Failure(final T entity, final Throwable cause) {
+      this.entity = entity;
+      this.cause = cause;
+    }
+
+    /**
+     * @return entity that could not be persisted.
+     */
+    public T getEntity() {
+      return entity;
+    }
+
+    /**
+     * @return cause of the failure.
+     */
+    public Throwable getCause() {
+      return cause;
+    }
+  }
+}
@@ -19,12 +19,17 @@
 package ma.markware.charybdis.crud;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import java.time.Instant;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.ExecutionContext;
 import ma.markware.charybdis.batch.Batch;
+import ma.markware.charybdis.metrics.QueryOperation;
 import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.query.CanonicalQuery;
 import ma.markware.charybdis.query.InsertQuery;
+import ma.markware.charybdis.query.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,15 +46,19 @@ class CreateEntityManager<T> {
   private static final Logger log = LoggerFactory.getLogger(CreateEntityManager.class);
 
   private final InsertQuery insertQuery;
+  private final CanonicalQuery canonicalQuery;
   private TableMetadata<T> tableMetadata;
   private T entity;
+  private boolean useCanonicalQuery = true;
 
   CreateEntityManager() {
     this.insertQuery = new InsertQuery();
+    this.canonicalQuery = new CanonicalQuery(insertQuery.getExecutionContext());
   }
 
   CreateEntityManager(ExecutionContext executionContext) {
     this.insertQuery = new InsertQuery(executionContext);
+    this.canonicalQuery = new CanonicalQuery(executionContext);
   }
 
   /**
@@ -58,6 +67,7 @@ class CreateEntityManager<T> {
   CreateEntityManager<T> withTableMetadata(TableMetadata<T> table) {
     this.tableMetadata = table;
     insertQuery.setTable(table);
+    canonicalQuery.setTable(table, QueryOperation.INSERT);
     return this;
   }
 
@@ -75,6 +85,7 @@ class CreateEntityManager<T> {
   CreateEntityManager<T> withIfNotExists(boolean ifNotExists) {
     if (ifNotExists) {
       insertQuery.enableIfNotExists();
+      useCanonicalQuery = false;
     }
     return this;
   }
@@ -84,6 +95,7 @@ class CreateEntityManager<T> {
    */
   CreateEntityManager<T> withTtl(int seconds) {
     insertQuery.setTtl(seconds);
+    useCanonicalQuery = false;
     return this;
   }
 
@@ -92,6 +104,7 @@ class CreateEntityManager<T> {
    */
   CreateEntityManager<T> withTimestamp(Instant timestamp) {
     insertQuery.setTimestamp(timestamp);
+    useCanonicalQuery = false;
     return this;
   }
 
@@ -100,6 +113,7 @@ class CreateEntityManager<T> {
    */
   CreateEntityManager<T> withTimestamp(long timestamp) {
     insertQuery.setTimestamp(timestamp);
+    useCanonicalQuery = false;
     return this;
   }
 
@@ -109,8 +123,12 @@ class CreateEntityManager<T> {
    * @return inserted entity.
    */
   T save(CqlSession session) {
-    prepareQuery();
-    ResultSet resultSet = insertQuery.execute(session);
+    ResultSet resultSet;
+    try {
+      resultSet = prepareQuery().execute(session);
+    } finally {
+      EntityCache.invalidate(session, tableMetadata, entity);
+    }
     if (resultSet.wasApplied()) {
       return entity;
     }
@@ -118,21 +136,49 @@ class CreateEntityManager<T> {
     return null;
   }
 
+  /**
+   * Execute insert query asynchronously.
+   *
+   * @return completion stage of inserted entity.
+   */
+  CompletionStage<T> saveAsync(CqlSession session) {
+    CompletionStage<AsyncResultSet> execution = prepareQuery().executeAsync(session)
+        .whenComplete((asyncResultSet, throwable) -> EntityCache.invalidate(session, tableMetadata, entity));
+    return execution.thenApply(asyncResultSet -> {
+      if (asyncResultSet.wasApplied()) {
+        return entity;
+      }
+      log.warn("Entity [{}] was not created. execution info: {}", entity, asyncResultSet.getExecutionInfo());
+      return null;
+    });
+  }
+
   /**
    * Add query to batch
    *
    * @param batch enclosing batch query
    */
   void addToBatch(Batch batch) {
-    prepareQuery();
-    insertQuery.addToBatch(batch);
+    prepareQuery().addToBatch(batch);
+    batch.addExecutionCallback(() -> EntityCache.invalidate(batch.getSession(), tableMetadata, entity));
   }
 
-  private void prepareQuery() {
+  private Query prepareQuery() {
     Instant now = Instant.now();
     tableMetadata.setGeneratedValues(entity);
     tableMetadata.setCreationDate(entity, now);
     tableMetadata.setLastUpdatedDate(entity, now);
-    insertQuery.setColumnNameValueMapping(tableMetadata.serialize(entity));
+    Object[] bindValues = new Object[tableMetadata.getColumnsSize()];
+    tableMetadata.serializeInto(entity, bindValues);
+    Boolean nullAsUnset = insertQuery.getExecutionContext().getNullAsUnset();
+    boolean nullValuesUnset = nullAsUnset != null ? nullAsUnset : tableMetadata.isInsertNullAsUnset();
+    if (useCanonicalQuery) {
+      canonicalQuery.setQuery(tableMetadata.getInsertQuery(), bindValues);
+      canonicalQuery.setNullValuesUnset(nullValuesUnset);
+      return canonicalQuery;
+    }
+    insertQuery.setColumnNamesAndValues(tableMetadata.getColumnNames(), bindValues);
+    insertQuery.setNullValuesUnset(nullValuesUnset);
+    return insertQuery;
   }
 }
@@ -124,6 +124,33 @@ public class CrudQueryBatchBuilder implements QueryBuilder {
                                                        .addToBatch(batch);
   }
 
+  /**
+   * Update entity in DB.
+   * Enabling 'ifExists' makes the update a lightweight transaction applied only if the entity exists,
+   * disabling it makes the update a plain upsert.
+   *
+   * @param table table in which we want to update the entity.
+   * @param entity entity to update.
+   * @param ifExists enable to update only existing entity.
+   */
+  public <T> void update(final TableMetadata<T> table, final T entity, final boolean ifExists) {
+    new UpdateEntityManager<T>().withTableMetadata(table).withEntity(entity).withIfExists(ifExists)
+                                                       .addToBatch(batch);
+  }
+
+  /**
+   * Update columns of entity that changed since given snapshot was taken.
+   * Nothing is added to batch if no column changed, and all columns are updated if primary key changed.
+   *
+   * @param table table in which we want to update the entity.
+   * @param entity entity to update.
+   * @param snapshot snapshot of entity, usually taken right after reading it (see {@link EntitySnapshot#of(TableMetadata, Object)}).
+   */
+  public <T> void update(final TableMetadata<T> table, final T entity, final EntitySnapshot<T> snapshot) {
+    new UpdateEntityManager<T>().withTableMetadata(table).withEntity(entity).withSnapshot(snapshot)
+                                                       .addToBatch(batch);
+  }
+
   /**
    * Delete entity in DB.
    *
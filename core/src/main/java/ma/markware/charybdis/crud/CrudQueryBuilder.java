@@ -22,8 +22,12 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.google.common.annotations.VisibleForTesting;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import ma.markware.charybdis.ConsistencyTunable;
 import ma.markware.charybdis.ExecutionContext;
 import ma.markware.charybdis.ExecutionProfileTunable;
@@ -100,6 +104,19 @@ public class CrudQueryBuilder implements QueryBuilder, ConsistencyTunable<CrudQu
     return new CrudQueryBuilder(session, executionContext);
   }
 
+  /**
+   * Leave null columns unset on insert instead of binding them to null, so that no tombstone is written,
+   * overriding table default (see {@link ma.markware.charybdis.model.annotation.Table#insertNullAsUnset()}).
+   *
+   * @param nullAsUnset enable to leave null columns unset.
+   * @return crud query builder applying given null values handling.
+   */
+  public CrudQueryBuilder withNullAsUnset(final boolean nullAsUnset) {
+    ExecutionContext executionContext = new ExecutionContext(this.executionContext);
+    executionContext.setNullAsUnset(nullAsUnset);
+    return new CrudQueryBuilder(session, executionContext);
+  }
+
   /**
    * Create entity in DB.
    *
@@ -187,9 +204,84 @@ public class CrudQueryBuilder implements QueryBuilder, ConsistencyTunable<CrudQu
                                        .save(session);
   }
 
+  /**
+   * Create entities in DB, insertions are executed asynchronously with at most
+   * {@value BulkCreateEntityManager#DEFAULT_MAX_IN_FLIGHT} pending insertions at a time.
+   * Failing insertions do not interrupt the bulk creation, they are reported in the result.
+   *
+   * @param table table in which we want to create the entities.
+   * @param entities entities to persist.
+   * @param <T> type of entities.
+   * @return aggregate result of the insertions.
+   */
+  public <T> BulkCreateResult<T> createAll(final TableMetadata<T> table, final Iterable<T> entities) {
+    return new BulkCreateEntityManager<T>(executionContext).withTableMetadata(table).withEntities(entities.iterator()).save(session);
+  }
+
+  /**
+   * Create entities in DB, insertions are executed asynchronously with at most 'maxInFlight' pending insertions at a time.
+   * Failing insertions do not interrupt the bulk creation, they are reported in the result.
+   *
+   * @param table table in which we want to create the entities.
+   * @param entities entities to persist.
+   * @param maxInFlight maximum number of pending insertions.
+   * @param <T> type of entities.
+   * @return aggregate result of the insertions.
+   */
+  public <T> BulkCreateResult<T> createAll(final TableMetadata<T> table, final Iterable<T> entities, final int maxInFlight) {
+    return new BulkCreateEntityManager<T>(executionContext).withTableMetadata(table).withEntities(entities.iterator()).withMaxInFlight(maxInFlight)
+                                           .save(session);
+  }
+
+  /**
+   * Create entities in DB if they don't exist (no overwriting), insertions are executed asynchronously with at most
+   * 'maxInFlight' pending insertions at a time.
+   * Failing insertions do not interrupt the bulk creation, they are reported in the result.
+   *
+   * @param table table in which we want to create the entities.
+   * @param entities entities to persist.
+   * @param ifNotExists enable to avoid overwriting.
+   * @param maxInFlight maximum number of pending insertions.
+   * @param <T> type of entities.
+   * @return aggregate result of the insertions.
+   */
+  public <T> BulkCreateResult<T> createAll(final TableMetadata<T> table, final Iterable<T> entities, final boolean ifNotExists, final int maxInFlight) {
+    return new BulkCreateEntityManager<T>(executionContext).withTableMetadata(table).withEntities(entities.iterator()).withIfNotExists(ifNotExists)
+                                           .withMaxInFlight(maxInFlight).save(session);
+  }
+
+  /**
+   * Create entities in DB, insertions are executed asynchronously with at most
+   * {@value BulkCreateEntityManager#DEFAULT_MAX_IN_FLIGHT} pending insertions at a time.
+   * The stream is consumed lazily, as pending insertions complete.
+   *
+   * @param table table in which we want to create the entities.
+   * @param entities entities to persist.
+   * @param <T> type of entities.
+   * @return aggregate result of the insertions.
+   */
+  public <T> BulkCreateResult<T> createAll(final TableMetadata<T> table, final Stream<T> entities) {
+    return new BulkCreateEntityManager<T>(executionContext).withTableMetadata(table).withEntities(entities.iterator()).save(session);
+  }
+
+  /**
+   * Create entities in DB, insertions are executed asynchronously with at most 'maxInFlight' pending insertions at a time.
+   * The stream is consumed lazily, as pending insertions complete.
+   *
+   * @param table table in which we want to create the entities.
+   * @param entities entities to persist.
+   * @param maxInFlight maximum number of pending insertions.
+   * @param <T> type of entities.
+   * @return aggregate result of the insertions.
+   */
+  public <T> BulkCreateResult<T> createAll(final TableMetadata<T> table, final Stream<T> entities, final int maxInFlight) {
+    return new BulkCreateEntityManager<T>(executionContext).withTableMetadata(table).withEntities(entities.iterator()).withMaxInFlight(maxInFlight)
+                                           .save(session);
+  }
+
   /**
    * Update entity in DB.
-   * returns null if entity not found in DB.
+   * returns null if entity not found in DB (unless table updates are upserts, see {@link ma.markware.charybdis.model.annotation.Table#updateIfExists()}).
    *
    * @param table table in which we want to update the entity.
    * @param entity entity to update.
@@ -201,6 +293,38 @@ public class CrudQueryBuilder implements QueryBuilder, ConsistencyTunable<CrudQu
                                        .save(session);
   }
 
+  /**
+   * Update entity in DB.
+   * Enabling 'ifExists' makes the update a lightweight transaction applied only if the entity exists (returns null otherwise),
+   * disabling it makes the update a plain upsert.
+   *
+   * @param table table in which we want to update the entity.
+   * @param entity entity to update.
+   * @param ifExists enable to update only existing entity.
+   * @param <T> type of entity.
+   * @return updated entity.
+   */
+  public <T> T update(final TableMetadata<T> table, final T entity, final boolean ifExists) {
+    return new UpdateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity).withIfExists(ifExists)
+                                       .save(session);
+  }
+
+  /**
+   * Update columns of entity that changed since given snapshot was taken.
+   * No query is executed if no column changed, and all columns are updated if primary key changed.
+   * On success, snapshot is refreshed with the persisted state of the entity.
+   *
+   * @param table table in which we want to update the entity.
+   * @param entity entity to update.
+   * @param snapshot snapshot of entity, usually taken right after reading it (see {@link EntitySnapshot#of(TableMetadata, Object)}).
+   * @param <T> type of entity.
+   * @return updated entity.
+   */
+  public <T> T update(final TableMetadata<T> table, final T entity, final EntitySnapshot<T> snapshot) {
+    return new UpdateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity).withSnapshot(snapshot)
+                                       .save(session);
+  }
+
   /**
    * Delete entity in DB.
    *
@@ -240,6 +364,34 @@ public class CrudQueryBuilder implements QueryBuilder, ConsistencyTunable<CrudQu
                                      .fetchOne(session);
   }
 
+  /**
+   * Fetch entities from DB by primary key, each key is read with a single-partition query, with at most
+   * {@value ReadByKeysEntityManager#DEFAULT_MAX_IN_FLIGHT} pending reads at a time.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param keys entities holding the primary key values of entities to fetch.
+   * @param <T> type of entities.
+   * @return entities in keys order, {@code null} for keys not found.
+   */
+  public <T> List<T> findAllByKeys(final TableMetadata<T> table, final Collection<T> keys) {
+    return new ReadByKeysEntityManager<T>(executionContext).withTableMetadata(table).withKeys(keys)
+                                           .fetch(session);
+  }
+
+  /**
+   * Fetch entities from DB by primary key, each key is read with a single-partition query, with at most 'maxInFlight' pending reads at a time.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param keys entities holding the primary key values of entities to fetch.
+   * @param maxInFlight maximum number of pending reads.
+   * @param <T> type of entities.
+   * @return entities in keys order, {@code null} for keys not found.
+   */
+  public <T> List<T> findAllByKeys(final TableMetadata<T> table, final Collection<T> keys, final int maxInFlight) {
+    return new ReadByKeysEntityManager<T>(executionContext).withTableMetadata(table).withKeys(keys).withMaxInFlight(maxInFlight)
+                                           .fetch(session);
+  }
+
   /**
    * Fetch one entity wrapped in {@code Optional} from DB fulfilling given conditions.
    *
@@ -348,4 +500,449 @@ public class CrudQueryBuilder implements QueryBuilder, ConsistencyTunable<CrudQu
                                      .withPaging(pageRequest)
                                      .fetchPage(session);
   }
+
+  /**
+   * Lazily fetch entities from DB.
+   * Entities are read one by one across pages and next page is prefetched in background,
+   * this is the preferred way to walk through large tables.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param <T> type of entities.
+   * @return sequential stream of entities from DB.
+   */
+  public <T> Stream<T> stream(final TableMetadata<T> table) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table)
+                                     .stream(session);
+  }
+
+  /**
+   * Lazily fetch entities from DB fulfilling given conditions.
+   * Entities are read one by one across pages and next page is prefetched in background.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param conditions conditions to be fulfilled by entities.
+   * @param <T> type of entities.
+   * @return sequential stream of entities from DB.
+   */
+  public <T> Stream<T> stream(final TableMetadata<T> table, final ExtendedCriteriaExpression conditions) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table).withConditions(conditions)
+                                     .stream(session);
+  }
+
+  /**
+   * Lazily fetch entities from DB fulfilling a given condition.
+   * Entities are read one by one across pages and next page is prefetched in background.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param condition condition to be fulfilled by entities.
+   * @param <T> type of entities.
+   * @return sequential stream of entities from DB.
+   */
+  public <T> Stream<T> stream(final TableMetadata<T> table, final CriteriaExpression condition) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table).withCondition(condition)
+                                     .stream(session);
+  }
+
+  /**
+   * Scan all entities of a table, the token ring is split into {@value ScanEntityManager#DEFAULT_SPLITS} subranges,
+   * read in parallel with at most {@value ScanEntityManager#DEFAULT_MAX_IN_FLIGHT} subranges at a time.
+   * The consumer may be called concurrently, from different threads.
+   *
+   * @param table table to scan.
+   * @param consumer consumer of scanned entities.
+   * @param <T> type of entities.
+   * @return number of scanned entities.
+   */
+  public <T> long scan(final TableMetadata<T> table, final Consumer<T> consumer) {
+    return new ScanEntityManager<T>(executionContext).withTableMetadata(table).withConsumer(consumer)
+                                     .scan(session);
+  }
+
+  /**
+   * Scan all entities of a table, the token ring is split into 'splits' subranges, read in parallel with at most 'maxInFlight' subranges at a time.
+   * The consumer may be called concurrently, from different threads.
+   *
+   * @param table table to scan.
+   * @param consumer consumer of scanned entities.
+   * @param splits number of token subranges.
+   * @param maxInFlight maximum number of subranges read concurrently.
+   * @param <T> type of entities.
+   * @return number of scanned entities.
+   */
+  public <T> long scan(final TableMetadata<T> table, final Consumer<T> consumer, final int splits, final int maxInFlight) {
+    return new ScanEntityManager<T>(executionContext).withTableMetadata(table).withConsumer(consumer).withSplits(splits).withMaxInFlight(maxInFlight)
+                                     .scan(session);
+  }
+
+  /**
+   * Create entity in DB asynchronously.
+   *
+   * @param table table in which we want to create the entity.
+   * @param entity entity to persist.
+   * @param <T> type of entity.
+   * @return completion stage of persisted entity.
+   */
+  public <T> CompletionStage<T> createAsync(final TableMetadata<T> table, final T entity) {
+    return new CreateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity).saveAsync(session);
+  }
+
+  /**
+   * Create entity in DB if it doesn't exist (no overwriting) asynchronously.
+   * If another entity is already present in DB with a primary key PK, enabling 'ifNotExists'
+   * will ensure that the creation of any entity with the same PK will be ignored.
+   *
+   * @param table table in which we want to create the entity.
+   * @param entity entity to persist.
+   * @param ifNotExists enable to avoid overwriting.
+   * @param <T> type of entity.
+   * @return completion stage of persisted entity.
+   */
+  public <T> CompletionStage<T> createAsync(final TableMetadata<T> table, final T entity, final boolean ifNotExists) {
+    return new CreateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity).withIfNotExists(ifNotExists)
+                                       .saveAsync(session);
+  }
+
+  /**
+   * Create entity in DB with TTL in seconds asynchronously.
+   *
+   * @param table table in which we want to create the entity.
+   * @param entity entity to persist.
+   * @param seconds ttl in seconds.
+   * @param <T> type of entity.
+   * @return completion stage of persisted entity.
+   */
+  public <T> CompletionStage<T> createAsync(final TableMetadata<T> table, final T entity, final int seconds) {
+    return new CreateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity).withTtl(seconds)
+                                       .saveAsync(session);
+  }
+
+  /**
+   * Create entity in DB if it doesn't exist (no overwriting) with TTL in seconds asynchronously.
+   * If another entity is already present in DB with a primary key PK, enabling 'ifNotExists'
+   * will ensure that the creation of any entity with the same PK will be ignored.
+   *
+   * @param table table in which we want to create the entity.
+   * @param entity entity to persist.
+   * @param ifNotExists enable to avoid overwriting.
+   * @param seconds ttl in seconds.
+   * @param <T> type of entity.
+   * @return completion stage of persisted entity.
+   */
+  public <T> CompletionStage<T> createAsync(final TableMetadata<T> table, final T entity, final boolean ifNotExists, final int seconds) {
+    return new CreateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity).withIfNotExists(ifNotExists).withTtl(seconds)
+                                       .saveAsync(session);
+  }
+
+  /**
+   * Create entity in DB with custom write time asynchronously.
+   *
+   * @param table table in which we want to create the entity.
+   * @param entity entity to persist.
+   * @param timestamp custom write time.
+   * @param <T> type of entity.
+   * @return completion stage of persisted entity.
+   */
+  public <T> CompletionStage<T> createAsync(final TableMetadata<T> table, final T entity, final Instant timestamp) {
+    return new CreateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity).withTimestamp(timestamp)
+                                       .saveAsync(session);
+  }
+
+  /**
+   * Create entity in DB with custom write time in millis asynchronously.
+   *
+   * @param table table in which we want to create the entity.
+   * @param entity entity to persist.
+   * @param timestamp custom write time in millis.
+   * @param <T> type of entity.
+   * @return completion stage of persisted entity.
+   */
+  public <T> CompletionStage<T> createAsync(final TableMetadata<T> table, final T entity, final long timestamp) {
+    return new CreateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity).withTimestamp(timestamp)
+                                       .saveAsync(session);
+  }
+
+  /**
+   * Create entities in DB asynchronously, with at most 'maxInFlight' pending insertions at a time.
+   * Failing insertions do not interrupt the bulk creation, they are reported in the result.
+   *
+   * @param table table in which we want to create the entities.
+   * @param entities entities to persist.
+   * @param maxInFlight maximum number of pending insertions.
+   * @param <T> type of entities.
+   * @return completion stage of the aggregate result of the insertions.
+   */
+  public <T> CompletionStage<BulkCreateResult<T>> createAllAsync(final TableMetadata<T> table, final Iterable<T> entities, final int maxInFlight) {
+    return new BulkCreateEntityManager<T>(executionContext).withTableMetadata(table).withEntities(entities.iterator()).withMaxInFlight(maxInFlight)
+                                           .saveAsync(session);
+  }
+
+  /**
+   * Create entities in DB asynchronously, with at most 'maxInFlight' pending insertions at a time.
+   * The stream is consumed lazily, as pending insertions complete.
+   *
+   * @param table table in which we want to create the entities.
+   * @param entities entities to persist.
+   * @param maxInFlight maximum number of pending insertions.
+   * @param <T> type of entities.
+   * @return completion stage of the aggregate result of the insertions.
+   */
+  public <T> CompletionStage<BulkCreateResult<T>> createAllAsync(final TableMetadata<T> table, final Stream<T> entities, final int maxInFlight) {
+    return new BulkCreateEntityManager<T>(executionContext).withTableMetadata(table).withEntities(entities.iterator()).withMaxInFlight(maxInFlight)
+                                           .saveAsync(session);
+  }
+
+  /**
+   * Update entity in DB asynchronously.
+   * returns null if entity not found in DB (unless table updates are upserts, see {@link ma.markware.charybdis.model.annotation.Table#updateIfExists()}).
+   *
+   * @param table table in which we want to update the entity.
+   * @param entity entity to update.
+   * @param <T> type of entity.
+   * @return completion stage of updated entity.
+   */
+  public <T> CompletionStage<T> updateAsync(final TableMetadata<T> table, final T entity) {
+    return new UpdateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity)
+                                       .saveAsync(session);
+  }
+
+  /**
+   * Update entity in DB asynchronously.
+   * Enabling 'ifExists' makes the update a lightweight transaction applied only if the entity exists (returns null otherwise),
+   * disabling it makes the update a plain upsert.
+   *
+   * @param table table in which we want to update the entity.
+   * @param entity entity to update.
+   * @param ifExists enable to update only existing entity.
+   * @param <T> type of entity.
+   * @return completion stage of updated entity.
+   */
+  public <T> CompletionStage<T> updateAsync(final TableMetadata<T> table, final T entity, final boolean ifExists) {
+    return new UpdateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity).withIfExists(ifExists)
+                                       .saveAsync(session);
+  }
+
+  /**
+   * Update columns of entity that changed since given snapshot was taken asynchronously.
+   * No query is executed if no column changed, and all columns are updated if primary key changed.
+   * On success, snapshot is refreshed with the persisted state of the entity.
+   *
+   * @param table table in which we want to update the entity.
+   * @param entity entity to update.
+   * @param snapshot snapshot of entity, usually taken right after reading it (see {@link EntitySnapshot#of(TableMetadata, Object)}).
+   * @param <T> type of entity.
+   * @return completion stage of updated entity.
+   */
+  public <T> CompletionStage<T> updateAsync(final TableMetadata<T> table, final T entity, final EntitySnapshot<T> snapshot) {
+    return new UpdateEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity).withSnapshot(snapshot)
+                                       .saveAsync(session);
+  }
+
+  /**
+   * Delete entity in DB asynchronously.
+   *
+   * @param table table in which we want to delete the entity.
+   * @param entity entity to delete.
+   * @param <T> type of entity.
+   * @return completion stage of true if entity deleted.
+   */
+  public <T> CompletionStage<Boolean> deleteAsync(final TableMetadata<T> table, final T entity) {
+    return new DeleteEntityManager<T>(executionContext).withTableMetadata(table).withEntity(entity)
+                                       .saveAsync(session);
+  }
+
+  /**
+   * Fetch one entity from DB fulfilling given conditions asynchronously.
+   *
+   * @param table table in which we want to fetch the entity.
+   * @param conditions conditions to be fulfilled by entity.
+   * @param <T> type of entity.
+   * @return completion stage of the entity if found otherwise of {@code null}.
+   */
+  public <T> CompletionStage<T> findOneAsync(final TableMetadata<T> table, final ExtendedCriteriaExpression conditions) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table).withConditions(conditions)
+                                     .fetchOneAsync(session);
+  }
+
+  /**
+   * Fetch one entity from DB fulfilling a given condition asynchronously.
+   *
+   * @param table table in which we want to fetch the entity.
+   * @param condition condition to be fulfilled by entity.
+   * @param <T> type of entity.
+   * @return completion stage of the entity if found otherwise of {@code null}.
+   */
+  public <T> CompletionStage<T> findOneAsync(final TableMetadata<T> table, final CriteriaExpression condition) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table).withCondition(condition)
+                                     .fetchOneAsync(session);
+  }
+
+  /**
+   * Fetch entities from DB by primary key asynchronously, each key is read with a single-partition query, with at most
+   * {@value ReadByKeysEntityManager#DEFAULT_MAX_IN_FLIGHT} pending reads at a time.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param keys entities holding the primary key values of entities to fetch.
+   * @param <T> type of entities.
+   * @return completion stage of entities in keys order, {@code null} for keys not found.
+   */
+  public <T> CompletionStage<List<T>> findAllByKeysAsync(final TableMetadata<T> table, final Collection<T> keys) {
+    return new ReadByKeysEntityManager<T>(executionContext).withTableMetadata(table).withKeys(keys)
+                                           .fetchAsync(session);
+  }
+
+  /**
+   * Fetch entities from DB by primary key asynchronously, each key is read with a single-partition query, with at most
+   * 'maxInFlight' pending reads at a time.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param keys entities holding the primary key values of entities to fetch.
+   * @param maxInFlight maximum number of pending reads.
+   * @param <T> type of entities.
+   * @return completion stage of entities in keys order, {@code null} for keys not found.
+   */
+  public <T> CompletionStage<List<T>> findAllByKeysAsync(final TableMetadata<T> table, final Collection<T> keys, final int maxInFlight) {
+    return new ReadByKeysEntityManager<T>(executionContext).withTableMetadata(table).withKeys(keys).withMaxInFlight(maxInFlight)
+                                           .fetchAsync(session);
+  }
+
+  /**
+   * Fetch one entity wrapped in {@code Optional} from DB fulfilling given conditions asynchronously.
+   *
+   * @param table table in which we want to fetch the entity.
+   * @param conditions conditions to be fulfilled by entity.
+   * @param <T> type of entity.
+   * @return completion stage of the entity wrapped in {@code Optional} if found otherwise of {@code Optional.empty()}.
+   */
+  public <T> CompletionStage<Optional<T>> findOptionalAsync(final TableMetadata<T> table, final ExtendedCriteriaExpression conditions) {
+    return findOneAsync(table, conditions).thenApply(Optional::ofNullable);
+  }
+
+  /**
+   * Fetch one entity wrapped in {@code Optional} from DB fulfilling a given condition asynchronously.
+   *
+   * @param table table in which we want to fetch the entity.
+   * @param condition condition to be fulfilled by entity.
+   * @param <T> type of entity.
+   * @return completion stage of the entity wrapped in {@code Optional} if found otherwise of {@code Optional.empty()}.
+   */
+  public <T> CompletionStage<Optional<T>> findOptionalAsync(final TableMetadata<T> table, final CriteriaExpression condition) {
+    return findOneAsync(table, condition).thenApply(Optional::ofNullable);
+  }
+
+  /**
+   * Fetch entities from DB asynchronously.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param <T> type of entities.
+   * @return completion stage of entities from DB.
+   */
+  public <T> CompletionStage<List<T>> findAsync(final TableMetadata<T> table) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table)
+                                     .fetchAsync(session);
+  }
+
+  /**
+   * Fetch entities from DB fulfilling given conditions asynchronously.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param conditions conditions to be fulfilled by entities.
+   * @param <T> type of entities.
+   * @return completion stage of entities from DB.
+   */
+  public <T> CompletionStage<List<T>> findAsync(final TableMetadata<T> table, final ExtendedCriteriaExpression conditions) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table).withConditions(conditions)
+                                     .fetchAsync(session);
+  }
+
+  /**
+   * Fetch entities from DB fulfilling a given condition asynchronously.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param condition condition to be fulfilled by entities.
+   * @param <T> type of entities.
+   * @return completion stage of entities from DB.
+   */
+  public <T> CompletionStage<List<T>> findAsync(final TableMetadata<T> table, final CriteriaExpression condition) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table).withCondition(condition)
+                                     .fetchAsync(session);
+  }
+
+  /**
+   * Fetch a page of entities from DB asynchronously.
+   * When fetching the last page, {@link PageResult#getPagingState()} will be {@code null}.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param pageRequest requested page see {@link PageRequest}.
+   * @param <T> type of entities.
+   * @return completion stage of page result of entities from DB and updated paging state {@link PageResult}.
+   */
+  public <T> CompletionStage<PageResult<T>> findAsync(final TableMetadata<T> table, final PageRequest pageRequest) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table)
+                                     .withPaging(pageRequest)
+                                     .fetchPageAsync(session);
+  }
+
+  /**
+   * Fetch a page of entities from DB fulfilling given conditions asynchronously.
+   * When fetching the last page, {@link PageResult#getPagingState()} will be {@code null}.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param conditions conditions to be fulfilled by entities.
+   * @param pageRequest requested page see {@link PageRequest}.
+   * @param <T> type of entities.
+   * @return completion stage of page result of entities from DB and updated paging state {@link PageResult}.
+   */
+  public <T> CompletionStage<PageResult<T>> findAsync(final TableMetadata<T> table, final ExtendedCriteriaExpression conditions, final PageRequest pageRequest) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table).withConditions(conditions)
+                                     .withPaging(pageRequest)
+                                     .fetchPageAsync(session);
+  }
+
+  /**
+   * Fetch a page of entities from DB fulfilling a given condition asynchronously.
+   * When fetching the last page, {@link PageResult#getPagingState()} will be {@code null}.
+   *
+   * @param table table in which we want to fetch the entities.
+   * @param condition condition to be fulfilled by entities.
+   * @param pageRequest requested page see {@link PageRequest}.
+   * @param <T> type of entities.
+   * @return completion stage of page result of entities from DB and updated paging state {@link PageResult}.
+   */
+  public <T> CompletionStage<PageResult<T>> findAsync(final TableMetadata<T> table, final CriteriaExpression condition, final PageRequest pageRequest) {
+    return new ReadEntityManager<T>(executionContext).withTableMetadata(table).withCondition(condition)
+                                     .withPaging(pageRequest)
+                                     .fetchPageAsync(session);
+  }
+
+  /**
+   * Scan all entities of a table asynchronously, the token ring is split into {@value ScanEntityManager#DEFAULT_SPLITS} subranges,
+   * read in parallel with at most {@value ScanEntityManager#DEFAULT_MAX_IN_FLIGHT} subranges at a time.
+   * The consumer may be called concurrently, from different threads.
+   *
+   * @param table table to scan.
+   * @param consumer consumer of scanned entities.
+   * @param <T> type of entities.
+   * @return completion stage of number of scanned entities.
+   */
+  public <T> CompletionStage<Long> scanAsync(final TableMetadata<T> table, final Consumer<T> consumer) {
+    return new ScanEntityManager<T>(executionContext).withTableMetadata(table).withConsumer(consumer)
+                                     .scanAsync(session);
+  }
+
+  /**
+   * Scan all entities of a table asynchronously, the token ring is split into 'splits' subranges, read in parallel
+   * with at most 'maxInFlight' subranges at a time.
+   * The consumer may be called concurrently, from different threads.
+   *
+   * @param table table to scan.
+   * @param consumer consumer of scanned entities.
+   * @param splits number of token subranges.
+   * @param maxInFlight maximum number of subranges read concurrently.
+   * @param <T> type of entities.
+   * @return completion stage of number of scanned entities.
+   */
+  public <T> CompletionStage<Long> scanAsync(final TableMetadata<T> table, final Consumer<T> consumer, final int splits, final int maxInFlight) {
+    return new ScanEntityManager<T>(executionContext).withTableMetadata(table).withConsumer(consumer).withSplits(splits).withMaxInFlight(maxInFlight)
+                                     .scanAsync(session);
+  }
 }
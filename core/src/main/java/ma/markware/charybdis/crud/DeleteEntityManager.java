@@ -19,15 +19,20 @@
 package ma.markware.charybdis.crud;
 
 import com.datastax.oss.driver.api.core.CqlSession;
-import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.ExecutionContext;
 import ma.markware.charybdis.batch.Batch;
+import ma.markware.charybdis.metrics.QueryOperation;
 import ma.markware.charybdis.model.criteria.CriteriaExpression;
 import ma.markware.charybdis.model.criteria.CriteriaOperator;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.query.CanonicalQuery;
 import ma.markware.charybdis.query.DeleteQuery;
+import ma.markware.charybdis.query.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,15 +49,18 @@ public class DeleteEntityManager<T> {
   private static final Logger log = LoggerFactory.getLogger(DeleteEntityManager.class);
 
   private final DeleteQuery deleteQuery;
+  private final CanonicalQuery canonicalQuery;
   private TableMetadata<T> tableMetadata;
   private T entity;
 
   DeleteEntityManager() {
     this.deleteQuery = new DeleteQuery();
+    this.canonicalQuery = new CanonicalQuery(deleteQuery.getExecutionContext());
   }
 
   DeleteEntityManager(ExecutionContext executionContext) {
     this.deleteQuery = new DeleteQuery(executionContext);
+    this.canonicalQuery = new CanonicalQuery(executionContext);
   }
 
   /**
@@ -61,6 +69,7 @@ public class DeleteEntityManager<T> {
   DeleteEntityManager<T> withTableMetadata(TableMetadata<T> table) {
     this.tableMetadata = table;
     deleteQuery.setTable(table);
+    canonicalQuery.setTable(table, QueryOperation.DELETE);
     return this;
   }
 
@@ -94,9 +103,21 @@ public class DeleteEntityManager<T> {
    * @return if delete was applied
    */
   boolean save(CqlSession session) {
-    prepareQuery();
-    ResultSet resultSet = deleteQuery.execute(session);
-    return resultSet.wasApplied();
+    try {
+      return prepareQuery().execute(session).wasApplied();
+    } finally {
+      EntityCache.invalidate(session, tableMetadata, entity);
+    }
+  }
+
+  /**
+   * Execute delete query asynchronously.
+   *
+   * @return completion stage of delete application status
+   */
+  CompletionStage<Boolean> saveAsync(CqlSession session) {
+    return prepareQuery().executeAsync(session).whenComplete((asyncResultSet, throwable) -> EntityCache.invalidate(session, tableMetadata, entity))
+                         .thenApply(AsyncResultSet::wasApplied);
   }
 
   /**
@@ -105,18 +126,24 @@ public class DeleteEntityManager<T> {
    * @param batch enclosing batch query
    */
   void addToBatch(Batch batch) {
-    prepareQuery();
-    deleteQuery.addToBatch(batch);
+    prepareQuery().addToBatch(batch);
+    batch.addExecutionCallback(() -> EntityCache.invalidate(batch.getSession(), tableMetadata, entity));
   }
 
-  private void prepareQuery() {
+  private Query prepareQuery() {
     Map<String, Object> columnValueMap = tableMetadata.serialize(entity);
-    for (Entry<String, Object> columnEntry : columnValueMap.entrySet()) {
-      String columnName = columnEntry.getKey();
-      Object value = columnEntry.getValue();
-      if (value != null && tableMetadata.isPrimaryKey(columnName)) {
-        deleteQuery.setWhere(new CriteriaExpression(tableMetadata.getColumnMetadata(columnName), CriteriaOperator.EQ, value));
+    if (CanonicalQuery.hasValues(columnValueMap, tableMetadata.getPrimaryKeyNames())) {
+      canonicalQuery.setQuery(tableMetadata.getDeleteByPrimaryKeyQuery(), columnValueMap, tableMetadata.getPrimaryKeyNames());
+      return canonicalQuery;
+    }
+
+    List<ColumnMetadata> columns = tableMetadata.getColumns();
+    for (int i = 0; i < columns.size(); i++) {
+      Object value = columnValueMap.get(columns.get(i).getName());
+      if (value != null && tableMetadata.isPrimaryKey(i)) {
+        deleteQuery.setWhere(new CriteriaExpression(columns.get(i), CriteriaOperator.EQ, value));
       }
     }
+    return deleteQuery;
   }
 }
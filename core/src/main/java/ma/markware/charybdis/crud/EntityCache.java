@@ -0,0 +1,200 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import ma.markware.charybdis.cache.CacheConfiguration;
+import ma.markware.charybdis.cache.CacheManagerFactory;
+import ma.markware.charybdis.cache.LRUCacheStatistics;
+import ma.markware.charybdis.cache.LRUCacheStatisticsMXBean;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+
+/**
+ * Read-through cache of entities by primary key, by session and table. Tables are not cached unless configured.
+ *
+ * Lookups by primary key through Crud API ({@code findOne}, {@code findOptional}) are served from cache when possible,
+ * and Crud API writes ({@code create}, {@code update}, {@code delete}) invalidate cached entities.
+ * Writes through Dsl API, or from other clients, are only seen once cached entities expire.
+ * Rows are cached rather than entities, so that every lookup returns a new entity instance.
+ *
+ * Invalidations happen once writes are executed. A row read from DB is only cached if no invalidation of its primary key
+ * happened since the read started, so that a read racing with a write never caches the row as it was before the write.
+ *
+ * @author Oussama Markad
+ */
+public final class EntityCache {
+
+  static final String CACHE_NAME_PREFIX = "charybdis_entities_";
+  private static final CacheManager CACHE_MANAGER = CacheManagerFactory.getCacheManager();
+
+  /**
+   * Whether any table is cached, so that lookups cost nothing until a cache is configured.
+   */
+  private static volatile boolean enabled;
+
+  /**
+   * Token of the latest read in progress by cache name and primary key, dropped by invalidations.
+   */
+  private static final ConcurrentMap<List<Object>, Object> PENDING_READS = new ConcurrentHashMap<>();
+
+  private EntityCache() {
+  }
+
+  /**
+   * Cache entities of a table read through a session.
+   * Entities cached so far for this table are dropped.
+   *
+   * @param sessionName cql session name.
+   * @param table table whose entities are cached.
+   * @param maxCapacity number of entities above which least recently used ones are evicted.
+   * @param expireAfterWriteMillis duration in milliseconds after which a cached entity is read again from DB, {@code 0} for no expiry.
+   */
+  public static synchronized void configure(final String sessionName, final TableMetadata<?> table, final int maxCapacity, final long expireAfterWriteMillis) {
+    if (maxCapacity <= 0) {
+      throw new IllegalArgumentException("entity cache max capacity should be positive");
+    }
+    String cacheName = resolveCacheName(sessionName, table);
+    CACHE_MANAGER.destroyCache(cacheName);
+    CACHE_MANAGER.createCache(cacheName, new CacheConfiguration<>(List.class, Row.class, Math.min(CacheConfiguration.DEFAULT_INITIAL_CAPACITY, maxCapacity),
+                                                                 maxCapacity, true, expireAfterWriteMillis));
+    enabled = true;
+  }
+
+  /**
+   * Stop caching entities of a table read through a session.
+   *
+   * @param sessionName cql session name.
+   * @param table table whose entities are cached.
+   */
+  public static synchronized void disable(final String sessionName, final TableMetadata<?> table) {
+    String disabledCacheName = resolveCacheName(sessionName, table);
+    CACHE_MANAGER.destroyCache(disabledCacheName);
+    // Flag is assigned once, concurrent invalidations of other cached tables must never see it cleared
+    boolean otherCacheEnabled = false;
+    for (String cacheName : CACHE_MANAGER.getCacheNames()) {
+      if (cacheName.startsWith(CACHE_NAME_PREFIX) && !cacheName.equals(disabledCacheName)) {
+        otherCacheEnabled = true;
+        break;
+      }
+    }
+    enabled = otherCacheEnabled;
+  }
+
+  /**
+   * Statistics of the entity cache of a table: hits, misses, evictions...
+   *
+   * @param sessionName cql session name.
+   * @param table cached table.
+   * @return cache statistics, {@code null} if table is not cached.
+   */
+  public static LRUCacheStatisticsMXBean getStatistics(final String sessionName, final TableMetadata<?> table) {
+    Cache<List<Object>, Row> cache = resolveCache(sessionName, table);
+    return cache == null ? null : cache.unwrap(LRUCacheStatistics.class);
+  }
+
+  /**
+   * @return cached row of given serialized primary key values, {@code null} if absent or table is not cached.
+   */
+  static Row get(final CqlSession session, final TableMetadata<?> table, final Object[] primaryKeyValues) {
+    Cache<List<Object>, Row> cache = resolveCache(session, table);
+    return cache == null ? null : cache.get(Arrays.asList(primaryKeyValues));
+  }
+
+  /**
+   * Start reading the row of given serialized primary key values from DB, the read row is cached by {@link #endRead} if no
+   * invalidation of the same primary key happens meanwhile.
+   *
+   * @return token of the read, {@code null} if table is not cached.
+   */
+  static Object beginRead(final CqlSession session, final TableMetadata<?> table, final Object[] primaryKeyValues) {
+    Cache<List<Object>, Row> cache = resolveCache(session, table);
+    if (cache == null) {
+      return null;
+    }
+    Object readToken = new Object();
+    PENDING_READS.put(resolvePendingReadKey(cache, primaryKeyValues), readToken);
+    return readToken;
+  }
+
+  /**
+   * End a read started by {@link #beginRead}, and cache its row unless it was invalidated, or a more recent read started.
+   *
+   * @param row read row, {@code null} if not found or read failed.
+   */
+  static void endRead(final CqlSession session, final TableMetadata<?> table, final Object[] primaryKeyValues, final Object readToken,
+      final Row row) {
+    Cache<List<Object>, Row> cache = readToken == null ? null : resolveCache(session, table);
+    if (cache != null) {
+      PENDING_READS.computeIfPresent(resolvePendingReadKey(cache, primaryKeyValues), (key, pendingReadToken) -> {
+        if (pendingReadToken != readToken) {
+          return pendingReadToken;
+        }
+        if (row != null) {
+          cache.put(Arrays.asList(primaryKeyValues), row);
+        }
+        return null;
+      });
+    }
+  }
+
+  /**
+   * Drop cached entity having the same primary key as the given entity, if table is cached.
+   */
+  static <T> void invalidate(final CqlSession session, final TableMetadata<T> table, final T entity) {
+    Cache<List<Object>, Row> cache = resolveCache(session, table);
+    if (cache != null) {
+      Map<String, Object> columnValueMap = table.serialize(entity);
+      List<String> primaryKeyNames = table.getPrimaryKeyNames();
+      Object[] primaryKeyValues = new Object[primaryKeyNames.size()];
+      for (int i = 0; i < primaryKeyValues.length; i++) {
+        primaryKeyValues[i] = columnValueMap.get(primaryKeyNames.get(i));
+      }
+      // Removal happens under the pending read lock, so that a concurrent read either caches its row before, or not at all
+      PENDING_READS.compute(resolvePendingReadKey(cache, primaryKeyValues), (key, pendingReadToken) -> {
+        cache.remove(Arrays.asList(primaryKeyValues));
+        return null;
+      });
+    }
+  }
+
+  private static Cache<List<Object>, Row> resolveCache(final CqlSession session, final TableMetadata<?> table) {
+    return enabled ? resolveCache(session.getName(), table) : null;
+  }
+
+  private static Cache<List<Object>, Row> resolveCache(final String sessionName, final TableMetadata<?> table) {
+    Cache<List<Object>, Row> cache = CACHE_MANAGER.getCache(resolveCacheName(sessionName, table));
+    return cache == null || cache.isClosed() ? null : cache;
+  }
+
+  private static List<Object> resolvePendingReadKey(final Cache<List<Object>, Row> cache, final Object[] primaryKeyValues) {
+    return Arrays.asList(cache.getName(), Arrays.asList(primaryKeyValues));
+  }
+
+  private static String resolveCacheName(final String sessionName, final TableMetadata<?> table) {
+    return CACHE_NAME_PREFIX + sessionName + "_" + table.getKeyspaceName() + "." + table.getTableName();
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+
+/**
+ * Snapshot of an entity's serialized column values, used to detect which columns changed since the snapshot was taken.
+ * When given to {@link CrudQueryBuilder#update(TableMetadata, Object, EntitySnapshot)}, only changed columns are bound
+ * in the update query, avoiding tombstones for unset columns and rewrites of unchanged collections and UDTs.
+ *
+ * Column values are compared in their serialized form (see {@link TableMetadata#serializeInto(Object, Object[])}),
+ * collections are copied so that in place modifications of entity collections are detected.
+ *
+ * @param <T> entity java type.
+ *
+ * @author Oussama Markad
+ */
+public class EntitySnapshot<T> {
+
+  private final TableMetadata<T> tableMetadata;
+  private Object[] values;
+
+  private EntitySnapshot(final TableMetadata<T> tableMetadata, final Object[] values) {
+    this.tableMetadata = tableMetadata;
+    this.values = values;
+  }
+
+  /**
+   * Take a snapshot of entity's current state.
+   *
+   * @param table table of the entity.
+   * @param entity entity, usually as read from DB.
+   * @param <T> entity java type.
+   * @return snapshot of the entity.
+   */
+  public static <T> EntitySnapshot<T> of(final TableMetadata<T> table, final T entity) {
+    EntitySnapshot<T> snapshot = new EntitySnapshot<>(table, null);
+    snapshot.refresh(snapshot.serialize(entity));
+    return snapshot;
+  }
+
+  /**
+   * @return table of the entity.
+   */
+  public TableMetadata<T> getTableMetadata() {
+    return tableMetadata;
+  }
+
+  /**
+   * @return true if any column of given entity changed since snapshot.
+   */
+  public boolean isChanged(final T entity) {
+    return !diff(serialize(entity)).isEmpty();
+  }
+
+  /**
+   * @return names of columns of given entity that changed since snapshot, in the order of {@link TableMetadata#getColumnNames()}.
+   */
+  public List<String> getChangedColumnNames(final T entity) {
+    BitSet changedColumns = diff(serialize(entity));
+    List<String> columnNames = tableMetadata.getColumnNames();
+    List<String> changedColumnNames = new ArrayList<>(changedColumns.cardinality());
+    for (int i = changedColumns.nextSetBit(0); i >= 0; i = changedColumns.nextSetBit(i + 1)) {
+      changedColumnNames.add(columnNames.get(i));
+    }
+    return changedColumnNames;
+  }
+
+  /**
+   * @return serialized column values of given entity.
+   */
+  Object[] serialize(final T entity) {
+    Object[] currentValues = new Object[tableMetadata.getColumnsSize()];
+    tableMetadata.serializeInto(entity, currentValues);
+    return currentValues;
+  }
+
+  /**
+   * @return ordinals of columns whose serialized values differ from snapshot.
+   */
+  BitSet diff(final Object[] currentValues) {
+    BitSet changedColumns = new BitSet(currentValues.length);
+    for (int i = 0; i < currentValues.length; i++) {
+      if (!Objects.equals(values[i], currentValues[i])) {
+        changedColumns.set(i);
+      }
+    }
+    return changedColumns;
+  }
+
+  /**
+   * Replace snapshot by given serialized column values, once they are persisted.
+   */
+  void refresh(final Object[] currentValues) {
+    Object[] snapshotValues = new Object[currentValues.length];
+    for (int i = 0; i < currentValues.length; i++) {
+      snapshotValues[i] = copy(currentValues[i]);
+    }
+    this.values = snapshotValues;
+  }
+
+  private static Object copy(final Object value) {
+    if (value instanceof List) {
+      List<Object> copy = new ArrayList<>(((List<?>) value).size());
+      for (Object element : (List<?>) value) {
+        copy.add(copy(element));
+      }
+      return copy;
+    }
+    if (value instanceof Set) {
+      Set<Object> copy = new LinkedHashSet<>();
+      for (Object element : (Set<?>) value) {
+        copy.add(copy(element));
+      }
+      return copy;
+    }
+    if (value instanceof Map) {
+      Map<Object, Object> copy = new LinkedHashMap<>();
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        copy.put(copy(entry.getKey()), copy(entry.getValue()));
+      }
+      return copy;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.metrics.QueryOperation;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.query.AsyncResultSetUtils;
+import ma.markware.charybdis.query.CanonicalQuery;
+
+/**
+ * Responsible of entity reading by primary key in DB <b>(Internal use only)</b>.
+ * This service is used exclusively by CRUD API.
+ *
+ * Each key is read with its own single-partition select by primary key, rather than a multi-partition 'IN' query
+ * handled by one coordinator. Statements are bound from prepared statements, so they carry their routing key and
+ * are sent to a replica of their partition. No more than 'maxInFlight' reads are pending at any time.
+ *
+ * @param <T> entity to read.
+ *
+ * @author Oussama Markad
+ */
+class ReadByKeysEntityManager<T> {
+
+  static final int DEFAULT_MAX_IN_FLIGHT = 128;
+
+  private final ExecutionContext executionContext;
+  private TableMetadata<T> tableMetadata;
+  private List<Object[]> primaryKeyValues;
+  private AtomicReferenceArray<T> entities;
+  private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+  private BoundedAsyncExecutor<Integer> executor;
+
+  ReadByKeysEntityManager(ExecutionContext executionContext) {
+    // Own copy, as the table default consistency is set on it
+    this.executionContext = new ExecutionContext(executionContext);
+  }
+
+  /**
+   * Specify table in select queries.
+   */
+  ReadByKeysEntityManager<T> withTableMetadata(TableMetadata<T> table) {
+    this.tableMetadata = table;
+    executionContext.setDefaultConsistencyLevel(table.getDefaultReadConsistency());
+    return this;
+  }
+
+  /**
+   * Specify keys to read, as entities with all primary key columns set.
+   */
+  ReadByKeysEntityManager<T> withKeys(Collection<T> keys) {
+    List<String> primaryKeyNames = tableMetadata.getPrimaryKeyNames();
+    primaryKeyValues = new ArrayList<>(keys.size());
+    for (T key : keys) {
+      Map<String, Object> columnValueMap = tableMetadata.serialize(key);
+      if (!CanonicalQuery.hasValues(columnValueMap, primaryKeyNames)) {
+        throw new IllegalArgumentException(String.format("Key [%s] must have a value for every primary key column %s", key, primaryKeyNames));
+      }
+      Object[] values = new Object[primaryKeyNames.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = columnValueMap.get(primaryKeyNames.get(i));
+      }
+      primaryKeyValues.add(values);
+    }
+    entities = new AtomicReferenceArray<>(primaryKeyValues.size());
+    return this;
+  }
+
+  /**
+   * Specify maximum number of pending reads.
+   */
+  ReadByKeysEntityManager<T> withMaxInFlight(int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be strictly positive");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  /**
+   * Execute select queries.
+   *
+   * @return entities in keys order, {@code null} for keys not found.
+   */
+  List<T> fetch(CqlSession session) {
+    return AsyncResultSetUtils.await(fetchAsync(session));
+  }
+
+  /**
+   * Execute select queries asynchronously.
+   *
+   * @return completion stage of entities in keys order, {@code null} for keys not found.
+   * Completed exceptionally as soon as one read fails.
+   */
+  CompletionStage<List<T>> fetchAsync(CqlSession session) {
+    executor = new BoundedAsyncExecutor<>(IntStream.range(0, primaryKeyValues.size()).iterator(), maxInFlight, (Integer index) -> read(session, index));
+    return executor.execute().thenApply(ignored -> {
+      List<T> fetchedEntities = new ArrayList<>(entities.length());
+      for (int i = 0; i < entities.length(); i++) {
+        fetchedEntities.add(entities.get(i));
+      }
+      return fetchedEntities;
+    });
+  }
+
+  private CompletionStage<T> read(CqlSession session, int index) {
+    CompletionStage<T> read;
+    try {
+      CanonicalQuery canonicalQuery = new CanonicalQuery(executionContext);
+      canonicalQuery.setTable(tableMetadata, QueryOperation.SELECT);
+      canonicalQuery.setQuery(tableMetadata.getSelectByPrimaryKeyQuery(), primaryKeyValues.get(index));
+      read = canonicalQuery.executeAsync(session).thenApply(asyncResultSet -> {
+        Row row = asyncResultSet.one();
+        return row == null ? null : tableMetadata.deserialize(row);
+      });
+    } catch (RuntimeException e) {
+      CompletableFuture<T> failedRead = new CompletableFuture<>();
+      failedRead.completeExceptionally(e);
+      read = failedRead;
+    }
+    return read.whenComplete((entity, throwable) -> {
+      if (throwable != null) {
+        executor.abort(throwable);
+      } else {
+        entities.set(index, entity);
+      }
+    });
+  }
+}
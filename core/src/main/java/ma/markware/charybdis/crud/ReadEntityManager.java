@@ -19,18 +19,31 @@
 package ma.markware.charybdis.crud;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.metrics.QueryOperation;
+import ma.markware.charybdis.metrics.QueryPhase;
+import ma.markware.charybdis.metrics.QueryTracker;
 import ma.markware.charybdis.model.criteria.CriteriaExpression;
+import ma.markware.charybdis.model.criteria.CriteriaOperator;
 import ma.markware.charybdis.model.criteria.ExtendedCriteriaExpression;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.query.AsyncResultSetUtils;
+import ma.markware.charybdis.query.CanonicalQuery;
 import ma.markware.charybdis.query.PageRequest;
 import ma.markware.charybdis.query.PageResult;
+import ma.markware.charybdis.query.Query;
 import ma.markware.charybdis.query.SelectQuery;
 
 /**
@@ -44,10 +57,14 @@ import ma.markware.charybdis.query.SelectQuery;
 class ReadEntityManager<T> {
 
   private final SelectQuery selectQuery;
+  private final CanonicalQuery canonicalQuery;
+  private final List<CriteriaExpression> conditions = new ArrayList<>();
   private TableMetadata<T> tableMetadata;
+  private boolean paged;
 
   ReadEntityManager(ExecutionContext executionContext) {
     this.selectQuery = new SelectQuery(executionContext);
+    this.canonicalQuery = new CanonicalQuery(executionContext);
   }
 
   /**
@@ -56,6 +73,7 @@ class ReadEntityManager<T> {
   ReadEntityManager<T> withTableMetadata(TableMetadata<T> table) {
     this.tableMetadata = table;
     selectQuery.setTableAndSelectors(table);
+    canonicalQuery.setTable(table, QueryOperation.SELECT);
     return this;
   }
 
@@ -65,6 +83,7 @@ class ReadEntityManager<T> {
   ReadEntityManager<T> withConditions(ExtendedCriteriaExpression conditions) {
     for (CriteriaExpression condition : conditions.getCriterias()) {
       selectQuery.setWhereClause(condition);
+      this.conditions.add(condition);
     }
     return this;
   }
@@ -74,6 +93,7 @@ class ReadEntityManager<T> {
    */
   ReadEntityManager<T> withCondition(CriteriaExpression condition) {
     selectQuery.setWhereClause(condition);
+    conditions.add(condition);
     return this;
   }
 
@@ -82,6 +102,7 @@ class ReadEntityManager<T> {
    */
   ReadEntityManager<T> withPaging(PageRequest pageRequest) {
     selectQuery.setPageRequest(pageRequest);
+    paged = true;
     return this;
   }
 
@@ -91,25 +112,49 @@ class ReadEntityManager<T> {
    * @return one element
    */
   T fetchOne(CqlSession session) {
-    final ResultSet resultSet = selectQuery.execute(session);
-    if (resultSet == null) {
-      return null;
+    Object[] primaryKeyValues = resolvePrimaryKeyValues();
+    Row cachedRow = primaryKeyValues == null ? null : EntityCache.get(session, tableMetadata, primaryKeyValues);
+    if (cachedRow != null) {
+      return deserialize(session, cachedRow);
     }
-    Row row = resultSet.one();
-    return row == null ? null : tableMetadata.deserialize(row);
+    Object readToken = primaryKeyValues == null ? null : EntityCache.beginRead(session, tableMetadata, primaryKeyValues);
+    Row row = null;
+    try {
+      final ResultSet resultSet = resolveQuery(primaryKeyValues).execute(session);
+      row = resultSet == null ? null : resultSet.one();
+    } finally {
+      EntityCache.endRead(session, tableMetadata, primaryKeyValues, readToken, row);
+    }
+    return row == null ? null : deserialize(session, row);
   }
 
   /**
-   * Execute select query.
+   * Execute select query, all pages are fetched.
    *
    * @return list of entities
    */
   List<T> fetch(CqlSession session) {
-    final ResultSet resultSet = selectQuery.execute(session);
+    final ResultSet resultSet = resolveQuery().execute(session);
     if (resultSet == null) {
       return Collections.emptyList();
     }
-    return getEntities(resultSet);
+    final QueryTracker tracker = startTracking(session);
+    final Function<Row, T> deserializer = tracker.deserializer(tableMetadata::deserialize);
+    final List<T> entities = new ArrayList<>();
+    for (Row row : resultSet) {
+      entities.add(deserializer.apply(row));
+    }
+    tracker.endDeserialization();
+    return entities;
+  }
+
+  /**
+   * Execute select query, entities are lazily read across pages.
+   *
+   * @return stream of entities
+   */
+  Stream<T> stream(CqlSession session) {
+    return AsyncResultSetUtils.stream(session, resolveQuery(), tableMetadata::deserialize);
   }
 
   /**
@@ -118,19 +163,125 @@ class ReadEntityManager<T> {
    * @return page of entities
    */
   PageResult<T> fetchPage(CqlSession session) {
-    ResultSet resultSet = selectQuery.execute(session);
+    ResultSet resultSet = resolveQuery().execute(session);
     if (resultSet == null) {
       return PageResult.EMPTY_PAGE;
     }
     ByteBuffer pagingState = resultSet.getExecutionInfo().getPagingState();
-    return new PageResult<>(getEntities(resultSet), pagingState);
+    return new PageResult<>(getCurrentPageEntities(session, resultSet), pagingState);
+  }
+
+  /**
+   * Execute select query asynchronously.
+   *
+   * @return completion stage of one element
+   */
+  CompletionStage<T> fetchOneAsync(CqlSession session) {
+    Object[] primaryKeyValues = resolvePrimaryKeyValues();
+    Row cachedRow = primaryKeyValues == null ? null : EntityCache.get(session, tableMetadata, primaryKeyValues);
+    if (cachedRow != null) {
+      return CompletableFuture.completedFuture(deserialize(session, cachedRow));
+    }
+    Object readToken = primaryKeyValues == null ? null : EntityCache.beginRead(session, tableMetadata, primaryKeyValues);
+    return resolveQuery(primaryKeyValues).executeAsync(session)
+                                         .thenApply(AsyncResultSet::one)
+                                         .whenComplete((row, throwable) -> EntityCache.endRead(session, tableMetadata, primaryKeyValues, readToken, row))
+                                         .thenApply(row -> row == null ? null : deserialize(session, row));
+  }
+
+  /**
+   * Execute select query asynchronously, all pages are fetched.
+   *
+   * @return completion stage of list of entities
+   */
+  CompletionStage<List<T>> fetchAsync(CqlSession session) {
+    return resolveQuery().executeAsync(session).thenCompose(asyncResultSet -> {
+      QueryTracker tracker = startTracking(session);
+      return AsyncResultSetUtils.mapAllPages(asyncResultSet, tracker.deserializer(tableMetadata::deserialize))
+                                .whenComplete((entities, throwable) -> tracker.endDeserialization());
+    });
+  }
+
+  /**
+   * Execute select query asynchronously.
+   *
+   * @return completion stage of page of entities
+   */
+  CompletionStage<PageResult<T>> fetchPageAsync(CqlSession session) {
+    return resolveQuery().executeAsync(session).thenApply(asyncResultSet -> {
+      ByteBuffer pagingState = asyncResultSet.getExecutionInfo().getPagingState();
+      QueryTracker tracker = startTracking(session);
+      List<T> entities = AsyncResultSetUtils.mapCurrentPage(asyncResultSet, tracker.deserializer(tableMetadata::deserialize));
+      tracker.endDeserialization();
+      return new PageResult<>(entities, pagingState);
+    });
+  }
+
+  /**
+   * Use canonical select by primary key query when conditions are equalities on all primary key columns,
+   * otherwise use built select query.
+   */
+  private Query resolveQuery() {
+    return resolveQuery(resolvePrimaryKeyValues());
+  }
+
+  private Query resolveQuery(Object[] primaryKeyValues) {
+    if (primaryKeyValues != null) {
+      canonicalQuery.setQuery(tableMetadata.getSelectByPrimaryKeyQuery(), primaryKeyValues);
+      return canonicalQuery;
+    }
+    return selectQuery;
+  }
+
+  /**
+   * @return serialized primary key values when conditions select a single entity by primary key, otherwise {@code null}.
+   */
+  private Object[] resolvePrimaryKeyValues() {
+    return paged ? null : extractPrimaryKeyValues();
+  }
+
+  private T deserialize(CqlSession session, Row row) {
+    QueryTracker tracker = startTracking(session);
+    T entity = tableMetadata.deserialize(row);
+    tracker.endPhase(QueryPhase.DESERIALIZE, 1, -1, null);
+    return entity;
+  }
+
+  /**
+   * @return tracker of rows deserialization, reported to query listeners.
+   */
+  private QueryTracker startTracking(CqlSession session) {
+    return QueryTracker.start(session, tableMetadata.getKeyspaceName(), tableMetadata.getTableName(), QueryOperation.SELECT);
+  }
+
+  private Object[] extractPrimaryKeyValues() {
+    List<String> primaryKeyNames = tableMetadata.getPrimaryKeyNames();
+    if (conditions.size() != primaryKeyNames.size()) {
+      return null;
+    }
+    Object[] primaryKeyValues = new Object[primaryKeyNames.size()];
+    for (CriteriaExpression condition : conditions) {
+      if (condition.getCriteriaOperator() != CriteriaOperator.EQ || !(condition.getField() instanceof ColumnMetadata)) {
+        return null;
+      }
+      int index = primaryKeyNames.indexOf(condition.getField().getName());
+      Object value = condition.getSerializedValues()[0];
+      if (index < 0 || value == null || primaryKeyValues[index] != null) {
+        return null;
+      }
+      primaryKeyValues[index] = value;
+    }
+    return primaryKeyValues;
   }
 
-  private List<T> getEntities(final ResultSet resultSet) {
+  private List<T> getCurrentPageEntities(final CqlSession session, final ResultSet resultSet) {
+    final QueryTracker tracker = startTracking(session);
+    final Function<Row, T> deserializer = tracker.deserializer(tableMetadata::deserialize);
     final List<T> entities = new ArrayList<>();
     while (resultSet.getAvailableWithoutFetching() > 0) {
-      entities.add(tableMetadata.deserialize(resultSet.one()));
+      entities.add(deserializer.apply(resultSet.one()));
     }
+    tracker.endDeserialization();
     return entities;
   }
 }
@@ -0,0 +1,201 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.selectFrom;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.google.common.annotations.VisibleForTesting;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.metrics.QueryOperation;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.PartitionKeyColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.query.AsyncResultSetUtils;
+import ma.markware.charybdis.query.CanonicalQuery;
+
+/**
+ * Responsible of full table scan in DB <b>(Internal use only)</b>.
+ * This service is used exclusively by CRUD API.
+ *
+ * The token ring (Murmur3 partitioner) is split into 'splits' contiguous subranges, each subrange is read with
+ * a {@code token(pk) > ? AND token(pk) <= ?} query, all pages included. No more than 'maxInFlight' subranges are read at any time.
+ * Read entities are handed to a consumer, which may be called concurrently from driver threads.
+ *
+ * @param <T> entity to read.
+ *
+ * @author Oussama Markad
+ */
+class ScanEntityManager<T> {
+
+  static final int DEFAULT_SPLITS = 256;
+  static final int DEFAULT_MAX_IN_FLIGHT = 16;
+
+  private final ExecutionContext executionContext;
+  private final AtomicLong scannedCount = new AtomicLong();
+  private TableMetadata<T> tableMetadata;
+  private Consumer<T> consumer;
+  private int splits = DEFAULT_SPLITS;
+  private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+  private long[] boundaries;
+  private String rangeQuery;
+  private BoundedAsyncExecutor<Integer> executor;
+
+  ScanEntityManager(ExecutionContext executionContext) {
+    // Own copy, as the table default consistency is set on it
+    this.executionContext = new ExecutionContext(executionContext);
+  }
+
+  /**
+   * Specify table to scan.
+   */
+  ScanEntityManager<T> withTableMetadata(TableMetadata<T> table) {
+    this.tableMetadata = table;
+    executionContext.setDefaultConsistencyLevel(table.getDefaultReadConsistency());
+    return this;
+  }
+
+  /**
+   * Specify consumer of scanned entities.
+   */
+  ScanEntityManager<T> withConsumer(Consumer<T> consumer) {
+    this.consumer = consumer;
+    return this;
+  }
+
+  /**
+   * Specify number of token subranges.
+   */
+  ScanEntityManager<T> withSplits(int splits) {
+    if (splits <= 0) {
+      throw new IllegalArgumentException("splits must be strictly positive");
+    }
+    this.splits = splits;
+    return this;
+  }
+
+  /**
+   * Specify maximum number of subranges read concurrently.
+   */
+  ScanEntityManager<T> withMaxInFlight(int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be strictly positive");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  /**
+   * Execute scan.
+   *
+   * @return number of scanned entities.
+   */
+  long scan(CqlSession session) {
+    return AsyncResultSetUtils.await(scanAsync(session));
+  }
+
+  /**
+   * Execute scan asynchronously.
+   *
+   * @return completion stage of number of scanned entities, completed exceptionally as soon as a subrange read fails.
+   */
+  CompletionStage<Long> scanAsync(CqlSession session) {
+    this.boundaries = splitRing(splits);
+    this.rangeQuery = buildRangeQuery(tableMetadata);
+    executor = new BoundedAsyncExecutor<>(IntStream.range(0, splits).iterator(), maxInFlight, (Integer split) -> read(session, split));
+    return executor.execute().thenApply(ignored -> scannedCount.get());
+  }
+
+  /**
+   * Split the whole Murmur3 token ring into contiguous subranges of equal size.
+   *
+   * @return subranges boundaries, subrange i is ]boundaries[i], boundaries[i + 1]].
+   */
+  @VisibleForTesting
+  static long[] splitRing(int splits) {
+    BigInteger minToken = BigInteger.valueOf(Long.MIN_VALUE);
+    BigInteger ringSize = BigInteger.valueOf(Long.MAX_VALUE).subtract(minToken);
+    long[] boundaries = new long[splits + 1];
+    for (int i = 0; i <= splits; i++) {
+      boundaries[i] = minToken.add(ringSize.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(splits))).longValue();
+    }
+    return boundaries;
+  }
+
+  /**
+   * @return select query of a token subrange, built on table partition key columns.
+   */
+  @VisibleForTesting
+  static String buildRangeQuery(TableMetadata<?> tableMetadata) {
+    String[] partitionKeyNames = tableMetadata.getPartitionKeyColumns().values().stream()
+                                              .map(PartitionKeyColumnMetadata.class::cast)
+                                              .sorted(Comparator.comparingInt(PartitionKeyColumnMetadata::getPartitionKeyIndex))
+                                              .map(ColumnMetadata::getName)
+                                              .toArray(String[]::new);
+    return selectFrom(tableMetadata.getKeyspaceName(), tableMetadata.getTableName())
+        .all()
+        .whereToken(partitionKeyNames).isGreaterThan(bindMarker())
+        .whereToken(partitionKeyNames).isLessThanOrEqualTo(bindMarker())
+        .asCql();
+  }
+
+  private CompletionStage<Void> read(CqlSession session, int split) {
+    CompletionStage<Void> read;
+    try {
+      CanonicalQuery canonicalQuery = new CanonicalQuery(executionContext);
+      canonicalQuery.setTable(tableMetadata, QueryOperation.SELECT);
+      canonicalQuery.setQuery(rangeQuery, new Object[]{ boundaries[split], boundaries[split + 1] });
+      read = canonicalQuery.executeAsync(session).thenCompose(this::consumeAllPages);
+    } catch (RuntimeException e) {
+      CompletableFuture<Void> failedRead = new CompletableFuture<>();
+      failedRead.completeExceptionally(e);
+      read = failedRead;
+    }
+    return read.whenComplete((ignored, throwable) -> {
+      if (throwable != null) {
+        executor.abort(throwable);
+      }
+    });
+  }
+
+  private CompletionStage<Void> consumeAllPages(AsyncResultSet asyncResultSet) {
+    for (Row row : asyncResultSet.currentPage()) {
+      if (executor.isDone()) {
+        // Scan already failed, stop reading this subrange
+        return CompletableFuture.completedFuture(null);
+      }
+      consumer.accept(tableMetadata.deserialize(row));
+      scannedCount.incrementAndGet();
+    }
+    if (asyncResultSet.hasMorePages()) {
+      return asyncResultSet.fetchNextPage().thenCompose(this::consumeAllPages);
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+}
@@ -21,16 +21,23 @@ package ma.markware.charybdis.crud;
 import static java.lang.String.format;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.ExecutionContext;
 import ma.markware.charybdis.batch.Batch;
+import ma.markware.charybdis.metrics.QueryOperation;
 import ma.markware.charybdis.model.criteria.CriteriaExpression;
 import ma.markware.charybdis.model.criteria.CriteriaOperator;
 import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.query.CanonicalQuery;
+import ma.markware.charybdis.query.Query;
 import ma.markware.charybdis.query.UpdateQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,15 +55,21 @@ class UpdateEntityManager<T> {
   private static final Logger log = LoggerFactory.getLogger(UpdateEntityManager.class);
 
   private final UpdateQuery updateQuery;
+  private final CanonicalQuery canonicalQuery;
   private TableMetadata<T> tableMetadata;
   private T entity;
+  private Boolean ifExists;
+  private EntitySnapshot<T> snapshot;
+  private Object[] serializedValues;
 
   UpdateEntityManager() {
     this.updateQuery = new UpdateQuery();
+    this.canonicalQuery = new CanonicalQuery(updateQuery.getExecutionContext());
   }
 
   UpdateEntityManager(ExecutionContext executionContext) {
     this.updateQuery = new UpdateQuery(executionContext);
+    this.canonicalQuery = new CanonicalQuery(executionContext);
   }
 
   /**
@@ -65,6 +78,7 @@ class UpdateEntityManager<T> {
   UpdateEntityManager<T> withTableMetadata(TableMetadata<T> table) {
     this.tableMetadata = table;
     updateQuery.setTable(table);
+    canonicalQuery.setTable(table, QueryOperation.UPDATE);
     return this;
   }
 
@@ -76,6 +90,23 @@ class UpdateEntityManager<T> {
     return this;
   }
 
+  /**
+   * Specify if update query should be applied only if entity exists, overriding table default update mode.
+   */
+  UpdateEntityManager<T> withIfExists(boolean ifExists) {
+    this.ifExists = ifExists;
+    updateQuery.setIfExists(ifExists);
+    return this;
+  }
+
+  /**
+   * Specify entity snapshot, only columns changed since snapshot are updated.
+   */
+  UpdateEntityManager<T> withSnapshot(EntitySnapshot<T> snapshot) {
+    this.snapshot = snapshot;
+    return this;
+  }
+
 //  /**
 //   * Add ttl in seconds to update query.
 //   */
@@ -106,39 +137,130 @@ class UpdateEntityManager<T> {
    * @return updated entity.
    */
   T save(CqlSession session) {
-    prepareQuery();
-    ResultSet resultSet = updateQuery.execute(session);
+    Query query = prepareQuery();
+    if (query == null) {
+      log.debug("Entity [{}] has no changes to update", entity);
+      return entity;
+    }
+    ResultSet resultSet;
+    try {
+      resultSet = query.execute(session);
+    } finally {
+      EntityCache.invalidate(session, tableMetadata, entity);
+    }
     if (resultSet.wasApplied()) {
+      refreshSnapshot();
       return entity;
     }
     log.warn(format("Entity [%s] was not updated", entity));
     return null;
   }
 
+  /**
+   * Execute update query asynchronously.
+   *
+   * @return completion stage of updated entity.
+   */
+  CompletionStage<T> saveAsync(CqlSession session) {
+    Query query = prepareQuery();
+    if (query == null) {
+      log.debug("Entity [{}] has no changes to update", entity);
+      return CompletableFuture.completedFuture(entity);
+    }
+    CompletionStage<AsyncResultSet> execution = query.executeAsync(session)
+        .whenComplete((asyncResultSet, throwable) -> EntityCache.invalidate(session, tableMetadata, entity));
+    return execution.thenApply(asyncResultSet -> {
+      if (asyncResultSet.wasApplied()) {
+        refreshSnapshot();
+        return entity;
+      }
+      log.warn(format("Entity [%s] was not updated", entity));
+      return null;
+    });
+  }
+
   /**
    * Add query to batch
    *
    * @param batch enclosing batch query
    */
   void addToBatch(Batch batch) {
-    prepareQuery();
-    updateQuery.addToBatch(batch);
+    Query query = prepareQuery();
+    if (query != null) {
+      query.addToBatch(batch);
+      batch.addExecutionCallback(() -> EntityCache.invalidate(batch.getSession(), tableMetadata, entity));
+    }
   }
 
-  private void prepareQuery() {
+  /**
+   * @return update query, {@code null} if a snapshot is given and no column changed.
+   */
+  private Query prepareQuery() {
+    // Last updated date is not a change by itself
+    if (snapshot != null && !snapshot.isChanged(entity)) {
+      return null;
+    }
+
     Instant now = Instant.now();
     tableMetadata.setLastUpdatedDate(entity, now);
 
+    if (snapshot != null) {
+      serializedValues = snapshot.serialize(entity);
+      BitSet changedColumns = snapshot.diff(serializedValues);
+      if (!isPrimaryKeyChanged(changedColumns)) {
+        return preparePartialQuery(changedColumns);
+      }
+      // Primary key changed, entity is a different row: update all columns
+    }
+    return prepareFullQuery();
+  }
+
+  private boolean isPrimaryKeyChanged(BitSet changedColumns) {
+    for (int i = changedColumns.nextSetBit(0); i >= 0; i = changedColumns.nextSetBit(i + 1)) {
+      if (tableMetadata.isPrimaryKey(i)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Query preparePartialQuery(BitSet changedColumns) {
+    List<ColumnMetadata> columns = tableMetadata.getColumns();
+    for (int i = 0; i < columns.size(); i++) {
+      if (tableMetadata.isPrimaryKey(i)) {
+        updateQuery.setWhere(new CriteriaExpression(columns.get(i), CriteriaOperator.EQ, serializedValues[i]));
+      } else if (changedColumns.get(i)) {
+        updateQuery.setSerializedAssignment(columns.get(i), serializedValues[i]);
+      }
+    }
+    return updateQuery;
+  }
+
+  private Query prepareFullQuery() {
     Map<String, Object> columnValueMap = tableMetadata.serialize(entity);
-    for (Entry<String, Object> columnEntry : columnValueMap.entrySet()) {
-      String columnName = columnEntry.getKey();
-      ColumnMetadata columnMetadata = tableMetadata.getColumnMetadata(columnName);
-      Object value = columnEntry.getValue();
-      if (value != null && tableMetadata.isPrimaryKey(columnName)) {
+    boolean updateIfExists = ifExists != null ? ifExists : tableMetadata.isUpdateIfExists();
+    String canonicalUpdateQuery = updateIfExists ? tableMetadata.getUpdateQuery() : tableMetadata.getUpsertQuery();
+    if (canonicalUpdateQuery != null && CanonicalQuery.hasValues(columnValueMap, tableMetadata.getPrimaryKeyNames())) {
+      canonicalQuery.setQuery(canonicalUpdateQuery, columnValueMap, tableMetadata.getRegularColumnNames(), tableMetadata.getPrimaryKeyNames());
+      return canonicalQuery;
+    }
+
+    List<ColumnMetadata> columns = tableMetadata.getColumns();
+    for (int i = 0; i < columns.size(); i++) {
+      ColumnMetadata columnMetadata = columns.get(i);
+      Object value = columnValueMap.get(columnMetadata.getName());
+      if (value != null && tableMetadata.isPrimaryKey(i)) {
         updateQuery.setWhere(new CriteriaExpression(columnMetadata, CriteriaOperator.EQ, value));
       } else {
         updateQuery.setSerializedAssignment(columnMetadata, value);
       }
     }
+    return updateQuery;
+  }
+
+  private void refreshSnapshot() {
+    if (snapshot != null) {
+      snapshot.refresh(serializedValues);
+    }
   }
 }
@@ -0,0 +1,67 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.dsl;
+
+import ma.markware.charybdis.model.field.SelectableField;
+
+/**
+ * Record backed by an array of values, in the order of selected fields.
+ * Selected fields array is shared by all records of a same query.
+ *
+ * @author Oussama Markad
+ */
+public class ArrayRecord implements Record {
+
+  private final SelectableField[] fields;
+  private final Object[] values;
+
+  public ArrayRecord(final SelectableField[] fields, final Object[] values) {
+    this.fields = fields;
+    this.values = values;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <D> D get(final SelectableField<D> field) {
+    int index = indexOf(field);
+    return index < 0 ? null : (D) values[index];
+  }
+
+  /**
+   * Fields are looked up by reference first, then by name as some fields (functions, aggregations...)
+   * are new instances on each call.
+   */
+  private int indexOf(final SelectableField<?> field) {
+    for (int i = 0; i < fields.length; i++) {
+      if (fields[i] == field) {
+        return i;
+      }
+    }
+    String fieldName = field.getName();
+    for (int i = 0; i < fields.length; i++) {
+      if (fields[i].getName().equals(fieldName)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
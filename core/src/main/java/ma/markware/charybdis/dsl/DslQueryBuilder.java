@@ -31,6 +31,8 @@ import ma.markware.charybdis.dsl.insert.DslInsertImpl;
 import ma.markware.charybdis.dsl.insert.InsertInitExpression;
 import ma.markware.charybdis.dsl.insert.InsertInitWithColumnsExpression;
 import ma.markware.charybdis.dsl.select.DslSelectImpl;
+import ma.markware.charybdis.dsl.select.DslSelectTemplate;
+import ma.markware.charybdis.dsl.select.SelectFetchExpression;
 import ma.markware.charybdis.dsl.select.SelectInitExpression;
 import ma.markware.charybdis.dsl.select.SelectWhereExpression;
 import ma.markware.charybdis.dsl.update.DslUpdateImpl;
@@ -39,6 +41,7 @@ import ma.markware.charybdis.model.field.DeletableField;
 import ma.markware.charybdis.model.field.SelectableField;
 import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.PartitionKeyColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.ProjectionMetadata;
 import ma.markware.charybdis.model.field.metadata.TableMetadata;
 import ma.markware.charybdis.model.option.ConsistencyLevel;
 import ma.markware.charybdis.model.option.SerialConsistencyLevel;
@@ -155,6 +158,39 @@ public class DslQueryBuilder implements QueryBuilder, ConsistencyTunable<DslQuer
     return new DslSelectImpl(session, executionContext).selectFrom(table);
   }
 
+  /**
+   * Create a new DSL select expression on projected columns of a table.
+   * <p>
+   * Example: <code><pre>
+   * dslQuery.selectFrom(projection)
+   *         .where(field2.eq("test"))
+   *         .fetchInto(projection);
+   * </pre></code>
+   *
+   * @param projection projection of select query, generated from a class annotated with {@code @Projection}.
+   * @return initialized select expression.
+   */
+  public SelectWhereExpression selectFrom(final ProjectionMetadata<?> projection) {
+    return new DslSelectImpl(session, executionContext).selectFrom(projection);
+  }
+
+  /**
+   * Compile a select DSL query into a reusable template, executed with new where clause values on each call.
+   * Statement is built and rendered once, values given while building the query are ignored.
+   * <p>
+   * Example: <code><pre>
+   * DslSelectTemplate template = dslQuery.prepare(dslQuery.selectFrom(table)
+   *                                                       .where(field1.eq(null)));
+   * template.bind(value1).fetchOne();
+   * </pre></code>
+   *
+   * @param select select DSL query created by this builder.
+   * @return immutable and thread-safe query template.
+   */
+  public DslSelectTemplate prepare(final SelectFetchExpression select) {
+    return DslSelectTemplate.of(select);
+  }
+
   /**
    * Create a new DSL insert expression.
    * <p>
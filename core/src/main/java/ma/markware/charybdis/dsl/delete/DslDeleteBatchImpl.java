@@ -19,6 +19,8 @@
 
 package ma.markware.charybdis.dsl.delete;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.batch.Batch;
 import ma.markware.charybdis.query.DeleteQuery;
 
@@ -44,4 +46,12 @@ public class DslDeleteBatchImpl extends AbstractDslDelete<Void> {
     deleteQuery.addToBatch(batch);
     return null;
   }
-}
\ No newline at end of file
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<Void> executeAsync() {
+    return CompletableFuture.completedFuture(execute());
+  }
+}
@@ -19,6 +19,8 @@
 
 package ma.markware.charybdis.dsl.insert;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.batch.Batch;
 import ma.markware.charybdis.query.InsertQuery;
 
@@ -44,4 +46,12 @@ public class DslInsertBatchImpl extends AbstractDslInsert<Void> {
     insertQuery.addToBatch(batch);
     return null;
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<Void> executeAsync() {
+    return CompletableFuture.completedFuture(execute());
+  }
 }
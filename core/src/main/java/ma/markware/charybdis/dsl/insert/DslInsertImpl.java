@@ -19,7 +19,9 @@
 package ma.markware.charybdis.dsl.insert;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.ExecutionContext;
 import ma.markware.charybdis.query.InsertQuery;
 
@@ -45,4 +47,12 @@ public class DslInsertImpl extends AbstractDslInsert<Boolean> {
     ResultSet resultSet = insertQuery.execute(session);
     return resultSet.wasApplied();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<Boolean> executeAsync() {
+    return insertQuery.executeAsync(session).thenApply(AsyncResultSet::wasApplied);
+  }
 }
@@ -18,6 +18,8 @@
  */
 package ma.markware.charybdis.dsl.insert;
 
+import java.util.concurrent.CompletionStage;
+
 /**
  * Insert DSL query expression.
  *
@@ -36,4 +38,11 @@ public interface InsertFinalExpression<RETURN_TYPE> {
    * @return {@code true} or {@code false} to inform if changes are applied in case query is executed, otherwise void (if we are in a batch context).
    */
   RETURN_TYPE execute();
+
+  /**
+   * Added to a batch query if enclosed in one, otherwise execute insert DSL query asynchronously.
+   *
+   * @return completion stage of {@code true} or {@code false} to inform if changes are applied in case query is executed, otherwise of void (if we are in a batch context).
+   */
+  CompletionStage<RETURN_TYPE> executeAsync();
 }
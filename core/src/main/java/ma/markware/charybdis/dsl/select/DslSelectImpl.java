@@ -20,20 +20,27 @@ package ma.markware.charybdis.dsl.select;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import ma.markware.charybdis.ExecutionContext;
 import ma.markware.charybdis.dsl.Record;
-import ma.markware.charybdis.dsl.utils.RecordUtils;
+import ma.markware.charybdis.metrics.QueryOperation;
+import ma.markware.charybdis.metrics.QueryPhase;
+import ma.markware.charybdis.metrics.QueryTracker;
 import ma.markware.charybdis.model.criteria.CriteriaExpression;
 import ma.markware.charybdis.model.field.SelectableField;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.PartitionKeyColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.ProjectionMetadata;
 import ma.markware.charybdis.model.field.metadata.TableMetadata;
 import ma.markware.charybdis.model.order.OrderExpression;
+import ma.markware.charybdis.query.AsyncResultSetUtils;
 import ma.markware.charybdis.query.PageRequest;
 import ma.markware.charybdis.query.PageResult;
 import ma.markware.charybdis.query.SelectQuery;
@@ -48,22 +55,36 @@ public class DslSelectImpl implements SelectInitExpression, SelectWhereExpressio
 
   private final CqlSession session;
   private final SelectQuery selectQuery;
-  private List<SelectableField> selectedFields;
+  private SelectedFields selectedFields;
 
   public DslSelectImpl(final CqlSession session, final ExecutionContext executionContext) {
     this.session = session;
     this.selectQuery = new SelectQuery(executionContext);
   }
 
+  DslSelectImpl(final CqlSession session, final SelectQuery selectQuery, final SelectedFields selectedFields) {
+    this.session = session;
+    this.selectQuery = selectQuery;
+    this.selectedFields = selectedFields;
+  }
+
+  CqlSession getSession() {
+    return session;
+  }
+
   SelectQuery getSelectQuery() {
     return selectQuery;
   }
 
+  SelectedFields getSelectedFields() {
+    return selectedFields;
+  }
+
   /**
    * Set fields to select.
    */
   public SelectInitExpression select(final SelectableField... fields) {
-    this.selectedFields = Arrays.asList(fields);
+    this.selectedFields = SelectedFields.of(fields);
     selectQuery.setSelectors(fields);
     return this;
   }
@@ -72,7 +93,7 @@ public class DslSelectImpl implements SelectInitExpression, SelectWhereExpressio
    * Set fields to select.
    */
   public SelectInitExpression selectDistinct(final PartitionKeyColumnMetadata... fields) {
-    this.selectedFields = Arrays.asList(fields);
+    this.selectedFields = SelectedFields.of(fields);
     selectQuery.setSelectDistinct(fields);
     return this;
   }
@@ -81,11 +102,22 @@ public class DslSelectImpl implements SelectInitExpression, SelectWhereExpressio
    * Set table to select.
    */
   public SelectWhereExpression selectFrom(final TableMetadata<?> tableMetadata) {
-    this.selectedFields = new ArrayList<>(tableMetadata.getColumnsMetadata().values());
+    this.selectedFields = SelectedFields.allOf(tableMetadata);
     selectQuery.setTableAndSelectors(tableMetadata);
     return this;
   }
 
+  /**
+   * Set projection to select, only projected columns are selected.
+   */
+  public SelectWhereExpression selectFrom(final ProjectionMetadata<?> projectionMetadata) {
+    ColumnMetadata[] columns = projectionMetadata.getColumns().toArray(new ColumnMetadata[0]);
+    this.selectedFields = SelectedFields.of(columns);
+    selectQuery.setSelectors(columns);
+    selectQuery.setTable(projectionMetadata.getTableMetadata());
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -145,12 +177,7 @@ public class DslSelectImpl implements SelectInitExpression, SelectWhereExpressio
    */
   @Override
   public Record fetchOne() {
-    selectQuery.setLimit(1);
-    ResultSet resultSet = selectQuery.execute(session);
-    if (resultSet == null) {
-      return null;
-    }
-    return RecordUtils.rowToRecord(resultSet.one(), selectedFields);
+    return fetchOne(this::rowToRecord);
   }
 
   /**
@@ -166,11 +193,7 @@ public class DslSelectImpl implements SelectInitExpression, SelectWhereExpressio
    */
   @Override
   public List<Record> fetch() {
-    ResultSet resultSet = selectQuery.execute(session);
-    if (resultSet == null) {
-      return Collections.emptyList();
-    }
-    return RecordUtils.resultSetToRecords(resultSet, selectedFields);
+    return fetch(this::rowToRecord);
   }
 
   /**
@@ -178,13 +201,151 @@ public class DslSelectImpl implements SelectInitExpression, SelectWhereExpressio
    */
   @Override
   public PageResult<Record> fetchPage(final PageRequest pageRequest) {
+    return fetchPage(pageRequest, this::rowToRecord);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<Record> stream() {
+    return AsyncResultSetUtils.stream(session, selectQuery, this::rowToRecord);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<Record> fetchOneAsync() {
+    selectQuery.setLimit(1);
+    return selectQuery.executeAsync(session)
+                      .thenApply(asyncResultSet -> mapRow(asyncResultSet.one(), this::rowToRecord));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<Optional<Record>> fetchOptionalAsync() {
+    return fetchOneAsync().thenApply(Optional::ofNullable);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<List<Record>> fetchAsync() {
+    return fetchAsync(this::rowToRecord);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<PageResult<Record>> fetchPageAsync(final PageRequest pageRequest) {
     selectQuery.setPageRequest(pageRequest);
+    return selectQuery.executeAsync(session).thenApply(asyncResultSet -> {
+      ByteBuffer nextPagingState = asyncResultSet.getExecutionInfo().getPagingState();
+      QueryTracker tracker = startTracking();
+      List<Record> records = AsyncResultSetUtils.mapCurrentPage(asyncResultSet, tracker.deserializer(this::rowToRecord));
+      tracker.endDeserialization();
+      return new PageResult<>(records, nextPagingState);
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <P> P fetchOneInto(final ProjectionMetadata<P> projection) {
+    return fetchOne(projection::deserialize);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <P> List<P> fetchInto(final ProjectionMetadata<P> projection) {
+    return fetch(projection::deserialize);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <P> PageResult<P> fetchPageInto(final ProjectionMetadata<P> projection, final PageRequest pageRequest) {
+    return fetchPage(pageRequest, projection::deserialize);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <P> CompletionStage<List<P>> fetchIntoAsync(final ProjectionMetadata<P> projection) {
+    return fetchAsync(projection::deserialize);
+  }
+
+  private <T> T fetchOne(final Function<Row, T> rowMapper) {
+    selectQuery.setLimit(1);
     ResultSet resultSet = selectQuery.execute(session);
-    if (resultSet == null) {
-      return null;
+    return mapRow(resultSet.one(), rowMapper);
+  }
+
+  private <T> List<T> fetch(final Function<Row, T> rowMapper) {
+    ResultSet resultSet = selectQuery.execute(session);
+    QueryTracker tracker = startTracking();
+    Function<Row, T> trackedRowMapper = tracker.deserializer(rowMapper);
+    List<T> results = new ArrayList<>();
+    for (Row row : resultSet) {
+      results.add(trackedRowMapper.apply(row));
     }
+    tracker.endDeserialization();
+    return results;
+  }
+
+  private <T> PageResult<T> fetchPage(final PageRequest pageRequest, final Function<Row, T> rowMapper) {
+    selectQuery.setPageRequest(pageRequest);
+    ResultSet resultSet = selectQuery.execute(session);
     ByteBuffer nextPagingState = resultSet.getExecutionInfo().getPagingState();
-    List<Record> records = RecordUtils.resultSetToRecords(resultSet, selectedFields);
-    return new PageResult<>(records, nextPagingState);
+    QueryTracker tracker = startTracking();
+    Function<Row, T> trackedRowMapper = tracker.deserializer(rowMapper);
+    List<T> results = new ArrayList<>();
+    while (resultSet.getAvailableWithoutFetching() > 0) {
+      results.add(trackedRowMapper.apply(resultSet.one()));
+    }
+    tracker.endDeserialization();
+    return new PageResult<>(results, nextPagingState);
+  }
+
+  private <T> CompletionStage<List<T>> fetchAsync(final Function<Row, T> rowMapper) {
+    return selectQuery.executeAsync(session).thenCompose(asyncResultSet -> {
+      QueryTracker tracker = startTracking();
+      return AsyncResultSetUtils.mapAllPages(asyncResultSet, tracker.deserializer(rowMapper))
+                                .whenComplete((results, throwable) -> tracker.endDeserialization());
+    });
+  }
+
+  private Record rowToRecord(Row row) {
+    return selectedFields.toRecord(row);
+  }
+
+  /**
+   * Convert a single row, reporting its deserialization to query listeners.
+   */
+  private <T> T mapRow(Row row, Function<Row, T> rowMapper) {
+    if (row == null) {
+      return null;
+    }
+    QueryTracker tracker = startTracking();
+    T result = rowMapper.apply(row);
+    tracker.endPhase(QueryPhase.DESERIALIZE, 1, -1, null);
+    return result;
+  }
+
+  /**
+   * @return tracker of rows deserialization, reported to query listeners.
+   */
+  private QueryTracker startTracking() {
+    return QueryTracker.start(session, selectQuery.getKeyspace(), selectQuery.getTable(), QueryOperation.SELECT);
   }
 }
@@ -0,0 +1,87 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.dsl.select;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import ma.markware.charybdis.query.SelectQueryTemplate;
+
+/**
+ * Select DSL query compiled once, and executed with new where clause values on each call.
+ * Statement is neither built nor rendered on execution.
+ * <p>
+ * Example: <code><pre>
+ * DslSelectTemplate template = dslQuery.prepare(dslQuery.selectFrom(table)
+ *                                                       .where(field1.eq(null))
+ *                                                       .and(field2.gt(null)));
+ * template.bind(value1, value2).fetch();
+ * </pre></code>
+ * Templates are immutable and thread-safe, they are meant to be created at startup and shared.
+ *
+ * @author Oussama Markad
+ */
+public final class DslSelectTemplate {
+
+  private final CqlSession session;
+  private final SelectQueryTemplate queryTemplate;
+  private final SelectedFields selectedFields;
+
+  DslSelectTemplate(final DslSelectImpl dslSelect) {
+    this.session = dslSelect.getSession();
+    this.queryTemplate = new SelectQueryTemplate(dslSelect.getSelectQuery());
+    this.selectedFields = dslSelect.getSelectedFields();
+  }
+
+  /**
+   * Compile a select DSL query into a template.
+   *
+   * @param select select DSL query, values of its where clauses are ignored.
+   * @return query template.
+   */
+  public static DslSelectTemplate of(final SelectFetchExpression select) {
+    if (!(select instanceof DslSelectImpl)) {
+      throw new IllegalArgumentException("Only select queries created by DSL API can be compiled into templates");
+    }
+    return new DslSelectTemplate((DslSelectImpl) select);
+  }
+
+  /**
+   * @return rendered Cql query.
+   */
+  public String getQuery() {
+    return queryTemplate.getQuery();
+  }
+
+  /**
+   * @return number of values expected by {@link #bind(Object...)}.
+   */
+  public int getParameterCount() {
+    return queryTemplate.getParameterCount();
+  }
+
+  /**
+   * Bind values to the where clauses of the template, in the order they were declared.
+   * Clauses without value ({@code isNotNull}) are skipped, {@code in} clauses are not supported.
+   *
+   * @param values where clauses values.
+   * @return select expression to fetch.
+   */
+  public SelectFetchExpression bind(final Object... values) {
+    return new DslSelectImpl(session, queryTemplate.bind(values), selectedFields);
+  }
+}
@@ -19,8 +19,12 @@
 package ma.markware.charybdis.dsl.select;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 import ma.markware.charybdis.dsl.Record;
+import ma.markware.charybdis.model.field.metadata.ProjectionMetadata;
 import ma.markware.charybdis.query.PageRequest;
 import ma.markware.charybdis.query.PageResult;
 
@@ -52,7 +56,7 @@ public interface SelectFetchExpression {
 
   /**
    * Execute Select DSL query.
-   * Fetch all elements.
+   * Fetch all elements, next pages are fetched if any.
    *
    * @return Collection of {@link Record}.
    */
@@ -66,4 +70,87 @@ public interface SelectFetchExpression {
    * @return Page of {@link Record}.
    */
   PageResult<Record> fetchPage(PageRequest pageRequest);
+
+  /**
+   * Execute Select DSL query.
+   * Lazily fetch all elements, rows are read one by one across pages and next page is prefetched in background.
+   * Stream should be consumed sequentially.
+   *
+   * @return Stream of {@link Record}.
+   */
+  Stream<Record> stream();
+
+  /**
+   * Execute Select DSL query asynchronously.
+   * Fetch only one element.
+   *
+   * @return completion stage of {@link Record} if selected item exists in DB, otherwise of {@code null}.
+   */
+  CompletionStage<Record> fetchOneAsync();
+
+  /**
+   * Execute Select DSL query asynchronously.
+   * Fetch one element wrapped in {@link Optional}.
+   *
+   * @return completion stage of Optional {@link Record}.
+   */
+  CompletionStage<Optional<Record>> fetchOptionalAsync();
+
+  /**
+   * Execute Select DSL query asynchronously.
+   * Fetch all elements, next pages are fetched without blocking.
+   *
+   * @return completion stage of list of {@link Record}.
+   */
+  CompletionStage<List<Record>> fetchAsync();
+
+  /**
+   * Execute Select DSL query asynchronously.
+   * Fetch a page of elements.
+   *
+   * @param pageRequest requested page (limit and offset)
+   * @return completion stage of page of {@link Record}.
+   */
+  CompletionStage<PageResult<Record>> fetchPageAsync(PageRequest pageRequest);
+
+  /**
+   * Execute Select DSL query.
+   * Fetch only one element, mapped into a projection.
+   *
+   * @param projection projection metadata, projected columns should be selected.
+   * @param <P> projection type.
+   * @return projection if selected item exists in DB, otherwise {@code null}.
+   */
+  <P> P fetchOneInto(ProjectionMetadata<P> projection);
+
+  /**
+   * Execute Select DSL query.
+   * Fetch all elements mapped into a projection, next pages are fetched if any.
+   *
+   * @param projection projection metadata, projected columns should be selected.
+   * @param <P> projection type.
+   * @return list of projections.
+   */
+  <P> List<P> fetchInto(ProjectionMetadata<P> projection);
+
+  /**
+   * Execute Select DSL query.
+   * Fetch a page of elements mapped into a projection.
+   *
+   * @param projection projection metadata, projected columns should be selected.
+   * @param pageRequest requested page (limit and offset)
+   * @param <P> projection type.
+   * @return page of projections.
+   */
+  <P> PageResult<P> fetchPageInto(ProjectionMetadata<P> projection, PageRequest pageRequest);
+
+  /**
+   * Execute Select DSL query asynchronously.
+   * Fetch all elements mapped into a projection, next pages are fetched without blocking.
+   *
+   * @param projection projection metadata, projected columns should be selected.
+   * @param <P> projection type.
+   * @return completion stage of list of projections.
+   */
+  <P> CompletionStage<List<P>> fetchIntoAsync(ProjectionMetadata<P> projection);
 }
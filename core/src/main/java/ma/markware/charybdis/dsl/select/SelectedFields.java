@@ -0,0 +1,75 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.dsl.select;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import ma.markware.charybdis.dsl.Record;
+import ma.markware.charybdis.dsl.utils.RecordUtils;
+import ma.markware.charybdis.model.field.SelectableField;
+import ma.markware.charybdis.model.field.metadata.ColumnIndices;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+
+/**
+ * Fields selected by a DSL query, and their positions in result rows.
+ * Immutable, it can be shared by queries of a same template.
+ *
+ * @author Oussama Markad
+ */
+final class SelectedFields {
+
+  private final SelectableField[] fields;
+  private final int[] positions;
+  private final ColumnIndices columnIndices;
+
+  private SelectedFields(final SelectableField[] fields, final int[] positions, final ColumnIndices columnIndices) {
+    this.fields = fields;
+    this.positions = positions;
+    this.columnIndices = columnIndices;
+  }
+
+  /**
+   * Fields selected explicitly are returned in rows in the same order.
+   */
+  static SelectedFields of(final SelectableField... fields) {
+    int[] positions = new int[fields.length];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = i;
+    }
+    return new SelectedFields(fields, positions, null);
+  }
+
+  /**
+   * All columns are selected with a wildcard, their positions are resolved by name from rows column definitions.
+   */
+  static SelectedFields allOf(final TableMetadata<?> tableMetadata) {
+    return new SelectedFields(tableMetadata.getColumns().toArray(new SelectableField[0]), null, new ColumnIndices(tableMetadata.getColumnNames()));
+  }
+
+  SelectableField[] getFields() {
+    return fields;
+  }
+
+  Record toRecord(final Row row) {
+    if (row == null) {
+      return null;
+    }
+    int[] indices = columnIndices == null ? positions : columnIndices.resolve(row.getColumnDefinitions());
+    return RecordUtils.rowToRecord(row, fields, indices);
+  }
+}
@@ -180,6 +180,15 @@ abstract class AbstractDslUpdate<T> implements UpdateInitExpression<T>, UpdateTt
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public UpdateFinalExpression<T> ifExists(final boolean ifExists) {
+    updateQuery.setIfExists(ifExists);
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -19,6 +19,8 @@
 
 package ma.markware.charybdis.dsl.update;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.batch.Batch;
 import ma.markware.charybdis.query.UpdateQuery;
 
@@ -45,4 +47,12 @@ public class DslUpdateBatchImpl extends AbstractDslUpdate<Void> {
     updateQuery.addToBatch(batch);
     return null;
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<Void> executeAsync() {
+    return CompletableFuture.completedFuture(execute());
+  }
 }
@@ -19,7 +19,9 @@
 package ma.markware.charybdis.dsl.update;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.ExecutionContext;
 import ma.markware.charybdis.query.UpdateQuery;
 
@@ -45,4 +47,12 @@ public class DslUpdateImpl extends AbstractDslUpdate<Boolean> {
     ResultSet resultSet = updateQuery.execute(session);
     return resultSet != null && resultSet.wasApplied();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<Boolean> executeAsync() {
+    return updateQuery.executeAsync(session).thenApply(AsyncResultSet::wasApplied);
+  }
 }
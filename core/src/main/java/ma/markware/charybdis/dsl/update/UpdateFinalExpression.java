@@ -18,6 +18,8 @@
  */
 package ma.markware.charybdis.dsl.update;
 
+import java.util.concurrent.CompletionStage;
+
 /**
  * Update DSL query expression.
  *
@@ -36,4 +38,11 @@ public interface UpdateFinalExpression<RETURN_TYPE> {
    * @return {@code true} if query is executed, {@code false} otherwise.
    */
   RETURN_TYPE execute();
+
+  /**
+   * Added to a batch query if enclosed in one, otherwise execute update DSL query asynchronously.
+   *
+   * @return completion stage of {@code true} or {@code false} to inform if changes are applied in case query is executed, otherwise of void (if we are in a batch context).
+   */
+  CompletionStage<RETURN_TYPE> executeAsync();
 }
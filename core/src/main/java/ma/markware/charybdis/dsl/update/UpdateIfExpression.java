@@ -37,4 +37,14 @@ public interface UpdateIfExpression<RETURN_TYPE> extends UpdateFinalExpression<R
    * @return updated update DSL query expression.
    */
   UpdateExtraIfExpression<RETURN_TYPE> if_(CriteriaExpression condition);
+
+  /**
+   * Enable or disable {@code IF EXISTS} condition in update DSL query, overriding table default update mode
+   * (see {@link ma.markware.charybdis.model.annotation.Table#updateIfExists()}).
+   * Disabling it makes the query a plain upsert, avoiding lightweight transaction cost.
+   *
+   * @param ifExists enable to update only existing row.
+   * @return updated update DSL query expression.
+   */
+  UpdateFinalExpression<RETURN_TYPE> ifExists(boolean ifExists);
 }
@@ -22,9 +22,10 @@ import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import java.util.ArrayList;
 import java.util.List;
-import ma.markware.charybdis.dsl.DefaultRecord;
+import ma.markware.charybdis.dsl.ArrayRecord;
 import ma.markware.charybdis.dsl.Record;
 import ma.markware.charybdis.model.field.SelectableField;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
 
 /**
  * Record utils methods.
@@ -37,24 +38,62 @@ public class RecordUtils {
    * Transform Cql row to a database result record.
    */
   public static Record rowToRecord(final Row row, final List<SelectableField> selectedFields) {
+    return rowToRecord(row, toArray(selectedFields));
+  }
+
+  /**
+   * Transform Cql row to a database result record, columns are read at given positions in the row.
+   *
+   * @param indices row positions of selected fields, only used to read fields of type {@link ColumnMetadata}.
+   */
+  public static Record rowToRecord(final Row row, final SelectableField[] selectedFields, final int[] indices) {
     if (row == null) {
       return null;
     }
-    DefaultRecord record = new DefaultRecord();
-    selectedFields.forEach(field ->
-        record.put(field, field.deserialize(row))
-    );
-    return record;
+    Object[] values = new Object[selectedFields.length];
+    for (int i = 0; i < selectedFields.length; i++) {
+      SelectableField field = selectedFields[i];
+      values[i] = field instanceof ColumnMetadata ? ((ColumnMetadata) field).deserialize(row, indices[i]) : field.deserialize(row);
+    }
+    return new ArrayRecord(selectedFields, values);
   }
 
   /**
-   * Transform Cql result set to a list of database result records.
+   * Transform Cql result set to a list of database result records, next pages are fetched if any.
    */
   public static List<Record> resultSetToRecords(final ResultSet resultSet, final List<SelectableField> selectedFields) {
+    SelectableField[] fields = toArray(selectedFields);
+    List<Record> records = new ArrayList<>();
+    for (Row row : resultSet) {
+      records.add(rowToRecord(row, fields));
+    }
+    return records;
+  }
+
+  /**
+   * Transform current page of Cql result set to a list of database result records.
+   */
+  public static List<Record> currentPageToRecords(final ResultSet resultSet, final List<SelectableField> selectedFields) {
+    SelectableField[] fields = toArray(selectedFields);
     List<Record> records = new ArrayList<>();
     while (resultSet.getAvailableWithoutFetching() > 0) {
-      records.add(rowToRecord(resultSet.one(), selectedFields));
+      records.add(rowToRecord(resultSet.one(), fields));
     }
     return records;
   }
+
+  private static Record rowToRecord(final Row row, final SelectableField[] selectedFields) {
+    if (row == null) {
+      return null;
+    }
+    Object[] values = new Object[selectedFields.length];
+    for (int i = 0; i < selectedFields.length; i++) {
+      values[i] = selectedFields[i].deserialize(row);
+    }
+    return new ArrayRecord(selectedFields, values);
+  }
+
+  private static SelectableField[] toArray(final List<SelectableField> selectedFields) {
+    return selectedFields.toArray(new SelectableField[0]);
+  }
 }
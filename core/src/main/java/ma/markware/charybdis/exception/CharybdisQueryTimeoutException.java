@@ -0,0 +1,32 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.exception;
+
+/**
+ * Runtime exception that occurs when a query times out, either on client side or on coordinator side.
+ * The query may or may not have been applied.
+ *
+ * @author Oussama Markad
+ */
+public class CharybdisQueryTimeoutException extends CharybdisQueryExecutionException {
+
+  public CharybdisQueryTimeoutException(final String message, final Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds, with log-linear buckets in the manner of HdrHistogram:
+ * values below {@value #LINEAR_BUCKETS} are counted exactly, larger values fall into one of {@value #SUB_BUCKETS} buckets per power of two,
+ * so that recorded values and percentiles are accurate within 1.6%. Memory footprint is constant (about 30KB).
+ *
+ * @author Oussama Markad
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKETS = 64;
+  private static final int LINEAR_BUCKETS = 2 * SUB_BUCKETS;
+  private static final int SUB_BUCKETS_MAGNITUDE = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+  private static final int BUCKETS = LINEAR_BUCKETS + (63 - SUB_BUCKETS_MAGNITUDE - 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder totalSum = new LongAdder();
+  private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Record a duration, negative durations are recorded as 0.
+   *
+   * @param nanos duration in nanoseconds.
+   */
+  public void record(final long nanos) {
+    long value = Math.max(nanos, 0);
+    counts.incrementAndGet(bucketIndex(value));
+    totalSum.add(value);
+    min.accumulate(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Clear recorded values. Values recorded concurrently may be partially cleared.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    totalSum.reset();
+    min.reset();
+    max.reset();
+  }
+
+  /**
+   * @return point-in-time copy of recorded values.
+   */
+  public Snapshot getSnapshot() {
+    long[] snapshotCounts = new long[BUCKETS];
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshotCounts[i] = counts.get(i);
+      count += snapshotCounts[i];
+    }
+    return new Snapshot(snapshotCounts, count, totalSum.sum(), count == 0 ? 0 : min.get(), max.get());
+  }
+
+  static int bucketIndex(final long value) {
+    if (value < LINEAR_BUCKETS) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKETS_MAGNITUDE;
+    return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+  }
+
+  /**
+   * @return highest value counted in bucket.
+   */
+  static long bucketHighestValue(final int index) {
+    if (index < LINEAR_BUCKETS) {
+      return index;
+    }
+    int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+    long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * Point-in-time copy of a {@link LatencyHistogram}, all durations in nanoseconds.
+   */
+  public static final class Snapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+
+    private Snapshot(final long[] counts, final long count, final long sum, final long min, final long max) {
+      this.counts = counts;
+      this.count = count;
+      this.sum = sum;
+      this.min = min;
+      this.max = max;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getMin() {
+      return min;
+    }
+
+    public long getMax() {
+      return max;
+    }
+
+    public double getMean() {
+      return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * @param percentile percentile between 0 and 100, e.g. {@code 99.9}.
+     * @return value below or equal to which the given percentage of recorded values fall, {@code 0} if no value is recorded.
+     */
+    public long getPercentile(final double percentile) {
+      if (percentile < 0 || percentile > 100) {
+        throw new IllegalArgumentException("percentile should be between 0 and 100");
+      }
+      if (count == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+      long cumulativeCount = 0;
+      for (int i = 0; i < counts.length; i++) {
+        cumulativeCount += counts[i];
+        if (cumulativeCount >= rank) {
+          return Math.max(min, Math.min(bucketHighestValue(i), max));
+        }
+      }
+      return max;
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.metrics;
+
+/**
+ * A completed query phase.
+ *
+ * @author Oussama Markad
+ */
+public final class QueryEvent {
+
+  private final String keyspace;
+  private final String table;
+  private final QueryOperation operation;
+  private final QueryPhase phase;
+  private final long durationNanos;
+  private final int rows;
+  private final int bytes;
+  private final Throwable error;
+
+  public QueryEvent(final String keyspace, final String table, final QueryOperation operation, final QueryPhase phase, final long durationNanos,
+      final int rows, final int bytes, final Throwable error) {
+    this.keyspace = keyspace;
+    this.table = table;
+    this.operation = operation;
+    this.phase = phase;
+    this.durationNanos = durationNanos;
+    this.rows = rows;
+    this.bytes = bytes;
+    this.error = error;
+  }
+
+  /**
+   * @return keyspace of the queried table, {@code null} for batches.
+   */
+  public String getKeyspace() {
+    return keyspace;
+  }
+
+  /**
+   * @return queried table, {@code null} for batches.
+   */
+  public String getTable() {
+    return table;
+  }
+
+  public QueryOperation getOperation() {
+    return operation;
+  }
+
+  public QueryPhase getPhase() {
+    return phase;
+  }
+
+  /**
+   * @return phase duration in nanoseconds.
+   */
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  /**
+   * @return rows of the first page of results on execution, rows converted on deserialization, statements count of batches,
+   * {@code -1} if not applicable.
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * @return size in bytes of the first page of results as received from the cluster, {@code -1} if unknown.
+   */
+  public int getBytes() {
+    return bytes;
+  }
+
+  /**
+   * @return error that made the phase fail, {@code null} on success.
+   */
+  public Throwable getError() {
+    return error;
+  }
+
+  public boolean isSuccessful() {
+    return error == null;
+  }
+
+  @Override
+  public String toString() {
+    return "QueryEvent{" + "keyspace='" + keyspace + '\'' + ", table='" + table + '\'' + ", operation=" + operation + ", phase=" + phase
+        + ", durationNanos=" + durationNanos + ", rows=" + rows + ", bytes=" + bytes + ", error=" + error + '}';
+  }
+}
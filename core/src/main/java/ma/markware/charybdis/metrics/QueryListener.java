@@ -0,0 +1,40 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.metrics;
+
+/**
+ * Listener notified at the end of each phase of query executions made through a session,
+ * see {@link ma.markware.charybdis.CqlTemplate#withQueryListener(QueryListener)}.
+ * <p>
+ * Listeners are called synchronously in the thread completing the phase, possibly a driver I/O thread for asynchronous executions:
+ * they should be fast and non-blocking. Exceptions thrown by listeners are logged and ignored.
+ * {@link QueryMetricsRecorder} is a default implementation aggregating latency percentiles per table, operation and phase.
+ *
+ * @author Oussama Markad
+ */
+@FunctionalInterface
+public interface QueryListener {
+
+  /**
+   * Called when a query phase completes, successfully or not.
+   *
+   * @param event completed phase.
+   */
+  void onEvent(QueryEvent event);
+}
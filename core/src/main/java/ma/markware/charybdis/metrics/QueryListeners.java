@@ -0,0 +1,94 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.metrics;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of {@link QueryListener}s by session <b>(Internal use only)</b>.
+ *
+ * @author Oussama Markad
+ */
+public final class QueryListeners {
+
+  private static final Logger log = LoggerFactory.getLogger(QueryListeners.class);
+
+  private static final Map<String, List<QueryListener>> LISTENERS = new ConcurrentHashMap<>();
+
+  /**
+   * Whether any listener is registered, so that query executions are not timed until a listener is registered.
+   */
+  private static volatile boolean enabled;
+
+  private QueryListeners() {
+  }
+
+  /**
+   * Notify listener of queries executed through a session.
+   *
+   * @param sessionName cql session name.
+   * @param listener listener to notify.
+   */
+  public static void register(final String sessionName, final QueryListener listener) {
+    LISTENERS.computeIfAbsent(sessionName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    enabled = true;
+  }
+
+  /**
+   * Stop notifying listener of queries executed through a session.
+   *
+   * @param sessionName cql session name.
+   * @param listener registered listener.
+   */
+  public static void unregister(final String sessionName, final QueryListener listener) {
+    List<QueryListener> listeners = LISTENERS.get(sessionName);
+    if (listeners != null) {
+      listeners.remove(listener);
+    }
+  }
+
+  /**
+   * @return listeners registered for session, empty if none.
+   */
+  static List<QueryListener> get(final CqlSession session) {
+    if (!enabled) {
+      return Collections.emptyList();
+    }
+    String sessionName = session.getName();
+    List<QueryListener> listeners = sessionName == null ? null : LISTENERS.get(sessionName);
+    return listeners == null ? Collections.emptyList() : listeners;
+  }
+
+  static void fire(final List<QueryListener> listeners, final QueryEvent event) {
+    for (QueryListener listener : listeners) {
+      try {
+        listener.onEvent(event);
+      } catch (final RuntimeException e) {
+        log.warn("Query listener {} failed on {}", listener, event, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.metrics;
+
+/**
+ * Metrics of a query phase on a table, aggregated by {@link QueryMetricsRecorder} since it started or was reset.
+ *
+ * @author Oussama Markad
+ */
+public final class QueryMetrics {
+
+  private final String keyspace;
+  private final String table;
+  private final QueryOperation operation;
+  private final QueryPhase phase;
+  private final LatencyHistogram.Snapshot latency;
+  private final long errors;
+  private final long rows;
+  private final long bytes;
+  private final long elapsedNanos;
+
+  QueryMetrics(final String keyspace, final String table, final QueryOperation operation, final QueryPhase phase, final LatencyHistogram.Snapshot latency,
+      final long errors, final long rows, final long bytes, final long elapsedNanos) {
+    this.keyspace = keyspace;
+    this.table = table;
+    this.operation = operation;
+    this.phase = phase;
+    this.latency = latency;
+    this.errors = errors;
+    this.rows = rows;
+    this.bytes = bytes;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * @return keyspace of the queried table, {@code null} for batches.
+   */
+  public String getKeyspace() {
+    return keyspace;
+  }
+
+  /**
+   * @return queried table, {@code null} for batches.
+   */
+  public String getTable() {
+    return table;
+  }
+
+  public QueryOperation getOperation() {
+    return operation;
+  }
+
+  public QueryPhase getPhase() {
+    return phase;
+  }
+
+  /**
+   * @return phase durations in nanoseconds, failed phases included.
+   */
+  public LatencyHistogram.Snapshot getLatency() {
+    return latency;
+  }
+
+  /**
+   * @return number of completed phases, failed phases included.
+   */
+  public long getCount() {
+    return latency.getCount();
+  }
+
+  /**
+   * @return number of failed phases.
+   */
+  public long getErrors() {
+    return errors;
+  }
+
+  /**
+   * @return total rows, see {@link QueryEvent#getRows()}.
+   */
+  public long getRows() {
+    return rows;
+  }
+
+  /**
+   * @return total bytes received, see {@link QueryEvent#getBytes()}.
+   */
+  public long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * @return mean number of completed phases per second, since recorder started or was reset.
+   */
+  public double getThroughput() {
+    return elapsedNanos <= 0 ? 0 : latency.getCount() * 1e9 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s.%s %s %s: count=%d errors=%d rows=%d bytes=%d throughput=%.1f/s mean=%.0fns p50=%dns p99=%dns p999=%dns max=%dns", keyspace,
+                         table, operation, phase, getCount(), errors, rows, bytes, getThroughput(), latency.getMean(), latency.getPercentile(50),
+                         latency.getPercentile(99), latency.getPercentile(99.9), latency.getMax());
+  }
+}
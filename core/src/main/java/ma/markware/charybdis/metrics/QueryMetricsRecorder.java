@@ -0,0 +1,142 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link QueryListener}, aggregating durations, errors, rows and bytes by table, operation and phase,
+ * without any metrics library dependency. Durations are recorded in {@link LatencyHistogram}s, so that percentiles can be
+ * broken down per table and per phase:
+ * <pre>{@code
+ *   QueryMetricsRecorder recorder = new QueryMetricsRecorder();
+ *   cqlTemplate.withQueryListener(recorder);
+ *   ...
+ *   recorder.getMetrics().forEach(metrics -> log.info("{}", metrics));
+ * }</pre>
+ *
+ * @author Oussama Markad
+ */
+public class QueryMetricsRecorder implements QueryListener {
+
+  private final Map<Key, Aggregate> aggregates = new ConcurrentHashMap<>();
+  private volatile long startNanos = System.nanoTime();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onEvent(final QueryEvent event) {
+    aggregates.computeIfAbsent(new Key(event.getKeyspace(), event.getTable(), event.getOperation(), event.getPhase()), key -> new Aggregate())
+              .record(event);
+  }
+
+  /**
+   * @return metrics of every phase recorded so far.
+   */
+  public List<QueryMetrics> getMetrics() {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    List<QueryMetrics> metrics = new ArrayList<>(aggregates.size());
+    aggregates.forEach((key, aggregate) -> metrics.add(aggregate.snapshot(key, elapsedNanos)));
+    return metrics;
+  }
+
+  /**
+   * @param keyspace keyspace of the queried table, {@code null} for batches.
+   * @param table queried table, {@code null} for batches.
+   * @param operation query type.
+   * @param phase query phase.
+   * @return metrics of a phase, {@code null} if never recorded.
+   */
+  public QueryMetrics getMetrics(final String keyspace, final String table, final QueryOperation operation, final QueryPhase phase) {
+    Key key = new Key(keyspace, table, operation, phase);
+    Aggregate aggregate = aggregates.get(key);
+    return aggregate == null ? null : aggregate.snapshot(key, System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Clear recorded metrics, throughputs are computed from now on.
+   */
+  public void reset() {
+    aggregates.clear();
+    startNanos = System.nanoTime();
+  }
+
+  private static final class Aggregate {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    private void record(final QueryEvent event) {
+      latency.record(event.getDurationNanos());
+      if (!event.isSuccessful()) {
+        errors.increment();
+      }
+      if (event.getRows() > 0) {
+        rows.add(event.getRows());
+      }
+      if (event.getBytes() > 0) {
+        bytes.add(event.getBytes());
+      }
+    }
+
+    private QueryMetrics snapshot(final Key key, final long elapsedNanos) {
+      return new QueryMetrics(key.keyspace, key.table, key.operation, key.phase, latency.getSnapshot(), errors.sum(), rows.sum(), bytes.sum(), elapsedNanos);
+    }
+  }
+
+  private static final class Key {
+
+    private final String keyspace;
+    private final String table;
+    private final QueryOperation operation;
+    private final QueryPhase phase;
+
+    private Key(final String keyspace, final String table, final QueryOperation operation, final QueryPhase phase) {
+      this.keyspace = keyspace;
+      this.table = table;
+      this.operation = operation;
+      this.phase = phase;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      final Key that = (Key) o;
+      return Objects.equals(keyspace, that.keyspace) && Objects.equals(table, that.table) && operation == that.operation && phase == that.phase;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(keyspace, table, operation, phase);
+    }
+  }
+}
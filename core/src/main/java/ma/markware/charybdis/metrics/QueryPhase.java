@@ -0,0 +1,47 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.metrics;
+
+/**
+ * Phase of a query execution, reported to {@link QueryListener}s.
+ *
+ * @author Oussama Markad
+ */
+public enum QueryPhase {
+
+  /**
+   * Building and rendering of the cql statement.
+   */
+  BUILD,
+
+  /**
+   * Resolution of the prepared statement, either from cache or by preparing it against the cluster.
+   */
+  PREPARE,
+
+  /**
+   * Execution of the bound statement, until the first page of results is received.
+   */
+  EXECUTE,
+
+  /**
+   * Conversion of result rows to entities or records.
+   */
+  DESERIALIZE
+}
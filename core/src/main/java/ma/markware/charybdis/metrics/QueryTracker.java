@@ -0,0 +1,151 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.metrics;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Times the phases of a query execution and notifies the {@link QueryListener}s of the session <b>(Internal use only)</b>.
+ * When no listener is registered, a no-op tracker is returned, so that untracked executions are not timed at all.
+ * A tracker is not thread-safe, phases of an execution are expected to complete sequentially.
+ *
+ * @author Oussama Markad
+ */
+public class QueryTracker {
+
+  private static final QueryTracker NOOP = new QueryTracker();
+
+  private final List<QueryListener> listeners;
+  private final String keyspace;
+  private final String table;
+  private final QueryOperation operation;
+  private long phaseStart;
+  private long deserializationNanos;
+  private int deserializedRows;
+
+  private QueryTracker() {
+    this.listeners = null;
+    this.keyspace = null;
+    this.table = null;
+    this.operation = null;
+  }
+
+  private QueryTracker(final List<QueryListener> listeners, final String keyspace, final String table, final QueryOperation operation) {
+    this.listeners = listeners;
+    this.keyspace = keyspace;
+    this.table = table;
+    this.operation = operation;
+    this.phaseStart = System.nanoTime();
+  }
+
+  /**
+   * Start tracking a query execution, the first phase starts now.
+   *
+   * @param session session executing the query.
+   * @param keyspace keyspace of the queried table, {@code null} for batches.
+   * @param table queried table, {@code null} for batches.
+   * @param operation query type.
+   * @return query tracker.
+   */
+  public static QueryTracker start(final CqlSession session, final String keyspace, final String table, final QueryOperation operation) {
+    List<QueryListener> listeners = QueryListeners.get(session);
+    return listeners.isEmpty() ? NOOP : new QueryTracker(listeners, keyspace, table, operation);
+  }
+
+  /**
+   * End a successful phase, the next phase starts now.
+   */
+  public void endPhase(final QueryPhase phase) {
+    endPhase(phase, -1, -1, null);
+  }
+
+  /**
+   * End a phase, the next phase starts now.
+   *
+   * @param phase ended phase.
+   * @param rows rows handled by the phase, {@code -1} if not applicable.
+   * @param bytes bytes received during the phase, {@code -1} if unknown.
+   * @param error error that made the phase fail, {@code null} on success.
+   */
+  public void endPhase(final QueryPhase phase, final int rows, final int bytes, final Throwable error) {
+    if (listeners != null) {
+      long now = System.nanoTime();
+      QueryListeners.fire(listeners, new QueryEvent(keyspace, table, operation, phase, now - phaseStart, rows, bytes, error));
+      phaseStart = now;
+    }
+  }
+
+  /**
+   * End a successful execution phase, with the size of the first page of results.
+   */
+  public void endExecution(final ResultSet resultSet) {
+    if (listeners != null) {
+      endPhase(QueryPhase.EXECUTE, resultSet.getAvailableWithoutFetching(), responseSize(resultSet.getExecutionInfo()), null);
+    }
+  }
+
+  /**
+   * End a successful execution phase, with the size of the first page of results.
+   */
+  public void endExecution(final AsyncResultSet asyncResultSet) {
+    if (listeners != null) {
+      endPhase(QueryPhase.EXECUTE, asyncResultSet.remaining(), responseSize(asyncResultSet.getExecutionInfo()), null);
+    }
+  }
+
+  /**
+   * Time each call of a row mapper, durations are accumulated until {@link #endDeserialization()}.
+   *
+   * @return timed row mapper, or the given mapper when tracking is disabled.
+   */
+  public <R, T> Function<R, T> deserializer(final Function<R, T> rowMapper) {
+    if (listeners == null) {
+      return rowMapper;
+    }
+    return row -> {
+      long start = System.nanoTime();
+      try {
+        return rowMapper.apply(row);
+      } finally {
+        deserializationNanos += System.nanoTime() - start;
+        deserializedRows++;
+      }
+    };
+  }
+
+  /**
+   * Notify the deserialization phase, made of the calls to mappers returned by {@link #deserializer(Function)}.
+   */
+  public void endDeserialization() {
+    if (listeners != null) {
+      QueryListeners.fire(listeners, new QueryEvent(keyspace, table, operation, QueryPhase.DESERIALIZE, deserializationNanos, deserializedRows, -1, null));
+      deserializationNanos = 0;
+      deserializedRows = 0;
+    }
+  }
+
+  private static int responseSize(final ExecutionInfo executionInfo) {
+    return executionInfo == null ? -1 : executionInfo.getResponseSizeInBytes();
+  }
+}
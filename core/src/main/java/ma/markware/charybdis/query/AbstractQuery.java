@@ -19,14 +19,22 @@
 package ma.markware.charybdis.query;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.google.common.annotations.VisibleForTesting;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
 import ma.markware.charybdis.ExecutionContext;
 import ma.markware.charybdis.batch.Batch;
+import ma.markware.charybdis.metrics.QueryOperation;
+import ma.markware.charybdis.metrics.QueryPhase;
+import ma.markware.charybdis.metrics.QueryTracker;
 import ma.markware.charybdis.model.option.ConsistencyLevel;
 import ma.markware.charybdis.model.option.SerialConsistencyLevel;
 import org.slf4j.Logger;
@@ -42,6 +50,7 @@ public abstract class AbstractQuery implements Query {
   private static final Logger log = LoggerFactory.getLogger(AbstractQuery.class);
 
   final ExecutionContext executionContext;
+  private boolean nullValuesUnset;
 
   AbstractQuery(ExecutionContext executionContext) {
     this.executionContext = executionContext;
@@ -51,16 +60,56 @@ public abstract class AbstractQuery implements Query {
     return executionContext;
   }
 
+  public boolean isNullValuesUnset() {
+    return nullValuesUnset;
+  }
+
+  /**
+   * @return keyspace of the queried table.
+   */
+  public abstract String getKeyspace();
+
+  /**
+   * @return queried table.
+   */
+  public abstract String getTable();
+
+  /**
+   * @return query type, reported to query listeners.
+   */
+  public abstract QueryOperation getOperation();
+
+  /**
+   * Leave null bind values unset in bound statements instead of binding them to null (no tombstone is written).
+   */
+  public void setNullValuesUnset(boolean nullValuesUnset) {
+    this.nullValuesUnset = nullValuesUnset;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public ResultSet execute(final CqlSession session) {
+    QueryTracker tracker = QueryTracker.start(session, getKeyspace(), getTable(), getOperation());
     StatementTuple statementTuple = buildStatement();
     SimpleStatement statement = resolveExecutionContext(statementTuple.getSimpleStatement());
+    tracker.endPhase(QueryPhase.BUILD);
     return executeStatement(session, statement, statementTuple.getFetchSize(), statementTuple.getPagingState(), statementTuple.getBindValues());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<AsyncResultSet> executeAsync(final CqlSession session) {
+    QueryTracker tracker = QueryTracker.start(session, getKeyspace(), getTable(), getOperation());
+    StatementTuple statementTuple = buildStatement();
+    SimpleStatement statement = resolveExecutionContext(statementTuple.getSimpleStatement());
+    tracker.endPhase(QueryPhase.BUILD);
+    return executeStatementAsync(session, statement, statementTuple.getFetchSize(), statementTuple.getPagingState(), statementTuple.getBindValues());
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -73,25 +122,80 @@ public abstract class AbstractQuery implements Query {
   @VisibleForTesting
   ResultSet executeStatement(final CqlSession session, final SimpleStatement statement, final int fetchSize, final ByteBuffer pagingState,
       final Object[] bindValueArray) {
-    ResultSet resultSet = null;
     log.debug("Statement query: {}", statement.getQuery());
-    final PreparedStatement preparedStatement = PreparedStatementFactory.createPreparedStatement(session, statement.getQuery());
+    QueryTracker tracker = QueryTracker.start(session, getKeyspace(), getTable(), getOperation());
+    PreparedStatement preparedStatement = null;
     try {
-      resultSet = session.execute(preparedStatement.bind(bindValueArray).setPageSize(fetchSize).setPagingState(pagingState));
-    } catch (final Exception e) {
-      log.error("Error executing [{}] statement ({})", statement.getConsistencyLevel(), statement, e);
+      preparedStatement = PreparedStatementFactory.createPreparedStatement(session, statement.getQuery());
+      tracker.endPhase(QueryPhase.PREPARE);
+      ResultSet resultSet = StatementExecutor.execute(session, applyIdempotence(bind(preparedStatement, bindValueArray).setPageSize(fetchSize)
+                                                                                   .setPagingState(pagingState), statement.isIdempotent()));
+      tracker.endExecution(resultSet);
+      return new TranslatingResultSet(resultSet, statement.getQuery());
+    } catch (final RuntimeException e) {
+      tracker.endPhase(preparedStatement == null ? QueryPhase.PREPARE : QueryPhase.EXECUTE, -1, -1, e);
+      throw StatementExecutor.translate(statement.getQuery(), e);
     }
-    return resultSet;
+  }
+
+  @VisibleForTesting
+  CompletionStage<AsyncResultSet> executeStatementAsync(final CqlSession session, final SimpleStatement statement, final int fetchSize,
+      final ByteBuffer pagingState, final Object[] bindValueArray) {
+    log.debug("Async statement query: {}", statement.getQuery());
+    QueryTracker tracker = QueryTracker.start(session, getKeyspace(), getTable(), getOperation());
+    AtomicBoolean prepared = new AtomicBoolean();
+    CompletionStage<AsyncResultSet> execution = PreparedStatementFactory.createPreparedStatementAsync(session, statement.getQuery())
+        .thenCompose(preparedStatement -> {
+          prepared.set(true);
+          tracker.endPhase(QueryPhase.PREPARE);
+          return StatementExecutor.executeAsync(session, applyIdempotence(bind(preparedStatement, bindValueArray).setPageSize(fetchSize)
+                                                                             .setPagingState(pagingState), statement.isIdempotent()));
+        })
+        .whenComplete((asyncResultSet, throwable) -> {
+          if (throwable == null) {
+            tracker.endExecution(asyncResultSet);
+          } else {
+            tracker.endPhase(prepared.get() ? QueryPhase.EXECUTE : QueryPhase.PREPARE, -1, -1, throwable);
+          }
+        });
+    return StatementExecutor.translateFailure(execution.thenApply(asyncResultSet -> new TranslatingAsyncResultSet(asyncResultSet, statement.getQuery())),
+                                              statement.getQuery());
   }
 
   private void addStatementToBatch(final Batch batch, final SimpleStatement statement, final Object[] bindValueArray) {
-    final PreparedStatement preparedStatement = PreparedStatementFactory.createPreparedStatement(batch.getSession(), statement.getQuery());
-    BoundStatement boundStatement = preparedStatement.bind(bindValueArray);
+    final PreparedStatement preparedStatement;
+    try {
+      preparedStatement = PreparedStatementFactory.createPreparedStatement(batch.getSession(), statement.getQuery());
+    } catch (final RuntimeException e) {
+      throw StatementExecutor.translate(statement.getQuery(), e);
+    }
+    BoundStatement boundStatement = applyIdempotence(bind(preparedStatement, bindValueArray), statement.isIdempotent());
     log.debug("Statement query: {} added to batch", statement.getQuery());
     batch.addStatement(boundStatement);
   }
 
-  private SimpleStatement resolveExecutionContext(SimpleStatement statement) {
+  BoundStatement bind(final PreparedStatement preparedStatement, final Object[] bindValues) {
+    if (!nullValuesUnset) {
+      return preparedStatement.bind(bindValues);
+    }
+    BoundStatementBuilder boundStatementBuilder = preparedStatement.boundStatementBuilder(bindValues);
+    for (int i = 0; i < bindValues.length; i++) {
+      if (bindValues[i] == null) {
+        boundStatementBuilder = boundStatementBuilder.unset(i);
+      }
+    }
+    return boundStatementBuilder.build();
+  }
+
+  /**
+   * Mark statement as idempotent, so that it can be retried or speculatively executed.
+   * Statements of unknown idempotence keep the driver default.
+   */
+  <S extends Statement<S>> S applyIdempotence(S statement, Boolean idempotent) {
+    return idempotent != null ? statement.setIdempotent(idempotent) : statement;
+  }
+
+  <S extends Statement<S>> S resolveExecutionContext(S statement) {
     ExecutionContext execContext = getExecutionContext(); // To simplify tests
     if (execContext.getConsistencyLevel() != null && execContext.getConsistencyLevel() != ConsistencyLevel.NOT_SPECIFIED) {
       statement = statement.setConsistencyLevel(execContext.getConsistencyLevel().getDatastaxConsistencyLevel());
@@ -0,0 +1,91 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Async result set utils methods.
+ *
+ * @author Oussama Markad
+ */
+public class AsyncResultSetUtils {
+
+  /**
+   * Map rows of the current page of an async result set.
+   */
+  public static <T> List<T> mapCurrentPage(final AsyncResultSet asyncResultSet, final Function<Row, T> rowMapper) {
+    List<T> results = new ArrayList<>(asyncResultSet.remaining());
+    for (Row row : asyncResultSet.currentPage()) {
+      results.add(rowMapper.apply(row));
+    }
+    return results;
+  }
+
+  /**
+   * Map rows of all pages of an async result set, next pages are fetched without blocking.
+   */
+  public static <T> CompletionStage<List<T>> mapAllPages(final AsyncResultSet asyncResultSet, final Function<Row, T> rowMapper) {
+    return mapAllPages(asyncResultSet, rowMapper, new ArrayList<>());
+  }
+
+  /**
+   * Execute query and lazily map rows of all pages into a sequential stream, next pages are prefetched in background.
+   */
+  public static <T> Stream<T> stream(final CqlSession session, final Query query, final Function<Row, T> rowMapper) {
+    AsyncResultSet firstPage = await(query.executeAsync(session));
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new PrefetchingPageIterator<>(firstPage, rowMapper), Spliterator.ORDERED), false);
+  }
+
+  /**
+   * Wait for completion stage result, unwrapping runtime exceptions thrown by the driver.
+   */
+  public static <T> T await(final CompletionStage<T> completionStage) {
+    try {
+      return completionStage.toCompletableFuture().join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static <T> CompletionStage<List<T>> mapAllPages(final AsyncResultSet asyncResultSet, final Function<Row, T> rowMapper, final List<T> results) {
+    for (Row row : asyncResultSet.currentPage()) {
+      results.add(rowMapper.apply(row));
+    }
+    if (asyncResultSet.hasMorePages()) {
+      return asyncResultSet.fetchNextPage().thenCompose(nextPage -> mapAllPages(nextPage, rowMapper, results));
+    }
+    return CompletableFuture.completedFuture(results);
+  }
+}
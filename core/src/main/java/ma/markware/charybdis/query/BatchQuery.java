@@ -19,20 +19,36 @@
 
 package ma.markware.charybdis.query;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.context.DriverContext;
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.BatchType;
 import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.google.common.annotations.VisibleForTesting;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.exception.CharybdisUnsupportedOperationException;
+import ma.markware.charybdis.metrics.QueryOperation;
+import ma.markware.charybdis.metrics.QueryPhase;
+import ma.markware.charybdis.metrics.QueryTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Batch query.
+ * When grouping by partition is enabled, statements are grouped by routing key (computed by the driver from the partition key
+ * columns of the table), each group is split according to statements count and serialized size limits,
+ * and the resulting sub-batches are executed concurrently.
  *
  * @author Oussama Markad
  */
@@ -40,9 +56,18 @@ public class BatchQuery {
 
   private static final Logger log = LoggerFactory.getLogger(BatchQuery.class);
 
+  public static final int DEFAULT_MAX_STATEMENTS_PER_BATCH = 100;
+  // Default value of cassandra 'batch_size_warn_threshold_in_kb'
+  public static final int DEFAULT_MAX_BATCH_SIZE_IN_BYTES = 5 * 1024;
+
+  private static final String GROUP_BY_PARTITION_IN_LOGGED_BATCH_MESSAGE = "Grouping statements by partition is not supported in logged batches";
+
   private boolean isLogged;
   private List<BatchableStatement<?>> statements = new ArrayList<>();
   private Long timestamp;
+  private boolean groupByPartition;
+  private int maxStatementsPerBatch = DEFAULT_MAX_STATEMENTS_PER_BATCH;
+  private int maxBatchSizeInBytes = DEFAULT_MAX_BATCH_SIZE_IN_BYTES;
 
   private final ExecutionContext executionContext;
 
@@ -51,6 +76,9 @@ public class BatchQuery {
   }
 
   public void setLogged() {
+    if (groupByPartition) {
+      throw new CharybdisUnsupportedOperationException(GROUP_BY_PARTITION_IN_LOGGED_BATCH_MESSAGE);
+    }
     this.isLogged = true;
   }
 
@@ -62,6 +90,24 @@ public class BatchQuery {
     this.timestamp = timestamp;
   }
 
+  /**
+   * Enable grouping statements by partition, only unlogged batches can be split without losing atomicity guarantees.
+   *
+   * @param maxStatementsPerBatch maximum number of statements in a sub-batch.
+   * @param maxBatchSizeInBytes maximum serialized size of a sub-batch, a statement exceeding this limit is sent alone.
+   */
+  public void setGroupByPartition(int maxStatementsPerBatch, int maxBatchSizeInBytes) {
+    if (isLogged) {
+      throw new CharybdisUnsupportedOperationException(GROUP_BY_PARTITION_IN_LOGGED_BATCH_MESSAGE);
+    }
+    if (maxStatementsPerBatch <= 0 || maxBatchSizeInBytes <= 0) {
+      throw new IllegalArgumentException("Batch limits must be strictly positive");
+    }
+    this.groupByPartition = true;
+    this.maxStatementsPerBatch = maxStatementsPerBatch;
+    this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+  }
+
   public void addStatement(BatchableStatement<?> statement) {
     statements.add(statement);
   }
@@ -71,6 +117,82 @@ public class BatchQuery {
   }
 
   public void execute(final CqlSession session) {
+    if (groupByPartition) {
+      AsyncResultSetUtils.await(executeAsync(session));
+      return;
+    }
+    BatchStatement batchStatement = buildBatchStatement(statements);
+
+    clearStatements();
+
+    executeBatchStatement(session, batchStatement);
+  }
+
+  public CompletionStage<Void> executeAsync(final CqlSession session) {
+    if (groupByPartition) {
+      List<List<BatchableStatement<?>>> subBatches = groupByPartition(statements, session.getContext(), maxStatementsPerBatch, maxBatchSizeInBytes);
+      clearStatements();
+      log.debug("Batch split into {} sub-batches", subBatches.size());
+      CompletableFuture<?>[] subBatchExecutions = new CompletableFuture<?>[subBatches.size()];
+      for (int i = 0; i < subBatchExecutions.length; i++) {
+        subBatchExecutions[i] = executeBatchStatementAsync(session, resolveExecutionContext(buildBatchStatement(subBatches.get(i)))).toCompletableFuture();
+      }
+      return CompletableFuture.allOf(subBatchExecutions);
+    }
+
+    BatchStatement batchStatement = resolveExecutionContext(buildBatchStatement(statements));
+
+    clearStatements();
+
+    return executeBatchStatementAsync(session, batchStatement);
+  }
+
+  private CompletionStage<Void> executeBatchStatementAsync(final CqlSession session, final BatchStatement batchStatement) {
+    QueryTracker tracker = QueryTracker.start(session, null, null, QueryOperation.BATCH);
+    CompletionStage<Void> execution = StatementExecutor.executeAsync(session, batchStatement)
+        .whenComplete((asyncResultSet, throwable) -> {
+          tracker.endPhase(QueryPhase.EXECUTE, batchStatement.size(), -1, throwable);
+          if (throwable == null) {
+            log.debug("Batch applied => {}", asyncResultSet.wasApplied());
+          }
+        })
+        .thenApply(asyncResultSet -> null);
+    return StatementExecutor.translateFailure(execution, "batch query");
+  }
+
+  /**
+   * Group statements targeting the same partition, and split each group into sub-batches respecting the given limits.
+   * Statements with no routing information are grouped together. Statements order is kept inside each group.
+   */
+  @VisibleForTesting
+  static List<List<BatchableStatement<?>>> groupByPartition(final List<BatchableStatement<?>> statements, final DriverContext driverContext,
+      final int maxStatementsPerBatch, final int maxBatchSizeInBytes) {
+    Map<PartitionKey, List<BatchableStatement<?>>> statementsByPartition = new LinkedHashMap<>();
+    for (BatchableStatement<?> statement : statements) {
+      statementsByPartition.computeIfAbsent(new PartitionKey(statement.getRoutingKeyspace(), statement.getRoutingKey()), key -> new ArrayList<>())
+                           .add(statement);
+    }
+
+    List<List<BatchableStatement<?>>> subBatches = new ArrayList<>();
+    for (List<BatchableStatement<?>> partitionStatements : statementsByPartition.values()) {
+      List<BatchableStatement<?>> subBatch = new ArrayList<>();
+      int subBatchSize = 0;
+      for (BatchableStatement<?> statement : partitionStatements) {
+        int statementSize = driverContext != null ? statement.computeSizeInBytes(driverContext) : 0;
+        if (!subBatch.isEmpty() && (subBatch.size() >= maxStatementsPerBatch || subBatchSize + statementSize > maxBatchSizeInBytes)) {
+          subBatches.add(subBatch);
+          subBatch = new ArrayList<>();
+          subBatchSize = 0;
+        }
+        subBatch.add(statement);
+        subBatchSize += statementSize;
+      }
+      subBatches.add(subBatch);
+    }
+    return subBatches;
+  }
+
+  private BatchStatement buildBatchStatement(final List<BatchableStatement<?>> statements) {
     BatchStatementBuilder builder;
     if (isLogged) {
       builder = BatchStatement.builder(BatchType.LOGGED);
@@ -80,24 +202,28 @@ public class BatchQuery {
 
     builder.addStatements(statements);
 
+    // A batch is idempotent if all its statements are
+    if (!statements.isEmpty() && statements.stream().allMatch(statement -> Boolean.TRUE.equals(statement.isIdempotent()))) {
+      builder.setIdempotence(true);
+    }
+
     if (timestamp != null) {
       builder.setQueryTimestamp(timestamp);
     }
 
-    BatchStatement batchStatement = builder.build();
-
-    executeBatchStatement(session, batchStatement);
-
-    clearStatements();
+    return builder.build();
   }
 
   private void executeBatchStatement(final CqlSession session, BatchStatement batchStatement) {
+    QueryTracker tracker = QueryTracker.start(session, null, null, QueryOperation.BATCH);
+    batchStatement = resolveExecutionContext(batchStatement);
     try {
-      batchStatement = resolveExecutionContext(batchStatement);
-      ResultSet resultSet = session.execute(batchStatement);
+      ResultSet resultSet = StatementExecutor.execute(session, batchStatement);
+      tracker.endPhase(QueryPhase.EXECUTE, batchStatement.size(), -1, null);
       log.debug("Batch applied => {}", resultSet.wasApplied());
-    } catch (final Exception e) {
-      log.error("Error executing batch query", e);
+    } catch (final RuntimeException e) {
+      tracker.endPhase(QueryPhase.EXECUTE, batchStatement.size(), -1, e);
+      throw StatementExecutor.translate("batch query", e);
     }
   }
 
@@ -111,4 +237,32 @@ public class BatchQuery {
     }
     return statement;
   }
+
+  private static class PartitionKey {
+
+    private final CqlIdentifier keyspace;
+    private final ByteBuffer routingKey;
+
+    private PartitionKey(final CqlIdentifier keyspace, final ByteBuffer routingKey) {
+      this.keyspace = keyspace;
+      this.routingKey = routingKey;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PartitionKey)) {
+        return false;
+      }
+      final PartitionKey that = (PartitionKey) o;
+      return Objects.equals(keyspace, that.keyspace) && Objects.equals(routingKey, that.routingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(keyspace, routingKey);
+    }
+  }
 }
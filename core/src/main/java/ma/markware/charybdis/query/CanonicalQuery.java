@@ -0,0 +1,206 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.batch.Batch;
+import ma.markware.charybdis.metrics.QueryOperation;
+import ma.markware.charybdis.metrics.QueryPhase;
+import ma.markware.charybdis.metrics.QueryTracker;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Query bound against a canonical Cql statement generated at compile time
+ * (see {@link ma.markware.charybdis.model.field.metadata.TableMetadata#getInsertQuery()}).
+ * No statement is built nor rendered on execution, and the prepared statement is resolved once per session.
+ *
+ * @author Oussama Markad
+ */
+public class CanonicalQuery extends AbstractQuery {
+
+  private static final Logger log = LoggerFactory.getLogger(CanonicalQuery.class);
+
+  private String keyspace;
+  private String table;
+  private QueryOperation operation;
+  private String query;
+  private Object[] bindValues;
+
+  public CanonicalQuery(@Nonnull ExecutionContext executionContext) {
+    super(executionContext);
+  }
+
+  public CanonicalQuery() {
+    super(new ExecutionContext());
+  }
+
+  @Override
+  public String getKeyspace() {
+    return keyspace;
+  }
+
+  @Override
+  public String getTable() {
+    return table;
+  }
+
+  @Override
+  public QueryOperation getOperation() {
+    return operation;
+  }
+
+  /**
+   * Specify table and type of canonical queries, reported to query listeners.
+   */
+  public void setTable(TableMetadata<?> tableMetadata, QueryOperation operation) {
+    this.keyspace = tableMetadata.getKeyspaceName();
+    this.table = tableMetadata.getTableName();
+    this.operation = operation;
+  }
+
+  public String getQuery() {
+    return query;
+  }
+
+  public Object[] getBindValues() {
+    return bindValues;
+  }
+
+  public void setQuery(String query, Object[] bindValues) {
+    this.query = query;
+    this.bindValues = bindValues;
+  }
+
+  /**
+   * Set canonical query, bind values are picked from serialized column values following bind column names order.
+   */
+  @SafeVarargs
+  public final void setQuery(String query, Map<String, Object> columnValues, List<String>... bindColumnNames) {
+    int bindValuesSize = 0;
+    for (List<String> columnNames : bindColumnNames) {
+      bindValuesSize += columnNames.size();
+    }
+    Object[] bindValues = new Object[bindValuesSize];
+    int bindIndex = 0;
+    for (List<String> columnNames : bindColumnNames) {
+      for (String columnName : columnNames) {
+        bindValues[bindIndex++] = columnValues.get(columnName);
+      }
+    }
+    setQuery(query, bindValues);
+  }
+
+  /**
+   * @return true if all given columns have a non null value.
+   */
+  public static boolean hasValues(Map<String, Object> columnValues, List<String> columnNames) {
+    for (String columnName : columnNames) {
+      if (columnValues.get(columnName) == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public StatementTuple buildStatement() {
+    return new StatementTuple(SimpleStatement.newInstance(query), bindValues);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ResultSet execute(final CqlSession session) {
+    QueryTracker tracker = QueryTracker.start(session, keyspace, table, operation);
+    PreparedStatement preparedStatement = null;
+    try {
+      preparedStatement = PreparedStatementFactory.getCanonicalPreparedStatement(session, query);
+      tracker.endPhase(QueryPhase.PREPARE);
+      final BoundStatement boundStatement = resolveExecutionContext(applyIdempotence(bind(preparedStatement, bindValues), isIdempotent()));
+      ResultSet resultSet = StatementExecutor.execute(session, boundStatement);
+      tracker.endExecution(resultSet);
+      return new TranslatingResultSet(resultSet, query);
+    } catch (final RuntimeException e) {
+      tracker.endPhase(preparedStatement == null ? QueryPhase.PREPARE : QueryPhase.EXECUTE, -1, -1, e);
+      throw StatementExecutor.translate(query, e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletionStage<AsyncResultSet> executeAsync(final CqlSession session) {
+    QueryTracker tracker = QueryTracker.start(session, keyspace, table, operation);
+    AtomicBoolean prepared = new AtomicBoolean();
+    CompletionStage<AsyncResultSet> execution = PreparedStatementFactory.getCanonicalPreparedStatementAsync(session, query)
+        .thenCompose(preparedStatement -> {
+          prepared.set(true);
+          tracker.endPhase(QueryPhase.PREPARE);
+          return StatementExecutor.executeAsync(session, resolveExecutionContext(applyIdempotence(bind(preparedStatement, bindValues), isIdempotent())));
+        })
+        .whenComplete((asyncResultSet, throwable) -> {
+          if (throwable == null) {
+            tracker.endExecution(asyncResultSet);
+          } else {
+            tracker.endPhase(prepared.get() ? QueryPhase.EXECUTE : QueryPhase.PREPARE, -1, -1, throwable);
+          }
+        });
+    return StatementExecutor.translateFailure(execution.thenApply(asyncResultSet -> new TranslatingAsyncResultSet(asyncResultSet, query)), query);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addToBatch(final Batch batch) {
+    final PreparedStatement preparedStatement;
+    try {
+      preparedStatement = PreparedStatementFactory.getCanonicalPreparedStatement(batch.getSession(), query);
+    } catch (final RuntimeException e) {
+      throw StatementExecutor.translate(query, e);
+    }
+    log.debug("Statement query: {} added to batch", query);
+    batch.addStatement(applyIdempotence(bind(preparedStatement, bindValues), isIdempotent()));
+  }
+
+  /**
+   * Canonical writes have no fixed timestamp, only reads are known to be idempotent.
+   */
+  private Boolean isIdempotent() {
+    return operation == QueryOperation.SELECT ? Boolean.TRUE : null;
+  }
+}
@@ -30,6 +30,7 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.metrics.QueryOperation;
 import ma.markware.charybdis.model.criteria.CriteriaExpression;
 import ma.markware.charybdis.model.field.DeletableField;
 import ma.markware.charybdis.model.field.metadata.TableMetadata;
@@ -66,6 +67,11 @@ public class DeleteQuery extends AbstractQuery {
     return table;
   }
 
+  @Override
+  public QueryOperation getOperation() {
+    return QueryOperation.DELETE;
+  }
+
   public List<Selector> getSelectors() {
     return selectors;
   }
@@ -130,6 +136,8 @@ public class DeleteQuery extends AbstractQuery {
     delete = delete.if_(QueryHelper.extractConditions(conditionClauses));
 
     SimpleStatement simpleStatement = delete.build();
+    // Without a fixed timestamp, a retried write could overwrite more recent values
+    simpleStatement = simpleStatement.setIdempotent(timestamp != null && conditionClauses.isEmpty() ? Boolean.TRUE : null);
     return new StatementTuple(simpleStatement, Stream.of(QueryHelper.extractWhereBindValues(whereClauses),
                                                                 QueryHelper.extractConditionBindValues(conditionClauses))
                                                             .flatMap(Function.identity())
@@ -28,10 +28,12 @@ import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import javax.annotation.Nonnull;
 import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.metrics.QueryOperation;
 import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.TableMetadata;
 import org.apache.commons.lang3.StringUtils;
@@ -67,6 +69,11 @@ public class InsertQuery extends AbstractQuery {
     return table;
   }
 
+  @Override
+  public QueryOperation getOperation() {
+    return QueryOperation.INSERT;
+  }
+
   public ColumnNameValueMapping getColumnNameValueMapping() {
     return columnNameValueMapping;
   }
@@ -109,6 +116,15 @@ public class InsertQuery extends AbstractQuery {
     }
   }
 
+  /**
+   * Set serialized values of columns, column names and values share the same order.
+   */
+  public void setColumnNamesAndValues(List<String> columnNames, Object[] values) {
+    for (int i = 0; i < values.length; i++) {
+      columnNameValueMapping.setColumnNameAndValue(columnNames.get(i), values[i]);
+    }
+  }
+
   public <D, S> void setSet(ColumnMetadata<D, S> columnMetadata, D value) {
     columnNameValueMapping.setColumnNameAndValue(columnMetadata.getName(), columnMetadata.serialize(value));
   }
@@ -160,6 +176,8 @@ public class InsertQuery extends AbstractQuery {
     }
 
     SimpleStatement simpleStatement = insert.build();
+    // Without a fixed timestamp, a retried write could overwrite more recent values
+    simpleStatement = simpleStatement.setIdempotent(timestamp != null && !ifNotExists ? Boolean.TRUE : null);
     return new StatementTuple(simpleStatement, bindValueArray);
   }
 
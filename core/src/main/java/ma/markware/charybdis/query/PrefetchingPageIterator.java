@@ -0,0 +1,77 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Lazy iterator over all pages of an async result set.
+ * Rows are mapped one by one, and the next page is fetched in background
+ * as soon as the current page is reached, so only two pages are held in memory at most.
+ *
+ * @param <T> type of mapped rows.
+ *
+ * @author Oussama Markad
+ */
+public class PrefetchingPageIterator<T> implements Iterator<T> {
+
+  private final Function<Row, T> rowMapper;
+  private Iterator<Row> currentRows;
+  private CompletionStage<AsyncResultSet> nextPage;
+
+  public PrefetchingPageIterator(final AsyncResultSet firstPage, final Function<Row, T> rowMapper) {
+    this.rowMapper = rowMapper;
+    moveToPage(firstPage);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasNext() {
+    while (!currentRows.hasNext()) {
+      if (nextPage == null) {
+        return false;
+      }
+      moveToPage(AsyncResultSetUtils.await(nextPage));
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return rowMapper.apply(currentRows.next());
+  }
+
+  private void moveToPage(final AsyncResultSet page) {
+    currentRows = page.currentPage().iterator();
+    nextPage = page.hasMorePages() ? page.fetchNextPage() : null;
+  }
+}
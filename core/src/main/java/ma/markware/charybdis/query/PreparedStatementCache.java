@@ -0,0 +1,53 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import ma.markware.charybdis.cache.LRUCacheStatisticsMXBean;
+
+/**
+ * Prepared statements cache settings and statistics, by session.
+ *
+ * @author Oussama Markad
+ */
+public final class PreparedStatementCache {
+
+  private PreparedStatementCache() {
+  }
+
+  /**
+   * Give a session its own prepared statements cache, instead of the default cache shared by sessions.
+   *
+   * @param sessionName cql session name.
+   * @param maxCapacity number of statements above which least recently used ones are evicted.
+   */
+  public static void configure(final String sessionName, final int maxCapacity) {
+    PreparedStatementFactory.configureCache(sessionName, maxCapacity);
+  }
+
+  /**
+   * Statistics of the prepared statements cache used by a session.
+   * High miss or eviction counts usually point at queries with unbounded variants (e.g. variable-length IN lists).
+   *
+   * @param sessionName cql session name.
+   * @return cache statistics.
+   */
+  public static LRUCacheStatisticsMXBean getStatistics(final String sessionName) {
+    return PreparedStatementFactory.getCacheStatistics(sessionName);
+  }
+}
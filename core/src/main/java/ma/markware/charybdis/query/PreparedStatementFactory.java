@@ -20,12 +20,22 @@ package ma.markware.charybdis.query;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.google.common.annotations.VisibleForTesting;
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 import javax.cache.Cache;
 import javax.cache.CacheManager;
 import ma.markware.charybdis.cache.CacheConfiguration;
 import ma.markware.charybdis.cache.CacheManagerFactory;
+import ma.markware.charybdis.cache.LRUCacheStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,31 +51,239 @@ class PreparedStatementFactory {
   static final CacheManager CACHE_MANAGER = CacheManagerFactory.getCacheManager();
   static final String CACHE_NAME = "charybdis_prepared_statements";
 
+  /**
+   * Max capacities of sessions having their own prepared statements cache, by session name.
+   * Other sessions share the default cache.
+   */
+  private static final ConcurrentMap<String, Integer> CACHE_CAPACITIES = new ConcurrentHashMap<>();
+
+  /**
+   * Prepared statements of canonical queries generated at compile time, by session name.
+   * They are bounded by the number of tables, hence never evicted.
+   */
+  private static final ConcurrentMap<String, ConcurrentMap<String, PreparedStatement>> CANONICAL_STATEMENTS = new ConcurrentHashMap<>();
+
+  /**
+   * Preparations in progress, shared by concurrent callers of the same query on the same session.
+   */
+  private static final ConcurrentMap<CacheKey, CompletableFuture<PreparedStatement>> IN_FLIGHT_PREPARATIONS = new ConcurrentHashMap<>();
+
   /**
    * Create prepared statement.
+   * Concurrent misses on the same query are coalesced into a single preparation.
    */
   static PreparedStatement createPreparedStatement(final CqlSession session, final String query) {
-    Cache<CacheKey, PreparedStatement> preparedStatementCache = resolveCache();
+    Cache<CacheKey, PreparedStatement> preparedStatementCache = resolveCache(session);
     final CacheKey cacheKey = new CacheKey(session.getName(), query);
     PreparedStatement preparedStatement = preparedStatementCache.get(cacheKey);
-    if (preparedStatement == null) {
-      log.debug("New Prepared statement (will be stored in cache)");
-      log.debug("Query : {}", query);
-      preparedStatement = session.prepare(query);
+    if (preparedStatement != null) {
+      return preparedStatement;
+    }
+    return prepareOnce(session, cacheKey, () -> peek(preparedStatementCache, cacheKey),
+                       newPreparedStatement -> preparedStatementCache.put(cacheKey, newPreparedStatement),
+                       preparedStatementCache.unwrap(LRUCacheStatistics.class)::recordLoad);
+  }
+
+  /**
+   * Create prepared statement asynchronously.
+   * Concurrent misses on the same query are coalesced into a single preparation.
+   */
+  static CompletionStage<PreparedStatement> createPreparedStatementAsync(final CqlSession session, final String query) {
+    Cache<CacheKey, PreparedStatement> preparedStatementCache = resolveCache(session);
+    final CacheKey cacheKey = new CacheKey(session.getName(), query);
+    PreparedStatement preparedStatement = preparedStatementCache.get(cacheKey);
+    if (preparedStatement != null) {
+      return CompletableFuture.completedFuture(preparedStatement);
+    }
+    return prepareOnceAsync(session, cacheKey, () -> peek(preparedStatementCache, cacheKey),
+                            newPreparedStatement -> preparedStatementCache.put(cacheKey, newPreparedStatement),
+                            preparedStatementCache.unwrap(LRUCacheStatistics.class)::recordLoad);
+  }
+
+  /**
+   * Resolve prepared statement of a canonical query, it is prepared once per session.
+   * Canonical queries are compile-time constants, so lookups don't need any cache key allocation nor query hashing.
+   */
+  static PreparedStatement getCanonicalPreparedStatement(final CqlSession session, final String query) {
+    final ConcurrentMap<String, PreparedStatement> sessionStatements = resolveCanonicalStatements(session);
+    PreparedStatement preparedStatement = sessionStatements.get(query);
+    if (preparedStatement != null) {
+      return preparedStatement;
+    }
+    return prepareOnce(session, new CacheKey(session.getName(), query), () -> sessionStatements.get(query),
+                       newPreparedStatement -> sessionStatements.put(query, newPreparedStatement), duration -> {});
+  }
+
+  /**
+   * Resolve prepared statement of a canonical query asynchronously, it is prepared once per session.
+   */
+  static CompletionStage<PreparedStatement> getCanonicalPreparedStatementAsync(final CqlSession session, final String query) {
+    final ConcurrentMap<String, PreparedStatement> sessionStatements = resolveCanonicalStatements(session);
+    PreparedStatement preparedStatement = sessionStatements.get(query);
+    if (preparedStatement != null) {
+      return CompletableFuture.completedFuture(preparedStatement);
+    }
+    return prepareOnceAsync(session, new CacheKey(session.getName(), query), () -> sessionStatements.get(query),
+                            newPreparedStatement -> sessionStatements.put(query, newPreparedStatement), duration -> {});
+  }
+
+  /**
+   * Prepare statement unless a preparation of the same query is already in flight, in which case its result is awaited.
+   */
+  private static PreparedStatement prepareOnce(final CqlSession session, final CacheKey cacheKey, final Supplier<PreparedStatement> lookup,
+      final Consumer<PreparedStatement> store, final LongConsumer preparationDurationRecorder) {
+    final CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+    final CompletableFuture<PreparedStatement> inFlightPreparation = IN_FLIGHT_PREPARATIONS.putIfAbsent(cacheKey, preparation);
+    if (inFlightPreparation != null) {
+      return AsyncResultSetUtils.await(inFlightPreparation);
+    }
+    try {
+      // Statement may have been stored by a preparation that completed in the meantime
+      PreparedStatement preparedStatement = lookup.get();
+      if (preparedStatement == null) {
+        log.debug("New Prepared statement (will be stored in cache)");
+        log.debug("Query : {}", cacheKey.query);
+        final long start = System.nanoTime();
+        preparedStatement = session.prepare(cacheKey.query);
+        preparationDurationRecorder.accept(System.nanoTime() - start);
+        store.accept(preparedStatement);
+      }
+      preparation.complete(preparedStatement);
+      return preparedStatement;
+    } catch (final RuntimeException e) {
+      preparation.completeExceptionally(e);
+      throw e;
+    } finally {
+      IN_FLIGHT_PREPARATIONS.remove(cacheKey, preparation);
+    }
+  }
+
+  /**
+   * Prepare statement asynchronously unless a preparation of the same query is already in flight, in which case it is shared.
+   */
+  private static CompletionStage<PreparedStatement> prepareOnceAsync(final CqlSession session, final CacheKey cacheKey,
+      final Supplier<PreparedStatement> lookup, final Consumer<PreparedStatement> store, final LongConsumer preparationDurationRecorder) {
+    final CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+    final CompletableFuture<PreparedStatement> inFlightPreparation = IN_FLIGHT_PREPARATIONS.putIfAbsent(cacheKey, preparation);
+    if (inFlightPreparation != null) {
+      // Dependent stage, so that a caller completing or cancelling its own future does not affect other callers
+      return inFlightPreparation.thenApply(Function.identity());
+    }
+    // Statement may have been stored by a preparation that completed in the meantime
+    PreparedStatement preparedStatement = lookup.get();
+    if (preparedStatement != null) {
+      IN_FLIGHT_PREPARATIONS.remove(cacheKey, preparation);
+      preparation.complete(preparedStatement);
+      return preparation;
+    }
+    log.debug("New Prepared statement (will be stored in cache)");
+    log.debug("Query : {}", cacheKey.query);
+    final long start = System.nanoTime();
+    try {
+      session.prepareAsync(cacheKey.query).whenComplete((newPreparedStatement, throwable) -> {
+        if (throwable == null) {
+          preparationDurationRecorder.accept(System.nanoTime() - start);
+          store.accept(newPreparedStatement);
+        }
+        IN_FLIGHT_PREPARATIONS.remove(cacheKey, preparation);
+        if (throwable == null) {
+          preparation.complete(newPreparedStatement);
+        } else {
+          preparation.completeExceptionally(throwable);
+        }
+      });
+    } catch (final RuntimeException e) {
+      IN_FLIGHT_PREPARATIONS.remove(cacheKey, preparation);
+      preparation.completeExceptionally(e);
+    }
+    return preparation.thenApply(Function.identity());
+  }
 
-      preparedStatementCache.put(cacheKey, preparedStatement);
+  /**
+   * Look up a statement without counting a second miss in cache statistics.
+   */
+  private static PreparedStatement peek(final Cache<CacheKey, PreparedStatement> preparedStatementCache, final CacheKey cacheKey) {
+    return preparedStatementCache.containsKey(cacheKey) ? preparedStatementCache.get(cacheKey) : null;
+  }
+
+  private static ConcurrentMap<String, PreparedStatement> resolveCanonicalStatements(final CqlSession session) {
+    return CANONICAL_STATEMENTS.computeIfAbsent(session.getName(), sessionName -> new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Forget canonical prepared statements of all sessions, so that they are prepared again on next use.
+   */
+  @VisibleForTesting
+  static void clearCanonicalStatements() {
+    CANONICAL_STATEMENTS.clear();
+  }
+
+  /**
+   * Give a session its own prepared statements cache, evicting least recently used statements above max capacity.
+   * Statements cached so far for this session with a different capacity are dropped.
+   */
+  static synchronized void configureCache(final String sessionName, final int maxCapacity) {
+    if (maxCapacity <= 0) {
+      throw new IllegalArgumentException("prepared statements cache max capacity should be positive");
+    }
+    final Integer previousMaxCapacity = CACHE_CAPACITIES.put(sessionName, maxCapacity);
+    if (previousMaxCapacity != null && previousMaxCapacity != maxCapacity) {
+      // Swap caches while holding the lock, lookups never see the session without a cache
+      CACHE_MANAGER.destroyCache(resolveCacheName(sessionName));
+      createCache(sessionName);
     }
-    return preparedStatement;
   }
 
-  private static Cache<CacheKey, PreparedStatement> resolveCache() {
-    Cache<CacheKey, PreparedStatement> cache = CACHE_MANAGER.getCache(CACHE_NAME);
+  /**
+   * Resolve statistics of the prepared statements cache used by a session.
+   */
+  static LRUCacheStatistics getCacheStatistics(final String sessionName) {
+    return resolveCache(sessionName).unwrap(LRUCacheStatistics.class);
+  }
+
+  private static Cache<CacheKey, PreparedStatement> resolveCache(final CqlSession session) {
+    return resolveCache(session.getName());
+  }
+
+  private static Cache<CacheKey, PreparedStatement> resolveCache(final String sessionName) {
+    final Cache<CacheKey, PreparedStatement> cache = CACHE_MANAGER.getCache(resolveCacheName(sessionName, resolveMaxCapacity(sessionName)));
+    if (cache == null || cache.isClosed()) {
+      return createCache(sessionName);
+    }
+    return cache;
+  }
+
+  /**
+   * Look up or create the cache of a session, serialized with {@link #configureCache(String, int)}:
+   * a cache is never created with a capacity being replaced, nor created twice.
+   */
+  private static synchronized Cache<CacheKey, PreparedStatement> createCache(final String sessionName) {
+    final Integer maxCapacity = resolveMaxCapacity(sessionName);
+    final String cacheName = resolveCacheName(sessionName, maxCapacity);
+    Cache<CacheKey, PreparedStatement> cache = CACHE_MANAGER.getCache(cacheName);
     if (cache == null || cache.isClosed()) {
-      cache = CACHE_MANAGER.createCache(CACHE_NAME, new CacheConfiguration<>(CacheKey.class, PreparedStatement.class));
+      CacheConfiguration<CacheKey, PreparedStatement> cacheConfiguration = maxCapacity == null
+          ? new CacheConfiguration<>(CacheKey.class, PreparedStatement.class, CacheConfiguration.DEFAULT_INITIAL_CAPACITY,
+                                     CacheConfiguration.DEFAULT_MAX_CAPACITY, true)
+          : new CacheConfiguration<>(CacheKey.class, PreparedStatement.class, CacheConfiguration.DEFAULT_INITIAL_CAPACITY, maxCapacity,
+                                     true);
+      cache = CACHE_MANAGER.createCache(cacheName, cacheConfiguration);
     }
     return cache;
   }
 
+  private static Integer resolveMaxCapacity(final String sessionName) {
+    return sessionName == null ? null : CACHE_CAPACITIES.get(sessionName);
+  }
+
+  private static String resolveCacheName(final String sessionName, final Integer maxCapacity) {
+    return maxCapacity == null ? CACHE_NAME : resolveCacheName(sessionName);
+  }
+
+  private static String resolveCacheName(final String sessionName) {
+    return CACHE_NAME + "_" + sessionName;
+  }
+
   static class CacheKey implements Serializable {
 
     private final String sessionName;
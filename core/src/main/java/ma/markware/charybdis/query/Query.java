@@ -19,7 +19,9 @@
 package ma.markware.charybdis.query;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
+import java.util.concurrent.CompletionStage;
 import ma.markware.charybdis.batch.Batch;
 
 /**
@@ -41,6 +43,11 @@ public interface Query {
    */
   ResultSet execute(final CqlSession session);
 
+  /**
+   * Execute query asynchronously and return first page of results.
+   */
+  CompletionStage<AsyncResultSet> executeAsync(final CqlSession session);
+
   /**
    * Add query to batch.
    */
@@ -0,0 +1,114 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.connection.ClosedConnectionException;
+import com.datastax.oss.driver.api.core.connection.HeartbeatException;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.servererrors.BootstrappingException;
+import com.datastax.oss.driver.api.core.servererrors.OverloadedException;
+import com.datastax.oss.driver.api.core.servererrors.ReadTimeoutException;
+import com.datastax.oss.driver.api.core.servererrors.UnavailableException;
+import com.datastax.oss.driver.api.core.servererrors.WriteTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retry policy of idempotent queries, by session.
+ * A retried query is sent as a new request, the driver load balancing policy usually picks another coordinator.
+ * <p>
+ * Only statements marked as idempotent are retried: reads, and writes with a fixed timestamp that are neither lightweight transactions
+ * nor counter updates nor list appends. Driver speculative executions (configured in driver execution profiles) apply to the same statements.
+ *
+ * @author Oussama Markad
+ */
+public class QueryRetryPolicy {
+
+  /**
+   * Policy of sessions having no retry policy configured: errors are thrown right away.
+   */
+  public static final QueryRetryPolicy NONE = new QueryRetryPolicy(0);
+
+  private static final Map<String, QueryRetryPolicy> POLICIES = new ConcurrentHashMap<>();
+  private static volatile boolean configured;
+
+  private final int maxRetries;
+
+  /**
+   * @param maxRetries maximum number of retries of a failed idempotent query.
+   */
+  public QueryRetryPolicy(final int maxRetries) {
+    if (maxRetries < 0) {
+      throw new IllegalArgumentException("max retries should not be negative");
+    }
+    this.maxRetries = maxRetries;
+  }
+
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /**
+   * Set the retry policy of a session.
+   *
+   * @param sessionName cql session name.
+   * @param retryPolicy retry policy of idempotent queries executed by this session.
+   */
+  public static void configure(final String sessionName, final QueryRetryPolicy retryPolicy) {
+    POLICIES.put(sessionName, retryPolicy);
+    configured = true;
+  }
+
+  /**
+   * @return retry policy of session, {@link #NONE} if no policy was configured.
+   */
+  static QueryRetryPolicy get(final CqlSession session) {
+    if (!configured) {
+      return NONE;
+    }
+    String sessionName = session.getName();
+    QueryRetryPolicy retryPolicy = sessionName != null ? POLICIES.get(sessionName) : null;
+    return retryPolicy != null ? retryPolicy : NONE;
+  }
+
+  /**
+   * @param statement failed statement.
+   * @param error error raised by the driver.
+   * @param retryCount number of retries already done.
+   * @return true if statement should be executed again.
+   */
+  boolean shouldRetry(final Statement<?> statement, final Throwable error, final int retryCount) {
+    return retryCount < maxRetries && Boolean.TRUE.equals(statement.isIdempotent()) && isRetryable(error);
+  }
+
+  /**
+   * Errors that are likely to be transient, or specific to the coordinator that handled the query.
+   * Override to retry on other errors.
+   *
+   * @param error error raised by the driver.
+   * @return true if a query failing with this error can be retried.
+   */
+  protected boolean isRetryable(final Throwable error) {
+    return error instanceof DriverTimeoutException || error instanceof ReadTimeoutException || error instanceof WriteTimeoutException
+        || error instanceof UnavailableException || error instanceof OverloadedException || error instanceof BootstrappingException
+        || error instanceof ClosedConnectionException || error instanceof HeartbeatException;
+  }
+}
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.metrics.QueryOperation;
 import ma.markware.charybdis.model.criteria.CriteriaExpression;
 import ma.markware.charybdis.model.field.SelectableField;
 import ma.markware.charybdis.model.field.metadata.PartitionKeyColumnMetadata;
@@ -70,6 +71,11 @@ public class SelectQuery extends AbstractQuery {
     return table;
   }
 
+  @Override
+  public QueryOperation getOperation() {
+    return QueryOperation.SELECT;
+  }
+
   public boolean isDistinct() {
     return isDistinct;
   }
@@ -171,7 +177,7 @@ public class SelectQuery extends AbstractQuery {
       select = select.allowFiltering();
     }
 
-    SimpleStatement simpleStatement = select.build();
+    SimpleStatement simpleStatement = select.build().setIdempotent(true);
     Object[] bindValues = QueryHelper.extractWhereBindValues(whereClauses).toArray();
     if (pageRequest != null) {
       return new StatementTuple(simpleStatement, pageRequest.getFetchSize(), pageRequest.getPagingState(), bindValues);
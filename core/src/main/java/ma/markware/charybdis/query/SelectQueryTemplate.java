@@ -0,0 +1,161 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import static java.lang.String.format;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import java.util.ArrayList;
+import java.util.List;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.exception.CharybdisUnsupportedOperationException;
+import ma.markware.charybdis.model.criteria.CriteriaExpression;
+import ma.markware.charybdis.model.criteria.CriteriaOperator;
+import ma.markware.charybdis.model.field.criteria.CriteriaField;
+import ma.markware.charybdis.model.field.metadata.MapColumnMetadata;
+import ma.markware.charybdis.query.clause.WhereClause;
+
+/**
+ * Select query whose statement is built and rendered once, then bound with new values on each execution.
+ * Each where clause is a positional parameter, values given while building the query are ignored.
+ * Immutable, hence safe to share between threads.
+ *
+ * @author Oussama Markad
+ */
+public class SelectQueryTemplate {
+
+  private final String keyspace;
+  private final String table;
+  private final SimpleStatement statement;
+  private final CriteriaExpression[] parameters;
+
+  public SelectQueryTemplate(final SelectQuery selectQuery) {
+    if (selectQuery.getPageRequest() != null) {
+      throw new IllegalArgumentException("Page request should be given when fetching a query template, not when building it");
+    }
+    this.keyspace = selectQuery.getKeyspace();
+    this.table = selectQuery.getTable();
+    this.statement = selectQuery.resolveExecutionContext(selectQuery.buildStatement().getSimpleStatement());
+    List<CriteriaExpression> parameters = new ArrayList<>();
+    for (WhereClause whereClause : selectQuery.getWhereClauses()) {
+      CriteriaExpression criteriaExpression = whereClause.getCriteriaExpression();
+      CriteriaOperator criteriaOperator = criteriaExpression.getCriteriaOperator();
+      if (criteriaOperator == CriteriaOperator.IN) {
+        // Statement depends on values count
+        throw new CharybdisUnsupportedOperationException(format("Operation '%s' is not supported in query templates", criteriaOperator));
+      }
+      if (criteriaOperator != CriteriaOperator.IS_NOT_NULL) {
+        parameters.add(criteriaExpression);
+      }
+    }
+    this.parameters = parameters.toArray(new CriteriaExpression[0]);
+  }
+
+  public String getKeyspace() {
+    return keyspace;
+  }
+
+  public String getTable() {
+    return table;
+  }
+
+  /**
+   * @return rendered Cql query.
+   */
+  public String getQuery() {
+    return statement.getQuery();
+  }
+
+  /**
+   * @return number of values expected when binding the template.
+   */
+  public int getParameterCount() {
+    return parameters.length;
+  }
+
+  /**
+   * Bind template parameters, values are serialized the same way as in where clauses.
+   *
+   * @param values values of parameters, in where clauses order.
+   * @return select query ready to be executed.
+   */
+  public SelectQuery bind(final Object... values) {
+    if (values.length != parameters.length) {
+      throw new IllegalArgumentException(format("Query template expects %d values, %d given", parameters.length, values.length));
+    }
+    Object[] bindValues = new Object[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bindValues[i] = serialize(parameters[i], values[i]);
+    }
+    return new BoundSelectQuery(this, bindValues);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object serialize(final CriteriaExpression criteriaExpression, final Object value) {
+    CriteriaField field = criteriaExpression.getField();
+    switch (criteriaExpression.getCriteriaOperator()) {
+      case CONTAINS:
+        // Collection items are bound as given, map values are serialized
+        return field instanceof MapColumnMetadata ? ((MapColumnMetadata) field).serializeValue(value) : value;
+      case CONTAINS_KEY:
+        return ((MapColumnMetadata) field).serializeKey(value);
+      default:
+        return field.serialize(value);
+    }
+  }
+
+  /**
+   * Select query executing the template statement with bound values.
+   * A limit set on execution (single row fetches) is applied as fetch size.
+   */
+  private static class BoundSelectQuery extends SelectQuery {
+
+    private final SelectQueryTemplate template;
+    private final Object[] bindValues;
+
+    private BoundSelectQuery(final SelectQueryTemplate template, final Object[] bindValues) {
+      // Execution context is already applied to template statement
+      super(new ExecutionContext());
+      this.template = template;
+      this.bindValues = bindValues;
+    }
+
+    @Override
+    public String getKeyspace() {
+      return template.keyspace;
+    }
+
+    @Override
+    public String getTable() {
+      return template.table;
+    }
+
+    @Override
+    public StatementTuple buildStatement() {
+      PageRequest pageRequest = getPageRequest();
+      if (pageRequest != null) {
+        return new StatementTuple(template.statement, pageRequest.getFetchSize(), pageRequest.getPagingState(), bindValues);
+      }
+      if (getLimit() != null) {
+        return new StatementTuple(template.statement, getLimit(), null, bindValues);
+      }
+      return new StatementTuple(template.statement, bindValues);
+    }
+  }
+}
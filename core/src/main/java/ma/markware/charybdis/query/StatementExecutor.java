@@ -0,0 +1,124 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.servererrors.ReadTimeoutException;
+import com.datastax.oss.driver.api.core.servererrors.WriteTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import ma.markware.charybdis.exception.CharybdisQueryExecutionException;
+import ma.markware.charybdis.exception.CharybdisQueryTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes statements, retrying idempotent ones according to the session {@link QueryRetryPolicy},
+ * and translating driver errors into Charybdis exceptions.
+ *
+ * @author Oussama Markad
+ */
+final class StatementExecutor {
+
+  private static final Logger log = LoggerFactory.getLogger(StatementExecutor.class);
+
+  private StatementExecutor() {
+  }
+
+  static ResultSet execute(final CqlSession session, final Statement<?> statement) {
+    QueryRetryPolicy retryPolicy = QueryRetryPolicy.get(session);
+    for (int retryCount = 0; ; retryCount++) {
+      try {
+        return session.execute(statement);
+      } catch (final RuntimeException e) {
+        if (!retryPolicy.shouldRetry(statement, e, retryCount)) {
+          throw e;
+        }
+        log.warn("Retrying idempotent statement after error (retry {}/{})", retryCount + 1, retryPolicy.getMaxRetries(), e);
+      }
+    }
+  }
+
+  static CompletionStage<AsyncResultSet> executeAsync(final CqlSession session, final Statement<?> statement) {
+    return executeAsync(session, statement, QueryRetryPolicy.get(session), 0);
+  }
+
+  private static CompletionStage<AsyncResultSet> executeAsync(final CqlSession session, final Statement<?> statement,
+      final QueryRetryPolicy retryPolicy, final int retryCount) {
+    return session.executeAsync(statement)
+                  .handle((asyncResultSet, throwable) -> {
+                    if (throwable == null) {
+                      return CompletableFuture.completedFuture(asyncResultSet);
+                    }
+                    Throwable error = unwrap(throwable);
+                    if (!retryPolicy.shouldRetry(statement, error, retryCount)) {
+                      CompletableFuture<AsyncResultSet> failure = new CompletableFuture<>();
+                      failure.completeExceptionally(error);
+                      return failure;
+                    }
+                    log.warn("Retrying idempotent statement after error (retry {}/{})", retryCount + 1, retryPolicy.getMaxRetries(), error);
+                    return executeAsync(session, statement, retryPolicy, retryCount + 1);
+                  })
+                  .thenCompose(Function.identity());
+  }
+
+  /**
+   * @return Charybdis exception wrapping a query execution error.
+   */
+  static CharybdisQueryExecutionException translate(final String query, final Throwable throwable) {
+    Throwable error = unwrap(throwable);
+    if (error instanceof CharybdisQueryExecutionException) {
+      return (CharybdisQueryExecutionException) error;
+    }
+    String message = "Error executing statement (" + query + "): " + error.getMessage();
+    if (error instanceof DriverTimeoutException || error instanceof ReadTimeoutException || error instanceof WriteTimeoutException) {
+      return new CharybdisQueryTimeoutException(message, error);
+    }
+    return new CharybdisQueryExecutionException(message, error);
+  }
+
+  /**
+   * @return completion stage failing with a Charybdis exception when given stage fails.
+   */
+  static <T> CompletionStage<T> translateFailure(final CompletionStage<T> completionStage, final String query) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    completionStage.whenComplete((value, throwable) -> {
+      if (throwable == null) {
+        result.complete(value);
+      } else {
+        result.completeExceptionally(translate(query, throwable));
+      }
+    });
+    return result;
+  }
+
+  static Throwable unwrap(final Throwable throwable) {
+    Throwable error = throwable;
+    while (error instanceof CompletionException && error.getCause() != null) {
+      error = error.getCause();
+    }
+    return error;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Async result set translating driver errors into Charybdis exceptions when fetching further pages,
+ * next pages are wrapped as well.
+ *
+ * @author Oussama Markad
+ */
+final class TranslatingAsyncResultSet implements AsyncResultSet {
+
+  private final AsyncResultSet delegate;
+  private final String query;
+
+  TranslatingAsyncResultSet(final AsyncResultSet delegate, final String query) {
+    this.delegate = delegate;
+    this.query = query;
+  }
+
+  @Override
+  public ColumnDefinitions getColumnDefinitions() {
+    return delegate.getColumnDefinitions();
+  }
+
+  @Override
+  public ExecutionInfo getExecutionInfo() {
+    return delegate.getExecutionInfo();
+  }
+
+  @Override
+  public int remaining() {
+    return delegate.remaining();
+  }
+
+  @Override
+  public Iterable<Row> currentPage() {
+    return delegate.currentPage();
+  }
+
+  @Override
+  public Row one() {
+    return delegate.one();
+  }
+
+  @Override
+  public boolean hasMorePages() {
+    return delegate.hasMorePages();
+  }
+
+  @Override
+  public CompletionStage<AsyncResultSet> fetchNextPage() {
+    CompletionStage<AsyncResultSet> nextPage;
+    try {
+      nextPage = delegate.fetchNextPage();
+    } catch (final RuntimeException e) {
+      throw StatementExecutor.translate(query, e);
+    }
+    return StatementExecutor.translateFailure(nextPage.thenApply(page -> new TranslatingAsyncResultSet(page, query)), query);
+  }
+
+  @Override
+  public boolean wasApplied() {
+    return delegate.wasApplied();
+  }
+}
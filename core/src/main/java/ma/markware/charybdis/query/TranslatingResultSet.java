@@ -0,0 +1,114 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Result set translating driver errors into Charybdis exceptions when iteration fetches further pages.
+ *
+ * @author Oussama Markad
+ */
+final class TranslatingResultSet implements ResultSet {
+
+  private final ResultSet delegate;
+  private final String query;
+
+  TranslatingResultSet(final ResultSet delegate, final String query) {
+    this.delegate = delegate;
+    this.query = query;
+  }
+
+  @Override
+  public ColumnDefinitions getColumnDefinitions() {
+    return delegate.getColumnDefinitions();
+  }
+
+  @Override
+  public List<ExecutionInfo> getExecutionInfos() {
+    return delegate.getExecutionInfos();
+  }
+
+  @Override
+  public ExecutionInfo getExecutionInfo() {
+    return delegate.getExecutionInfo();
+  }
+
+  @Override
+  public boolean isFullyFetched() {
+    return delegate.isFullyFetched();
+  }
+
+  @Override
+  public int getAvailableWithoutFetching() {
+    return delegate.getAvailableWithoutFetching();
+  }
+
+  @Override
+  public boolean wasApplied() {
+    return delegate.wasApplied();
+  }
+
+  @Override
+  public Row one() {
+    try {
+      return delegate.one();
+    } catch (final RuntimeException e) {
+      throw StatementExecutor.translate(query, e);
+    }
+  }
+
+  @Override
+  public List<Row> all() {
+    try {
+      return delegate.all();
+    } catch (final RuntimeException e) {
+      throw StatementExecutor.translate(query, e);
+    }
+  }
+
+  @Override
+  public Iterator<Row> iterator() {
+    Iterator<Row> iterator = delegate.iterator();
+    return new Iterator<Row>() {
+      @Override
+      public boolean hasNext() {
+        try {
+          return iterator.hasNext();
+        } catch (final RuntimeException e) {
+          throw StatementExecutor.translate(query, e);
+        }
+      }
+
+      @Override
+      public Row next() {
+        try {
+          return iterator.next();
+        } catch (final RuntimeException e) {
+          throw StatementExecutor.translate(query, e);
+        }
+      }
+    };
+  }
+}
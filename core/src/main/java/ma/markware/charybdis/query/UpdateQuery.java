@@ -30,6 +30,7 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.metrics.QueryOperation;
 import ma.markware.charybdis.model.assignment.AssignmentListValue;
 import ma.markware.charybdis.model.assignment.AssignmentMapValue;
 import ma.markware.charybdis.model.assignment.AssignmentSetValue;
@@ -60,6 +61,7 @@ public class UpdateQuery extends AbstractQuery {
   private List<ConditionClause> conditionClauses = new ArrayList<>();
   private Integer ttl;
   private Long timestamp;
+  private boolean ifExists = true;
 
   public UpdateQuery(@Nonnull ExecutionContext executionContext) {
     super(executionContext);
@@ -77,6 +79,11 @@ public class UpdateQuery extends AbstractQuery {
     return table;
   }
 
+  @Override
+  public QueryOperation getOperation() {
+    return QueryOperation.UPDATE;
+  }
+
   public List<AssignmentClause> getAssignmentClauses() {
     return assignmentClauses;
   }
@@ -97,10 +104,22 @@ public class UpdateQuery extends AbstractQuery {
     return timestamp;
   }
 
+  public boolean isIfExists() {
+    return ifExists;
+  }
+
   public void setTable(TableMetadata tableMetadata) {
     keyspace = tableMetadata.getKeyspaceName();
     table = tableMetadata.getTableName();
     executionContext.setDefaultConsistencyLevel(tableMetadata.getDefaultReadConsistency());
+    ifExists = tableMetadata.isUpdateIfExists();
+  }
+
+  /**
+   * Enable or disable the {@code IF EXISTS} condition, overriding table default update mode.
+   */
+  public void setIfExists(boolean ifExists) {
+    this.ifExists = ifExists;
   }
 
   public void setSerializedAssignment(ColumnMetadata columnMetadata, Object serializedValue) {
@@ -175,14 +194,31 @@ public class UpdateQuery extends AbstractQuery {
 
     Update update = updateWithAssignments.where(QueryHelper.extractRelations(whereClauses));
 
-    update = update.ifExists();
+    if (ifExists) {
+      update = update.ifExists();
+    }
     update = update.if_(QueryHelper.extractConditions(conditionClauses));
 
     SimpleStatement simpleStatement = update.build();
+    // Without a fixed timestamp, a retried write could overwrite more recent values
+    boolean idempotent = timestamp != null && !ifExists && conditionClauses.isEmpty() && hasIdempotentAssignments();
+    simpleStatement = simpleStatement.setIdempotent(idempotent ? Boolean.TRUE : null);
     return new StatementTuple(simpleStatement, Stream.of(QueryHelper.extractAssignmentBindValues(assignmentClauses),
                                                                 QueryHelper.extractWhereBindValues(whereClauses),
                                                                 QueryHelper.extractConditionBindValues(conditionClauses))
                                                             .flatMap(Function.identity())
                                                             .toArray());
   }
+
+  /**
+   * @return false if an assignment is not idempotent (e.g. list append or prepend, counter increment).
+   */
+  private boolean hasIdempotentAssignments() {
+    for (AssignmentClause assignmentClause : assignmentClauses) {
+      if (!assignmentClause.getAssignment().isIdempotent()) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
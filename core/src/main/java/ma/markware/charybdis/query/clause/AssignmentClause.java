@@ -122,7 +122,7 @@ public class AssignmentClause {
    */
   public static <D_KEY, D_VALUE, S_KEY, S_VALUE> AssignmentClause from(final MapNestedField<D_KEY, D_VALUE, S_KEY, S_VALUE> mapNestedField, final S_VALUE value) {
     return new AssignmentClause(Assignment.setMapValue(mapNestedField.getSourceColumn().getName(), QueryBuilder.bindMarker(), QueryBuilder.bindMarker()),
-                                new Object[]{ mapNestedField.getEntry(), value });
+                                new Object[]{ mapNestedField.getSerializedEntry(), value });
   }
 
   /**
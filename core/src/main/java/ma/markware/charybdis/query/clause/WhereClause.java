@@ -37,6 +37,7 @@ public class WhereClause {
 
   private Relation relation;
   private Object[] bindValues;
+  private CriteriaExpression criteriaExpression;
 
   private WhereClause(Relation relation, Object[] bindValues) {
     this.relation = relation;
@@ -47,6 +48,12 @@ public class WhereClause {
    * Create a where clause from {@link CriteriaExpression}.
    */
   public static WhereClause from(CriteriaExpression criteria) {
+    WhereClause whereClause = toWhereClause(criteria);
+    whereClause.criteriaExpression = criteria;
+    return whereClause;
+  }
+
+  private static WhereClause toWhereClause(CriteriaExpression criteria) {
     CriteriaField field = criteria.getField();
     Object[] serializedValues = criteria.getSerializedValues();
     switch(criteria.getCriteriaOperator()) {
@@ -90,4 +97,11 @@ public class WhereClause {
   public Object[] getBindValues() {
     return bindValues;
   }
+
+  /**
+   * @return criteria this clause was created from.
+   */
+  public CriteriaExpression getCriteriaExpression() {
+    return criteriaExpression;
+  }
 }
@@ -22,9 +22,20 @@ package ma.markware.charybdis.cache;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import javax.cache.Cache;
 import javax.cache.CacheException;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -63,6 +74,16 @@ class InMemoryCacheManagerTest {
     assertThat(cache).isNotNull();
   }
 
+  @Test
+  void createCache_with_max_capacity() {
+    Cache<Integer, String> cache = inMemoryCacheManager.createCache("test_cache", new CacheConfiguration<>(Integer.class, String.class, 1, 1, false));
+    cache.put(0, "test0");
+    cache.put(1, "test1");
+
+    assertThat(cache.containsKey(0)).isFalse();
+    assertThat(cache.containsKey(1)).isTrue();
+  }
+
   @Test
   void createCache_should_throw_exception_when_cache_already_exist() {
     inMemoryCacheManager.createCache("test_cache", new CacheConfiguration<>(Integer.class, String.class));
@@ -72,6 +93,37 @@ class InMemoryCacheManagerTest {
         .withMessage("A cache named 'test_cache' already exists");
   }
 
+  @Test
+  void createCache_concurrent_creations_should_create_cache_once() throws Exception {
+    // Given
+    int threads = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    List<Future<Boolean>> creations = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      creations.add(executorService.submit(() -> {
+        start.await();
+        try {
+          inMemoryCacheManager.createCache("test_cache", new CacheConfiguration<>(Integer.class, String.class));
+          return true;
+        } catch (CacheException e) {
+          return false;
+        }
+      }));
+    }
+
+    // When
+    start.countDown();
+    int createdCount = 0;
+    for (Future<Boolean> creation : creations) {
+      createdCount += creation.get(5, TimeUnit.SECONDS) ? 1 : 0;
+    }
+    executorService.shutdown();
+
+    // Then
+    assertThat(createdCount).isEqualTo(1);
+  }
+
   @Test
   void createCache_should_throw_exception_when_input_name_null() {
     assertThatExceptionOfType(NullPointerException.class)
@@ -148,4 +200,20 @@ class InMemoryCacheManagerTest {
         .isThrownBy(() -> inMemoryCacheManager.unwrap(Integer.class))
         .withMessage("Cannot unwrap to class java.lang.Integer");
   }
+
+  @Test
+  void enableStatistics_should_register_statistics_mbean() throws Exception {
+    Cache<Integer, String> cache = inMemoryCacheManager.createCache("test_cache", new CacheConfiguration<>(Integer.class, String.class));
+    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    inMemoryCacheManager.enableStatistics("test_cache", true);
+    cache.get(0);
+
+    CacheStatisticsMXBean statistics = JMX.newMXBeanProxy(mBeanServer, InMemoryCacheManager.statisticsObjectName("test_cache"),
+                                                          CacheStatisticsMXBean.class);
+    assertThat(statistics.getCacheMisses()).isEqualTo(1);
+
+    inMemoryCacheManager.enableStatistics("test_cache", false);
+    assertThat(mBeanServer.isRegistered(InMemoryCacheManager.statisticsObjectName("test_cache"))).isFalse();
+  }
 }
@@ -368,4 +368,80 @@ class LRUCacheTest {
         .isThrownBy(() -> new LRUCache<>("test_cache", 3, 3, new CacheConfiguration<>(Integer.class, String.class)).deregisterCacheEntryListener(null))
         .withMessage("LRUCache deregisterCacheEntryListener method unsupported");
   }
+
+  @Test
+  void statistics_should_record_hits_misses_puts_and_evictions() {
+    LRUCache<Integer, String> cache = new LRUCache<>("test_cache", 2, 2, new CacheConfiguration<>(Integer.class, String.class, 2, 2, true));
+    cache.put(0, "test0");
+    cache.put(1, "test1");
+    cache.put(2, "test2");
+    cache.get(2);
+    cache.get(0);
+    cache.remove(1);
+
+    LRUCacheStatistics statistics = cache.unwrap(LRUCacheStatistics.class);
+    assertThat(statistics.getCachePuts()).isEqualTo(3);
+    assertThat(statistics.getCacheEvictions()).isEqualTo(1);
+    assertThat(statistics.getCacheHits()).isEqualTo(1);
+    assertThat(statistics.getCacheMisses()).isEqualTo(1);
+    assertThat(statistics.getCacheHitPercentage()).isEqualTo(50f);
+    assertThat(statistics.getCacheRemovals()).isEqualTo(1);
+
+    statistics.clear();
+    assertThat(statistics.getCacheGets()).isZero();
+  }
+
+  @Test
+  void statistics_should_record_loads() {
+    LRUCache<Integer, String> cache = new LRUCache<>("test_cache", 1, 1, new CacheConfiguration<>(Integer.class, String.class, 1, 1, true));
+    LRUCacheStatistics statistics = cache.unwrap(LRUCacheStatistics.class);
+    statistics.recordLoad(2000);
+    statistics.recordLoad(4000);
+
+    assertThat(statistics.getCacheLoads()).isEqualTo(2);
+    assertThat(statistics.getAverageLoadTime()).isEqualTo(3f);
+  }
+
+  @Test
+  void statistics_should_not_be_recorded_when_disabled() {
+    LRUCache<Integer, String> cache = new LRUCache<>("test_cache", 1, 1, new CacheConfiguration<>(Integer.class, String.class));
+    cache.put(0, "test0");
+    cache.get(0);
+
+    LRUCacheStatistics statistics = cache.unwrap(LRUCacheStatistics.class);
+    assertThat(statistics.getCachePuts()).isZero();
+    assertThat(statistics.getCacheHits()).isZero();
+  }
+
+  @Test
+  void get_should_drop_entry_when_expired() throws InterruptedException {
+    LRUCache<Integer, String> cache = new LRUCache<>("test_cache", 2, 2, new CacheConfiguration<>(Integer.class, String.class, 2, 2, true, 50));
+    cache.put(0, "test0");
+
+    assertThat(cache.get(0)).isEqualTo("test0");
+    Thread.sleep(100);
+    assertThat(cache.containsKey(0)).isFalse();
+    assertThat(cache.get(0)).isNull();
+    assertThat(cache.iterator().hasNext()).isFalse();
+
+    LRUCacheStatistics statistics = cache.unwrap(LRUCacheStatistics.class);
+    assertThat(statistics.getCacheHits()).isEqualTo(1);
+    assertThat(statistics.getCacheMisses()).isEqualTo(1);
+
+    cache.put(0, "test0_bis");
+    assertThat(cache.get(0)).isEqualTo("test0_bis");
+  }
+
+  @Test
+  void get_should_drop_entry_written_after_eviction_when_expired() throws InterruptedException {
+    LRUCache<Integer, String> cache = new LRUCache<>("test_cache", 1, 1, new CacheConfiguration<>(Integer.class, String.class, 1, 1, true, 50));
+    cache.put(0, "test0");
+    cache.put(1, "test1");
+    cache.putIfAbsent(0, "test0_bis");
+    cache.getAndRemove(1);
+
+    assertThat(cache.get(0)).isEqualTo("test0_bis");
+    Thread.sleep(100);
+    assertThat(cache.get(0)).isNull();
+  }
 }
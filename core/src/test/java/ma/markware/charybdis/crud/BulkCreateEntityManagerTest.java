@@ -0,0 +1,125 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.query.PendingExecutionsSession;
+import ma.markware.charybdis.test.entities.TestEntityByDate;
+import ma.markware.charybdis.test.metadata.TestEntityByDate_Table;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCreateEntityManagerTest {
+
+  @Mock
+  private CqlSession session;
+  @Mock
+  private PreparedStatement preparedStatement;
+  @Mock(answer = Answers.RETURNS_SELF)
+  private BoundStatement boundStatement;
+
+  @Test
+  void saveAsync_should_not_exceed_max_in_flight_insertions() {
+    // Given
+    List<CompletableFuture<AsyncResultSet>> pendingInsertions = mockInsertions();
+    List<TestEntityByDate> entities = Arrays.asList(newEntity(), newEntity(), newEntity(), newEntity(), newEntity());
+
+    // When
+    CompletionStage<BulkCreateResult<TestEntityByDate>> result = new BulkCreateEntityManager<TestEntityByDate>(new ExecutionContext())
+        .withTableMetadata(TestEntityByDate_Table.test_entity_by_date).withEntities(entities.iterator()).withMaxInFlight(2).saveAsync(session);
+
+    // Then
+    assertThat(pendingInsertions).hasSize(2);
+    pendingInsertions.get(0).complete(applied(true));
+    assertThat(pendingInsertions).hasSize(3);
+    pendingInsertions.get(1).complete(applied(true));
+    pendingInsertions.get(2).complete(applied(true));
+    pendingInsertions.get(3).complete(applied(true));
+    assertThat(result.toCompletableFuture()).isNotDone();
+    pendingInsertions.get(4).complete(applied(true));
+    assertThat(result.toCompletableFuture()).isDone();
+    assertThat(result.toCompletableFuture().join().getCreatedCount()).isEqualTo(5);
+    verify(session, times(5)).executeAsync(any(Statement.class));
+  }
+
+  @Test
+  void saveAsync_should_report_failed_and_not_applied_insertions() {
+    // Given
+    List<CompletableFuture<AsyncResultSet>> pendingInsertions = mockInsertions();
+    TestEntityByDate createdEntity = newEntity();
+    TestEntityByDate failedEntity = newEntity();
+    TestEntityByDate notAppliedEntity = newEntity();
+    RuntimeException failure = new RuntimeException("write timeout");
+
+    // When
+    CompletionStage<BulkCreateResult<TestEntityByDate>> result = new BulkCreateEntityManager<TestEntityByDate>(new ExecutionContext())
+        .withTableMetadata(TestEntityByDate_Table.test_entity_by_date).withEntities(Arrays.asList(createdEntity, failedEntity, notAppliedEntity).iterator())
+        .saveAsync(session);
+    pendingInsertions.get(0).complete(applied(true));
+    pendingInsertions.get(1).completeExceptionally(failure);
+    pendingInsertions.get(2).complete(applied(false));
+
+    // Then
+    BulkCreateResult<TestEntityByDate> bulkCreateResult = result.toCompletableFuture().join();
+    assertThat(bulkCreateResult.getCreatedCount()).isEqualTo(1);
+    assertThat(bulkCreateResult.getNotAppliedCount()).isEqualTo(1);
+    assertThat(bulkCreateResult.getTotalCount()).isEqualTo(3);
+    assertThat(bulkCreateResult.isSuccessful()).isFalse();
+    assertThat(bulkCreateResult.getFailures()).hasSize(1);
+    assertThat(bulkCreateResult.getFailures().get(0).getEntity()).isSameAs(failedEntity);
+    assertThat(bulkCreateResult.getFailures().get(0).getCause()).hasRootCauseInstanceOf(RuntimeException.class);
+  }
+
+  private List<CompletableFuture<AsyncResultSet>> mockInsertions() {
+    when(preparedStatement.bind(any(), any(), any(), any(), any(), any())).thenReturn(boundStatement);
+    return new PendingExecutionsSession(session).preparing(TestEntityByDate_Table.INSERT_QUERY, preparedStatement).withPendingExecutions()
+                                                .getPendingExecutions();
+  }
+
+  private static TestEntityByDate newEntity() {
+    return new TestEntityByDate(Instant.now(), null, null, true);
+  }
+
+  private static AsyncResultSet applied(boolean wasApplied) {
+    AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+    when(asyncResultSet.wasApplied()).thenReturn(wasApplied);
+    return asyncResultSet;
+  }
+}
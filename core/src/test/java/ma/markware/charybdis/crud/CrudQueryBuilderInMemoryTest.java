@@ -0,0 +1,194 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import ma.markware.charybdis.CqlTemplate;
+import ma.markware.charybdis.batch.Batch;
+import ma.markware.charybdis.dsl.DslFunctions;
+import ma.markware.charybdis.dsl.Record;
+import ma.markware.charybdis.model.criteria.ExtendedCriteriaExpression;
+import ma.markware.charybdis.model.field.SelectableField;
+import ma.markware.charybdis.query.PageRequest;
+import ma.markware.charybdis.query.PageResult;
+import ma.markware.charybdis.test.entities.TestEntity;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import ma.markware.charybdis.test.tools.memory.InMemoryCqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * End-to-end crud operations against {@link InMemoryCqlSession}, using the integration tests schema.
+ */
+class CrudQueryBuilderInMemoryTest {
+
+  private InMemoryCqlSession session;
+  private CqlTemplate cqlTemplate;
+  private CrudQueryBuilder crud;
+
+  @BeforeEach
+  void setup() throws IOException {
+    session = new InMemoryCqlSession();
+    try (InputStream ddl = getClass().getClassLoader().getResourceAsStream("ddl_create_int.cql")) {
+      assertThat(ddl).isNotNull();
+      session.executeScript(new Scanner(ddl, StandardCharsets.UTF_8.name()).useDelimiter("\\A").next());
+    }
+    cqlTemplate = new CqlTemplate(session);
+    crud = cqlTemplate.crud();
+  }
+
+  @Test
+  void create_and_findOne() {
+    // When
+    crud.create(TestEntity_Table.test_entity, TestEntity_INST1.entity1);
+    TestEntity actual = crud.findOne(TestEntity_Table.test_entity, TestEntity_Table.id.eq(TestEntity_INST1.id));
+
+    // Then
+    assertThat(actual).isEqualTo(TestEntity_INST1.entity1);
+    assertThat(actual.getCreationDate()).isNotNull();
+  }
+
+  @Test
+  void create_should_not_overwrite_when_ifNotExists() {
+    // Given
+    TestEntity entity = new TestEntity(TestEntity_INST1.entity1);
+    crud.create(TestEntity_Table.test_entity, entity);
+
+    // When
+    entity.setFlag(false);
+    TestEntity created = crud.create(TestEntity_Table.test_entity, entity, true);
+
+    // Then
+    assertThat(created).isNull();
+    assertThat(crud.findOne(TestEntity_Table.test_entity, TestEntity_Table.id.eq(TestEntity_INST1.id)).isFlag()).isTrue();
+  }
+
+  @Test
+  void create_with_ttl() {
+    // Given
+    int ttl = 86400;
+    crud.create(TestEntity_Table.test_entity, TestEntity_INST1.entity1, ttl);
+
+    // When
+    SelectableField<Integer> ttlField = DslFunctions.ttl(TestEntity_Table.flag);
+    Record record = cqlTemplate.dsl().select(ttlField).from(TestEntity_Table.test_entity).where(TestEntity_Table.id.eq(TestEntity_INST1.id)).fetchOne();
+
+    // Then
+    assertThat(record.get(ttlField)).isNotNull().isLessThanOrEqualTo(ttl);
+  }
+
+  @Test
+  void update_and_delete() {
+    // Given
+    TestEntity entity = new TestEntity(TestEntity_INST1.entity1);
+    crud.create(TestEntity_Table.test_entity, entity);
+
+    // When
+    entity.setFlag(false);
+    crud.update(TestEntity_Table.test_entity, entity);
+    Boolean updatedFlag = crud.findOne(TestEntity_Table.test_entity, TestEntity_Table.id.eq(TestEntity_INST1.id)).isFlag();
+    boolean deleted = crud.delete(TestEntity_Table.test_entity, entity);
+
+    // Then
+    assertThat(updatedFlag).isFalse();
+    assertThat(deleted).isTrue();
+    assertThat(crud.findOne(TestEntity_Table.test_entity, TestEntity_Table.id.eq(TestEntity_INST1.id))).isNull();
+  }
+
+  @Test
+  void update_should_not_create_when_ifExists() {
+    // When
+    TestEntity updated = crud.update(TestEntity_Table.test_entity, new TestEntity(TestEntity_INST1.entity1), true);
+
+    // Then
+    assertThat(updated).isNull();
+    assertThat(crud.find(TestEntity_Table.test_entity)).isEmpty();
+  }
+
+  @Test
+  void find_by_page_and_scan() {
+    // Given
+    List<TestEntity> entities = new ArrayList<>();
+    Instant date = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    for (int i = 0; i < 25; i++) {
+      TestEntity entity = new TestEntity(TestEntity_INST1.entity1);
+      entity.setId(UUID.randomUUID());
+      entity.setDate(date.minusSeconds(i));
+      entities.add(entity);
+    }
+    crud.createAll(TestEntity_Table.test_entity, entities);
+
+    // When
+    List<TestEntity> pagedEntities = new ArrayList<>();
+    PageResult<TestEntity> page = crud.find(TestEntity_Table.test_entity, PageRequest.of(null, 10));
+    pagedEntities.addAll(page.getResults());
+    while (page.getPagingState() != null) {
+      page = crud.find(TestEntity_Table.test_entity, PageRequest.of(page.getPagingState(), 10));
+      pagedEntities.addAll(page.getResults());
+    }
+    AtomicLong scanned = new AtomicLong();
+    long scanCount = crud.scan(TestEntity_Table.test_entity, entity -> scanned.incrementAndGet(), 4, 2);
+
+    // Then
+    assertThat(pagedEntities).containsExactlyInAnyOrderElementsOf(entities);
+    assertThat(scanCount).isEqualTo(25);
+    assertThat(scanned).hasValue(25);
+    assertThat(crud.findAllByKeys(TestEntity_Table.test_entity, entities.subList(0, 5))).containsExactlyInAnyOrderElementsOf(entities.subList(0, 5));
+  }
+
+  @Test
+  void batch_update_should_invalidate_cached_entity_once_executed() {
+    // Given
+    cqlTemplate.withEntityCache(TestEntity_Table.test_entity, 10, 0);
+    TestEntity entity = new TestEntity(TestEntity_INST1.entity1);
+    crud.create(TestEntity_Table.test_entity, entity);
+    ExtendedCriteriaExpression primaryKey = TestEntity_Table.id.eq(entity.getId())
+                                                               .and(TestEntity_Table.date.eq(entity.getDate()))
+                                                               .and(TestEntity_Table.udt.eq(entity.getUdt()))
+                                                               .and(TestEntity_Table.list.eq(entity.getList()));
+    crud.findOne(TestEntity_Table.test_entity, primaryKey);
+    Batch batch = cqlTemplate.batch().unlogged();
+    TestEntity updatedEntity = new TestEntity(entity);
+    updatedEntity.setFlag(!entity.isFlag());
+    cqlTemplate.crud(batch).update(TestEntity_Table.test_entity, updatedEntity, false);
+
+    // When
+    TestEntity beforeExecution = crud.findOne(TestEntity_Table.test_entity, primaryKey);
+    batch.execute();
+    TestEntity afterExecution = crud.findOne(TestEntity_Table.test_entity, primaryKey);
+
+    // Then
+    assertThat(beforeExecution.isFlag()).isEqualTo(entity.isFlag());
+    assertThat(afterExecution.isFlag()).isEqualTo(updatedEntity.isFlag());
+    assertThat(cqlTemplate.getEntityCacheStatistics(TestEntity_Table.test_entity).getCacheHits()).isEqualTo(1);
+    EntityCache.disable(session.getName(), TestEntity_Table.test_entity);
+  }
+}
@@ -70,4 +70,13 @@ class CrudQueryBuilderTest {
     assertThat(defaultDslQueryWithExecutionProfile.getExecutionContext()).isEqualTo(
         new ExecutionContext(null, null, null, null, null, "olap"));
   }
+
+  @Test
+  void withNullAsUnset() {
+    CrudQueryBuilder crudQueryBuilderWithNullAsUnset = new CrudQueryBuilder(session).withNullAsUnset(true);
+
+    ExecutionContext expectedExecutionContext = new ExecutionContext();
+    expectedExecutionContext.setNullAsUnset(true);
+    assertThat(crudQueryBuilderWithNullAsUnset.getExecutionContext()).isEqualTo(expectedExecutionContext);
+  }
 }
@@ -0,0 +1,138 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.Collections;
+import ma.markware.charybdis.cache.LRUCacheStatisticsMXBean;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheTest {
+
+  private CqlSession session;
+  private TableMetadata<String> tableMetadata;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    session = mock(CqlSession.class);
+    when(session.getName()).thenReturn("entity_cache_session");
+    tableMetadata = mock(TableMetadata.class);
+    when(tableMetadata.getKeyspaceName()).thenReturn("ks");
+    when(tableMetadata.getTableName()).thenReturn("reference");
+  }
+
+  @AfterEach
+  void tearDown() {
+    EntityCache.disable("entity_cache_session", tableMetadata);
+  }
+
+  @Test
+  void get_should_return_null_when_table_is_not_cached() {
+    // Given
+    Object readToken = EntityCache.beginRead(session, tableMetadata, new Object[]{ "id1" });
+    EntityCache.endRead(session, tableMetadata, new Object[]{ "id1" }, readToken, mock(Row.class));
+
+    // When / Then
+    assertThat(readToken).isNull();
+    assertThat(EntityCache.get(session, tableMetadata, new Object[]{ "id1" })).isNull();
+    assertThat(EntityCache.getStatistics("entity_cache_session", tableMetadata)).isNull();
+  }
+
+  @Test
+  void get_should_return_cached_row_until_invalidated() {
+    // Given
+    EntityCache.configure("entity_cache_session", tableMetadata, 10, 0);
+    when(tableMetadata.getPrimaryKeyNames()).thenReturn(Collections.singletonList("id"));
+    when(tableMetadata.serialize("entity1")).thenReturn(Collections.singletonMap("id", "id1"));
+    Row row = mock(Row.class);
+
+    // When
+    Row missedRow = EntityCache.get(session, tableMetadata, new Object[]{ "id1" });
+    Object readToken = EntityCache.beginRead(session, tableMetadata, new Object[]{ "id1" });
+    EntityCache.endRead(session, tableMetadata, new Object[]{ "id1" }, readToken, row);
+    Row cachedRow = EntityCache.get(session, tableMetadata, new Object[]{ "id1" });
+    EntityCache.invalidate(session, tableMetadata, "entity1");
+    Row invalidatedRow = EntityCache.get(session, tableMetadata, new Object[]{ "id1" });
+
+    // Then
+    assertThat(missedRow).isNull();
+    assertThat(cachedRow).isSameAs(row);
+    assertThat(invalidatedRow).isNull();
+    LRUCacheStatisticsMXBean statistics = EntityCache.getStatistics("entity_cache_session", tableMetadata);
+    assertThat(statistics.getCacheHits()).isEqualTo(1);
+    assertThat(statistics.getCacheMisses()).isEqualTo(2);
+    assertThat(statistics.getCacheRemovals()).isEqualTo(1);
+  }
+
+  @Test
+  void endRead_should_not_cache_row_when_invalidated_during_read() {
+    // Given
+    EntityCache.configure("entity_cache_session", tableMetadata, 10, 0);
+    when(tableMetadata.getPrimaryKeyNames()).thenReturn(Collections.singletonList("id"));
+    when(tableMetadata.serialize("entity1")).thenReturn(Collections.singletonMap("id", "id1"));
+
+    // When
+    Object readToken = EntityCache.beginRead(session, tableMetadata, new Object[]{ "id1" });
+    EntityCache.invalidate(session, tableMetadata, "entity1");
+    EntityCache.endRead(session, tableMetadata, new Object[]{ "id1" }, readToken, mock(Row.class));
+
+    // Then
+    assertThat(EntityCache.get(session, tableMetadata, new Object[]{ "id1" })).isNull();
+  }
+
+  @Test
+  void endRead_should_not_cache_row_when_a_more_recent_read_started() {
+    // Given
+    EntityCache.configure("entity_cache_session", tableMetadata, 10, 0);
+    Row recentRow = mock(Row.class);
+
+    // When
+    Object readToken = EntityCache.beginRead(session, tableMetadata, new Object[]{ "id1" });
+    Object recentReadToken = EntityCache.beginRead(session, tableMetadata, new Object[]{ "id1" });
+    EntityCache.endRead(session, tableMetadata, new Object[]{ "id1" }, readToken, mock(Row.class));
+    Row cachedRow = EntityCache.get(session, tableMetadata, new Object[]{ "id1" });
+    EntityCache.endRead(session, tableMetadata, new Object[]{ "id1" }, recentReadToken, recentRow);
+
+    // Then
+    assertThat(cachedRow).isNull();
+    assertThat(EntityCache.get(session, tableMetadata, new Object[]{ "id1" })).isSameAs(recentRow);
+  }
+
+  @Test
+  void disable_should_stop_caching() {
+    // Given
+    EntityCache.configure("entity_cache_session", tableMetadata, 10, 0);
+
+    // When
+    EntityCache.disable("entity_cache_session", tableMetadata);
+
+    // Then
+    assertThat(EntityCache.beginRead(session, tableMetadata, new Object[]{ "id1" })).isNull();
+    assertThat(EntityCache.getStatistics("entity_cache_session", tableMetadata)).isNull();
+  }
+}
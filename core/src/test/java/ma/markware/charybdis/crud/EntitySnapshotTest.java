@@ -0,0 +1,88 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.UUID;
+import ma.markware.charybdis.test.entities.TestEntity;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import org.junit.jupiter.api.Test;
+
+class EntitySnapshotTest {
+
+  @Test
+  void isChanged_should_be_false_when_entity_is_unchanged() {
+    // Given
+    TestEntity entity = newEntity();
+
+    // When
+    EntitySnapshot<TestEntity> snapshot = EntitySnapshot.of(TestEntity_Table.test_entity, entity);
+
+    // Then
+    assertThat(snapshot.isChanged(entity)).isFalse();
+    assertThat(snapshot.getChangedColumnNames(entity)).isEmpty();
+  }
+
+  @Test
+  void getChangedColumnNames_should_detect_modified_columns() {
+    // Given
+    TestEntity entity = newEntity();
+    EntitySnapshot<TestEntity> snapshot = EntitySnapshot.of(TestEntity_Table.test_entity, entity);
+
+    // When
+    entity.setFlag(false);
+    entity.setMap(null);
+
+    // Then
+    assertThat(snapshot.isChanged(entity)).isTrue();
+    assertThat(snapshot.getChangedColumnNames(entity)).containsExactly("map", "flag");
+  }
+
+  @Test
+  void getChangedColumnNames_should_detect_in_place_collection_modifications() {
+    // Given
+    TestEntity entity = newEntity();
+    EntitySnapshot<TestEntity> snapshot = EntitySnapshot.of(TestEntity_Table.test_entity, entity);
+
+    // When
+    entity.getSe().add(3);
+    entity.getMap().put("key2", "value2");
+
+    // Then
+    assertThat(snapshot.getChangedColumnNames(entity)).containsExactly("se", "map");
+  }
+
+  private static TestEntity newEntity() {
+    TestEntity entity = new TestEntity();
+    entity.setId(UUID.randomUUID());
+    entity.setDate(Instant.now());
+    entity.setList(Arrays.asList("a", "b"));
+    entity.setSe(new HashSet<>(Arrays.asList(1, 2)));
+    HashMap<String, String> map = new HashMap<>();
+    map.put("key1", "value1");
+    entity.setMap(map);
+    entity.setFlag(true);
+    return entity;
+  }
+}
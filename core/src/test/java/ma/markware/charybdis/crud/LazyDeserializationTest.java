@@ -0,0 +1,105 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Scanner;
+import java.util.UUID;
+import ma.markware.charybdis.CqlTemplate;
+import ma.markware.charybdis.model.lazy.LazyList;
+import ma.markware.charybdis.model.lazy.LazyMap;
+import ma.markware.charybdis.model.lazy.LazySet;
+import ma.markware.charybdis.test.entities.TestEnum;
+import ma.markware.charybdis.test.entities.TestLazyEntity;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestLazyEntity_Table;
+import ma.markware.charybdis.test.tools.memory.InMemoryCqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Lazy collection columns read through {@link InMemoryCqlSession}.
+ */
+class LazyDeserializationTest {
+
+  private static final String CREATE_LAZY_TABLE = "CREATE TABLE IF NOT EXISTS test_keyspace.test_lazy_entity(id uuid,name text,list list<text>,"
+      + "enumset set<text>,udtmap map<int,frozen<test_udt>>,PRIMARY KEY(id));";
+
+  private CrudQueryBuilder crud;
+
+  @BeforeEach
+  void setup() throws IOException {
+    InMemoryCqlSession session = new InMemoryCqlSession();
+    try (InputStream ddl = getClass().getClassLoader().getResourceAsStream("ddl_create_int.cql")) {
+      session.executeScript(new Scanner(ddl, StandardCharsets.UTF_8.name()).useDelimiter("\\A").next());
+    }
+    session.executeScript(CREATE_LAZY_TABLE);
+    crud = new CqlTemplate(session).crud();
+  }
+
+  @Test
+  void findOne_should_decode_collections_on_first_access() {
+    // Given
+    UUID id = UUID.randomUUID();
+    TestLazyEntity entity = new TestLazyEntity(id, "lazy", Arrays.asList("a", "b"), ImmutableSet.of(TestEnum.TYPE_A, TestEnum.TYPE_B),
+                                               ImmutableMap.of(1, TestEntity_INST1.udt1, 2, TestEntity_INST1.udt2));
+    crud.create(TestLazyEntity_Table.test_lazy_entity, entity);
+
+    // When
+    TestLazyEntity actual = crud.findOne(TestLazyEntity_Table.test_lazy_entity, TestLazyEntity_Table.id.eq(id));
+
+    // Then
+    assertThat(actual.getName()).isEqualTo("lazy");
+    assertThat(actual.getList()).isInstanceOf(LazyList.class);
+    assertThat(actual.getEnumSet()).isInstanceOf(LazySet.class);
+    assertThat(actual.getUdtMap()).isInstanceOf(LazyMap.class);
+    assertThat(((LazyList<String>) actual.getList()).isDecoded()).isFalse();
+    assertThat(((LazySet<TestEnum>) actual.getEnumSet()).isDecoded()).isFalse();
+    assertThat(((LazyMap<Integer, ?>) actual.getUdtMap()).isDecoded()).isFalse();
+
+    assertThat(actual.getList()).containsExactly("a", "b");
+    assertThat(actual.getEnumSet()).containsExactlyInAnyOrder(TestEnum.TYPE_A, TestEnum.TYPE_B);
+    assertThat(actual.getUdtMap()).isEqualTo(entity.getUdtMap());
+    assertThat(((LazyList<String>) actual.getList()).isDecoded()).isTrue();
+    assertThat(((LazyMap<Integer, ?>) actual.getUdtMap()).isDecoded()).isTrue();
+    assertThat(actual).isEqualTo(entity);
+  }
+
+  @Test
+  void findOne_should_return_null_for_missing_collections() {
+    // Given
+    UUID id = UUID.randomUUID();
+    crud.create(TestLazyEntity_Table.test_lazy_entity, new TestLazyEntity(id, "empty", null, null, null));
+
+    // When
+    TestLazyEntity actual = crud.findOne(TestLazyEntity_Table.test_lazy_entity, TestLazyEntity_Table.id.eq(id));
+
+    // Then
+    assertThat(actual.getList()).isNull();
+    assertThat(actual.getEnumSet()).isNull();
+    assertThat(actual.getUdtMap()).isNull();
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.model.option.ConsistencyLevel;
+import ma.markware.charybdis.query.PendingExecutionsSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReadByKeysEntityManagerTest {
+
+  private static final String SELECT_BY_PRIMARY_KEY_QUERY = "SELECT * FROM ks.user WHERE id=?";
+
+  @Mock
+  private CqlSession session;
+  @Mock
+  private TableMetadata<String> tableMetadata;
+  @Mock
+  private PreparedStatement preparedStatement;
+  @Mock(answer = Answers.RETURNS_SELF)
+  private BoundStatement boundStatement;
+
+  @Test
+  void fetchAsync_should_preserve_keys_order_and_not_exceed_max_in_flight_reads() {
+    // Given
+    List<CompletableFuture<AsyncResultSet>> pendingReads = mockReads();
+    when(tableMetadata.deserialize(any())).thenAnswer(invocation -> ((Row) invocation.getArgument(0)).getString("id"));
+
+    // When
+    CompletionStage<List<String>> result = new ReadByKeysEntityManager<String>(new ExecutionContext())
+        .withTableMetadata(tableMetadata).withKeys(Arrays.asList("id1", "id2", "id3")).withMaxInFlight(2).fetchAsync(session);
+
+    // Then
+    assertThat(pendingReads).hasSize(2);
+    pendingReads.get(1).complete(found("id2"));
+    assertThat(pendingReads).hasSize(3);
+    pendingReads.get(2).complete(notFound());
+    assertThat(result.toCompletableFuture()).isNotDone();
+    pendingReads.get(0).complete(found("id1"));
+    assertThat(result.toCompletableFuture().join()).containsExactly("id1", "id2", null);
+    verify(session, times(3)).executeAsync(any(Statement.class));
+  }
+
+  @Test
+  void fetchAsync_should_fail_when_a_read_fails() {
+    // Given
+    List<CompletableFuture<AsyncResultSet>> pendingReads = mockReads();
+    RuntimeException failure = new RuntimeException("read timeout");
+
+    // When
+    CompletionStage<List<String>> result = new ReadByKeysEntityManager<String>(new ExecutionContext())
+        .withTableMetadata(tableMetadata).withKeys(Arrays.asList("id1", "id2")).withMaxInFlight(1).fetchAsync(session);
+    pendingReads.get(0).completeExceptionally(failure);
+
+    // Then
+    assertThat(result.toCompletableFuture()).isCompletedExceptionally();
+    assertThat(pendingReads).hasSize(1);
+  }
+
+  @Test
+  void fetchAsync_should_apply_table_default_read_consistency() {
+    // Given
+    mockReads();
+    when(tableMetadata.getDefaultReadConsistency()).thenReturn(ConsistencyLevel.QUORUM);
+    ExecutionContext executionContext = new ExecutionContext();
+    executionContext.setDefaultConsistencyLevel(ConsistencyLevel.ALL);
+
+    // When
+    new ReadByKeysEntityManager<String>(executionContext).withTableMetadata(tableMetadata).withKeys(Collections.singletonList("id1"))
+                                                         .fetchAsync(session);
+
+    // Then
+    verify(boundStatement).setConsistencyLevel(DefaultConsistencyLevel.QUORUM);
+    assertThat(executionContext.getDefaultConsistencyLevel()).isEqualTo(ConsistencyLevel.ALL);
+  }
+
+  @Test
+  void withKeys_should_reject_key_without_primary_key_values() {
+    // Given
+    when(tableMetadata.getPrimaryKeyNames()).thenReturn(Collections.singletonList("id"));
+    when(tableMetadata.serialize("incomplete")).thenReturn(Collections.singletonMap("id", null));
+
+    // When / Then
+    assertThatThrownBy(() -> new ReadByKeysEntityManager<String>(new ExecutionContext()).withTableMetadata(tableMetadata)
+                                                                                        .withKeys(Collections.singletonList("incomplete")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private List<CompletableFuture<AsyncResultSet>> mockReads() {
+    when(tableMetadata.getPrimaryKeyNames()).thenReturn(Collections.singletonList("id"));
+    when(tableMetadata.serialize(any())).thenAnswer(invocation -> Collections.singletonMap("id", invocation.getArgument(0)));
+    when(tableMetadata.getSelectByPrimaryKeyQuery()).thenReturn(SELECT_BY_PRIMARY_KEY_QUERY);
+    when(preparedStatement.bind(any())).thenReturn(boundStatement);
+    return new PendingExecutionsSession(session).preparing(SELECT_BY_PRIMARY_KEY_QUERY, preparedStatement).withPendingExecutions()
+                                                .getPendingExecutions();
+  }
+
+  private static AsyncResultSet found(String id) {
+    Row row = mock(Row.class);
+    when(row.getString("id")).thenReturn(id);
+    AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+    when(asyncResultSet.one()).thenReturn(row);
+    return asyncResultSet;
+  }
+
+  private static AsyncResultSet notFound() {
+    AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+    when(asyncResultSet.one()).thenReturn(null);
+    return asyncResultSet;
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.model.option.ConsistencyLevel;
+import ma.markware.charybdis.query.PendingExecutionsSession;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScanEntityManagerTest {
+
+  private static final String RANGE_QUERY = "SELECT * FROM test_keyspace.test_entity WHERE token(id)>? AND token(id)<=?";
+
+  @Mock
+  private CqlSession session;
+  @Mock
+  private TableMetadata<String> tableMetadata;
+  @Mock
+  private PreparedStatement preparedStatement;
+  @Mock(answer = Answers.RETURNS_SELF)
+  private BoundStatement boundStatement;
+
+  @Test
+  void splitRing_should_cover_whole_ring_with_contiguous_subranges() {
+    // When
+    long[] boundaries = ScanEntityManager.splitRing(4);
+
+    // Then
+    assertThat(boundaries).containsExactly(Long.MIN_VALUE, -4611686018427387905L, -1L, 4611686018427387903L, Long.MAX_VALUE);
+  }
+
+  @Test
+  void buildRangeQuery_should_restrict_token_of_partition_key() {
+    assertThat(ScanEntityManager.buildRangeQuery(TestEntity_Table.test_entity)).isEqualTo(RANGE_QUERY);
+  }
+
+  @Test
+  void scanAsync_should_consume_all_pages_of_all_subranges() {
+    // Given
+    when(tableMetadata.getKeyspaceName()).thenReturn(TestEntity_Table.KEYSPACE_NAME);
+    when(tableMetadata.getTableName()).thenReturn(TestEntity_Table.TABLE_NAME);
+    when(tableMetadata.getPartitionKeyColumns()).thenReturn(TestEntity_Table.test_entity.getPartitionKeyColumns());
+    when(tableMetadata.deserialize(any())).thenAnswer(invocation -> ((Row) invocation.getArgument(0)).getString("id"));
+    when(preparedStatement.bind(any(), any())).thenReturn(boundStatement);
+    List<CompletableFuture<AsyncResultSet>> pendingReads = new PendingExecutionsSession(session).preparing(RANGE_QUERY, preparedStatement)
+                                                                                                .withPendingExecutions().getPendingExecutions();
+    List<String> scannedEntities = Collections.synchronizedList(new ArrayList<>());
+
+    // When
+    CompletionStage<Long> result = new ScanEntityManager<String>(new ExecutionContext())
+        .withTableMetadata(tableMetadata).withConsumer(scannedEntities::add).withSplits(2).withMaxInFlight(1).scanAsync(session);
+
+    // Then
+    assertThat(pendingReads).hasSize(1);
+    pendingReads.get(0).complete(page(null, "id1", "id2"));
+    assertThat(pendingReads).hasSize(2);
+    pendingReads.get(1).complete(page(page(null, "id4"), "id3"));
+    assertThat(result.toCompletableFuture().join()).isEqualTo(4);
+    assertThat(scannedEntities).containsExactly("id1", "id2", "id3", "id4");
+    verify(preparedStatement).bind(Long.MIN_VALUE, -1L);
+    verify(preparedStatement).bind(-1L, Long.MAX_VALUE);
+    verify(session, times(2)).executeAsync(any(Statement.class));
+  }
+
+  @Test
+  void scanAsync_should_apply_table_default_read_consistency() {
+    // Given
+    when(tableMetadata.getKeyspaceName()).thenReturn(TestEntity_Table.KEYSPACE_NAME);
+    when(tableMetadata.getTableName()).thenReturn(TestEntity_Table.TABLE_NAME);
+    when(tableMetadata.getPartitionKeyColumns()).thenReturn(TestEntity_Table.test_entity.getPartitionKeyColumns());
+    when(tableMetadata.getDefaultReadConsistency()).thenReturn(ConsistencyLevel.LOCAL_QUORUM);
+    new PendingExecutionsSession(session).preparing(RANGE_QUERY, preparedStatement);
+    when(preparedStatement.bind(any(), any())).thenReturn(boundStatement);
+    AsyncResultSet emptyPage = page(null);
+    when(session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(emptyPage));
+    ExecutionContext executionContext = new ExecutionContext();
+    executionContext.setDefaultConsistencyLevel(ConsistencyLevel.ALL);
+
+    // When
+    long scanned = new ScanEntityManager<String>(executionContext).withTableMetadata(tableMetadata).withConsumer(entity -> {})
+                                                                  .withSplits(1).scan(session);
+
+    // Then
+    assertThat(scanned).isZero();
+    verify(boundStatement).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+    assertThat(executionContext.getDefaultConsistencyLevel()).isEqualTo(ConsistencyLevel.ALL);
+  }
+
+  private static AsyncResultSet page(AsyncResultSet nextPage, String... ids) {
+    List<Row> rows = new ArrayList<>();
+    for (String id : ids) {
+      Row row = mock(Row.class);
+      when(row.getString("id")).thenReturn(id);
+      rows.add(row);
+    }
+    AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+    when(asyncResultSet.currentPage()).thenReturn(rows);
+    when(asyncResultSet.hasMorePages()).thenReturn(nextPage != null);
+    if (nextPage != null) {
+      when(asyncResultSet.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(nextPage));
+    }
+    return asyncResultSet;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.crud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.test.entities.TestEntityByDate;
+import ma.markware.charybdis.test.metadata.TestEntityByDate_Table;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateEntityManagerTest {
+
+  @Mock
+  private CqlSession session;
+  @Mock
+  private PreparedStatement preparedStatement;
+  @Mock(answer = Answers.RETURNS_SELF)
+  private BoundStatement boundStatement;
+
+  @Test
+  void saveAsync_with_snapshot_should_only_update_changed_columns() {
+    // Given
+    ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+    AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+    when(session.getName()).thenReturn("partial_update_session");
+    when(session.prepareAsync(queryCaptor.capture())).thenReturn(CompletableFuture.completedFuture(preparedStatement));
+    when(preparedStatement.bind(any(), any(), any(), any(), any())).thenReturn(boundStatement);
+    when(session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(asyncResultSet));
+    when(asyncResultSet.wasApplied()).thenReturn(true);
+    TestEntityByDate entity = new TestEntityByDate(Instant.now(), null, Collections.singletonList("a"), true);
+    EntitySnapshot<TestEntityByDate> snapshot = EntitySnapshot.of(TestEntityByDate_Table.test_entity_by_date, entity);
+    entity.setFlag(false);
+
+    // When
+    TestEntityByDate updatedEntity = new UpdateEntityManager<TestEntityByDate>(new ExecutionContext())
+        .withTableMetadata(TestEntityByDate_Table.test_entity_by_date).withEntity(entity).withSnapshot(snapshot).saveAsync(session)
+        .toCompletableFuture().join();
+
+    // Then
+    assertThat(updatedEntity).isSameAs(entity);
+    assertThat(queryCaptor.getValue()).isEqualTo(
+        "UPDATE test_keyspace.test_entity_by_date SET flag=?, last_updated_date=? WHERE date=? AND udt=? AND list=?");
+    verify(preparedStatement).bind(false, entity.getLastUpdatedDate(), entity.getDate(), null, Collections.singletonList("a"));
+    assertThat(snapshot.isChanged(entity)).isFalse();
+  }
+
+  @Test
+  void saveAsync_with_snapshot_should_not_execute_query_if_entity_is_unchanged() {
+    // Given
+    TestEntityByDate entity = new TestEntityByDate(Instant.now(), null, Collections.singletonList("a"), true);
+    EntitySnapshot<TestEntityByDate> snapshot = EntitySnapshot.of(TestEntityByDate_Table.test_entity_by_date, entity);
+
+    // When
+    TestEntityByDate updatedEntity = new UpdateEntityManager<TestEntityByDate>(new ExecutionContext())
+        .withTableMetadata(TestEntityByDate_Table.test_entity_by_date).withEntity(entity).withSnapshot(snapshot).saveAsync(session)
+        .toCompletableFuture().join();
+
+    // Then
+    assertThat(updatedEntity).isSameAs(entity);
+    assertThat(entity.getLastUpdatedDate()).isNull();
+    verifyNoInteractions(session);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.dsl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.UUID;
+import ma.markware.charybdis.model.field.SelectableField;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import org.junit.jupiter.api.Test;
+
+class ArrayRecordTest {
+
+  @Test
+  void get_should_return_value_at_field_position() {
+    // Given
+    UUID id = UUID.randomUUID();
+    Instant date = Instant.now();
+    Record record = new ArrayRecord(new SelectableField[]{ TestEntity_Table.id, TestEntity_Table.date }, new Object[]{ id, date });
+
+    // When / Then
+    assertThat(record.get(TestEntity_Table.id)).isEqualTo(id);
+    assertThat(record.get(TestEntity_Table.date)).isEqualTo(date);
+    assertThat(record.get(TestEntity_Table.enumValue)).isNull();
+  }
+
+  @Test
+  void get_should_match_new_field_instances_by_name() {
+    // Given
+    Record record = new ArrayRecord(new SelectableField[]{ TestEntity_Table.id, DslFunctions.writetime(TestEntity_Table.date) },
+                                    new Object[]{ UUID.randomUUID(), 1000L });
+
+    // When / Then
+    assertThat(record.get(DslFunctions.writetime(TestEntity_Table.date))).isEqualTo(1000L);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.dsl.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Scanner;
+import java.util.UUID;
+import ma.markware.charybdis.CqlTemplate;
+import ma.markware.charybdis.dsl.DslQueryBuilder;
+import ma.markware.charybdis.dsl.Record;
+import ma.markware.charybdis.test.entities.TestEntity;
+import ma.markware.charybdis.test.entities.TestEnum;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import ma.markware.charybdis.test.tools.memory.InMemoryCqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DslSelectCollectionEntryTest {
+
+  private static final UUID ID = UUID.randomUUID();
+  private static final Instant DATE = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+  private DslQueryBuilder dsl;
+
+  @BeforeEach
+  void setup() throws IOException {
+    InMemoryCqlSession session = new InMemoryCqlSession();
+    try (InputStream ddl = getClass().getClassLoader().getResourceAsStream("ddl_create_int.cql")) {
+      session.executeScript(new Scanner(ddl, StandardCharsets.UTF_8.name()).useDelimiter("\\A").next());
+    }
+    CqlTemplate cqlTemplate = new CqlTemplate(session);
+    TestEntity entity = new TestEntity(TestEntity_INST1.entity1);
+    entity.setId(ID);
+    entity.setDate(DATE);
+    cqlTemplate.crud().create(TestEntity_Table.test_entity, entity);
+    dsl = cqlTemplate.dsl();
+  }
+
+  @Test
+  void select_should_fetch_map_entries() {
+    // When
+    Record record = dsl.select(TestEntity_Table.map.entry("key1"), TestEntity_Table.map.entry("unknown"), TestEntity_Table.enumMap.entry(1),
+                               TestEntity_Table.udtMap.entry(1), TestEntity_Table.nestedMap.entry("key0"))
+                       .from(TestEntity_Table.test_entity)
+                       .where(TestEntity_Table.id.eq(ID))
+                       .fetchOne();
+
+    // Then
+    assertThat(record.get(TestEntity_Table.map.entry("key1"))).isEqualTo("value1");
+    assertThat(record.get(TestEntity_Table.map.entry("unknown"))).isNull();
+    assertThat(record.get(TestEntity_Table.enumMap.entry(1))).isEqualTo(TestEnum.TYPE_A);
+    assertThat(record.get(TestEntity_Table.udtMap.entry(1))).isEqualTo(TestEntity_INST1.udt1);
+    assertThat(record.get(TestEntity_Table.nestedMap.entry("key0"))).isEqualTo(ImmutableMap.of(0, "nestedValue0"));
+  }
+
+  @Test
+  void select_should_fetch_map_slices() {
+    // When
+    Record record = dsl.select(TestEntity_Table.map.slice("key2", null), TestEntity_Table.map.slice(null, "key1"), TestEntity_Table.map.slice("key3", "key4"))
+                       .from(TestEntity_Table.test_entity)
+                       .where(TestEntity_Table.id.eq(ID))
+                       .fetchOne();
+
+    // Then
+    assertThat(record.get(TestEntity_Table.map.slice("key2", null))).isEqualTo(ImmutableMap.of("key2", "value2"));
+    assertThat(record.get(TestEntity_Table.map.slice(null, "key1"))).isEqualTo(ImmutableMap.of("key1", "value1"));
+    assertThat(record.get(TestEntity_Table.map.slice("key3", "key4"))).isNull();
+  }
+
+  @Test
+  void update_should_set_single_map_entry() {
+    // When
+    dsl.update(TestEntity_Table.test_entity)
+       .set(TestEntity_Table.map.entry("key1"), "newValue1")
+       .set(TestEntity_Table.enumMap.entry(2), TestEnum.TYPE_B)
+       .where(TestEntity_Table.id.eq(ID))
+       .and(TestEntity_Table.date.eq(DATE))
+       .and(TestEntity_Table.udt.eq(TestEntity_INST1.udt1))
+       .and(TestEntity_Table.list.eq(TestEntity_INST1.list))
+       .execute();
+
+    // Then
+    Record record = dsl.select(TestEntity_Table.map, TestEntity_Table.enumMap.entry(2))
+                       .from(TestEntity_Table.test_entity)
+                       .where(TestEntity_Table.id.eq(ID))
+                       .fetchOne();
+    assertThat(record.get(TestEntity_Table.map)).isEqualTo(ImmutableMap.of("key1", "newValue1", "key2", "value2"));
+    assertThat(record.get(TestEntity_Table.enumMap.entry(2))).isEqualTo(TestEnum.TYPE_B);
+  }
+}
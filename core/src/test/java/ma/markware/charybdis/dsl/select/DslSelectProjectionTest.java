@@ -0,0 +1,122 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.dsl.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Scanner;
+import java.util.UUID;
+import ma.markware.charybdis.CqlTemplate;
+import ma.markware.charybdis.dsl.DslQueryBuilder;
+import ma.markware.charybdis.dsl.Record;
+import ma.markware.charybdis.query.PageRequest;
+import ma.markware.charybdis.query.PageResult;
+import ma.markware.charybdis.test.entities.TestEntity;
+import ma.markware.charybdis.test.entities.TestEntitySummary;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestEntitySummary_Projection;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import ma.markware.charybdis.test.tools.memory.InMemoryCqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DslSelectProjectionTest {
+
+  private static final UUID ID = UUID.randomUUID();
+  private static final Instant DATE = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+  private DslQueryBuilder dsl;
+
+  @BeforeEach
+  void setup() throws IOException {
+    InMemoryCqlSession session = new InMemoryCqlSession();
+    try (InputStream ddl = getClass().getClassLoader().getResourceAsStream("ddl_create_int.cql")) {
+      session.executeScript(new Scanner(ddl, StandardCharsets.UTF_8.name()).useDelimiter("\\A").next());
+    }
+    CqlTemplate cqlTemplate = new CqlTemplate(session);
+    for (int i = 0; i < 3; i++) {
+      TestEntity entity = new TestEntity(TestEntity_INST1.entity1);
+      entity.setId(ID);
+      entity.setDate(DATE.minusSeconds(i));
+      cqlTemplate.crud().create(TestEntity_Table.test_entity, entity);
+    }
+    dsl = cqlTemplate.dsl();
+  }
+
+  @Test
+  void fetchInto_should_map_projected_columns() {
+    // When
+    List<TestEntitySummary> summaries = dsl.selectFrom(TestEntitySummary_Projection.testentitysummary)
+                                           .where(TestEntity_Table.id.eq(ID))
+                                           .fetchInto(TestEntitySummary_Projection.testentitysummary);
+
+    // Then
+    assertThat(summaries).extracting(TestEntitySummary::getDate).containsExactly(DATE, DATE.minusSeconds(1), DATE.minusSeconds(2));
+    assertThat(summaries).allSatisfy(summary -> {
+      assertThat(summary.getId()).isEqualTo(ID);
+      assertThat(summary.getEnumValue()).isEqualTo(TestEntity_INST1.enumValue);
+      assertThat(summary.getMap()).isEqualTo(TestEntity_INST1.map);
+    });
+  }
+
+  @Test
+  void fetchOneInto_should_map_projected_columns_of_all_columns_select() {
+    // When
+    TestEntitySummary summary = dsl.selectFrom(TestEntity_Table.test_entity)
+                                   .where(TestEntity_Table.id.eq(ID))
+                                   .and(TestEntity_Table.date.eq(DATE))
+                                   .fetchOneInto(TestEntitySummary_Projection.testentitysummary);
+
+    // Then
+    assertThat(summary.getId()).isEqualTo(ID);
+    assertThat(summary.getDate()).isEqualTo(DATE);
+    assertThat(summary.getEnumValue()).isEqualTo(TestEntity_INST1.enumValue);
+  }
+
+  @Test
+  void fetchPageInto_should_map_projected_columns() {
+    // When
+    PageResult<TestEntitySummary> page = dsl.selectFrom(TestEntitySummary_Projection.testentitysummary)
+                                            .where(TestEntity_Table.id.eq(ID))
+                                            .fetchPageInto(TestEntitySummary_Projection.testentitysummary, PageRequest.of(null, 2));
+
+    // Then
+    assertThat(page.getResults()).extracting(TestEntitySummary::getDate).containsExactly(DATE, DATE.minusSeconds(1));
+    assertThat(page.getPagingState()).isNotNull();
+  }
+
+  @Test
+  void fetch_should_return_records_of_projected_columns() {
+    // When
+    Record record = dsl.selectFrom(TestEntitySummary_Projection.testentitysummary)
+                       .where(TestEntity_Table.id.eq(ID))
+                       .fetchOne();
+
+    // Then
+    assertThat(record.get(TestEntity_Table.date)).isEqualTo(DATE);
+    assertThat(record.get(TestEntity_Table.enumValue)).isEqualTo(TestEntity_INST1.enumValue);
+    assertThat(record.get(TestEntity_Table.list)).isNull();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.dsl.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Scanner;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import ma.markware.charybdis.CqlTemplate;
+import ma.markware.charybdis.dsl.DslQueryBuilder;
+import ma.markware.charybdis.dsl.Record;
+import ma.markware.charybdis.exception.CharybdisUnsupportedOperationException;
+import ma.markware.charybdis.query.PageRequest;
+import ma.markware.charybdis.query.PageResult;
+import ma.markware.charybdis.test.entities.TestEntity;
+import ma.markware.charybdis.test.entities.TestEnum;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import ma.markware.charybdis.test.tools.memory.InMemoryCqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DslSelectTemplateTest {
+
+  private static final UUID ID1 = UUID.randomUUID();
+  private static final UUID ID2 = UUID.randomUUID();
+  private static final Instant DATE = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+  private DslQueryBuilder dsl;
+
+  @BeforeEach
+  void setup() throws IOException {
+    InMemoryCqlSession session = new InMemoryCqlSession();
+    try (InputStream ddl = getClass().getClassLoader().getResourceAsStream("ddl_create_int.cql")) {
+      session.executeScript(new Scanner(ddl, StandardCharsets.UTF_8.name()).useDelimiter("\\A").next());
+    }
+    CqlTemplate cqlTemplate = new CqlTemplate(session);
+    for (int i = 0; i < 5; i++) {
+      cqlTemplate.crud().create(TestEntity_Table.test_entity, entity(ID1, DATE.minusSeconds(i)));
+      cqlTemplate.crud().create(TestEntity_Table.test_entity, entity(ID2, DATE.minusSeconds(i)));
+    }
+    dsl = cqlTemplate.dsl();
+  }
+
+  @Test
+  void bind_should_execute_template_with_given_values() {
+    // Given
+    DslSelectTemplate template = dsl.prepare(dsl.selectFrom(TestEntity_Table.test_entity)
+                                                .where(TestEntity_Table.id.eq(null))
+                                                .and(TestEntity_Table.date.gt(null)));
+
+    // When
+    Record record = template.bind(ID1, DATE.minusSeconds(1)).fetchOne();
+
+    // Then
+    assertThat(template.getParameterCount()).isEqualTo(2);
+    assertThat(template.getQuery()).isEqualTo("SELECT * FROM test_keyspace.test_entity WHERE id=? AND date>?");
+    assertThat(template.bind(ID1, DATE.minusSeconds(2)).fetch()).extracting(r -> r.get(TestEntity_Table.date))
+                                                               .containsExactly(DATE, DATE.minusSeconds(1));
+    assertThat(template.bind(ID2, DATE.minusSeconds(10)).fetch()).hasSize(5)
+                                                                .allSatisfy(r -> assertThat(r.get(TestEntity_Table.id)).isEqualTo(ID2));
+    assertThat(record.get(TestEntity_Table.id)).isEqualTo(ID1);
+    assertThat(record.get(TestEntity_Table.date)).isEqualTo(DATE);
+  }
+
+  @Test
+  void bind_should_serialize_values_and_fetch_pages() {
+    // Given
+    DslSelectTemplate template = dsl.prepare(dsl.select(TestEntity_Table.date, TestEntity_Table.enumValue)
+                                                .from(TestEntity_Table.test_entity)
+                                                .where(TestEntity_Table.id.eq(null))
+                                                .and(TestEntity_Table.enumValue.eq(null))
+                                                .allowFiltering());
+
+    // When
+    PageResult<Record> firstPage = template.bind(ID1, TestEntity_INST1.enumValue).fetchPage(PageRequest.of(null, 3));
+    PageResult<Record> secondPage = template.bind(ID1, TestEntity_INST1.enumValue).fetchPage(PageRequest.of(firstPage.getPagingState(), 3));
+
+    // Then
+    assertThat(firstPage.getResults()).hasSize(3);
+    assertThat(secondPage.getResults()).hasSize(2);
+    assertThat(secondPage.getPagingState()).isNull();
+    assertThat(firstPage.getResults().stream().map(r -> r.get(TestEntity_Table.enumValue)).collect(Collectors.toSet()))
+        .containsExactly(TestEntity_INST1.enumValue);
+    assertThat(template.bind(ID1, TestEnum.TYPE_B).fetch()).isEmpty();
+  }
+
+  @Test
+  void bind_should_fail_when_values_count_does_not_match() {
+    // Given
+    DslSelectTemplate template = dsl.prepare(dsl.selectFrom(TestEntity_Table.test_entity).where(TestEntity_Table.id.eq(null)));
+
+    // When / Then
+    assertThatThrownBy(() -> template.bind(ID1, DATE)).isInstanceOf(IllegalArgumentException.class)
+                                                      .hasMessage("Query template expects 1 values, 2 given");
+  }
+
+  @Test
+  void prepare_should_fail_on_in_clause() {
+    assertThatThrownBy(() -> dsl.prepare(dsl.selectFrom(TestEntity_Table.test_entity).where(TestEntity_Table.id.in(ID1, ID2))))
+        .isInstanceOf(CharybdisUnsupportedOperationException.class);
+  }
+
+  private static TestEntity entity(UUID id, Instant date) {
+    TestEntity entity = new TestEntity(TestEntity_INST1.entity1);
+    entity.setId(id);
+    entity.setDate(date);
+    return entity;
+  }
+}
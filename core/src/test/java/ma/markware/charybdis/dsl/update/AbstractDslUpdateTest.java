@@ -51,6 +51,7 @@ import ma.markware.charybdis.test.entities.TestNestedUdt;
 import ma.markware.charybdis.test.entities.TestUdt;
 import ma.markware.charybdis.test.metadata.TestEntity_Table;
 import ma.markware.charybdis.test.metadata.TestExtraUdt_Udt;
+import ma.markware.charybdis.test.metadata.TestUpsertEntity_Table;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -320,6 +321,26 @@ abstract class AbstractDslUpdateTest <T extends AbstractDslUpdate> {
         );
   }
 
+  @Test
+  void update_should_use_table_default_update_mode() {
+    instance.update(TestUpsertEntity_Table.test_upsert_entity);
+
+    UpdateQuery updateQuery = instance.getUpdateQuery();
+    assertThat(updateQuery.isIfExists()).isFalse();
+  }
+
+  @Test
+  void ifExists() {
+    UUID uuid = UUID.randomUUID();
+    instance.update(TestEntity_Table.test_entity)
+              .set(TestEntity_Table.flag, true)
+              .where(TestEntity_Table.id.eq(uuid))
+              .ifExists(false);
+
+    UpdateQuery updateQuery = instance.getUpdateQuery();
+    assertThat(updateQuery.isIfExists()).isFalse();
+  }
+
   @Test
   void and_() {
     UUID uuid = UUID.randomUUID();
@@ -0,0 +1,77 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void bucketIndex_should_be_continuous_and_bound_values() {
+    int previousIndex = -1;
+    for (long value = 0; value < 1 << 20; value++) {
+      int index = LatencyHistogram.bucketIndex(value);
+      assertThat(index).isBetween(previousIndex, previousIndex + 1);
+      assertThat(LatencyHistogram.bucketHighestValue(index)).isGreaterThanOrEqualTo(value);
+      previousIndex = index;
+    }
+    assertThat(LatencyHistogram.bucketHighestValue(LatencyHistogram.bucketIndex(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  void getPercentile_should_be_accurate_within_bucket_precision() {
+    // Given
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    // When
+    for (long value = 1; value <= 100_000; value++) {
+      histogram.record(value * 1000);
+    }
+    LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+
+    // Then
+    assertThat(snapshot.getCount()).isEqualTo(100_000);
+    assertThat(snapshot.getMin()).isEqualTo(1000);
+    assertThat(snapshot.getMax()).isEqualTo(100_000_000);
+    assertThat(snapshot.getMean()).isCloseTo(50_000_500, within(1d));
+    assertThat((double) snapshot.getPercentile(50)).isCloseTo(50_000_000, within(50_000_000 * 0.016));
+    assertThat((double) snapshot.getPercentile(99)).isCloseTo(99_000_000, within(99_000_000 * 0.016));
+    assertThat(snapshot.getPercentile(100)).isEqualTo(100_000_000);
+    assertThat(snapshot.getPercentile(0)).isBetween(1000L, 1016L);
+  }
+
+  @Test
+  void reset_should_clear_recorded_values() {
+    // Given
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(42);
+
+    // When
+    histogram.reset();
+
+    // Then
+    LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+    assertThat(snapshot.getCount()).isZero();
+    assertThat(snapshot.getMin()).isZero();
+    assertThat(snapshot.getPercentile(99)).isZero();
+  }
+}
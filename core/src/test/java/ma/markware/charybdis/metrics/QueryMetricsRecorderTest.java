@@ -0,0 +1,143 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Scanner;
+import java.util.UUID;
+import ma.markware.charybdis.CqlTemplate;
+import ma.markware.charybdis.exception.CharybdisQueryExecutionException;
+import ma.markware.charybdis.query.PageRequest;
+import ma.markware.charybdis.test.entities.TestEntity;
+import ma.markware.charybdis.test.entities.TestUpsertEntity;
+import ma.markware.charybdis.test.instances.TestEntity_INST1;
+import ma.markware.charybdis.test.metadata.TestEntity_Table;
+import ma.markware.charybdis.test.metadata.TestUpsertEntity_Table;
+import ma.markware.charybdis.test.tools.memory.InMemoryCqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryMetricsRecorderTest {
+
+  private static final String KEYSPACE = TestEntity_Table.test_entity.getKeyspaceName();
+  private static final String TABLE = TestEntity_Table.test_entity.getTableName();
+
+  private CqlTemplate cqlTemplate;
+  private QueryMetricsRecorder recorder;
+  private List<QueryEvent> events;
+
+  @BeforeEach
+  void setup() throws IOException {
+    InMemoryCqlSession session = new InMemoryCqlSession();
+    try (InputStream ddl = getClass().getClassLoader().getResourceAsStream("ddl_create_int.cql")) {
+      session.executeScript(new Scanner(ddl, StandardCharsets.UTF_8.name()).useDelimiter("\\A").next());
+    }
+    recorder = new QueryMetricsRecorder();
+    events = Collections.synchronizedList(new ArrayList<>());
+    cqlTemplate = new CqlTemplate(session).withQueryListener(recorder).withQueryListener(events::add);
+  }
+
+  @Test
+  void listeners_should_be_notified_of_each_phase() {
+    // When
+    cqlTemplate.crud().create(TestEntity_Table.test_entity, TestEntity_INST1.entity1);
+    TestEntity entity = cqlTemplate.crud().findOne(TestEntity_Table.test_entity, TestEntity_Table.id.eq(TestEntity_INST1.id));
+    List<TestEntity> entities = cqlTemplate.crud().find(TestEntity_Table.test_entity);
+
+    // Then
+    assertThat(entity).isNotNull();
+    assertThat(entities).hasSize(1);
+    assertThat(events).extracting(QueryEvent::getOperation, QueryEvent::getPhase)
+                      .containsExactly(tuple(QueryOperation.INSERT, QueryPhase.PREPARE), tuple(QueryOperation.INSERT, QueryPhase.EXECUTE),
+                                       tuple(QueryOperation.SELECT, QueryPhase.BUILD), tuple(QueryOperation.SELECT, QueryPhase.PREPARE), tuple(QueryOperation.SELECT, QueryPhase.EXECUTE),
+                                       tuple(QueryOperation.SELECT, QueryPhase.DESERIALIZE), tuple(QueryOperation.SELECT, QueryPhase.BUILD),
+                                       tuple(QueryOperation.SELECT, QueryPhase.PREPARE), tuple(QueryOperation.SELECT, QueryPhase.EXECUTE),
+                                       tuple(QueryOperation.SELECT, QueryPhase.DESERIALIZE));
+    assertThat(events).allSatisfy(event -> {
+      assertThat(event.getKeyspace()).isEqualTo(KEYSPACE);
+      assertThat(event.getTable()).isEqualTo(TABLE);
+      assertThat(event.getDurationNanos()).isNotNegative();
+      assertThat(event.isSuccessful()).isTrue();
+    });
+
+    QueryMetrics selectExecutions = recorder.getMetrics(KEYSPACE, TABLE, QueryOperation.SELECT, QueryPhase.EXECUTE);
+    assertThat(selectExecutions.getCount()).isEqualTo(2);
+    assertThat(selectExecutions.getRows()).isEqualTo(2);
+    assertThat(selectExecutions.getErrors()).isZero();
+    assertThat(selectExecutions.getLatency().getPercentile(99)).isPositive();
+    assertThat(selectExecutions.getThroughput()).isPositive();
+    assertThat(recorder.getMetrics(KEYSPACE, TABLE, QueryOperation.SELECT, QueryPhase.DESERIALIZE).getRows()).isEqualTo(2);
+    assertThat(recorder.getMetrics()).hasSize(6);
+  }
+
+  @Test
+  void failed_executions_should_be_recorded_as_errors() {
+    // When
+    Throwable thrown = catchThrowable(() -> cqlTemplate.dsl().selectFrom(TestEntity_Table.test_entity)
+                                                       .fetchPage(PageRequest.of(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), 10)));
+
+    // Then
+    QueryMetrics selectExecutions = recorder.getMetrics(KEYSPACE, TABLE, QueryOperation.SELECT, QueryPhase.EXECUTE);
+    assertThat(thrown).isInstanceOf(CharybdisQueryExecutionException.class);
+    assertThat(selectExecutions.getCount()).isEqualTo(1);
+    assertThat(selectExecutions.getErrors()).isEqualTo(1);
+    assertThat(events).filteredOn(event -> event.getPhase() == QueryPhase.EXECUTE)
+                      .hasSize(1)
+                      .allSatisfy(event -> assertThat(event.isSuccessful()).isFalse());
+  }
+
+  @Test
+  void failed_async_preparations_should_be_recorded_as_prepare_errors() {
+    // Given
+    // Table test_upsert_entity is not created, its statements cannot be prepared
+    TestUpsertEntity entity = new TestUpsertEntity(UUID.randomUUID(), "name");
+
+    // When
+    Throwable thrown = catchThrowable(() -> cqlTemplate.crud().createAsync(TestUpsertEntity_Table.test_upsert_entity, entity).toCompletableFuture().join());
+
+    // Then
+    assertThat(thrown).hasCauseInstanceOf(CharybdisQueryExecutionException.class);
+    assertThat(events).extracting(QueryEvent::getPhase, QueryEvent::isSuccessful).containsExactly(tuple(QueryPhase.PREPARE, false));
+  }
+
+  @Test
+  void removed_listener_should_not_be_notified() {
+    // Given
+    QueryListener listener = event -> {
+      throw new IllegalStateException("should not be notified");
+    };
+    cqlTemplate.withQueryListener(listener).removeQueryListener(listener);
+
+    // When
+    cqlTemplate.crud().create(TestEntity_Table.test_entity, TestEntity_INST1.entity1);
+
+    // Then
+    assertThat(recorder.getMetrics(KEYSPACE, TABLE, QueryOperation.INSERT, QueryPhase.EXECUTE).getCount()).isEqualTo(1);
+  }
+}
@@ -69,6 +69,7 @@ class AbstractQueryTest {
     when(preparedStatement.bind(any())).thenReturn(boundStatement);
     when(boundStatement.setPageSize(anyInt())).thenReturn(boundStatement);
     when(boundStatement.setPagingState(eq(null))).thenReturn(boundStatement);
+    when(boundStatement.setIdempotent(true)).thenReturn(boundStatement);
     when(session.execute(any(Statement.class))).thenReturn(null);
     when(abstractQuery.buildStatement()).thenReturn(new StatementTuple(simpleStatement, new Object[] {}));
     PreparedStatementFactory.CACHE_MANAGER.destroyCache(PreparedStatementFactory.CACHE_NAME);
@@ -0,0 +1,151 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.exception.CharybdisQueryTimeoutException;
+import ma.markware.charybdis.exception.CharybdisUnsupportedOperationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BatchQueryTest {
+
+  private static final CqlIdentifier KEYSPACE = CqlIdentifier.fromCql("test_keyspace");
+
+  @Mock
+  private CqlSession session;
+  @Mock
+  private DriverContext driverContext;
+
+  @Test
+  void groupByPartition_should_group_statements_by_routing_key() {
+    // Given
+    BoundStatement statement1 = mockStatement(1, 10);
+    BoundStatement statement2 = mockStatement(2, 10);
+    BoundStatement statement3 = mockStatement(1, 10);
+    BoundStatement statement4 = mockStatement(2, 10);
+
+    // When
+    List<List<BatchableStatement<?>>> subBatches = BatchQuery.groupByPartition(Arrays.asList(statement1, statement2, statement3, statement4),
+                                                                               driverContext, 100, 1024);
+
+    // Then
+    assertThat(subBatches).containsExactly(Arrays.asList(statement1, statement3), Arrays.asList(statement2, statement4));
+  }
+
+  @Test
+  void groupByPartition_should_split_groups_exceeding_limits() {
+    // Given
+    BoundStatement statement1 = mockStatement(1, 40);
+    BoundStatement statement2 = mockStatement(1, 40);
+    BoundStatement statement3 = mockStatement(1, 120);
+    BoundStatement statement4 = mockStatement(1, 10);
+    BoundStatement statement5 = mockStatement(1, 10);
+    BoundStatement statement6 = mockStatement(1, 10);
+
+    // When
+    List<List<BatchableStatement<?>>> subBatches = BatchQuery.groupByPartition(
+        Arrays.asList(statement1, statement2, statement3, statement4, statement5, statement6), driverContext, 2, 100);
+
+    // Then
+    assertThat(subBatches).containsExactly(Arrays.asList(statement1, statement2), Arrays.asList(statement3), Arrays.asList(statement4, statement5),
+                                           Arrays.asList(statement6));
+  }
+
+  @Test
+  void executeAsync_should_execute_sub_batches_concurrently() {
+    // Given
+    when(session.getContext()).thenReturn(driverContext);
+    when(session.executeAsync(any(BatchStatement.class))).thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+    BatchQuery batchQuery = new BatchQuery(new ExecutionContext());
+    batchQuery.setUnLogged();
+    batchQuery.setGroupByPartition(100, 1024);
+    batchQuery.addStatement(mockStatement(1, 10));
+    batchQuery.addStatement(mockStatement(2, 10));
+    batchQuery.addStatement(mockStatement(3, 10));
+
+    // When
+    CompletableFuture<Void> execution = batchQuery.executeAsync(session).toCompletableFuture();
+
+    // Then
+    assertThat(execution).isCompletedWithValue(null);
+    verify(session, times(3)).executeAsync(any(BatchStatement.class));
+  }
+
+  @Test
+  void execute_should_throw_when_batch_fails() {
+    // Given
+    when(session.execute(any(BatchStatement.class))).thenThrow(new DriverTimeoutException("timeout"));
+    BatchQuery batchQuery = new BatchQuery(new ExecutionContext());
+    batchQuery.setLogged();
+    batchQuery.addStatement(mock(BoundStatement.class));
+
+    // When
+    assertThatThrownBy(() -> batchQuery.execute(session)).isInstanceOf(CharybdisQueryTimeoutException.class)
+                                                        .hasCauseInstanceOf(DriverTimeoutException.class);
+  }
+
+  @Test
+  void setGroupByPartition_should_fail_on_logged_batch() {
+    BatchQuery batchQuery = new BatchQuery(new ExecutionContext());
+    batchQuery.setLogged();
+
+    assertThatThrownBy(() -> batchQuery.setGroupByPartition(100, 1024)).isInstanceOf(CharybdisUnsupportedOperationException.class);
+  }
+
+  @Test
+  void setLogged_should_fail_on_batch_grouped_by_partition() {
+    BatchQuery batchQuery = new BatchQuery(new ExecutionContext());
+    batchQuery.setUnLogged();
+    batchQuery.setGroupByPartition(100, 1024);
+
+    assertThatThrownBy(batchQuery::setLogged).isInstanceOf(CharybdisUnsupportedOperationException.class);
+  }
+
+  private BoundStatement mockStatement(int partition, int sizeInBytes) {
+    BoundStatement statement = mock(BoundStatement.class);
+    when(statement.getRoutingKeyspace()).thenReturn(KEYSPACE);
+    when(statement.getRoutingKey()).thenReturn(ByteBuffer.allocate(4).putInt(0, partition));
+    when(statement.computeSizeInBytes(driverContext)).thenReturn(sizeInBytes);
+    return statement;
+  }
+}
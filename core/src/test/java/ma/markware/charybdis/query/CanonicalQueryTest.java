@@ -0,0 +1,214 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import ma.markware.charybdis.ExecutionContext;
+import ma.markware.charybdis.exception.CharybdisQueryExecutionException;
+import ma.markware.charybdis.exception.CharybdisQueryTimeoutException;
+import ma.markware.charybdis.model.option.ConsistencyLevel;
+import ma.markware.charybdis.test.metadata.TestEntityByDate_Table;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CanonicalQueryTest {
+
+  @Mock
+  private CqlSession session;
+
+  @Test
+  void setQuery_should_pick_bind_values_in_bind_columns_order() {
+    // Given
+    Map<String, Object> columnValues = new HashMap<>();
+    columnValues.put("flag", true);
+    columnValues.put("list", "list");
+    columnValues.put("date", "date");
+    columnValues.put("udt", "udt");
+    CanonicalQuery canonicalQuery = new CanonicalQuery();
+
+    // When
+    canonicalQuery.setQuery(TestEntityByDate_Table.UPDATE_QUERY, columnValues, TestEntityByDate_Table.test_entity_by_date.getRegularColumnNames(),
+                            TestEntityByDate_Table.test_entity_by_date.getPrimaryKeyNames());
+
+    // Then
+    assertThat(canonicalQuery.getQuery()).isEqualTo(TestEntityByDate_Table.UPDATE_QUERY);
+    assertThat(canonicalQuery.getBindValues()).containsExactly(true, null, null, "date", "udt", "list");
+  }
+
+  @Test
+  void hasValues() {
+    Map<String, Object> columnValues = new HashMap<>();
+    columnValues.put("date", "date");
+    columnValues.put("udt", "udt");
+    columnValues.put("list", null);
+
+    assertThat(CanonicalQuery.hasValues(columnValues, Arrays.asList("date", "udt"))).isTrue();
+    assertThat(CanonicalQuery.hasValues(columnValues, Arrays.asList("date", "udt", "list"))).isFalse();
+  }
+
+  @Test
+  void execute_should_prepare_statement_once_per_session_and_apply_consistency() {
+    // Given
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    BoundStatement boundStatement = mock(BoundStatement.class);
+    when(session.getName()).thenReturn("canonical_session");
+    when(session.prepare(TestEntityByDate_Table.DELETE_BY_PRIMARY_KEY_QUERY)).thenReturn(preparedStatement);
+    when(preparedStatement.bind(any())).thenReturn(boundStatement);
+    when(boundStatement.setConsistencyLevel(any())).thenReturn(boundStatement);
+    ExecutionContext executionContext = new ExecutionContext();
+    executionContext.setConsistencyLevel(ConsistencyLevel.QUORUM);
+    CanonicalQuery canonicalQuery = new CanonicalQuery(executionContext);
+    canonicalQuery.setQuery(TestEntityByDate_Table.DELETE_BY_PRIMARY_KEY_QUERY, new Object[] { "date", "udt", "list" });
+
+    // When
+    canonicalQuery.execute(session);
+    canonicalQuery.execute(session);
+
+    // Then
+    verify(session, times(1)).prepare(TestEntityByDate_Table.DELETE_BY_PRIMARY_KEY_QUERY);
+    verify(boundStatement, times(2)).setConsistencyLevel(com.datastax.oss.driver.api.core.ConsistencyLevel.QUORUM);
+    verify(session, times(2)).execute(any(Statement.class));
+  }
+
+  @Test
+  void execute_should_leave_null_values_unset() {
+    // Given
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    BoundStatementBuilder boundStatementBuilder = mock(BoundStatementBuilder.class, RETURNS_SELF);
+    BoundStatement boundStatement = mock(BoundStatement.class);
+    when(session.getName()).thenReturn("canonical_unset_session");
+    when(session.prepare(TestEntityByDate_Table.INSERT_QUERY)).thenReturn(preparedStatement);
+    when(preparedStatement.boundStatementBuilder("date", null, "list", null, "creation_date", "last_updated_date")).thenReturn(boundStatementBuilder);
+    when(boundStatementBuilder.build()).thenReturn(boundStatement);
+    CanonicalQuery canonicalQuery = new CanonicalQuery();
+    canonicalQuery.setQuery(TestEntityByDate_Table.INSERT_QUERY, new Object[] { "date", null, "list", null, "creation_date", "last_updated_date" });
+    canonicalQuery.setNullValuesUnset(true);
+
+    // When
+    canonicalQuery.execute(session);
+
+    // Then
+    verify(boundStatementBuilder).unset(1);
+    verify(boundStatementBuilder).unset(3);
+    verify(boundStatementBuilder, times(2)).unset(anyInt());
+    verify(session).execute(boundStatement);
+  }
+
+  @Test
+  void execute_should_translate_prepare_failure() {
+    // Given
+    RuntimeException failure = new RuntimeException("unconfigured table");
+    when(session.getName()).thenReturn("canonical_prepare_failure_session");
+    when(session.prepare(TestEntityByDate_Table.DELETE_BY_PRIMARY_KEY_QUERY)).thenThrow(failure);
+    CanonicalQuery canonicalQuery = new CanonicalQuery();
+    canonicalQuery.setQuery(TestEntityByDate_Table.DELETE_BY_PRIMARY_KEY_QUERY, new Object[] { "date", "udt", "list" });
+
+    // When
+    Throwable thrown = catchThrowable(() -> canonicalQuery.execute(session));
+
+    // Then
+    assertThat(thrown).isInstanceOf(CharybdisQueryExecutionException.class).hasCause(failure);
+  }
+
+  @Test
+  void execute_should_translate_failure_fetching_next_page() {
+    // Given
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    BoundStatement boundStatement = mock(BoundStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    @SuppressWarnings("unchecked")
+    Iterator<Row> rows = mock(Iterator.class);
+    Row row = mock(Row.class);
+    DriverTimeoutException failure = new DriverTimeoutException("timeout");
+    when(session.getName()).thenReturn("canonical_next_page_session");
+    when(session.prepare(TestEntityByDate_Table.SELECT_BY_PRIMARY_KEY_QUERY)).thenReturn(preparedStatement);
+    when(preparedStatement.bind(any())).thenReturn(boundStatement);
+    when(session.execute(boundStatement)).thenReturn(resultSet);
+    when(resultSet.iterator()).thenReturn(rows);
+    when(rows.hasNext()).thenReturn(true).thenThrow(failure);
+    when(rows.next()).thenReturn(row);
+    CanonicalQuery canonicalQuery = new CanonicalQuery();
+    canonicalQuery.setQuery(TestEntityByDate_Table.SELECT_BY_PRIMARY_KEY_QUERY, new Object[] { "date", "udt", "list" });
+    Iterator<Row> iterator = canonicalQuery.execute(session).iterator();
+
+    // When
+    boolean hasFirstRow = iterator.hasNext();
+    Row firstRow = iterator.next();
+    Throwable thrown = catchThrowable(iterator::hasNext);
+
+    // Then
+    assertThat(hasFirstRow).isTrue();
+    assertThat(firstRow).isSameAs(row);
+    assertThat(thrown).isInstanceOf(CharybdisQueryTimeoutException.class).hasCause(failure);
+  }
+
+  @Test
+  void executeAsync_should_translate_failure_fetching_next_page() {
+    // Given
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    BoundStatement boundStatement = mock(BoundStatement.class);
+    AsyncResultSet firstPage = mock(AsyncResultSet.class);
+    AsyncResultSet secondPage = mock(AsyncResultSet.class);
+    DriverTimeoutException failure = new DriverTimeoutException("timeout");
+    CompletableFuture<AsyncResultSet> failedPage = new CompletableFuture<>();
+    failedPage.completeExceptionally(failure);
+    when(session.getName()).thenReturn("canonical_async_next_page_session");
+    when(session.prepareAsync(TestEntityByDate_Table.SELECT_BY_PRIMARY_KEY_QUERY)).thenReturn(CompletableFuture.completedFuture(preparedStatement));
+    when(preparedStatement.bind(any())).thenReturn(boundStatement);
+    when(session.executeAsync(boundStatement)).thenReturn(CompletableFuture.completedFuture(firstPage));
+    when(firstPage.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(secondPage));
+    when(secondPage.fetchNextPage()).thenReturn(failedPage);
+    CanonicalQuery canonicalQuery = new CanonicalQuery();
+    canonicalQuery.setQuery(TestEntityByDate_Table.SELECT_BY_PRIMARY_KEY_QUERY, new Object[] { "date", "udt", "list" });
+
+    // When
+    Throwable thrown = catchThrowable(() -> AsyncResultSetUtils.await(canonicalQuery.executeAsync(session)
+                                                                                    .thenCompose(AsyncResultSet::fetchNextPage)
+                                                                                    .thenCompose(AsyncResultSet::fetchNextPage)));
+
+    // Then
+    assertThat(thrown).isInstanceOf(CharybdisQueryTimeoutException.class).hasCause(failure);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stubs a mocked session preparing canonical queries asynchronously, whose executions stay pending until completed by tests.
+ * Canonical prepared statements are forgotten on creation, so that every test prepares its statement again on the same session.
+ */
+public class PendingExecutionsSession {
+
+  public static final String SESSION_NAME = "pending_executions_session";
+
+  private final CqlSession session;
+  private final List<CompletableFuture<AsyncResultSet>> pendingExecutions = new ArrayList<>();
+
+  public PendingExecutionsSession(final CqlSession session) {
+    this.session = session;
+    PreparedStatementFactory.clearCanonicalStatements();
+  }
+
+  /**
+   * Prepare given query into given prepared statement.
+   */
+  public PendingExecutionsSession preparing(final String query, final PreparedStatement preparedStatement) {
+    when(session.getName()).thenReturn(SESSION_NAME);
+    when(session.prepareAsync(query)).thenReturn(CompletableFuture.completedFuture(preparedStatement));
+    return this;
+  }
+
+  /**
+   * Keep every asynchronous execution pending, in {@link #getPendingExecutions()}.
+   */
+  public PendingExecutionsSession withPendingExecutions() {
+    when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+      CompletableFuture<AsyncResultSet> execution = new CompletableFuture<>();
+      pendingExecutions.add(execution);
+      return execution;
+    });
+    return this;
+  }
+
+  /**
+   * @return executions in submission order.
+   */
+  public List<CompletableFuture<AsyncResultSet>> getPendingExecutions() {
+    return pendingExecutions;
+  }
+}
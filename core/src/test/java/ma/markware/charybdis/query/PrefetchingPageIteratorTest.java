@@ -0,0 +1,108 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class PrefetchingPageIteratorTest {
+
+  @Test
+  void should_iterate_over_all_pages() {
+    // Given
+    Row row1 = mock(Row.class), row2 = mock(Row.class), row3 = mock(Row.class);
+    AsyncResultSet secondPage = mock(AsyncResultSet.class);
+    when(secondPage.currentPage()).thenReturn(Collections.singletonList(row3));
+    when(secondPage.hasMorePages()).thenReturn(false);
+    AsyncResultSet firstPage = mock(AsyncResultSet.class);
+    when(firstPage.currentPage()).thenReturn(Arrays.asList(row1, row2));
+    when(firstPage.hasMorePages()).thenReturn(true);
+    when(firstPage.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(secondPage));
+
+    // When
+    PrefetchingPageIterator<Row> iterator = new PrefetchingPageIterator<>(firstPage, row -> row);
+    List<Row> rows = new ArrayList<>();
+    iterator.forEachRemaining(rows::add);
+
+    // Then
+    assertThat(rows).containsExactly(row1, row2, row3);
+    verify(secondPage, never()).fetchNextPage();
+  }
+
+  @Test
+  void should_prefetch_next_page_before_consuming_current_page() {
+    // Given
+    AsyncResultSet firstPage = mock(AsyncResultSet.class);
+    when(firstPage.currentPage()).thenReturn(Collections.singletonList(mock(Row.class)));
+    when(firstPage.hasMorePages()).thenReturn(true);
+    when(firstPage.fetchNextPage()).thenReturn(new CompletableFuture<>());
+
+    // When
+    new PrefetchingPageIterator<>(firstPage, row -> row);
+
+    // Then
+    verify(firstPage).fetchNextPage();
+  }
+
+  @Test
+  void should_throw_when_no_more_elements() {
+    // Given
+    AsyncResultSet firstPage = mock(AsyncResultSet.class);
+    when(firstPage.currentPage()).thenReturn(Collections.emptyList());
+    when(firstPage.hasMorePages()).thenReturn(false);
+
+    // When
+    PrefetchingPageIterator<Row> iterator = new PrefetchingPageIterator<>(firstPage, row -> row);
+
+    // Then
+    assertThat(iterator.hasNext()).isFalse();
+    assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void should_propagate_next_page_fetching_failure() {
+    // Given
+    CompletableFuture<AsyncResultSet> failedPage = new CompletableFuture<>();
+    failedPage.completeExceptionally(new IllegalStateException("timeout"));
+    AsyncResultSet firstPage = mock(AsyncResultSet.class);
+    when(firstPage.currentPage()).thenReturn(Collections.emptyList());
+    when(firstPage.hasMorePages()).thenReturn(true);
+    when(firstPage.fetchNextPage()).thenReturn(failedPage);
+
+    // When
+    PrefetchingPageIterator<Row> iterator = new PrefetchingPageIterator<>(firstPage, row -> row);
+
+    // Then
+    assertThatThrownBy(iterator::hasNext).isInstanceOf(IllegalStateException.class).hasMessage("timeout");
+  }
+}
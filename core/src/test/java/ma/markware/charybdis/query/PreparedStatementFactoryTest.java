@@ -20,6 +20,7 @@
 package ma.markware.charybdis.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,8 +29,11 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.internal.core.cql.DefaultPreparedStatement;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import javax.cache.Cache;
 import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
 import ma.markware.charybdis.query.PreparedStatementFactory.CacheKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -88,6 +92,151 @@ class PreparedStatementFactoryTest {
     verify(session, times(1)).prepare(query);
   }
 
+  @Test
+  void createPreparedStatement_should_record_cache_statistics() {
+    // Given
+    DefaultPreparedStatement dummyPreparedStatement = createDummyPreparedStatement(query);
+    when(session.getName()).thenReturn("session_1");
+    when(session.prepare(query)).thenReturn(dummyPreparedStatement);
+
+    // When
+    PreparedStatementFactory.createPreparedStatement(session, query);
+    PreparedStatementFactory.createPreparedStatement(session, query);
+
+    // Then
+    CacheStatisticsMXBean statistics = PreparedStatementCache.getStatistics("session_1");
+    assertThat(statistics.getCacheMisses()).isEqualTo(1);
+    assertThat(statistics.getCacheHits()).isEqualTo(1);
+    assertThat(PreparedStatementCache.getStatistics("session_1").getCacheLoads()).isEqualTo(1);
+  }
+
+  @Test
+  void createPreparedStatement_when_cache_configured_for_session_uses_dedicated_cache() {
+    // Given
+    DefaultPreparedStatement dummyPreparedStatement = createDummyPreparedStatement(query);
+    when(session.getName()).thenReturn("session_dedicated");
+    when(session.prepare(query)).thenReturn(dummyPreparedStatement);
+    when(session.prepare("SELECT * FROM user")).thenReturn(createDummyPreparedStatement("SELECT * FROM user"));
+    PreparedStatementCache.configure("session_dedicated", 1);
+
+    // When
+    PreparedStatementFactory.createPreparedStatement(session, query);
+    PreparedStatementFactory.createPreparedStatement(session, "SELECT * FROM user");
+
+    // Then
+    assertThat(cacheManager.getCache(PreparedStatementFactory.CACHE_NAME)).isNull();
+    Cache<CacheKey, PreparedStatement> cache = cacheManager.getCache(PreparedStatementFactory.CACHE_NAME + "_session_dedicated");
+    assertThat(cache.containsKey(new CacheKey("session_dedicated", query))).isFalse();
+    assertThat(PreparedStatementCache.getStatistics("session_dedicated").getCacheEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  void createPreparedStatementAsync() {
+    // Given
+    DefaultPreparedStatement dummyPreparedStatement = createDummyPreparedStatement(query);
+    when(session.getName()).thenReturn("session_1");
+    when(session.prepareAsync(query)).thenReturn(CompletableFuture.completedFuture(dummyPreparedStatement));
+
+    // When
+    PreparedStatement preparedStatement = PreparedStatementFactory.createPreparedStatementAsync(session, query).toCompletableFuture().join();
+
+    // Then
+    assertThat(preparedStatement).isEqualTo(dummyPreparedStatement);
+    Cache<CacheKey, PreparedStatement> cache = cacheManager.getCache(PreparedStatementFactory.CACHE_NAME);
+    assertThat(cache.get(new CacheKey("session_1", query))).isEqualTo(dummyPreparedStatement);
+  }
+
+  @Test
+  void createPreparedStatementAsync_when_prepared_statement_cached_session_prepare_is_not_called() {
+    // Given
+    DefaultPreparedStatement dummyPreparedStatement = createDummyPreparedStatement(query);
+    when(session.getName()).thenReturn("session_1");
+    when(session.prepareAsync(query)).thenReturn(CompletableFuture.completedFuture(dummyPreparedStatement));
+
+    // When
+    PreparedStatementFactory.createPreparedStatementAsync(session, query).toCompletableFuture().join();
+    PreparedStatementFactory.createPreparedStatementAsync(session, query).toCompletableFuture().join();
+
+    // Then
+    verify(session, times(1)).prepareAsync(query);
+  }
+
+  @Test
+  void createPreparedStatementAsync_concurrent_misses_are_coalesced_into_one_preparation() {
+    // Given
+    DefaultPreparedStatement dummyPreparedStatement = createDummyPreparedStatement(query);
+    CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+    when(session.getName()).thenReturn("session_1");
+    when(session.prepareAsync(query)).thenReturn(preparation);
+
+    // When
+    CompletableFuture<PreparedStatement> firstCall = PreparedStatementFactory.createPreparedStatementAsync(session, query).toCompletableFuture();
+    CompletableFuture<PreparedStatement> secondCall = PreparedStatementFactory.createPreparedStatementAsync(session, query).toCompletableFuture();
+    preparation.complete(dummyPreparedStatement);
+
+    // Then
+    verify(session, times(1)).prepareAsync(query);
+    assertThat(firstCall.join()).isEqualTo(dummyPreparedStatement);
+    assertThat(secondCall.join()).isEqualTo(dummyPreparedStatement);
+  }
+
+  @Test
+  void createPreparedStatementAsync_caller_cancellation_does_not_affect_in_flight_preparation() {
+    // Given
+    DefaultPreparedStatement dummyPreparedStatement = createDummyPreparedStatement(query);
+    CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+    when(session.getName()).thenReturn("session_1");
+    when(session.prepareAsync(query)).thenReturn(preparation);
+    CompletableFuture<PreparedStatement> firstCall = PreparedStatementFactory.createPreparedStatementAsync(session, query).toCompletableFuture();
+    CompletableFuture<PreparedStatement> secondCall = PreparedStatementFactory.createPreparedStatementAsync(session, query).toCompletableFuture();
+
+    // When
+    firstCall.cancel(true);
+    preparation.complete(dummyPreparedStatement);
+
+    // Then
+    assertThat(firstCall).isCancelled();
+    assertThat(secondCall.join()).isEqualTo(dummyPreparedStatement);
+    assertThat(PreparedStatementFactory.createPreparedStatementAsync(session, query).toCompletableFuture().join()).isEqualTo(dummyPreparedStatement);
+    verify(session, times(1)).prepareAsync(query);
+  }
+
+  @Test
+  void createPreparedStatement_waits_for_in_flight_preparation() throws Exception {
+    // Given
+    DefaultPreparedStatement dummyPreparedStatement = createDummyPreparedStatement(query);
+    CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+    when(session.getName()).thenReturn("session_1");
+    when(session.prepareAsync(query)).thenReturn(preparation);
+    PreparedStatementFactory.createPreparedStatementAsync(session, query);
+
+    // When
+    CompletableFuture<PreparedStatement> blockingCall = CompletableFuture.supplyAsync(() -> PreparedStatementFactory.createPreparedStatement(session, query));
+    preparation.complete(dummyPreparedStatement);
+
+    // Then
+    assertThat(blockingCall.get(5, TimeUnit.SECONDS)).isEqualTo(dummyPreparedStatement);
+    verify(session, never()).prepare(query);
+  }
+
+  @Test
+  void createPreparedStatementAsync_failed_preparation_is_not_cached() {
+    // Given
+    DefaultPreparedStatement dummyPreparedStatement = createDummyPreparedStatement(query);
+    CompletableFuture<PreparedStatement> failedPreparation = new CompletableFuture<>();
+    failedPreparation.completeExceptionally(new IllegalStateException("syntax error"));
+    when(session.getName()).thenReturn("session_1");
+    when(session.prepareAsync(query)).thenReturn(failedPreparation, CompletableFuture.completedFuture(dummyPreparedStatement));
+
+    // When
+    CompletableFuture<PreparedStatement> failedCall = PreparedStatementFactory.createPreparedStatementAsync(session, query).toCompletableFuture();
+    CompletableFuture<PreparedStatement> retriedCall = PreparedStatementFactory.createPreparedStatementAsync(session, query).toCompletableFuture();
+
+    // Then
+    assertThat(failedCall).isCompletedExceptionally();
+    assertThat(retriedCall.join()).isEqualTo(dummyPreparedStatement);
+  }
+
   private DefaultPreparedStatement createDummyPreparedStatement(final String query) {
     return new DefaultPreparedStatement(
         ByteBuffer.allocate(1), query, null, null, null, null, null,
@@ -0,0 +1,140 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import ma.markware.charybdis.exception.CharybdisQueryExecutionException;
+import ma.markware.charybdis.exception.CharybdisQueryTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StatementExecutorTest {
+
+  private static final SimpleStatement IDEMPOTENT_STATEMENT = SimpleStatement.newInstance("SELECT * FROM ks.table").setIdempotent(true);
+  private static final SimpleStatement NON_IDEMPOTENT_STATEMENT = SimpleStatement.newInstance("INSERT INTO ks.table(id) VALUES(1)");
+
+  private static final String SESSION_NAME = "statement-executor-test";
+
+  @Mock
+  private CqlSession session;
+
+  @BeforeEach
+  void setup() {
+    QueryRetryPolicy.configure(SESSION_NAME, new QueryRetryPolicy(2));
+  }
+
+  @Test
+  void execute_should_retry_idempotent_statement_on_timeout() {
+    // Given
+    when(session.getName()).thenReturn(SESSION_NAME);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(session.execute(IDEMPOTENT_STATEMENT)).thenThrow(new DriverTimeoutException("timeout")).thenReturn(resultSet);
+
+    // When
+    ResultSet actual = StatementExecutor.execute(session, IDEMPOTENT_STATEMENT);
+
+    // Then
+    assertThat(actual).isSameAs(resultSet);
+    verify(session, times(2)).execute(IDEMPOTENT_STATEMENT);
+  }
+
+  @Test
+  void execute_should_fail_once_max_retries_reached() {
+    // Given
+    when(session.getName()).thenReturn(SESSION_NAME);
+    when(session.execute(IDEMPOTENT_STATEMENT)).thenThrow(new DriverTimeoutException("timeout"));
+
+    // When
+    assertThatThrownBy(() -> StatementExecutor.execute(session, IDEMPOTENT_STATEMENT)).isInstanceOf(DriverTimeoutException.class);
+
+    // Then
+    verify(session, times(3)).execute(IDEMPOTENT_STATEMENT);
+  }
+
+  @Test
+  void execute_should_not_retry_non_idempotent_statement() {
+    // Given
+    when(session.getName()).thenReturn(SESSION_NAME);
+    when(session.execute(NON_IDEMPOTENT_STATEMENT)).thenThrow(new DriverTimeoutException("timeout"));
+
+    // When
+    assertThatThrownBy(() -> StatementExecutor.execute(session, NON_IDEMPOTENT_STATEMENT)).isInstanceOf(DriverTimeoutException.class);
+
+    // Then
+    verify(session).execute(NON_IDEMPOTENT_STATEMENT);
+  }
+
+  @Test
+  void execute_should_not_retry_non_transient_error() {
+    // Given
+    when(session.getName()).thenReturn(SESSION_NAME);
+    when(session.execute(IDEMPOTENT_STATEMENT)).thenThrow(new InvalidQueryException(null, "invalid"));
+
+    // When
+    assertThatThrownBy(() -> StatementExecutor.execute(session, IDEMPOTENT_STATEMENT)).isInstanceOf(InvalidQueryException.class);
+
+    // Then
+    verify(session).execute(IDEMPOTENT_STATEMENT);
+  }
+
+  @Test
+  void executeAsync_should_retry_idempotent_statement_on_timeout() {
+    // Given
+    when(session.getName()).thenReturn(SESSION_NAME);
+    AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+    CompletableFuture<AsyncResultSet> failure = new CompletableFuture<>();
+    failure.completeExceptionally(new DriverTimeoutException("timeout"));
+    when(session.executeAsync(IDEMPOTENT_STATEMENT)).thenReturn(failure).thenReturn(CompletableFuture.completedFuture(asyncResultSet));
+
+    // When
+    CompletableFuture<AsyncResultSet> execution = StatementExecutor.executeAsync(session, IDEMPOTENT_STATEMENT).toCompletableFuture();
+
+    // Then
+    assertThat(execution).isCompletedWithValue(asyncResultSet);
+    verify(session, times(2)).executeAsync(IDEMPOTENT_STATEMENT);
+  }
+
+  @Test
+  void translate_should_wrap_driver_errors() {
+    assertThat(StatementExecutor.translate("query", new CompletionException(new DriverTimeoutException("timeout"))))
+        .isInstanceOf(CharybdisQueryTimeoutException.class)
+        .hasCauseInstanceOf(DriverTimeoutException.class);
+    assertThat(StatementExecutor.translate("query", new InvalidQueryException(null, "invalid")))
+        .isExactlyInstanceOf(CharybdisQueryExecutionException.class)
+        .hasMessageContaining("query");
+  }
+}
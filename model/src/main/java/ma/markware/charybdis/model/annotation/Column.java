@@ -48,6 +48,16 @@ import java.lang.annotation.Target;
  * }
  * </code></pre>
  *
+ * // Define column <i>'field'</i> decoded on first access
+ * <pre><code>
+ * @literal @Table
+ * public class Entity {
+ *
+ *  @literal @Column(lazy = true)
+ *  private Map&lt;String, Address&gt; field;
+ * }
+ * </code></pre>
+ *
  * @author Oussama Markad
  */
 @Target({ElementType.FIELD, ElementType.METHOD})
@@ -60,4 +70,13 @@ public @interface Column {
    * @return column name defined in annotation.
    */
   String name() default "";
+
+  /**
+   * Decode column on first access instead of when the row is read.
+   * Only supported on collection columns (list, set and map) that are not part of the primary key,
+   * the entity field is then set to a collection holding the raw column value until it is used.
+   *
+   * @return true if column is decoded lazily.
+   */
+  boolean lazy() default false;
 }
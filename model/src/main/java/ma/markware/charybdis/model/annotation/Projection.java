@@ -0,0 +1,54 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to indicate that a class is a partial representation of a Cql table, reading only some of its columns.
+ * Each field of the class maps the table column having the same field name and type, and must have a public setter.
+ *
+ * Example:
+ *
+ * // Read only columns <i>'id'</i> and <i>'email'</i> of table defined by class <i>User</i>.
+ * <pre><code>
+ * @literal @Projection(table = User.class)
+ * public class UserEmail {
+ *  private UUID id;
+ *  private String email;
+ *  ...<Getters and setters>...
+ * }
+ * </code></pre>
+ *
+ * @author Oussama Markad
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface Projection {
+
+  /**
+   * Set projected table, a class annotated with {@link Table}.
+   *
+   * @return projected table class.
+   */
+  Class<?> table();
+}
@@ -72,4 +72,24 @@ public @interface Table {
    * Default serial consistency (overridable at query level);
    */
   SerialConsistencyLevel serialConsistency() default SerialConsistencyLevel.NOT_SPECIFIED;
+
+  /**
+   * Default update mode of CRUD API and DSL updates (overridable at query level).
+   * When enabled, updates are lightweight transactions applied only if the row exists ({@code IF EXISTS}),
+   * otherwise updates are plain upserts, which avoid the Paxos round-trips.
+   */
+  boolean updateIfExists() default true;
+
+  /**
+   * Default null values handling of CRUD API inserts (overridable at query level).
+   * When enabled, null columns are left unset in bound statements instead of being bound to null,
+   * so that no tombstone is written for them. Inserts keep using the same prepared statement.
+   */
+  boolean insertNullAsUnset() default false;
+
+  /**
+   * Decode all collection columns (list, set and map) outside the primary key on first access,
+   * as if they were annotated with {@code @Column(lazy = true)}.
+   */
+  boolean lazyCollections() default false;
 }
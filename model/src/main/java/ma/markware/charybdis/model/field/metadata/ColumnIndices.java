@@ -0,0 +1,83 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.field.metadata;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import java.util.List;
+
+/**
+ * Resolves positions of a table's columns in result rows, so that they can be read by index rather than by name.
+ * Rows of a same result share their {@link ColumnDefinitions} instance, hence positions are computed once and reused
+ * as long as the same instance is seen.
+ *
+ * @author Oussama Markad
+ */
+public class ColumnIndices {
+
+  private final String[] columnNames;
+  private volatile Resolution lastResolution;
+
+  public ColumnIndices(final String... columnNames) {
+    this.columnNames = columnNames;
+  }
+
+  public ColumnIndices(final List<String> columnNames) {
+    this(columnNames.toArray(new String[0]));
+  }
+
+  /**
+   * Resolve column positions, in the order of column names given at construction.
+   * Returned array is shared and should not be modified.
+   *
+   * @param columnDefinitions result row column definitions.
+   * @return column positions in result rows.
+   * @throws IllegalArgumentException if a column is not part of column definitions.
+   */
+  public int[] resolve(final ColumnDefinitions columnDefinitions) {
+    Resolution resolution = lastResolution;
+    if (resolution == null || resolution.columnDefinitions != columnDefinitions) {
+      resolution = new Resolution(columnDefinitions, computeIndices(columnDefinitions));
+      lastResolution = resolution;
+    }
+    return resolution.indices;
+  }
+
+  private int[] computeIndices(final ColumnDefinitions columnDefinitions) {
+    int[] indices = new int[columnNames.length];
+    for (int i = 0; i < columnNames.length; i++) {
+      int index = columnDefinitions.firstIndexOf(columnNames[i]);
+      if (index < 0) {
+        throw new IllegalArgumentException(String.format("%s is not a column in this row", columnNames[i]));
+      }
+      indices[i] = index;
+    }
+    return indices;
+  }
+
+  private static class Resolution {
+
+    private final ColumnDefinitions columnDefinitions;
+    private final int[] indices;
+
+    private Resolution(final ColumnDefinitions columnDefinitions, final int[] indices) {
+      this.columnDefinitions = columnDefinitions;
+      this.indices = indices;
+    }
+  }
+}
@@ -18,6 +18,7 @@
  */
 package ma.markware.charybdis.model.field.metadata;
 
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
 import com.datastax.oss.driver.api.querybuilder.select.Selector;
 
@@ -50,6 +51,14 @@ public interface ColumnMetadata<D, S> extends Field, SelectableField<D>, Criteri
     return null;
   }
 
+  /**
+   * Deserialize column from result row, given its position in the row.
+   * Generated metadata read the value by index, saving a name lookup per column and row.
+   */
+  default D deserialize(Row row, int index) {
+    return deserialize(row);
+  }
+
   /**
    * Transform column metadata to datastax {@link Selector}.
    */
@@ -26,6 +26,7 @@ import ma.markware.charybdis.model.assignment.AssignmentOperation;
 import ma.markware.charybdis.model.criteria.CriteriaExpression;
 import ma.markware.charybdis.model.criteria.CriteriaOperator;
 import ma.markware.charybdis.model.field.nested.MapNestedField;
+import ma.markware.charybdis.model.field.nested.MapSliceField;
 
 /**
  * Column of type {@link Map} metadata.
@@ -49,6 +50,15 @@ public interface MapColumnMetadata<D_KEY, D_VALUE, S_KEY, S_VALUE> extends Colle
    */
   S_VALUE serializeValue(D_VALUE valueValue);
 
+  /**
+   * Deserialize map value from cql-compatible type.
+   * Generated metadata override this method when value needs conversion (udt, enum...).
+   */
+  @SuppressWarnings("unchecked")
+  default D_VALUE deserializeValue(S_VALUE value) {
+    return (D_VALUE) value;
+  }
+
   /**
    * Check column map contains a value.
    */
@@ -70,6 +80,14 @@ public interface MapColumnMetadata<D_KEY, D_VALUE, S_KEY, S_VALUE> extends Colle
     return new MapNestedField<>(this, entryName);
   }
 
+  /**
+   * Access column map entries with keys between two bounds (inclusive), a {@code null} bound is unbounded.
+   * Selecting a map slice is supported since Cassandra 4.0.
+   */
+  default MapSliceField<D_KEY, D_VALUE, S_KEY, S_VALUE> slice(D_KEY from, D_KEY to) {
+    return new MapSliceField<>(this, from, to);
+  }
+
   /**
    * Append values to column.
    */
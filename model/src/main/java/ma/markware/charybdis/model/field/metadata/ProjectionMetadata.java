@@ -0,0 +1,49 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.field.metadata;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.List;
+
+/**
+ * Projection metadata, maps a subset of a table columns into a java class.
+ *
+ * @param <PROJECTION> java class representation of projected columns.
+ *
+ * @author Oussama Markad
+ */
+public interface ProjectionMetadata<PROJECTION> {
+
+  /**
+   * @return metadata of projected table.
+   */
+  TableMetadata<?> getTableMetadata();
+
+  /**
+   * @return unmodifiable projected columns metadata, in the order they should be selected.
+   */
+  List<ColumnMetadata> getColumns();
+
+  /**
+   * Projected columns are read by index, rows should contain at least projected columns.
+   *
+   * @return deserialized java projection from Cql row.
+   */
+  PROJECTION deserialize(Row row);
+}
@@ -20,6 +20,7 @@ package ma.markware.charybdis.model.field.metadata;
 
 import com.datastax.oss.driver.api.core.cql.Row;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import ma.markware.charybdis.model.option.ConsistencyLevel;
 import ma.markware.charybdis.model.option.SerialConsistencyLevel;
@@ -58,28 +59,38 @@ public interface TableMetadata<ENTITY> {
    */
   SerialConsistencyLevel getDefaultSerialConsistency();
 
+  /**
+   * @return true if updates are applied only if row exists by default (lightweight transaction), false if they are plain upserts.
+   */
+  boolean isUpdateIfExists();
+
+  /**
+   * @return true if null columns are left unset on insert by default, false if they are bound to null.
+   */
+  boolean isInsertNullAsUnset();
+
   /**
    * @return metadata of a given column.
    */
   ColumnMetadata getColumnMetadata(String columnName);
 
   /**
-   * @return column metadata by column name mapping.
+   * @return column metadata by column name mapping (unmodifiable).
    */
   Map<String, ColumnMetadata> getColumnsMetadata();
 
   /**
-   * @return partition key column metadata by column name mapping.
+   * @return partition key column metadata by column name mapping (unmodifiable).
    */
   Map<String, ColumnMetadata> getPartitionKeyColumns();
 
   /**
-   * @return clustering key column metadata by column name mapping.
+   * @return clustering key column metadata by column name mapping (unmodifiable).
    */
   Map<String, ColumnMetadata> getClusteringKeyColumns();
 
   /**
-   * @return primary key column metadata by column name mapping.
+   * @return primary key column metadata by column name mapping (unmodifiable).
    */
   Map<String, ColumnMetadata> getPrimaryKeys();
 
@@ -88,6 +99,11 @@ public interface TableMetadata<ENTITY> {
    */
   boolean isPrimaryKey(String columnName);
 
+  /**
+   * @return is column at a given position of {@link #getColumns()} a primary key.
+   */
+  boolean isPrimaryKey(int columnOrdinal);
+
   /**
    * @return primary key size.
    */
@@ -98,6 +114,54 @@ public interface TableMetadata<ENTITY> {
    */
   int getColumnsSize();
 
+  /**
+   * @return unmodifiable metadata of all columns, in the order of {@link #getColumnNames()}.
+   */
+  List<ColumnMetadata> getColumns();
+
+  /**
+   * @return unmodifiable names of all columns, in the bind order of {@link #getInsertQuery()}.
+   */
+  List<String> getColumnNames();
+
+  /**
+   * @return unmodifiable names of partition key columns followed by clustering key columns, in the bind order of
+   * {@link #getSelectByPrimaryKeyQuery()} and {@link #getDeleteByPrimaryKeyQuery()}.
+   */
+  List<String> getPrimaryKeyNames();
+
+  /**
+   * @return unmodifiable names of columns that are not part of primary key.
+   */
+  List<String> getRegularColumnNames();
+
+  /**
+   * @return Cql query inserting all columns, generated at compile time.
+   */
+  String getInsertQuery();
+
+  /**
+   * @return Cql query selecting all columns by primary key, generated at compile time.
+   */
+  String getSelectByPrimaryKeyQuery();
+
+  /**
+   * @return Cql query deleting a row by primary key, generated at compile time.
+   */
+  String getDeleteByPrimaryKeyQuery();
+
+  /**
+   * @return Cql query updating all regular columns by primary key if row exists, generated at compile time.
+   * Bind values are regular columns followed by primary key columns. {@code null} if table has no regular columns.
+   */
+  String getUpdateQuery();
+
+  /**
+   * @return Cql query updating all regular columns by primary key without condition, generated at compile time.
+   * Bind values are regular columns followed by primary key columns. {@code null} if table has no regular columns.
+   */
+  String getUpsertQuery();
+
   /**
    * Set auto-generated values in given entity.
    */
@@ -118,6 +182,14 @@ public interface TableMetadata<ENTITY> {
    */
   Map<String, Object> serialize(ENTITY entity);
 
+  /**
+   * Serialize entity columns into bind values, in the order of {@link #getColumnNames()}
+   * (which is also the bind order of {@link #getInsertQuery()}).
+   *
+   * @param bindValues array of at least {@link #getColumnsSize()} elements.
+   */
+  void serializeInto(ENTITY entity, Object[] bindValues);
+
   /**
    * @return deserialized java entity from Cql row.
    */
@@ -18,6 +18,8 @@
  */
 package ma.markware.charybdis.model.field.nested;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.condition.Condition;
 import com.datastax.oss.driver.api.querybuilder.relation.Relation;
@@ -26,6 +28,7 @@ import com.datastax.oss.driver.api.querybuilder.term.Term;
 import ma.markware.charybdis.model.exception.CharybdisUnsupportedExpressionException;
 import ma.markware.charybdis.model.field.AssignableField;
 import ma.markware.charybdis.model.field.DeletableField;
+import ma.markware.charybdis.model.field.SelectableField;
 import ma.markware.charybdis.model.field.criteria.CriteriaField;
 import ma.markware.charybdis.model.field.entry.MapEntry;
 import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
@@ -42,7 +45,7 @@ import ma.markware.charybdis.model.field.metadata.MapColumnMetadata;
  * @author Oussama Markad
  */
 public class MapNestedField<D_KEY, D_VALUE, S_KEY, S_VALUE> implements NestedField<D_KEY>, CriteriaField<D_VALUE, S_VALUE>, DeletableField,
-    AssignableField<D_VALUE, S_VALUE> {
+    AssignableField<D_VALUE, S_VALUE>, SelectableField<D_VALUE> {
 
   private MapColumnMetadata<D_KEY, D_VALUE, S_KEY, S_VALUE> sourceColumn;
   private MapEntry<D_KEY> mapEntry;
@@ -84,12 +87,53 @@ public class MapNestedField<D_KEY, D_VALUE, S_KEY, S_VALUE> implements NestedFie
     return mapEntry.getKey();
   }
 
+  /**
+   * @return map entry key serialized to cql-compatible type.
+   */
+  public S_KEY getSerializedEntry() {
+    return sourceColumn.serializeKey(mapEntry.getKey());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public D_VALUE deserialize(final Row row) {
+    int index = row.getColumnDefinitions().firstIndexOf(resolveAlias());
+    if (index < 0 || row.isNull(index)) {
+      return null;
+    }
+    @SuppressWarnings("unchecked")
+    S_VALUE value = (S_VALUE) row.getObject(index);
+    return sourceColumn.deserializeValue(value);
+  }
+
+  /**
+   * Map value class is not retained in column metadata.
+   *
+   * @return {@code null}.
+   */
+  @Override
+  public Class<D_VALUE> getFieldClass() {
+    return null;
+  }
+
+  /**
+   * Transform map entry to datastax {@link Selector}, only the entry value is fetched.
+   * Selecting a map entry is supported since Cassandra 4.0.
+   */
+  @Override
+  public Selector toSelector(final boolean useAlias) {
+    Selector selector = Selector.element(sourceColumn.getName(), QueryBuilder.literal(getSerializedEntry()));
+    return useAlias ? selector.as(resolveAlias()) : selector;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public Relation toRelation(String operator, Term term) {
-    return Relation.mapValue(sourceColumn.getName(), QueryBuilder.literal(mapEntry.getKey())).build(operator, term);
+    return Relation.mapValue(sourceColumn.getName(), QueryBuilder.literal(getSerializedEntry())).build(operator, term);
   }
 
   /**
@@ -105,6 +149,10 @@ public class MapNestedField<D_KEY, D_VALUE, S_KEY, S_VALUE> implements NestedFie
    */
   @Override
   public Selector toDeletableSelector() {
-    return Selector.element(sourceColumn.getName(), QueryBuilder.literal(getEntry()));
+    return Selector.element(sourceColumn.getName(), QueryBuilder.literal(getSerializedEntry()));
+  }
+
+  private CqlIdentifier resolveAlias() {
+    return CqlIdentifier.fromInternal(getName());
   }
 }
@@ -0,0 +1,123 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.field.nested;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.select.Selector;
+import com.datastax.oss.driver.api.querybuilder.term.Term;
+import java.util.Map;
+import ma.markware.charybdis.model.field.SelectableField;
+import ma.markware.charybdis.model.field.metadata.MapColumnMetadata;
+
+/**
+ * Slice of Map column, entries with keys between two bounds (inclusive).
+ * Only selected entries are fetched, the rest of the map is not sent by the server.
+ *
+ * @param <D_KEY> map's key deserialization type.
+ * @param <D_VALUE> map's value deserialization type.
+ * @param <S_KEY> map's key serialization type.
+ * @param <S_VALUE> map's value serialization type.
+ *
+ * @author Oussama Markad
+ */
+public class MapSliceField<D_KEY, D_VALUE, S_KEY, S_VALUE> implements SelectableField<Map<D_KEY, D_VALUE>> {
+
+  private final MapColumnMetadata<D_KEY, D_VALUE, S_KEY, S_VALUE> sourceColumn;
+  private final D_KEY from;
+  private final D_KEY to;
+
+  public MapSliceField(final MapColumnMetadata<D_KEY, D_VALUE, S_KEY, S_VALUE> sourceColumn, final D_KEY from, final D_KEY to) {
+    this.sourceColumn = sourceColumn;
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * @return parent column metadata.
+   */
+  public MapColumnMetadata<D_KEY, D_VALUE, S_KEY, S_VALUE> getSourceColumn() {
+    return sourceColumn;
+  }
+
+  /**
+   * @return slice lower bound, {@code null} if unbounded.
+   */
+  public D_KEY getFrom() {
+    return from;
+  }
+
+  /**
+   * @return slice upper bound, {@code null} if unbounded.
+   */
+  public D_KEY getTo() {
+    return to;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getName() {
+    return sourceColumn.getName() + "[" + resolveBoundName(from) + ".." + resolveBoundName(to) + "]";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<D_KEY, D_VALUE> deserialize(final Row row) {
+    int index = row.getColumnDefinitions().firstIndexOf(resolveAlias());
+    if (index < 0) {
+      return null;
+    }
+    // A slice has the type of its source column
+    return sourceColumn.deserialize(row, index);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Class<Map<D_KEY, D_VALUE>> getFieldClass() {
+    return sourceColumn.getFieldClass();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Selector toSelector(final boolean useAlias) {
+    Selector selector = Selector.range(sourceColumn.getName(), resolveBoundTerm(from), resolveBoundTerm(to));
+    return useAlias ? selector.as(resolveAlias()) : selector;
+  }
+
+  private Term resolveBoundTerm(final D_KEY bound) {
+    return bound == null ? null : QueryBuilder.literal(sourceColumn.serializeKey(bound));
+  }
+
+  private String resolveBoundName(final D_KEY bound) {
+    return bound == null ? "" : "'" + bound + "'";
+  }
+
+  private CqlIdentifier resolveAlias() {
+    return CqlIdentifier.fromInternal(getName());
+  }
+}
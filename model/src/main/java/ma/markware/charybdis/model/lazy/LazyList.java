@@ -0,0 +1,93 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.lazy;
+
+import com.datastax.oss.driver.api.core.data.GettableByIndex;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link List} decoded from its column value on first access <b>(Used by generated metadata)</b>.
+ * Once decoded, all operations are delegated to the decoded list. Like {@link java.util.ArrayList}, it is safe for concurrent reads,
+ * concurrent modifications must be synchronized externally.
+ * Until first access, it keeps a reference to the column bytes, a slice of the response frame which cannot be garbage collected before.
+ *
+ * @param <E> list's item type.
+ *
+ * @author Oussama Markad
+ */
+public final class LazyList<E> extends AbstractList<E> {
+
+  private final LazyValue<List<E>> lazyValue;
+
+  private LazyList(final LazyValue<List<E>> lazyValue) {
+    this.lazyValue = lazyValue;
+  }
+
+  /**
+   * Create a list decoded lazily from a row column.
+   *
+   * @param row source row.
+   * @param index column position in row.
+   * @param rawType column type as read by the driver.
+   * @param decoder conversion from driver type to list.
+   * @param <S> column type as read by the driver.
+   * @param <E> list's item type.
+   * @return list decoded on first access.
+   */
+  public static <S, E> LazyList<E> of(final GettableByIndex row, final int index, final GenericType<S> rawType, final Function<S, List<E>> decoder) {
+    return new LazyList<>(new LazyValue<>(row, index, rawType, decoder));
+  }
+
+  /**
+   * @return {@code true} if list has already been decoded.
+   */
+  public boolean isDecoded() {
+    return lazyValue.isDecoded();
+  }
+
+  @Override
+  public E get(final int index) {
+    return lazyValue.get().get(index);
+  }
+
+  @Override
+  public int size() {
+    return lazyValue.get().size();
+  }
+
+  @Override
+  public E set(final int index, final E element) {
+    return lazyValue.get().set(index, element);
+  }
+
+  @Override
+  public void add(final int index, final E element) {
+    lazyValue.get().add(index, element);
+    modCount++;
+  }
+
+  @Override
+  public E remove(final int index) {
+    modCount++;
+    return lazyValue.get().remove(index);
+  }
+}
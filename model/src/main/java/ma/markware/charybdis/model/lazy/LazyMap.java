@@ -0,0 +1,99 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.lazy;
+
+import com.datastax.oss.driver.api.core.data.GettableByIndex;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * {@link Map} decoded from its column value on first access <b>(Used by generated metadata)</b>.
+ * Once decoded, all operations are delegated to the decoded map. Like {@link java.util.HashMap}, it is safe for concurrent reads,
+ * concurrent modifications must be synchronized externally.
+ * Until first access, it keeps a reference to the column bytes, a slice of the response frame which cannot be garbage collected before.
+ *
+ * @param <K> map's key type.
+ * @param <V> map's value type.
+ *
+ * @author Oussama Markad
+ */
+public final class LazyMap<K, V> extends AbstractMap<K, V> {
+
+  private final LazyValue<Map<K, V>> lazyValue;
+
+  private LazyMap(final LazyValue<Map<K, V>> lazyValue) {
+    this.lazyValue = lazyValue;
+  }
+
+  /**
+   * Create a map decoded lazily from a row column.
+   *
+   * @param row source row.
+   * @param index column position in row.
+   * @param rawType column type as read by the driver.
+   * @param decoder conversion from driver type to map.
+   * @param <S> column type as read by the driver.
+   * @param <K> map's key type.
+   * @param <V> map's value type.
+   * @return map decoded on first access.
+   */
+  public static <S, K, V> LazyMap<K, V> of(final GettableByIndex row, final int index, final GenericType<S> rawType, final Function<S, Map<K, V>> decoder) {
+    return new LazyMap<>(new LazyValue<>(row, index, rawType, decoder));
+  }
+
+  /**
+   * @return {@code true} if map has already been decoded.
+   */
+  public boolean isDecoded() {
+    return lazyValue.isDecoded();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return lazyValue.get().entrySet();
+  }
+
+  @Override
+  public int size() {
+    return lazyValue.get().size();
+  }
+
+  @Override
+  public V get(final Object key) {
+    return lazyValue.get().get(key);
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return lazyValue.get().containsKey(key);
+  }
+
+  @Override
+  public V put(final K key, final V value) {
+    return lazyValue.get().put(key, value);
+  }
+
+  @Override
+  public V remove(final Object key) {
+    return lazyValue.get().remove(key);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.lazy;
+
+import com.datastax.oss.driver.api.core.data.GettableByIndex;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * {@link Set} decoded from its column value on first access <b>(Used by generated metadata)</b>.
+ * Once decoded, all operations are delegated to the decoded set. Like {@link java.util.HashSet}, it is safe for concurrent reads,
+ * concurrent modifications must be synchronized externally.
+ * Until first access, it keeps a reference to the column bytes, a slice of the response frame which cannot be garbage collected before.
+ *
+ * @param <E> set's item type.
+ *
+ * @author Oussama Markad
+ */
+public final class LazySet<E> extends AbstractSet<E> {
+
+  private final LazyValue<Set<E>> lazyValue;
+
+  private LazySet(final LazyValue<Set<E>> lazyValue) {
+    this.lazyValue = lazyValue;
+  }
+
+  /**
+   * Create a set decoded lazily from a row column.
+   *
+   * @param row source row.
+   * @param index column position in row.
+   * @param rawType column type as read by the driver.
+   * @param decoder conversion from driver type to set.
+   * @param <S> column type as read by the driver.
+   * @param <E> set's item type.
+   * @return set decoded on first access.
+   */
+  public static <S, E> LazySet<E> of(final GettableByIndex row, final int index, final GenericType<S> rawType, final Function<S, Set<E>> decoder) {
+    return new LazySet<>(new LazyValue<>(row, index, rawType, decoder));
+  }
+
+  /**
+   * @return {@code true} if set has already been decoded.
+   */
+  public boolean isDecoded() {
+    return lazyValue.isDecoded();
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return lazyValue.get().iterator();
+  }
+
+  @Override
+  public int size() {
+    return lazyValue.get().size();
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    return lazyValue.get().contains(o);
+  }
+
+  @Override
+  public boolean add(final E e) {
+    return lazyValue.get().add(e);
+  }
+
+  @Override
+  public boolean remove(final Object o) {
+    return lazyValue.get().remove(o);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.lazy;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.data.GettableByIndex;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * Raw column value decoded on first access.
+ * Keeps the serialized bytes of the column, driver decoding and conversion are both deferred.
+ * Decoding happens once, even if the value is first accessed by several threads at the same time.
+ *
+ * @param <T> decoded value type.
+ *
+ * @author Oussama Markad
+ */
+final class LazyValue<T> {
+
+  private ByteBuffer bytes;
+  private TypeCodec<Object> codec;
+  private ProtocolVersion protocolVersion;
+  private Function<Object, T> decoder;
+  private T value;
+  private volatile boolean decoded;
+
+  @SuppressWarnings("unchecked")
+  <S> LazyValue(final GettableByIndex row, final int index, final GenericType<S> rawType, final Function<S, T> decoder) {
+    this.bytes = row.getBytesUnsafe(index);
+    this.codec = (TypeCodec<Object>) row.codecRegistry().codecFor(row.getType(index), rawType);
+    this.protocolVersion = row.protocolVersion();
+    this.decoder = (Function<Object, T>) decoder;
+  }
+
+  /**
+   * @return decoded value, decoding it on first call.
+   */
+  T get() {
+    if (!decoded) {
+      decode();
+    }
+    return value;
+  }
+
+  private synchronized void decode() {
+    if (!decoded) {
+      value = decoder.apply(codec.decode(bytes, protocolVersion));
+      // Publish decoded value before releasing raw value
+      decoded = true;
+      bytes = null;
+      codec = null;
+      protocolVersion = null;
+      decoder = null;
+    }
+  }
+
+  /**
+   * @return {@code true} if value has already been decoded.
+   */
+  boolean isDecoded() {
+    return decoded;
+  }
+}
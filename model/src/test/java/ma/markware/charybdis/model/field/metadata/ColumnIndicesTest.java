@@ -0,0 +1,83 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.field.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnIndicesTest {
+
+  @Mock
+  private ColumnDefinitions columnDefinitions;
+  @Mock
+  private ColumnDefinitions otherColumnDefinitions;
+
+  @Test
+  void resolve() {
+    // Given
+    ColumnIndices columnIndices = new ColumnIndices("id", "name");
+    when(columnDefinitions.firstIndexOf("id")).thenReturn(1);
+    when(columnDefinitions.firstIndexOf("name")).thenReturn(0);
+
+    // When
+    int[] indices = columnIndices.resolve(columnDefinitions);
+
+    // Then
+    assertThat(indices).containsExactly(1, 0);
+  }
+
+  @Test
+  void resolve_should_compute_indices_once_per_column_definitions() {
+    // Given
+    ColumnIndices columnIndices = new ColumnIndices("id");
+    when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+    when(otherColumnDefinitions.firstIndexOf("id")).thenReturn(2);
+
+    // When
+    columnIndices.resolve(columnDefinitions);
+    columnIndices.resolve(columnDefinitions);
+    int[] otherIndices = columnIndices.resolve(otherColumnDefinitions);
+
+    // Then
+    verify(columnDefinitions, times(1)).firstIndexOf("id");
+    assertThat(otherIndices).containsExactly(2);
+  }
+
+  @Test
+  void resolve_should_throw_exception_when_column_missing() {
+    // Given
+    ColumnIndices columnIndices = new ColumnIndices("id");
+    when(columnDefinitions.firstIndexOf("id")).thenReturn(-1);
+
+    // When / Then
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> columnIndices.resolve(columnDefinitions))
+        .withMessage("id is not a column in this row");
+  }
+}
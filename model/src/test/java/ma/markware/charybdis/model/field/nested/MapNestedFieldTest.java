@@ -98,6 +98,13 @@ class MapNestedFieldTest {
     assertThat(((ColumnSelector) ((ElementSelector) selector).getCollection()).getColumnId()).isEqualTo(CqlIdentifier.fromCql("mapColumn"));
   }
 
+  @Test
+  void toSelector() {
+    StringBuilder query = new StringBuilder();
+    mapNestedField.toSelector().appendTo(query);
+    assertThat(query.toString()).isEqualTo("mapcolumn['key1'] AS \"mapColumn['key1']\"");
+  }
+
   @Test
   void toCondition_should_throw_expression() {
     assertThatExceptionOfType(CharybdisUnsupportedExpressionException.class)
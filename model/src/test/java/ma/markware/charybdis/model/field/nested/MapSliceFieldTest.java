@@ -0,0 +1,94 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.field.nested;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.Map;
+import ma.markware.charybdis.model.field.metadata.MapColumnMetadata;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+@TestInstance(Lifecycle.PER_CLASS)
+class MapSliceFieldTest {
+
+  private MapColumnMetadata<Integer, String, Integer, String> mapColumnMetadata;
+
+  @BeforeAll
+  void setup() {
+    mapColumnMetadata = new MapColumnMetadata<Integer, String, Integer, String>() {
+      @Override
+      public Map<Integer, String> deserialize(final Row row) {
+        return null;
+      }
+
+      @Override
+      public Class getFieldClass() {
+        return Map.class;
+      }
+
+      @Override
+      public Map<Integer, String> serialize(final Map<Integer, String> field) {
+        return null;
+      }
+
+      @Override
+      public String getName() {
+        return "mapColumn";
+      }
+
+      @Override
+      public Integer serializeKey(final Integer keyValue) {
+        return keyValue;
+      }
+
+      @Override
+      public String serializeValue(final String valueValue) {
+        return valueValue;
+      }
+    };
+  }
+
+  @Test
+  void testSliceFieldCreation() {
+    MapSliceField<Integer, String, Integer, String> mapSliceField = mapColumnMetadata.slice(1, 5);
+    assertThat(mapSliceField.getSourceColumn()).isEqualTo(mapColumnMetadata);
+    assertThat(mapSliceField.getFrom()).isEqualTo(1);
+    assertThat(mapSliceField.getTo()).isEqualTo(5);
+    assertThat(mapSliceField.getName()).isEqualTo("mapColumn['1'..'5']");
+    assertThat(mapSliceField.getFieldClass()).isEqualTo(Map.class);
+  }
+
+  @Test
+  void toSelector() {
+    StringBuilder query = new StringBuilder();
+    mapColumnMetadata.slice(1, 5).toSelector(false).appendTo(query);
+    assertThat(query.toString()).isEqualTo("mapcolumn[1..5]");
+  }
+
+  @Test
+  void toSelector_should_omit_unbounded_side() {
+    StringBuilder query = new StringBuilder();
+    mapColumnMetadata.slice(null, 5).toSelector(false).appendTo(query);
+    assertThat(query.toString()).isEqualTo("mapcolumn[..5]");
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.model.lazy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.data.GettableByIndex;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LazyListTest {
+
+  private static final List<String> VALUE = Arrays.asList("a", "b");
+
+  @Mock
+  private GettableByIndex row;
+
+  @Test
+  void get_should_decode_on_first_access() {
+    // Given
+    mockRow();
+    LazyList<String> lazyList = LazyList.of(row, 0, GenericType.listOf(String.class), list -> list);
+
+    // When
+    boolean decodedBeforeAccess = lazyList.isDecoded();
+    String first = lazyList.get(0);
+
+    // Then
+    assertThat(decodedBeforeAccess).isFalse();
+    assertThat(first).isEqualTo("a");
+    assertThat(lazyList.isDecoded()).isTrue();
+    assertThat(lazyList).containsExactly("a", "b");
+  }
+
+  @Test
+  void concurrent_first_accesses_should_decode_once() throws Exception {
+    // Given
+    int threads = 8;
+    mockRow();
+    AtomicInteger decodings = new AtomicInteger();
+    CountDownLatch decodingStarted = new CountDownLatch(1);
+    LazyList<String> lazyList = LazyList.of(row, 0, GenericType.listOf(String.class), list -> {
+      decodings.incrementAndGet();
+      decodingStarted.countDown();
+      try {
+        // Leave time to other readers to access the list while it is decoded
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return list;
+    });
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+
+    // When
+    List<Future<List<String>>> reads = new ArrayList<>();
+    reads.add(executorService.submit(() -> new ArrayList<>(lazyList)));
+    decodingStarted.await(5, TimeUnit.SECONDS);
+    for (int i = 1; i < threads; i++) {
+      reads.add(executorService.submit(() -> new ArrayList<>(lazyList)));
+    }
+
+    // Then
+    for (Future<List<String>> read : reads) {
+      assertThat(read.get(5, TimeUnit.SECONDS)).isEqualTo(VALUE);
+    }
+    assertThat(decodings).hasValue(1);
+    executorService.shutdown();
+  }
+
+  private void mockRow() {
+    when(row.getBytesUnsafe(0)).thenReturn(TypeCodecs.listOf(TypeCodecs.TEXT).encode(VALUE, ProtocolVersion.DEFAULT));
+    when(row.codecRegistry()).thenReturn(CodecRegistry.DEFAULT);
+    when(row.getType(0)).thenReturn(DataTypes.listOf(DataTypes.TEXT));
+    when(row.protocolVersion()).thenReturn(ProtocolVersion.DEFAULT);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package ma.markware.charybdis.test.entities;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import ma.markware.charybdis.model.annotation.Projection;
+
+@Projection(table = TestEntity.class)
+public class TestEntitySummary {
+
+  private UUID id;
+
+  private Instant date;
+
+  private TestEnum enumValue;
+
+  private Map<String, String> map;
+
+  public TestEntitySummary() {
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(final UUID id) {
+    this.id = id;
+  }
+
+  public Instant getDate() {
+    return date;
+  }
+
+  public void setDate(final Instant date) {
+    this.date = date;
+  }
+
+  public TestEnum getEnumValue() {
+    return enumValue;
+  }
+
+  public void setEnumValue(final TestEnum enumValue) {
+    this.enumValue = enumValue;
+  }
+
+  public Map<String, String> getMap() {
+    return map;
+  }
+
+  public void setMap(final Map<String, String> map) {
+    this.map = map;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TestEntitySummary)) {
+      return false;
+    }
+    final TestEntitySummary that = (TestEntitySummary) o;
+    return Objects.equals(id, that.id) && Objects.equals(date, that.date) && enumValue == that.enumValue && Objects.equals(map, that.map);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, date, enumValue, map);
+  }
+
+  @Override
+  public String toString() {
+    return "TestEntitySummary{" + "id=" + id + ", date=" + date + ", enumValue=" + enumValue + ", map=" + map + '}';
+  }
+}
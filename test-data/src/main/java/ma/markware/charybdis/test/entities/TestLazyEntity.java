@@ -0,0 +1,124 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package ma.markware.charybdis.test.entities;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import ma.markware.charybdis.model.annotation.Column;
+import ma.markware.charybdis.model.annotation.Frozen;
+import ma.markware.charybdis.model.annotation.PartitionKey;
+import ma.markware.charybdis.model.annotation.Table;
+
+@Table(keyspace = "test_keyspace", name = "test_lazy_entity", lazyCollections = true)
+public class TestLazyEntity {
+
+  @Column
+  @PartitionKey
+  private UUID id;
+
+  @Column
+  private String name;
+
+  @Column
+  private List<String> list;
+
+  @Column
+  private Set<TestEnum> enumSet;
+
+  @Column
+  private Map<Integer, @Frozen TestUdt> udtMap;
+
+  public TestLazyEntity() {
+  }
+
+  public TestLazyEntity(final UUID id, final String name, final List<String> list, final Set<TestEnum> enumSet, final Map<Integer, TestUdt> udtMap) {
+    this.id = id;
+    this.name = name;
+    this.list = list;
+    this.enumSet = enumSet;
+    this.udtMap = udtMap;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(final UUID id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(final String name) {
+    this.name = name;
+  }
+
+  public List<String> getList() {
+    return list;
+  }
+
+  public void setList(final List<String> list) {
+    this.list = list;
+  }
+
+  public Set<TestEnum> getEnumSet() {
+    return enumSet;
+  }
+
+  public void setEnumSet(final Set<TestEnum> enumSet) {
+    this.enumSet = enumSet;
+  }
+
+  public Map<Integer, TestUdt> getUdtMap() {
+    return udtMap;
+  }
+
+  public void setUdtMap(final Map<Integer, TestUdt> udtMap) {
+    this.udtMap = udtMap;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TestLazyEntity)) {
+      return false;
+    }
+    final TestLazyEntity that = (TestLazyEntity) o;
+    return Objects.equals(id, that.id) && Objects.equals(name, that.name) && Objects.equals(list, that.list) && Objects.equals(enumSet, that.enumSet)
+        && Objects.equals(udtMap, that.udtMap);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, name, list, enumSet, udtMap);
+  }
+
+  @Override
+  public String toString() {
+    return "TestLazyEntity{" + "id=" + id + ", name=" + name + ", list=" + list + ", enumSet=" + enumSet + ", udtMap=" + udtMap + '}';
+  }
+}
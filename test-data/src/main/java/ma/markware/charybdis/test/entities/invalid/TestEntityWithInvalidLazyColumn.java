@@ -0,0 +1,36 @@
+package ma.markware.charybdis.test.entities.invalid;
+
+import java.util.UUID;
+import ma.markware.charybdis.model.annotation.Column;
+import ma.markware.charybdis.model.annotation.PartitionKey;
+import ma.markware.charybdis.model.annotation.Table;
+
+@Table(keyspace = "test_keyspace", name = "test_entity_with_invalid_lazy_column")
+public class TestEntityWithInvalidLazyColumn {
+
+  @Column
+  @PartitionKey
+  private UUID id;
+
+  @Column(lazy = true)
+  private String name;
+
+  public TestEntityWithInvalidLazyColumn() {
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(final UUID id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(final String name) {
+    this.name = name;
+  }
+}
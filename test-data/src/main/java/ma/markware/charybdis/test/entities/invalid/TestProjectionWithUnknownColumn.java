@@ -0,0 +1,17 @@
+package ma.markware.charybdis.test.entities.invalid;
+
+import ma.markware.charybdis.model.annotation.Projection;
+import ma.markware.charybdis.test.entities.TestEntity;
+
+@Projection(table = TestEntity.class)
+public class TestProjectionWithUnknownColumn {
+
+  private String unknown;
+
+  public TestProjectionWithUnknownColumn() {
+  }
+
+  public void setUnknown(final String unknown) {
+    this.unknown = unknown;
+  }
+}
@@ -0,0 +1,17 @@
+package ma.markware.charybdis.test.entities.invalid;
+
+import ma.markware.charybdis.model.annotation.Projection;
+import ma.markware.charybdis.test.entities.TestEntity;
+
+@Projection(table = TestEntity.class)
+public class TestProjectionWithWrongColumnType {
+
+  private String id;
+
+  public TestProjectionWithWrongColumnType() {
+  }
+
+  public void setId(final String id) {
+    this.id = id;
+  }
+}
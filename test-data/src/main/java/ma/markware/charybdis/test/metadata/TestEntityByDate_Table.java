@@ -3,10 +3,14 @@ package ma.markware.charybdis.test.metadata;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.data.UdtValue;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import ma.markware.charybdis.model.field.metadata.ClusteringKeyColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.ColumnIndices;
 import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.PartitionKeyColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.TableMetadata;
@@ -36,7 +40,13 @@ public class TestEntityByDate_Table implements TableMetadata<TestEntityByDate> {
     @Override
     public Instant deserialize(Row row) {
       if (row == null || row.isNull("date")) return null;
-      return row.get("date", java.time.Instant.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("date"));
+    }
+
+    @Override
+    public Instant deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.time.Instant.class);
     }
 
     @Override
@@ -65,7 +75,13 @@ public class TestEntityByDate_Table implements TableMetadata<TestEntityByDate> {
     @Override
     public TestUdt deserialize(Row row) {
       if (row == null || row.isNull("udt")) return null;
-      return TestUdt_Udt.test_udt.deserialize(row.getUdtValue("udt"));
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("udt"));
+    }
+
+    @Override
+    public TestUdt deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return TestUdt_Udt.test_udt.deserialize(row.getUdtValue(index));
     }
 
     @Override
@@ -98,7 +114,13 @@ public class TestEntityByDate_Table implements TableMetadata<TestEntityByDate> {
     @Override
     public List<String> deserialize(Row row) {
       if (row == null || row.isNull("list")) return null;
-      return row.getList("list", java.lang.String.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("list"));
+    }
+
+    @Override
+    public List<String> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.getList(index, java.lang.String.class);
     }
 
     @Override
@@ -131,7 +153,13 @@ public class TestEntityByDate_Table implements TableMetadata<TestEntityByDate> {
     @Override
     public Boolean deserialize(Row row) {
       if (row == null || row.isNull("flag")) return null;
-      return row.get("flag", java.lang.Boolean.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("flag"));
+    }
+
+    @Override
+    public Boolean deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.lang.Boolean.class);
     }
   };
 
@@ -154,7 +182,13 @@ public class TestEntityByDate_Table implements TableMetadata<TestEntityByDate> {
     @Override
     public Instant deserialize(Row row) {
       if (row == null || row.isNull("creation_date")) return null;
-      return row.get("creation_date", java.time.Instant.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("creation_date"));
+    }
+
+    @Override
+    public Instant deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.time.Instant.class);
     }
   };
 
@@ -177,7 +211,13 @@ public class TestEntityByDate_Table implements TableMetadata<TestEntityByDate> {
     @Override
     public Instant deserialize(Row row) {
       if (row == null || row.isNull("last_updated_date")) return null;
-      return row.get("last_updated_date", java.time.Instant.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("last_updated_date"));
+    }
+
+    @Override
+    public Instant deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.time.Instant.class);
     }
   };
 
@@ -187,6 +227,63 @@ public class TestEntityByDate_Table implements TableMetadata<TestEntityByDate> {
 
   public static final String TABLE_NAME = "test_entity_by_date";
 
+  private static final List<String> COLUMN_NAMES = Collections.unmodifiableList(Arrays.asList("date", "udt", "list", "flag", "creation_date", "last_updated_date"));
+
+  private static final List<String> PRIMARY_KEY_NAMES = Collections.unmodifiableList(Arrays.asList("date", "udt", "list"));
+
+  private static final List<String> REGULAR_COLUMN_NAMES = Collections.unmodifiableList(Arrays.asList("flag", "creation_date", "last_updated_date"));
+
+  private static final ColumnIndices COLUMN_INDICES = new ColumnIndices(COLUMN_NAMES);
+
+  private static final List<ColumnMetadata> COLUMNS = Collections.unmodifiableList(Arrays.asList(date, udt, list, flag, creationDate, lastUpdatedDate));
+
+  private static final Map<String, ColumnMetadata> COLUMNS_METADATA;
+
+  private static final Map<String, ColumnMetadata> PARTITION_KEY_COLUMNS;
+
+  private static final Map<String, ColumnMetadata> CLUSTERING_KEY_COLUMNS;
+
+  private static final Map<String, ColumnMetadata> PRIMARY_KEY_COLUMNS;
+
+  private static final BitSet PRIMARY_KEY_ORDINALS;
+
+  public static final String INSERT_QUERY = "INSERT INTO test_keyspace.test_entity_by_date (date,udt,list,flag,creation_date,last_updated_date) VALUES (?,?,?,?,?,?)";
+
+  public static final String SELECT_BY_PRIMARY_KEY_QUERY = "SELECT * FROM test_keyspace.test_entity_by_date WHERE date=? AND udt=? AND list=?";
+
+  public static final String DELETE_BY_PRIMARY_KEY_QUERY = "DELETE FROM test_keyspace.test_entity_by_date WHERE date=? AND udt=? AND list=?";
+
+  public static final String UPDATE_QUERY = "UPDATE test_keyspace.test_entity_by_date SET flag=?, creation_date=?, last_updated_date=? WHERE date=? AND udt=? AND list=? IF EXISTS";
+
+  public static final String UPSERT_QUERY = "UPDATE test_keyspace.test_entity_by_date SET flag=?, creation_date=?, last_updated_date=? WHERE date=? AND udt=? AND list=?";
+
+  static {
+    Map<String, ColumnMetadata> columnsMetadata = new HashMap<>();
+    columnsMetadata.put("date", date);
+    columnsMetadata.put("udt", udt);
+    columnsMetadata.put("list", list);
+    columnsMetadata.put("flag", flag);
+    columnsMetadata.put("creation_date", creationDate);
+    columnsMetadata.put("last_updated_date", lastUpdatedDate);
+    COLUMNS_METADATA = Collections.unmodifiableMap(columnsMetadata);
+    Map<String, ColumnMetadata> partitionKeyColumns = new HashMap<>();
+    partitionKeyColumns.put("date", date);
+    PARTITION_KEY_COLUMNS = Collections.unmodifiableMap(partitionKeyColumns);
+    Map<String, ColumnMetadata> clusteringKeyColumns = new HashMap<>();
+    clusteringKeyColumns.put("udt", udt);
+    clusteringKeyColumns.put("list", list);
+    CLUSTERING_KEY_COLUMNS = Collections.unmodifiableMap(clusteringKeyColumns);
+    Map<String, ColumnMetadata> primaryKeyColumns = new HashMap<>();
+    primaryKeyColumns.put("date", date);
+    primaryKeyColumns.put("udt", udt);
+    primaryKeyColumns.put("list", list);
+    PRIMARY_KEY_COLUMNS = Collections.unmodifiableMap(primaryKeyColumns);
+    PRIMARY_KEY_ORDINALS = new BitSet(6);
+    PRIMARY_KEY_ORDINALS.set(0);
+    PRIMARY_KEY_ORDINALS.set(1);
+    PRIMARY_KEY_ORDINALS.set(2);
+  }
+
   private TestEntityByDate_Table() {
   }
 
@@ -215,59 +312,104 @@ public class TestEntityByDate_Table implements TableMetadata<TestEntityByDate> {
     return SerialConsistencyLevel.SERIAL;
   }
 
+  @Override
+  public boolean isUpdateIfExists() {
+    return true;
+  }
+
+  @Override
+  public boolean isInsertNullAsUnset() {
+    return false;
+  }
+
   @Override
   public Map<String, ColumnMetadata> getColumnsMetadata() {
-    Map<String, ColumnMetadata> results = new HashMap<>();
-    results.put("date", date);
-    results.put("udt", udt);
-    results.put("list", list);
-    results.put("flag", flag);
-    results.put("creation_date", creationDate);
-    results.put("last_updated_date", lastUpdatedDate);
-    return results;
+    return COLUMNS_METADATA;
   }
 
   @Override
   public Map<String, ColumnMetadata> getPartitionKeyColumns() {
-    Map<String, ColumnMetadata> results = new HashMap<>();
-    results.put("date", date);
-    return results;
+    return PARTITION_KEY_COLUMNS;
   }
 
   @Override
   public Map<String, ColumnMetadata> getClusteringKeyColumns() {
-    Map<String, ColumnMetadata> results = new HashMap<>();
-    results.put("udt", udt);
-    results.put("list", list);
-    return results;
+    return CLUSTERING_KEY_COLUMNS;
   }
 
   @Override
   public Map<String, ColumnMetadata> getPrimaryKeys() {
-    Map<String, ColumnMetadata> result = new HashMap<>();
-    result.putAll(getPartitionKeyColumns());
-    result.putAll(getClusteringKeyColumns());
-    return result;
+    return PRIMARY_KEY_COLUMNS;
   }
 
   @Override
   public ColumnMetadata getColumnMetadata(String columnName) {
-    return getColumnsMetadata().get(columnName);
+    return COLUMNS_METADATA.get(columnName);
   }
 
   @Override
   public boolean isPrimaryKey(String columnName) {
-    return getPartitionKeyColumns().containsKey(columnName) || getClusteringKeyColumns().containsKey(columnName);
+    return PRIMARY_KEY_COLUMNS.containsKey(columnName);
+  }
+
+  @Override
+  public boolean isPrimaryKey(int columnOrdinal) {
+    return PRIMARY_KEY_ORDINALS.get(columnOrdinal);
   }
 
   @Override
   public int getPrimaryKeySize() {
-    return getPartitionKeyColumns().size() + getClusteringKeyColumns().size();
+    return PRIMARY_KEY_NAMES.size();
   }
 
   @Override
   public int getColumnsSize() {
-    return getColumnsMetadata().size();
+    return COLUMN_NAMES.size();
+  }
+
+  @Override
+  public List<ColumnMetadata> getColumns() {
+    return COLUMNS;
+  }
+
+  @Override
+  public List<String> getColumnNames() {
+    return COLUMN_NAMES;
+  }
+
+  @Override
+  public List<String> getPrimaryKeyNames() {
+    return PRIMARY_KEY_NAMES;
+  }
+
+  @Override
+  public List<String> getRegularColumnNames() {
+    return REGULAR_COLUMN_NAMES;
+  }
+
+  @Override
+  public String getInsertQuery() {
+    return INSERT_QUERY;
+  }
+
+  @Override
+  public String getSelectByPrimaryKeyQuery() {
+    return SELECT_BY_PRIMARY_KEY_QUERY;
+  }
+
+  @Override
+  public String getDeleteByPrimaryKeyQuery() {
+    return DELETE_BY_PRIMARY_KEY_QUERY;
+  }
+
+  @Override
+  public String getUpdateQuery() {
+    return UPDATE_QUERY;
+  }
+
+  @Override
+  public String getUpsertQuery() {
+    return UPSERT_QUERY;
   }
 
   @Override
@@ -303,16 +445,28 @@ public class TestEntityByDate_Table implements TableMetadata<TestEntityByDate> {
     return columnValueMap;
   }
 
+  @Override
+  public void serializeInto(TestEntityByDate entity, Object[] bindValues) {
+    if (entity == null) return;
+    bindValues[0] = date.serialize(entity.getDate());
+    bindValues[1] = udt.serialize(entity.getUdt());
+    bindValues[2] = list.serialize(entity.getList());
+    bindValues[3] = flag.serialize(entity.isFlag());
+    bindValues[4] = creationDate.serialize(entity.getCreationDate());
+    bindValues[5] = lastUpdatedDate.serialize(entity.getLastUpdatedDate());
+  }
+
   @Override
   public TestEntityByDate deserialize(Row row) {
     if (row == null) return null;
+    int[] indices = COLUMN_INDICES.resolve(row.getColumnDefinitions());
     TestEntityByDate entity = new TestEntityByDate();
-    entity.setDate(date.deserialize(row));
-    entity.setUdt(udt.deserialize(row));
-    entity.setList(list.deserialize(row));
-    entity.setFlag(flag.deserialize(row));
-    entity.setCreationDate(creationDate.deserialize(row));
-    entity.setLastUpdatedDate(lastUpdatedDate.deserialize(row));
+    entity.setDate(date.deserialize(row, indices[0]));
+    entity.setUdt(udt.deserialize(row, indices[1]));
+    entity.setList(list.deserialize(row, indices[2]));
+    entity.setFlag(flag.deserialize(row, indices[3]));
+    entity.setCreationDate(creationDate.deserialize(row, indices[4]));
+    entity.setLastUpdatedDate(lastUpdatedDate.deserialize(row, indices[5]));
     return entity;
   }
 }
@@ -0,0 +1,46 @@
+package ma.markware.charybdis.test.metadata;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import ma.markware.charybdis.model.field.metadata.ColumnIndices;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.ProjectionMetadata;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.test.entities.TestEntitySummary;
+
+public class TestEntitySummary_Projection implements ProjectionMetadata<TestEntitySummary> {
+  public static final TestEntitySummary_Projection testentitysummary = new TestEntitySummary_Projection();
+
+  private static final String[] COLUMN_NAMES = { "id", "date", "enumvalue", "map" };
+
+  private static final ColumnIndices COLUMN_INDICES = new ColumnIndices(COLUMN_NAMES);
+
+  private static final List<ColumnMetadata> COLUMNS = Collections.unmodifiableList(Arrays.asList(TestEntity_Table.id, TestEntity_Table.date, TestEntity_Table.enumValue, TestEntity_Table.map));
+
+  private TestEntitySummary_Projection() {
+  }
+
+  @Override
+  public TableMetadata<?> getTableMetadata() {
+    return TestEntity_Table.test_entity;
+  }
+
+  @Override
+  public List<ColumnMetadata> getColumns() {
+    return COLUMNS;
+  }
+
+  @Override
+  public TestEntitySummary deserialize(Row row) {
+    if (row == null) return null;
+    int[] indices = COLUMN_INDICES.resolve(row.getColumnDefinitions());
+    TestEntitySummary projection = new TestEntitySummary();
+    projection.setId(TestEntity_Table.id.deserialize(row, indices[0]));
+    projection.setDate(TestEntity_Table.date.deserialize(row, indices[1]));
+    projection.setEnumValue(TestEntity_Table.enumValue.deserialize(row, indices[2]));
+    projection.setMap(TestEntity_Table.map.deserialize(row, indices[3]));
+    return projection;
+  }
+}
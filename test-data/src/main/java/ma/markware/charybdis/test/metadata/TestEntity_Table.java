@@ -5,6 +5,9 @@ import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -12,6 +15,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import ma.markware.charybdis.model.field.metadata.ClusteringKeyColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.ColumnIndices;
 import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.ListColumnMetadata;
 import ma.markware.charybdis.model.field.metadata.MapColumnMetadata;
@@ -67,7 +71,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public UUID deserialize(Row row) {
       if (row == null || row.isNull("id")) return null;
-      return row.get("id", java.util.UUID.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("id"));
+    }
+
+    @Override
+    public UUID deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.util.UUID.class);
     }
 
     @Override
@@ -95,7 +105,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Set<Integer> deserialize(Row row) {
       if (row == null || row.isNull("se")) return null;
-      return row.getSet("se", java.lang.Integer.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("se"));
+    }
+
+    @Override
+    public Set<Integer> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.getSet(index, java.lang.Integer.class);
     }
   };
 
@@ -118,7 +134,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Map<String, String> deserialize(Row row) {
       if (row == null || row.isNull("map")) return null;
-      return row.getMap("map", java.lang.String.class, java.lang.String.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("map"));
+    }
+
+    @Override
+    public Map<String, String> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.getMap(index, java.lang.String.class, java.lang.String.class);
     }
 
     @Override
@@ -130,6 +152,11 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     public String serializeValue(String field) {
       return field;
     }
+
+    @Override
+    public String deserializeValue(String field) {
+      return field;
+    }
   };
 
   public static final ColumnMetadata<List<List<Integer>>, List<List<Integer>>> nestedList = new ColumnMetadata<List<List<Integer>>, List<List<Integer>>>() {
@@ -151,7 +178,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public List<List<Integer>> deserialize(Row row) {
       if (row == null || row.isNull("nestedlist")) return null;
-      return row.get("nestedlist", nestedListGenericType);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("nestedlist"));
+    }
+
+    @Override
+    public List<List<Integer>> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, nestedListGenericType);
     }
   };
 
@@ -174,7 +207,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Set<List<Integer>> deserialize(Row row) {
       if (row == null || row.isNull("nestedset")) return null;
-      return row.get("nestedset", nestedSetGenericType);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("nestedset"));
+    }
+
+    @Override
+    public Set<List<Integer>> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, nestedSetGenericType);
     }
   };
 
@@ -197,7 +236,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Map<String, Map<Integer, String>> deserialize(Row row) {
       if (row == null || row.isNull("nestedmap")) return null;
-      return row.get("nestedmap", nestedMapGenericType);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("nestedmap"));
+    }
+
+    @Override
+    public Map<String, Map<Integer, String>> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, nestedMapGenericType);
     }
 
     @Override
@@ -209,6 +254,11 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     public Map<Integer, String> serializeValue(Map<Integer, String> field) {
       return field;
     }
+
+    @Override
+    public Map<Integer, String> deserializeValue(Map<Integer, String> field) {
+      return field;
+    }
   };
 
   public static final ColumnMetadata<TestEnum, String> enumValue = new ColumnMetadata<TestEnum, String>() {
@@ -231,7 +281,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public TestEnum deserialize(Row row) {
       if (row == null || row.isNull("enumvalue")) return null;
-      return row.getString("enumvalue") != null ? ma.markware.charybdis.test.entities.TestEnum.valueOf(row.getString("enumvalue")) : null;
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("enumvalue"));
+    }
+
+    @Override
+    public TestEnum deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.getString(index) != null ? ma.markware.charybdis.test.entities.TestEnum.valueOf(row.getString(index)) : null;
     }
   };
 
@@ -262,7 +318,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public List<TestEnum> deserialize(Row row) {
       if (row == null || row.isNull("enumlist")) return null;
-      java.util.List<java.lang.String> rawValue = row.get("enumlist", enumListGenericType);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("enumlist"));
+    }
+
+    @Override
+    public List<TestEnum> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      java.util.List<java.lang.String> rawValue = row.get(index, enumListGenericType);
       java.util.List<ma.markware.charybdis.test.entities.TestEnum> result0 = null;
       if (rawValue != null) {
         result0 = new ArrayList<>();
@@ -311,7 +373,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Map<Integer, TestEnum> deserialize(Row row) {
       if (row == null || row.isNull("enummap")) return null;
-      java.util.Map<java.lang.Integer, java.lang.String> rawValue = row.get("enummap", enumMapGenericType);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("enummap"));
+    }
+
+    @Override
+    public Map<Integer, TestEnum> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      java.util.Map<java.lang.Integer, java.lang.String> rawValue = row.get(index, enumMapGenericType);
       java.util.Map<java.lang.Integer, ma.markware.charybdis.test.entities.TestEnum> result0 = null;
       if (rawValue != null) {
         result0 = new HashMap<>();
@@ -336,6 +404,12 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
       if (field == null) return null;
       return field.name();
     }
+
+    @Override
+    public TestEnum deserializeValue(String field) {
+      if (field == null) return null;
+      return ma.markware.charybdis.test.entities.TestEnum.valueOf(field);
+    }
   };
 
   public static final ListColumnMetadata<Set<TestEnum>, Set<String>> enumNestedList = new ListColumnMetadata<Set<TestEnum>, Set<String>>() {
@@ -372,7 +446,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public List<Set<TestEnum>> deserialize(Row row) {
       if (row == null || row.isNull("enumnestedlist")) return null;
-      java.util.List<java.util.Set<java.lang.String>> rawValue = row.get("enumnestedlist", enumNestedListGenericType);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("enumnestedlist"));
+    }
+
+    @Override
+    public List<Set<TestEnum>> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      java.util.List<java.util.Set<java.lang.String>> rawValue = row.get(index, enumNestedListGenericType);
       java.util.List<java.util.Set<ma.markware.charybdis.test.entities.TestEnum>> result0 = null;
       if (rawValue != null) {
         result0 = new ArrayList<>();
@@ -425,7 +505,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public TestExtraUdt deserialize(Row row) {
       if (row == null || row.isNull("extraudt")) return null;
-      return TestExtraUdt_Udt.test_extra_udt.deserialize(row.getUdtValue("extraudt"));
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("extraudt"));
+    }
+
+    @Override
+    public TestExtraUdt deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return TestExtraUdt_Udt.test_extra_udt.deserialize(row.getUdtValue(index));
     }
   };
 
@@ -456,7 +542,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public List<TestUdt> deserialize(Row row) {
       if (row == null || row.isNull("udtlist")) return null;
-      java.util.List<com.datastax.oss.driver.api.core.data.UdtValue> rawValue = row.get("udtlist", udtListGenericType);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("udtlist"));
+    }
+
+    @Override
+    public List<TestUdt> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      java.util.List<com.datastax.oss.driver.api.core.data.UdtValue> rawValue = row.get(index, udtListGenericType);
       java.util.List<ma.markware.charybdis.test.entities.TestUdt> result0 = null;
       if (rawValue != null) {
         result0 = new ArrayList<>();
@@ -502,7 +594,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Set<TestUdt> deserialize(Row row) {
       if (row == null || row.isNull("udtset")) return null;
-      java.util.Set<com.datastax.oss.driver.api.core.data.UdtValue> rawValue = row.get("udtset", udtSetGenericType);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("udtset"));
+    }
+
+    @Override
+    public Set<TestUdt> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      java.util.Set<com.datastax.oss.driver.api.core.data.UdtValue> rawValue = row.get(index, udtSetGenericType);
       java.util.Set<ma.markware.charybdis.test.entities.TestUdt> result0 = null;
       if (rawValue != null) {
         result0 = new HashSet<>();
@@ -545,7 +643,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Map<Integer, TestUdt> deserialize(Row row) {
       if (row == null || row.isNull("udtmap")) return null;
-      java.util.Map<java.lang.Integer, com.datastax.oss.driver.api.core.data.UdtValue> rawValue = row.get("udtmap", udtMapGenericType);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("udtmap"));
+    }
+
+    @Override
+    public Map<Integer, TestUdt> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      java.util.Map<java.lang.Integer, com.datastax.oss.driver.api.core.data.UdtValue> rawValue = row.get(index, udtMapGenericType);
       java.util.Map<java.lang.Integer, ma.markware.charybdis.test.entities.TestUdt> result0 = null;
       if (rawValue != null) {
         result0 = new HashMap<>();
@@ -570,6 +674,12 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
       if (field == null) return null;
       return TestUdt_Udt.test_udt.serialize(field);
     }
+
+    @Override
+    public TestUdt deserializeValue(UdtValue field) {
+      if (field == null) return null;
+      return TestUdt_Udt.test_udt.deserialize(field);
+    }
   };
 
   public static final ListColumnMetadata<List<TestUdt>, List<UdtValue>> udtNestedList = new ListColumnMetadata<List<TestUdt>, List<UdtValue>>() {
@@ -606,7 +716,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public List<List<TestUdt>> deserialize(Row row) {
       if (row == null || row.isNull("udtnestedlist")) return null;
-      java.util.List<java.util.List<com.datastax.oss.driver.api.core.data.UdtValue>> rawValue = row.get("udtnestedlist", udtNestedListGenericType);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("udtnestedlist"));
+    }
+
+    @Override
+    public List<List<TestUdt>> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      java.util.List<java.util.List<com.datastax.oss.driver.api.core.data.UdtValue>> rawValue = row.get(index, udtNestedListGenericType);
       java.util.List<java.util.List<ma.markware.charybdis.test.entities.TestUdt>> result0 = null;
       if (rawValue != null) {
         result0 = new ArrayList<>();
@@ -658,7 +774,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Instant deserialize(Row row) {
       if (row == null || row.isNull("date")) return null;
-      return row.get("date", java.time.Instant.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("date"));
+    }
+
+    @Override
+    public Instant deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.time.Instant.class);
     }
 
     @Override
@@ -692,7 +814,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public TestUdt deserialize(Row row) {
       if (row == null || row.isNull("udt")) return null;
-      return TestUdt_Udt.test_udt.deserialize(row.getUdtValue("udt"));
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("udt"));
+    }
+
+    @Override
+    public TestUdt deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return TestUdt_Udt.test_udt.deserialize(row.getUdtValue(index));
     }
 
     @Override
@@ -725,7 +853,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public List<String> deserialize(Row row) {
       if (row == null || row.isNull("list")) return null;
-      return row.getList("list", java.lang.String.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("list"));
+    }
+
+    @Override
+    public List<String> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.getList(index, java.lang.String.class);
     }
 
     @Override
@@ -758,7 +892,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Boolean deserialize(Row row) {
       if (row == null || row.isNull("flag")) return null;
-      return row.get("flag", java.lang.Boolean.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("flag"));
+    }
+
+    @Override
+    public Boolean deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.lang.Boolean.class);
     }
 
     @Override
@@ -786,7 +926,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Instant deserialize(Row row) {
       if (row == null || row.isNull("creation_date")) return null;
-      return row.get("creation_date", java.time.Instant.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("creation_date"));
+    }
+
+    @Override
+    public Instant deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.time.Instant.class);
     }
   };
 
@@ -809,7 +955,13 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     @Override
     public Instant deserialize(Row row) {
       if (row == null || row.isNull("last_updated_date")) return null;
-      return row.get("last_updated_date", java.time.Instant.class);
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("last_updated_date"));
+    }
+
+    @Override
+    public Instant deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.time.Instant.class);
     }
   };
 
@@ -819,6 +971,81 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
 
   public static final String TABLE_NAME = "test_entity";
 
+  private static final List<String> COLUMN_NAMES = Collections.unmodifiableList(Arrays.asList("id", "se", "map", "nestedlist", "nestedset", "nestedmap", "enumvalue", "enumlist", "enummap", "enumnestedlist", "extraudt", "udtlist", "udtset", "udtmap", "udtnestedlist", "date", "udt", "list", "flag", "creation_date", "last_updated_date"));
+
+  private static final List<String> PRIMARY_KEY_NAMES = Collections.unmodifiableList(Arrays.asList("id", "date", "udt", "list"));
+
+  private static final List<String> REGULAR_COLUMN_NAMES = Collections.unmodifiableList(Arrays.asList("se", "map", "nestedlist", "nestedset", "nestedmap", "enumvalue", "enumlist", "enummap", "enumnestedlist", "extraudt", "udtlist", "udtset", "udtmap", "udtnestedlist", "flag", "creation_date", "last_updated_date"));
+
+  private static final ColumnIndices COLUMN_INDICES = new ColumnIndices(COLUMN_NAMES);
+
+  private static final List<ColumnMetadata> COLUMNS = Collections.unmodifiableList(Arrays.asList(id, se, map, nestedList, nestedSet, nestedMap, enumValue, enumList, enumMap, enumNestedList, extraUdt, udtList, udtSet, udtMap, udtNestedList, date, udt, list, flag, creationDate, lastUpdatedDate));
+
+  private static final Map<String, ColumnMetadata> COLUMNS_METADATA;
+
+  private static final Map<String, ColumnMetadata> PARTITION_KEY_COLUMNS;
+
+  private static final Map<String, ColumnMetadata> CLUSTERING_KEY_COLUMNS;
+
+  private static final Map<String, ColumnMetadata> PRIMARY_KEY_COLUMNS;
+
+  private static final BitSet PRIMARY_KEY_ORDINALS;
+
+  public static final String INSERT_QUERY = "INSERT INTO test_keyspace.test_entity (id,se,map,nestedlist,nestedset,nestedmap,enumvalue,enumlist,enummap,enumnestedlist,extraudt,udtlist,udtset,udtmap,udtnestedlist,date,udt,list,flag,creation_date,last_updated_date) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
+
+  public static final String SELECT_BY_PRIMARY_KEY_QUERY = "SELECT * FROM test_keyspace.test_entity WHERE id=? AND date=? AND udt=? AND list=?";
+
+  public static final String DELETE_BY_PRIMARY_KEY_QUERY = "DELETE FROM test_keyspace.test_entity WHERE id=? AND date=? AND udt=? AND list=?";
+
+  public static final String UPDATE_QUERY = "UPDATE test_keyspace.test_entity SET se=?, map=?, nestedlist=?, nestedset=?, nestedmap=?, enumvalue=?, enumlist=?, enummap=?, enumnestedlist=?, extraudt=?, udtlist=?, udtset=?, udtmap=?, udtnestedlist=?, flag=?, creation_date=?, last_updated_date=? WHERE id=? AND date=? AND udt=? AND list=? IF EXISTS";
+
+  public static final String UPSERT_QUERY = "UPDATE test_keyspace.test_entity SET se=?, map=?, nestedlist=?, nestedset=?, nestedmap=?, enumvalue=?, enumlist=?, enummap=?, enumnestedlist=?, extraudt=?, udtlist=?, udtset=?, udtmap=?, udtnestedlist=?, flag=?, creation_date=?, last_updated_date=? WHERE id=? AND date=? AND udt=? AND list=?";
+
+  static {
+    Map<String, ColumnMetadata> columnsMetadata = new HashMap<>();
+    columnsMetadata.put("id", id);
+    columnsMetadata.put("se", se);
+    columnsMetadata.put("map", map);
+    columnsMetadata.put("nestedlist", nestedList);
+    columnsMetadata.put("nestedset", nestedSet);
+    columnsMetadata.put("nestedmap", nestedMap);
+    columnsMetadata.put("enumvalue", enumValue);
+    columnsMetadata.put("enumlist", enumList);
+    columnsMetadata.put("enummap", enumMap);
+    columnsMetadata.put("enumnestedlist", enumNestedList);
+    columnsMetadata.put("extraudt", extraUdt);
+    columnsMetadata.put("udtlist", udtList);
+    columnsMetadata.put("udtset", udtSet);
+    columnsMetadata.put("udtmap", udtMap);
+    columnsMetadata.put("udtnestedlist", udtNestedList);
+    columnsMetadata.put("date", date);
+    columnsMetadata.put("udt", udt);
+    columnsMetadata.put("list", list);
+    columnsMetadata.put("flag", flag);
+    columnsMetadata.put("creation_date", creationDate);
+    columnsMetadata.put("last_updated_date", lastUpdatedDate);
+    COLUMNS_METADATA = Collections.unmodifiableMap(columnsMetadata);
+    Map<String, ColumnMetadata> partitionKeyColumns = new HashMap<>();
+    partitionKeyColumns.put("id", id);
+    PARTITION_KEY_COLUMNS = Collections.unmodifiableMap(partitionKeyColumns);
+    Map<String, ColumnMetadata> clusteringKeyColumns = new HashMap<>();
+    clusteringKeyColumns.put("date", date);
+    clusteringKeyColumns.put("udt", udt);
+    clusteringKeyColumns.put("list", list);
+    CLUSTERING_KEY_COLUMNS = Collections.unmodifiableMap(clusteringKeyColumns);
+    Map<String, ColumnMetadata> primaryKeyColumns = new HashMap<>();
+    primaryKeyColumns.put("id", id);
+    primaryKeyColumns.put("date", date);
+    primaryKeyColumns.put("udt", udt);
+    primaryKeyColumns.put("list", list);
+    PRIMARY_KEY_COLUMNS = Collections.unmodifiableMap(primaryKeyColumns);
+    PRIMARY_KEY_ORDINALS = new BitSet(21);
+    PRIMARY_KEY_ORDINALS.set(0);
+    PRIMARY_KEY_ORDINALS.set(15);
+    PRIMARY_KEY_ORDINALS.set(16);
+    PRIMARY_KEY_ORDINALS.set(17);
+  }
+
   private TestEntity_Table() {
   }
 
@@ -847,75 +1074,104 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     return SerialConsistencyLevel.LOCAL_SERIAL;
   }
 
+  @Override
+  public boolean isUpdateIfExists() {
+    return true;
+  }
+
+  @Override
+  public boolean isInsertNullAsUnset() {
+    return false;
+  }
+
   @Override
   public Map<String, ColumnMetadata> getColumnsMetadata() {
-    Map<String, ColumnMetadata> results = new HashMap<>();
-    results.put("id", id);
-    results.put("se", se);
-    results.put("map", map);
-    results.put("nestedlist", nestedList);
-    results.put("nestedset", nestedSet);
-    results.put("nestedmap", nestedMap);
-    results.put("enumvalue", enumValue);
-    results.put("enumlist", enumList);
-    results.put("enummap", enumMap);
-    results.put("enumnestedlist", enumNestedList);
-    results.put("extraudt", extraUdt);
-    results.put("udtlist", udtList);
-    results.put("udtset", udtSet);
-    results.put("udtmap", udtMap);
-    results.put("udtnestedlist", udtNestedList);
-    results.put("date", date);
-    results.put("udt", udt);
-    results.put("list", list);
-    results.put("flag", flag);
-    results.put("creation_date", creationDate);
-    results.put("last_updated_date", lastUpdatedDate);
-    return results;
+    return COLUMNS_METADATA;
   }
 
   @Override
   public Map<String, ColumnMetadata> getPartitionKeyColumns() {
-    Map<String, ColumnMetadata> results = new HashMap<>();
-    results.put("id", id);
-    return results;
+    return PARTITION_KEY_COLUMNS;
   }
 
   @Override
   public Map<String, ColumnMetadata> getClusteringKeyColumns() {
-    Map<String, ColumnMetadata> results = new HashMap<>();
-    results.put("date", date);
-    results.put("udt", udt);
-    results.put("list", list);
-    return results;
+    return CLUSTERING_KEY_COLUMNS;
   }
 
   @Override
   public Map<String, ColumnMetadata> getPrimaryKeys() {
-    Map<String, ColumnMetadata> result = new HashMap<>();
-    result.putAll(getPartitionKeyColumns());
-    result.putAll(getClusteringKeyColumns());
-    return result;
+    return PRIMARY_KEY_COLUMNS;
   }
 
   @Override
   public ColumnMetadata getColumnMetadata(String columnName) {
-    return getColumnsMetadata().get(columnName);
+    return COLUMNS_METADATA.get(columnName);
   }
 
   @Override
   public boolean isPrimaryKey(String columnName) {
-    return getPartitionKeyColumns().containsKey(columnName) || getClusteringKeyColumns().containsKey(columnName);
+    return PRIMARY_KEY_COLUMNS.containsKey(columnName);
+  }
+
+  @Override
+  public boolean isPrimaryKey(int columnOrdinal) {
+    return PRIMARY_KEY_ORDINALS.get(columnOrdinal);
   }
 
   @Override
   public int getPrimaryKeySize() {
-    return getPartitionKeyColumns().size() + getClusteringKeyColumns().size();
+    return PRIMARY_KEY_NAMES.size();
   }
 
   @Override
   public int getColumnsSize() {
-    return getColumnsMetadata().size();
+    return COLUMN_NAMES.size();
+  }
+
+  @Override
+  public List<ColumnMetadata> getColumns() {
+    return COLUMNS;
+  }
+
+  @Override
+  public List<String> getColumnNames() {
+    return COLUMN_NAMES;
+  }
+
+  @Override
+  public List<String> getPrimaryKeyNames() {
+    return PRIMARY_KEY_NAMES;
+  }
+
+  @Override
+  public List<String> getRegularColumnNames() {
+    return REGULAR_COLUMN_NAMES;
+  }
+
+  @Override
+  public String getInsertQuery() {
+    return INSERT_QUERY;
+  }
+
+  @Override
+  public String getSelectByPrimaryKeyQuery() {
+    return SELECT_BY_PRIMARY_KEY_QUERY;
+  }
+
+  @Override
+  public String getDeleteByPrimaryKeyQuery() {
+    return DELETE_BY_PRIMARY_KEY_QUERY;
+  }
+
+  @Override
+  public String getUpdateQuery() {
+    return UPDATE_QUERY;
+  }
+
+  @Override
+  public String getUpsertQuery() {
+    return UPSERT_QUERY;
   }
 
   @Override
@@ -966,31 +1222,58 @@ public class TestEntity_Table implements TableMetadata<TestEntity> {
     return columnValueMap;
   }
 
+  @Override
+  public void serializeInto(TestEntity entity, Object[] bindValues) {
+    if (entity == null) return;
+    bindValues[0] = id.serialize(entity.getId());
+    bindValues[1] = se.serialize(entity.getSe());
+    bindValues[2] = map.serialize(entity.getMap());
+    bindValues[3] = nestedList.serialize(entity.getNestedList());
+    bindValues[4] = nestedSet.serialize(entity.getNestedSet());
+    bindValues[5] = nestedMap.serialize(entity.getNestedMap());
+    bindValues[6] = enumValue.serialize(entity.getEnumValue());
+    bindValues[7] = enumList.serialize(entity.getEnumList());
+    bindValues[8] = enumMap.serialize(entity.getEnumMap());
+    bindValues[9] = enumNestedList.serialize(entity.getEnumNestedList());
+    bindValues[10] = extraUdt.serialize(entity.getExtraUdt());
+    bindValues[11] = udtList.serialize(entity.getUdtList());
+    bindValues[12] = udtSet.serialize(entity.getUdtSet());
+    bindValues[13] = udtMap.serialize(entity.getUdtMap());
+    bindValues[14] = udtNestedList.serialize(entity.getUdtNestedList());
+    bindValues[15] = date.serialize(entity.getDate());
+    bindValues[16] = udt.serialize(entity.getUdt());
+    bindValues[17] = list.serialize(entity.getList());
+    bindValues[18] = flag.serialize(entity.isFlag());
+    bindValues[19] = creationDate.serialize(entity.getCreationDate());
+    bindValues[20] = lastUpdatedDate.serialize(entity.getLastUpdatedDate());
+  }
+
   @Override
   public TestEntity deserialize(Row row) {
     if (row == null) return null;
+    int[] indices = COLUMN_INDICES.resolve(row.getColumnDefinitions());
     TestEntity entity = new TestEntity();
-    entity.setId(id.deserialize(row));
-    entity.setSe(se.deserialize(row));
-    entity.setMap(map.deserialize(row));
-    entity.setNestedList(nestedList.deserialize(row));
-    entity.setNestedSet(nestedSet.deserialize(row));
-    entity.setNestedMap(nestedMap.deserialize(row));
-    entity.setEnumValue(enumValue.deserialize(row));
-    entity.setEnumList(enumList.deserialize(row));
-    entity.setEnumMap(enumMap.deserialize(row));
-    entity.setEnumNestedList(enumNestedList.deserialize(row));
-    entity.setExtraUdt(extraUdt.deserialize(row));
-    entity.setUdtList(udtList.deserialize(row));
-    entity.setUdtSet(udtSet.deserialize(row));
-    entity.setUdtMap(udtMap.deserialize(row));
-    entity.setUdtNestedList(udtNestedList.deserialize(row));
-    entity.setDate(date.deserialize(row));
-    entity.setUdt(udt.deserialize(row));
-    entity.setList(list.deserialize(row));
-    entity.setFlag(flag.deserialize(row));
-    entity.setCreationDate(creationDate.deserialize(row));
-    entity.setLastUpdatedDate(lastUpdatedDate.deserialize(row));
+    entity.setId(id.deserialize(row, indices[0]));
+    entity.setSe(se.deserialize(row, indices[1]));
+    entity.setMap(map.deserialize(row, indices[2]));
+    entity.setNestedList(nestedList.deserialize(row, indices[3]));
+    entity.setNestedSet(nestedSet.deserialize(row, indices[4]));
+    entity.setNestedMap(nestedMap.deserialize(row, indices[5]));
+    entity.setEnumValue(enumValue.deserialize(row, indices[6]));
+    entity.setEnumList(enumList.deserialize(row, indices[7]));
+    entity.setEnumMap(enumMap.deserialize(row, indices[8]));
+    entity.setEnumNestedList(enumNestedList.deserialize(row, indices[9]));
+    entity.setExtraUdt(extraUdt.deserialize(row, indices[10]));
+    entity.setUdtList(udtList.deserialize(row, indices[11]));
+    entity.setUdtSet(udtSet.deserialize(row, indices[12]));
+    entity.setUdtMap(udtMap.deserialize(row, indices[13]));
+    entity.setUdtNestedList(udtNestedList.deserialize(row, indices[14]));
+    entity.setDate(date.deserialize(row, indices[15]));
+    entity.setUdt(udt.deserialize(row, indices[16]));
+    entity.setList(list.deserialize(row, indices[17]));
+    entity.setFlag(flag.deserialize(row, indices[18]));
+    entity.setCreationDate(creationDate.deserialize(row, indices[19]));
+    entity.setLastUpdatedDate(lastUpdatedDate.deserialize(row, indices[20]));
     return entity;
   }
 }
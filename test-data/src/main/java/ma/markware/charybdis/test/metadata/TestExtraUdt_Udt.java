@@ -107,16 +107,12 @@ public class TestExtraUdt_Udt implements UdtMetadata<TestExtraUdt> {
     if (entity == null) return null;
     UdtValue udtValue = udt.newValue();
     java.lang.Integer intValueValue = intValue.serialize(entity.getIntValue());
-    if (intValueValue == null) {
-      udtValue.setToNull("intvalue");
-    } else {
-      udtValue.set("intvalue", intValue.serialize(entity.getIntValue()), java.lang.Integer.class);
+    if (intValueValue != null) {
+      udtValue.set(0, intValueValue, java.lang.Integer.class);
     }
     java.lang.Double doubleValueValue = doubleValue.serialize(entity.getDoubleValue());
-    if (doubleValueValue == null) {
-      udtValue.setToNull("doublevalue");
-    } else {
-      udtValue.set("doublevalue", doubleValue.serialize(entity.getDoubleValue()), java.lang.Double.class);
+    if (doubleValueValue != null) {
+      udtValue.set(1, doubleValueValue, java.lang.Double.class);
     }
     return udtValue;
   }
@@ -0,0 +1,432 @@
+package ma.markware.charybdis.test.metadata;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import java.lang.Class;
+import java.lang.Integer;
+import java.lang.Object;
+import java.lang.String;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import ma.markware.charybdis.model.field.metadata.ColumnIndices;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.ListColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.MapColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.PartitionKeyColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.SetColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.model.lazy.LazyList;
+import ma.markware.charybdis.model.lazy.LazyMap;
+import ma.markware.charybdis.model.lazy.LazySet;
+import ma.markware.charybdis.model.option.ConsistencyLevel;
+import ma.markware.charybdis.model.option.SerialConsistencyLevel;
+import ma.markware.charybdis.test.entities.TestEnum;
+import ma.markware.charybdis.test.entities.TestLazyEntity;
+import ma.markware.charybdis.test.entities.TestUdt;
+
+public class TestLazyEntity_Table implements TableMetadata<TestLazyEntity> {
+  public static final GenericType<List<String>> listGenericType = new GenericType<java.util.List<java.lang.String>>(){};
+
+  public static final GenericType<Set<String>> enumSetGenericType = new GenericType<java.util.Set<java.lang.String>>(){};
+
+  public static final GenericType<Map<Integer, UdtValue>> udtMapGenericType = new GenericType<java.util.Map<java.lang.Integer, com.datastax.oss.driver.api.core.data.UdtValue>>(){};
+
+  public static final PartitionKeyColumnMetadata<UUID, UUID> id = new PartitionKeyColumnMetadata<UUID, UUID>() {
+    public String getName() {
+      return "id";
+    }
+
+    public Class getFieldClass() {
+      return java.util.UUID.class;
+    }
+
+    public UUID serialize(UUID field) {
+      return field;
+    }
+
+    public UUID deserialize(Row row) {
+      if (row == null || row.isNull("id")) return null;
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("id"));
+    }
+
+    public UUID deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.util.UUID.class);
+    }
+
+    public int getPartitionKeyIndex() {
+      return 0;
+    }
+  };
+
+  public static final ColumnMetadata<String, String> name = new ColumnMetadata<String, String>() {
+    public String getName() {
+      return "name";
+    }
+
+    public Class getFieldClass() {
+      return java.lang.String.class;
+    }
+
+    public String serialize(String field) {
+      return field;
+    }
+
+    public String deserialize(Row row) {
+      if (row == null || row.isNull("name")) return null;
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("name"));
+    }
+
+    public String deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.lang.String.class);
+    }
+  };
+
+  public static final ListColumnMetadata<String, String> list = new ListColumnMetadata<String, String>() {
+    public String getName() {
+      return "list";
+    }
+
+    public Class getFieldClass() {
+      return java.util.List.class;
+    }
+
+    public List<String> serialize(List<String> field) {
+      return field;
+    }
+
+    public List<String> deserialize(Row row) {
+      if (row == null || row.isNull("list")) return null;
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("list"));
+    }
+
+    public List<String> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return LazyList.of(row, index, listGenericType, rawValue -> rawValue);
+    }
+
+    public String serializeItem(String field) {
+      return field;
+    }
+  };
+
+  public static final SetColumnMetadata<TestEnum, String> enumSet = new SetColumnMetadata<TestEnum, String>() {
+    public String getName() {
+      return "enumset";
+    }
+
+    public Class getFieldClass() {
+      return java.util.Set.class;
+    }
+
+    public Set<String> serialize(Set<TestEnum> field) {
+      java.util.Set<java.lang.String> result0 = null;
+      if (field != null) {
+        result0 = new HashSet<>();
+        for (ma.markware.charybdis.test.entities.TestEnum source1 : field) {
+          java.lang.String result1 = source1 != null ? source1.name() : null;
+          result0.add(result1);
+        }
+      }
+      return result0;
+    }
+
+    public Set<TestEnum> deserialize(Row row) {
+      if (row == null || row.isNull("enumset")) return null;
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("enumset"));
+    }
+
+    public Set<TestEnum> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return LazySet.of(row, index, enumSetGenericType, rawValue -> {
+        java.util.Set<ma.markware.charybdis.test.entities.TestEnum> result0 = null;
+        if (rawValue != null) {
+          result0 = new HashSet<>();
+          for (java.lang.String source1 : rawValue) {
+            ma.markware.charybdis.test.entities.TestEnum result1 = ma.markware.charybdis.test.entities.TestEnum.valueOf(source1);
+            result0.add(result1);
+          }
+        }
+        return result0;
+      });
+    }
+  };
+
+  public static final MapColumnMetadata<Integer, TestUdt, Integer, UdtValue> udtMap = new MapColumnMetadata<Integer, TestUdt, Integer, UdtValue>() {
+    public String getName() {
+      return "udtmap";
+    }
+
+    public Class getFieldClass() {
+      return java.util.Map.class;
+    }
+
+    public Map<Integer, UdtValue> serialize(Map<Integer, TestUdt> field) {
+      java.util.Map<java.lang.Integer, com.datastax.oss.driver.api.core.data.UdtValue> result0 = null;
+      if (field != null) {
+        result0 = new HashMap<>();
+        for (Map.Entry<java.lang.Integer, ma.markware.charybdis.test.entities.TestUdt> entry1 : field.entrySet()) {
+          java.lang.Integer sourceKey1 = entry1.getKey();
+          ma.markware.charybdis.test.entities.TestUdt sourceValue1 = entry1.getValue();
+          java.lang.Integer destinationKey1 = sourceKey1;
+          com.datastax.oss.driver.api.core.data.UdtValue destinationValue1 = TestUdt_Udt.test_udt.serialize(sourceValue1);
+          result0.put(destinationKey1, destinationValue1);
+        }
+      }
+      return result0;
+    }
+
+    public Map<Integer, TestUdt> deserialize(Row row) {
+      if (row == null || row.isNull("udtmap")) return null;
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("udtmap"));
+    }
+
+    public Map<Integer, TestUdt> deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return LazyMap.of(row, index, udtMapGenericType, rawValue -> {
+        java.util.Map<java.lang.Integer, ma.markware.charybdis.test.entities.TestUdt> result0 = null;
+        if (rawValue != null) {
+          result0 = new HashMap<>();
+          for (Map.Entry<java.lang.Integer, com.datastax.oss.driver.api.core.data.UdtValue> entry1 : rawValue.entrySet()) {
+            java.lang.Integer sourceKey1 = entry1.getKey();
+            com.datastax.oss.driver.api.core.data.UdtValue sourceValue1 = entry1.getValue();
+            java.lang.Integer destinationKey1 = sourceKey1;
+            ma.markware.charybdis.test.entities.TestUdt destinationValue1 = TestUdt_Udt.test_udt.deserialize(sourceValue1);
+            result0.put(destinationKey1, destinationValue1);
+          }
+        }
+        return result0;
+      });
+    }
+
+    public Integer serializeKey(Integer field) {
+      return field;
+    }
+
+    public UdtValue serializeValue(TestUdt field) {
+      if (field == null) return null;
+      return TestUdt_Udt.test_udt.serialize(field);
+    }
+
+    public TestUdt deserializeValue(UdtValue field) {
+      if (field == null) return null;
+      return TestUdt_Udt.test_udt.deserialize(field);
+    }
+  };
+
+  public static final TestLazyEntity_Table test_lazy_entity = new TestLazyEntity_Table();
+
+  public static final String KEYSPACE_NAME = "test_keyspace";
+
+  public static final String TABLE_NAME = "test_lazy_entity";
+
+  private static final List<String> COLUMN_NAMES = Collections.unmodifiableList(Arrays.asList("id", "name", "list", "enumset", "udtmap"));
+
+  private static final List<String> PRIMARY_KEY_NAMES = Collections.unmodifiableList(Arrays.asList("id"));
+
+  private static final List<String> REGULAR_COLUMN_NAMES = Collections.unmodifiableList(Arrays.asList("name", "list", "enumset", "udtmap"));
+
+  private static final ColumnIndices COLUMN_INDICES = new ColumnIndices(COLUMN_NAMES);
+
+  private static final List<ColumnMetadata> COLUMNS = Collections.unmodifiableList(Arrays.asList(id, name, list, enumSet, udtMap));
+
+  private static final Map<String, ColumnMetadata> COLUMNS_METADATA;
+
+  private static final Map<String, ColumnMetadata> PARTITION_KEY_COLUMNS;
+
+  private static final Map<String, ColumnMetadata> CLUSTERING_KEY_COLUMNS;
+
+  private static final Map<String, ColumnMetadata> PRIMARY_KEY_COLUMNS;
+
+  private static final BitSet PRIMARY_KEY_ORDINALS;
+
+  public static final String INSERT_QUERY = "INSERT INTO test_keyspace.test_lazy_entity (id,name,list,enumset,udtmap) VALUES (?,?,?,?,?)";
+
+  public static final String SELECT_BY_PRIMARY_KEY_QUERY = "SELECT * FROM test_keyspace.test_lazy_entity WHERE id=?";
+
+  public static final String DELETE_BY_PRIMARY_KEY_QUERY = "DELETE FROM test_keyspace.test_lazy_entity WHERE id=?";
+
+  public static final String UPDATE_QUERY = "UPDATE test_keyspace.test_lazy_entity SET name=?, list=?, enumset=?, udtmap=? WHERE id=? IF EXISTS";
+
+  public static final String UPSERT_QUERY = "UPDATE test_keyspace.test_lazy_entity SET name=?, list=?, enumset=?, udtmap=? WHERE id=?";
+
+  static {
+    Map<String, ColumnMetadata> columnsMetadata = new HashMap<>();
+    columnsMetadata.put("id", id);
+    columnsMetadata.put("name", name);
+    columnsMetadata.put("list", list);
+    columnsMetadata.put("enumset", enumSet);
+    columnsMetadata.put("udtmap", udtMap);
+    COLUMNS_METADATA = Collections.unmodifiableMap(columnsMetadata);
+    Map<String, ColumnMetadata> partitionKeyColumns = new HashMap<>();
+    partitionKeyColumns.put("id", id);
+    PARTITION_KEY_COLUMNS = Collections.unmodifiableMap(partitionKeyColumns);
+    Map<String, ColumnMetadata> clusteringKeyColumns = new HashMap<>();
+    CLUSTERING_KEY_COLUMNS = Collections.unmodifiableMap(clusteringKeyColumns);
+    Map<String, ColumnMetadata> primaryKeyColumns = new HashMap<>();
+    primaryKeyColumns.put("id", id);
+    PRIMARY_KEY_COLUMNS = Collections.unmodifiableMap(primaryKeyColumns);
+    PRIMARY_KEY_ORDINALS = new BitSet(5);
+    PRIMARY_KEY_ORDINALS.set(0);
+  }
+
+  private TestLazyEntity_Table() {
+  }
+
+  public String getKeyspaceName() {
+    return KEYSPACE_NAME;
+  }
+
+  public String getTableName() {
+    return TABLE_NAME;
+  }
+
+  public ConsistencyLevel getDefaultReadConsistency() {
+    return ConsistencyLevel.NOT_SPECIFIED;
+  }
+
+  public ConsistencyLevel getDefaultWriteConsistency() {
+    return ConsistencyLevel.NOT_SPECIFIED;
+  }
+
+  public SerialConsistencyLevel getDefaultSerialConsistency() {
+    return SerialConsistencyLevel.NOT_SPECIFIED;
+  }
+
+  public boolean isUpdateIfExists() {
+    return true;
+  }
+
+  public boolean isInsertNullAsUnset() {
+    return false;
+  }
+
+  public Map<String, ColumnMetadata> getColumnsMetadata() {
+    return COLUMNS_METADATA;
+  }
+
+  public Map<String, ColumnMetadata> getPartitionKeyColumns() {
+    return PARTITION_KEY_COLUMNS;
+  }
+
+  public Map<String, ColumnMetadata> getClusteringKeyColumns() {
+    return CLUSTERING_KEY_COLUMNS;
+  }
+
+  public Map<String, ColumnMetadata> getPrimaryKeys() {
+    return PRIMARY_KEY_COLUMNS;
+  }
+
+  public ColumnMetadata getColumnMetadata(String columnName) {
+    return COLUMNS_METADATA.get(columnName);
+  }
+
+  public boolean isPrimaryKey(String columnName) {
+    return PRIMARY_KEY_COLUMNS.containsKey(columnName);
+  }
+
+  public boolean isPrimaryKey(int columnOrdinal) {
+    return PRIMARY_KEY_ORDINALS.get(columnOrdinal);
+  }
+
+  public int getPrimaryKeySize() {
+    return PRIMARY_KEY_NAMES.size();
+  }
+
+  public int getColumnsSize() {
+    return COLUMN_NAMES.size();
+  }
+
+  public List<ColumnMetadata> getColumns() {
+    return COLUMNS;
+  }
+
+  public List<String> getColumnNames() {
+    return COLUMN_NAMES;
+  }
+
+  public List<String> getPrimaryKeyNames() {
+    return PRIMARY_KEY_NAMES;
+  }
+
+  public List<String> getRegularColumnNames() {
+    return REGULAR_COLUMN_NAMES;
+  }
+
+  public String getInsertQuery() {
+    return INSERT_QUERY;
+  }
+
+  public String getSelectByPrimaryKeyQuery() {
+    return SELECT_BY_PRIMARY_KEY_QUERY;
+  }
+
+  public String getDeleteByPrimaryKeyQuery() {
+    return DELETE_BY_PRIMARY_KEY_QUERY;
+  }
+
+  public String getUpdateQuery() {
+    return UPDATE_QUERY;
+  }
+
+  public String getUpsertQuery() {
+    return UPSERT_QUERY;
+  }
+
+  public void setGeneratedValues(TestLazyEntity entity) {
+    if (entity != null) {
+    }
+  }
+
+  public void setCreationDate(TestLazyEntity entity, Instant creationDate) {
+    if (entity != null) {
+    }
+  }
+
+  public void setLastUpdatedDate(TestLazyEntity entity, Instant lastUpdatedDate) {
+    if (entity != null) {
+    }
+  }
+
+  public Map<String, Object> serialize(TestLazyEntity entity) {
+    if (entity == null) return null;
+    Map<String, Object> columnValueMap = new HashMap<>();
+    columnValueMap.put("id", id.serialize(entity.getId()));
+    columnValueMap.put("name", name.serialize(entity.getName()));
+    columnValueMap.put("list", list.serialize(entity.getList()));
+    columnValueMap.put("enumset", enumSet.serialize(entity.getEnumSet()));
+    columnValueMap.put("udtmap", udtMap.serialize(entity.getUdtMap()));
+    return columnValueMap;
+  }
+
+  public void serializeInto(TestLazyEntity entity, Object[] bindValues) {
+    if (entity == null) return;
+    bindValues[0] = id.serialize(entity.getId());
+    bindValues[1] = name.serialize(entity.getName());
+    bindValues[2] = list.serialize(entity.getList());
+    bindValues[3] = enumSet.serialize(entity.getEnumSet());
+    bindValues[4] = udtMap.serialize(entity.getUdtMap());
+  }
+
+  public TestLazyEntity deserialize(Row row) {
+    if (row == null) return null;
+    int[] indices = COLUMN_INDICES.resolve(row.getColumnDefinitions());
+    TestLazyEntity entity = new TestLazyEntity();
+    entity.setId(id.deserialize(row, indices[0]));
+    entity.setName(name.deserialize(row, indices[1]));
+    entity.setList(list.deserialize(row, indices[2]));
+    entity.setEnumSet(enumSet.deserialize(row, indices[3]));
+    entity.setUdtMap(udtMap.deserialize(row, indices[4]));
+    return entity;
+  }
+}
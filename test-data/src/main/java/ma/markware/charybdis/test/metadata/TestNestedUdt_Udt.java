@@ -119,22 +119,16 @@ public class TestNestedUdt_Udt implements UdtMetadata<TestNestedUdt> {
     if (entity == null) return null;
     UdtValue udtValue = udt.newValue();
     java.lang.String nameValue = name.serialize(entity.getName());
-    if (nameValue == null) {
-      udtValue.setToNull("name");
-    } else {
-      udtValue.set("name", name.serialize(entity.getName()), java.lang.String.class);
+    if (nameValue != null) {
+      udtValue.set(0, nameValue, java.lang.String.class);
     }
     java.lang.String valueValue = value.serialize(entity.getValue());
-    if (valueValue == null) {
-      udtValue.setToNull("value");
-    } else {
-      udtValue.set("value", value.serialize(entity.getValue()), java.lang.String.class);
+    if (valueValue != null) {
+      udtValue.set(1, valueValue, java.lang.String.class);
     }
     java.util.List<java.lang.Integer> numbersValue = numbers.serialize(entity.getNumbers());
-    if (numbersValue == null) {
-      udtValue.setToNull("numbers");
-    } else {
-      udtValue.setList("numbers", numbers.serialize(entity.getNumbers()), java.lang.Integer.class);
+    if (numbersValue != null) {
+      udtValue.setList(2, numbersValue, java.lang.Integer.class);
     }
     return udtValue;
   }
@@ -393,40 +393,28 @@ public class TestUdt_Udt implements UdtMetadata<TestUdt> {
     if (entity == null) return null;
     com.datastax.oss.driver.api.core.data.UdtValue udtValue = udt.newValue();
     com.datastax.oss.driver.api.core.data.UdtValue udtNestedValue = udtNested.serialize(entity.getUdtNested());
-    if (udtNestedValue == null) {
-      udtValue.setToNull("udtnested");
-    } else {
-      udtValue.set("udtnested", udtNested.serialize(entity.getUdtNested()), com.datastax.oss.driver.api.core.data.UdtValue.class);
+    if (udtNestedValue != null) {
+      udtValue.set(0, udtNestedValue, com.datastax.oss.driver.api.core.data.UdtValue.class);
     }
     java.lang.Integer numberValue = number.serialize(entity.getNumber());
-    if (numberValue == null) {
-      udtValue.setToNull("number");
-    } else {
-      udtValue.set("number", number.serialize(entity.getNumber()), java.lang.Integer.class);
+    if (numberValue != null) {
+      udtValue.set(1, numberValue, java.lang.Integer.class);
     }
     java.lang.String valueValue = value.serialize(entity.getValue());
-    if (valueValue == null) {
-      udtValue.setToNull("value");
-    } else {
-      udtValue.set("value", value.serialize(entity.getValue()), java.lang.String.class);
+    if (valueValue != null) {
+      udtValue.set(2, valueValue, java.lang.String.class);
     }
     java.util.List<com.datastax.oss.driver.api.core.data.UdtValue> udtNestedListValue = udtNestedList.serialize(entity.getUdtNestedList());
-    if (udtNestedListValue == null) {
-      udtValue.setToNull("udtnestedlist");
-    } else {
-      udtValue.setList("udtnestedlist", udtNestedList.serialize(entity.getUdtNestedList()), com.datastax.oss.driver.api.core.data.UdtValue.class);
+    if (udtNestedListValue != null) {
+      udtValue.setList(3, udtNestedListValue, com.datastax.oss.driver.api.core.data.UdtValue.class);
     }
     java.util.Set<java.util.List<com.datastax.oss.driver.api.core.data.UdtValue>> udtNestedNestedSetValue = udtNestedNestedSet.serialize(entity.getUdtNestedNestedSet());
-    if (udtNestedNestedSetValue == null) {
-      udtValue.setToNull("udtnestednestedset");
-    } else {
-      udtValue.set("udtnestednestedset", udtNestedNestedSet.serialize(entity.getUdtNestedNestedSet()), udtNestedNestedSetGenericType);
+    if (udtNestedNestedSetValue != null) {
+      udtValue.set(4, udtNestedNestedSetValue, udtNestedNestedSetGenericType);
     }
     java.util.Map<java.lang.String, java.util.List<com.datastax.oss.driver.api.core.data.UdtValue>> udtNestedMapValue = udtNestedMap.serialize(entity.getUdtNestedMap());
-    if (udtNestedMapValue == null) {
-      udtValue.setToNull("udtnestedmap");
-    } else {
-      udtValue.set("udtnestedmap", udtNestedMap.serialize(entity.getUdtNestedMap()), udtNestedMapGenericType);
+    if (udtNestedMapValue != null) {
+      udtValue.set(5, udtNestedMapValue, udtNestedMapGenericType);
     }
     return udtValue;
   }
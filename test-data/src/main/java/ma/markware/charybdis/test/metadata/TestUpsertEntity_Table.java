@@ -0,0 +1,269 @@
+package ma.markware.charybdis.test.metadata;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import java.lang.Class;
+import java.lang.Object;
+import java.lang.String;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import ma.markware.charybdis.model.field.metadata.ColumnIndices;
+import ma.markware.charybdis.model.field.metadata.ColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.PartitionKeyColumnMetadata;
+import ma.markware.charybdis.model.field.metadata.TableMetadata;
+import ma.markware.charybdis.model.option.ConsistencyLevel;
+import ma.markware.charybdis.model.option.SerialConsistencyLevel;
+import ma.markware.charybdis.test.entities.TestUpsertEntity;
+
+public class TestUpsertEntity_Table implements TableMetadata<TestUpsertEntity> {
+  public static final PartitionKeyColumnMetadata<UUID, UUID> id = new PartitionKeyColumnMetadata<UUID, UUID>() {
+    public String getName() {
+      return "id";
+    }
+
+    public Class getFieldClass() {
+      return java.util.UUID.class;
+    }
+
+    public UUID serialize(UUID field) {
+      return field;
+    }
+
+    public UUID deserialize(Row row) {
+      if (row == null || row.isNull("id")) return null;
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("id"));
+    }
+
+    public UUID deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.util.UUID.class);
+    }
+
+    public int getPartitionKeyIndex() {
+      return 0;
+    }
+  };
+
+  public static final ColumnMetadata<String, String> name = new ColumnMetadata<String, String>() {
+    public String getName() {
+      return "name";
+    }
+
+    public Class getFieldClass() {
+      return java.lang.String.class;
+    }
+
+    public String serialize(String field) {
+      return field;
+    }
+
+    public String deserialize(Row row) {
+      if (row == null || row.isNull("name")) return null;
+      return deserialize(row, row.getColumnDefinitions().firstIndexOf("name"));
+    }
+
+    public String deserialize(Row row, int index) {
+      if (row == null || row.isNull(index)) return null;
+      return row.get(index, java.lang.String.class);
+    }
+  };
+
+  public static final TestUpsertEntity_Table test_upsert_entity = new TestUpsertEntity_Table();
+
+  public static final String KEYSPACE_NAME = "test_keyspace";
+
+  public static final String TABLE_NAME = "test_upsert_entity";
+
+  private static final List<String> COLUMN_NAMES = Collections.unmodifiableList(Arrays.asList("id", "name"));
+
+  private static final List<String> PRIMARY_KEY_NAMES = Collections.unmodifiableList(Arrays.asList("id"));
+
+  private static final List<String> REGULAR_COLUMN_NAMES = Collections.unmodifiableList(Arrays.asList("name"));
+
+  private static final ColumnIndices COLUMN_INDICES = new ColumnIndices(COLUMN_NAMES);
+
+  private static final List<ColumnMetadata> COLUMNS = Collections.unmodifiableList(Arrays.asList(id, name));
+
+  private static final Map<String, ColumnMetadata> COLUMNS_METADATA;
+
+  private static final Map<String, ColumnMetadata> PARTITION_KEY_COLUMNS;
+
+  private static final Map<String, ColumnMetadata> CLUSTERING_KEY_COLUMNS;
+
+  private static final Map<String, ColumnMetadata> PRIMARY_KEY_COLUMNS;
+
+  private static final BitSet PRIMARY_KEY_ORDINALS;
+
+  public static final String INSERT_QUERY = "INSERT INTO test_keyspace.test_upsert_entity (id,name) VALUES (?,?)";
+
+  public static final String SELECT_BY_PRIMARY_KEY_QUERY = "SELECT * FROM test_keyspace.test_upsert_entity WHERE id=?";
+
+  public static final String DELETE_BY_PRIMARY_KEY_QUERY = "DELETE FROM test_keyspace.test_upsert_entity WHERE id=?";
+
+  public static final String UPDATE_QUERY = "UPDATE test_keyspace.test_upsert_entity SET name=? WHERE id=? IF EXISTS";
+
+  public static final String UPSERT_QUERY = "UPDATE test_keyspace.test_upsert_entity SET name=? WHERE id=?";
+
+  static {
+    Map<String, ColumnMetadata> columnsMetadata = new HashMap<>();
+    columnsMetadata.put("id", id);
+    columnsMetadata.put("name", name);
+    COLUMNS_METADATA = Collections.unmodifiableMap(columnsMetadata);
+    Map<String, ColumnMetadata> partitionKeyColumns = new HashMap<>();
+    partitionKeyColumns.put("id", id);
+    PARTITION_KEY_COLUMNS = Collections.unmodifiableMap(partitionKeyColumns);
+    Map<String, ColumnMetadata> clusteringKeyColumns = new HashMap<>();
+    CLUSTERING_KEY_COLUMNS = Collections.unmodifiableMap(clusteringKeyColumns);
+    Map<String, ColumnMetadata> primaryKeyColumns = new HashMap<>();
+    primaryKeyColumns.put("id", id);
+    PRIMARY_KEY_COLUMNS = Collections.unmodifiableMap(primaryKeyColumns);
+    PRIMARY_KEY_ORDINALS = new BitSet(2);
+    PRIMARY_KEY_ORDINALS.set(0);
+  }
+
+  private TestUpsertEntity_Table() {
+  }
+
+  public String getKeyspaceName() {
+    return KEYSPACE_NAME;
+  }
+
+  public String getTableName() {
+    return TABLE_NAME;
+  }
+
+  public ConsistencyLevel getDefaultReadConsistency() {
+    return ConsistencyLevel.NOT_SPECIFIED;
+  }
+
+  public ConsistencyLevel getDefaultWriteConsistency() {
+    return ConsistencyLevel.NOT_SPECIFIED;
+  }
+
+  public SerialConsistencyLevel getDefaultSerialConsistency() {
+    return SerialConsistencyLevel.NOT_SPECIFIED;
+  }
+
+  public boolean isUpdateIfExists() {
+    return false;
+  }
+
+  public boolean isInsertNullAsUnset() {
+    return false;
+  }
+
+  public Map<String, ColumnMetadata> getColumnsMetadata() {
+    return COLUMNS_METADATA;
+  }
+
+  public Map<String, ColumnMetadata> getPartitionKeyColumns() {
+    return PARTITION_KEY_COLUMNS;
+  }
+
+  public Map<String, ColumnMetadata> getClusteringKeyColumns() {
+    return CLUSTERING_KEY_COLUMNS;
+  }
+
+  public Map<String, ColumnMetadata> getPrimaryKeys() {
+    return PRIMARY_KEY_COLUMNS;
+  }
+
+  public ColumnMetadata getColumnMetadata(String columnName) {
+    return COLUMNS_METADATA.get(columnName);
+  }
+
+  public boolean isPrimaryKey(String columnName) {
+    return PRIMARY_KEY_COLUMNS.containsKey(columnName);
+  }
+
+  public boolean isPrimaryKey(int columnOrdinal) {
+    return PRIMARY_KEY_ORDINALS.get(columnOrdinal);
+  }
+
+  public int getPrimaryKeySize() {
+    return PRIMARY_KEY_NAMES.size();
+  }
+
+  public int getColumnsSize() {
+    return COLUMN_NAMES.size();
+  }
+
+  public List<ColumnMetadata> getColumns() {
+    return COLUMNS;
+  }
+
+  public List<String> getColumnNames() {
+    return COLUMN_NAMES;
+  }
+
+  public List<String> getPrimaryKeyNames() {
+    return PRIMARY_KEY_NAMES;
+  }
+
+  public List<String> getRegularColumnNames() {
+    return REGULAR_COLUMN_NAMES;
+  }
+
+  public String getInsertQuery() {
+    return INSERT_QUERY;
+  }
+
+  public String getSelectByPrimaryKeyQuery() {
+    return SELECT_BY_PRIMARY_KEY_QUERY;
+  }
+
+  public String getDeleteByPrimaryKeyQuery() {
+    return DELETE_BY_PRIMARY_KEY_QUERY;
+  }
+
+  public String getUpdateQuery() {
+    return UPDATE_QUERY;
+  }
+
+  public String getUpsertQuery() {
+    return UPSERT_QUERY;
+  }
+
+  public void setGeneratedValues(TestUpsertEntity entity) {
+    if (entity != null) {
+    }
+  }
+
+  public void setCreationDate(TestUpsertEntity entity, Instant creationDate) {
+    if (entity != null) {
+    }
+  }
+
+  public void setLastUpdatedDate(TestUpsertEntity entity, Instant lastUpdatedDate) {
+    if (entity != null) {
+    }
+  }
+
+  public Map<String, Object> serialize(TestUpsertEntity entity) {
+    if (entity == null) return null;
+    Map<String, Object> columnValueMap = new HashMap<>();
+    columnValueMap.put("id", id.serialize(entity.getId()));
+    columnValueMap.put("name", name.serialize(entity.getName()));
+    return columnValueMap;
+  }
+
+  public void serializeInto(TestUpsertEntity entity, Object[] bindValues) {
+    if (entity == null) return;
+    bindValues[0] = id.serialize(entity.getId());
+    bindValues[1] = name.serialize(entity.getName());
+  }
+
+  public TestUpsertEntity deserialize(Row row) {
+    if (row == null) return null;
+    int[] indices = COLUMN_INDICES.resolve(row.getColumnDefinitions());
+    TestUpsertEntity entity = new TestUpsertEntity();
+    entity.setId(id.deserialize(row, indices[0]));
+    entity.setName(name.deserialize(row, indices[1]));
+    return entity;
+  }
+}
@@ -0,0 +1,1111 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.servererrors.SyntaxError;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.MapType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.internal.core.type.DefaultUserDefinedType;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import ma.markware.charybdis.test.tools.memory.CqlTokenizer.Token;
+import ma.markware.charybdis.test.tools.memory.ModificationStatement.Condition;
+import ma.markware.charybdis.test.tools.memory.ModificationStatement.Kind;
+import ma.markware.charybdis.test.tools.memory.Relation.Operator;
+import ma.markware.charybdis.test.tools.memory.SelectStatement.Selector;
+
+/**
+ * Parser of the cql subset generated by Charybdis and the datastax query builder:
+ * <ul>
+ *   <li>{@code CREATE}/{@code DROP} of keyspaces, types and tables, {@code TRUNCATE}, indexes being ignored</li>
+ *   <li>{@code INSERT}, {@code UPDATE} and {@code DELETE} by primary key, with {@code USING TTL}/{@code TIMESTAMP} and conditions</li>
+ *   <li>{@code SELECT} of columns, udt fields, collection elements, {@code writetime} and {@code ttl}, with {@code DISTINCT},
+ *   {@code ORDER BY}, {@code LIMIT} and {@code ALLOW FILTERING}</li>
+ * </ul>
+ * Values are either bind markers or literals.
+ *
+ * @author Oussama Markad
+ */
+class CqlParser {
+
+  private static final Map<String, DataType> PRIMITIVE_TYPES = new HashMap<>();
+
+  static {
+    PRIMITIVE_TYPES.put("ascii", DataTypes.ASCII);
+    PRIMITIVE_TYPES.put("bigint", DataTypes.BIGINT);
+    PRIMITIVE_TYPES.put("blob", DataTypes.BLOB);
+    PRIMITIVE_TYPES.put("boolean", DataTypes.BOOLEAN);
+    PRIMITIVE_TYPES.put("counter", DataTypes.COUNTER);
+    PRIMITIVE_TYPES.put("date", DataTypes.DATE);
+    PRIMITIVE_TYPES.put("decimal", DataTypes.DECIMAL);
+    PRIMITIVE_TYPES.put("double", DataTypes.DOUBLE);
+    PRIMITIVE_TYPES.put("duration", DataTypes.DURATION);
+    PRIMITIVE_TYPES.put("float", DataTypes.FLOAT);
+    PRIMITIVE_TYPES.put("inet", DataTypes.INET);
+    PRIMITIVE_TYPES.put("int", DataTypes.INT);
+    PRIMITIVE_TYPES.put("smallint", DataTypes.SMALLINT);
+    PRIMITIVE_TYPES.put("text", DataTypes.TEXT);
+    PRIMITIVE_TYPES.put("time", DataTypes.TIME);
+    PRIMITIVE_TYPES.put("timestamp", DataTypes.TIMESTAMP);
+    PRIMITIVE_TYPES.put("timeuuid", DataTypes.TIMEUUID);
+    PRIMITIVE_TYPES.put("tinyint", DataTypes.TINYINT);
+    PRIMITIVE_TYPES.put("uuid", DataTypes.UUID);
+    PRIMITIVE_TYPES.put("varchar", DataTypes.TEXT);
+    PRIMITIVE_TYPES.put("varint", DataTypes.VARINT);
+  }
+
+  private final InMemoryDatabase database;
+  private final String query;
+  private final List<Token> tokens;
+  private final List<ColumnDefinition> variables = new ArrayList<>();
+  private int position;
+  private InMemoryTable table;
+  private Integer[] partitionKeyMarkers;
+
+  private CqlParser(final InMemoryDatabase database, final String query) {
+    this.database = database;
+    this.query = query;
+    this.tokens = CqlTokenizer.tokenize(query);
+  }
+
+  static InMemoryStatement parse(final InMemoryDatabase database, final String query) {
+    return new CqlParser(database, query).parseStatement();
+  }
+
+  private InMemoryStatement parseStatement() {
+    InMemoryStatement statement;
+    if (accept("select")) {
+      statement = parseSelect();
+    } else if (accept("insert")) {
+      statement = parseInsert();
+    } else if (accept("update")) {
+      statement = parseUpdate();
+    } else if (accept("delete")) {
+      statement = parseDelete();
+    } else if (accept("create")) {
+      statement = parseCreate();
+    } else if (accept("drop")) {
+      statement = parseDrop();
+    } else if (accept("truncate")) {
+      accept("table");
+      String[] tableName = qualifiedName();
+      statement = new SchemaStatement(database, db -> db.getTable(tableName[0], tableName[1]).truncate());
+    } else {
+      throw unsupported();
+    }
+    accept(";");
+    if (peek().getKind() != CqlTokenizer.Kind.EOF) {
+      throw syntaxError("end of query");
+    }
+    return statement;
+  }
+
+  // ---------------------------------------------------------------- SELECT
+
+  private InMemoryStatement parseSelect() {
+    if (peek().is("json")) {
+      throw unsupported();
+    }
+    boolean distinct = accept("distinct");
+    int selectorsPosition = position;
+    skipToKeyword("from");
+    table = resolveTable(qualifiedName());
+    int afterTablePosition = position;
+    position = selectorsPosition;
+
+    List<Selector> selectors = new ArrayList<>();
+    List<ColumnDefinition> resultColumns = new ArrayList<>();
+    if (accept("*")) {
+      for (int i = 0; i < table.getColumnsSize(); i++) {
+        int column = i;
+        selectors.add((row, execution) -> row.get(column, execution.getNow()));
+        resultColumns.add(table.getColumn(i));
+      }
+    } else {
+      do {
+        parseSelector(selectors, resultColumns);
+      } while (accept(","));
+    }
+    expect("from");
+    position = afterTablePosition;
+
+    Restrictions restrictions = parseWhere(false);
+    boolean reversed = false;
+    if (accept("group")) {
+      throw unsupported();
+    }
+    if (accept("order")) {
+      expect("by");
+      reversed = parseOrderings();
+    }
+    if (peek().is("per")) {
+      throw unsupported();
+    }
+    Term limit = null;
+    if (accept("limit")) {
+      limit = term("[limit]", DataTypes.INT);
+    }
+    if (accept("allow")) {
+      expect("filtering");
+    }
+    return new SelectStatement(variables, resolvePartitionKeyIndices(), resultColumns, table, restrictions, selectors, distinct, reversed, limit);
+  }
+
+  private void parseSelector(final List<Selector> selectors, final List<ColumnDefinition> resultColumns) {
+    int start = peek().getStart();
+    String name = identifier();
+    Selector selector;
+    DataType type;
+    if (accept("(")) {
+      if (!name.equals("writetime") && !name.equals("ttl")) {
+        throw new InvalidQueryException(null, "Unsupported function '" + name + "' in in-memory session");
+      }
+      int column = column(identifier());
+      expect(")");
+      if (name.equals("writetime")) {
+        selector = (row, execution) -> row.isLive(column, execution.getNow()) ? CqlValues.ofLong(row.getTimestamp(column)) : null;
+        type = DataTypes.BIGINT;
+      } else {
+        selector = (row, execution) -> {
+          long now = execution.getNow();
+          return row.isLive(column, now) && row.getTtl(column, now) > 0 ? CqlValues.ofInt(row.getTtl(column, now)) : null;
+        };
+        type = DataTypes.INT;
+      }
+    } else {
+      int column = column(name);
+      DataType columnType = table.getColumn(column).getType();
+      if (accept(".")) {
+        UserDefinedType udtType = udtType(columnType);
+        int field = field(udtType, identifier());
+        selector = (row, execution) -> {
+          UdtValue udtValue = (UdtValue) CqlValues.decode(udtType, row.get(column, execution.getNow()));
+          return udtValue == null ? null : udtValue.getBytesUnsafe(field);
+        };
+        type = udtType.getFieldTypes().get(field);
+      } else if (accept("[")) {
+        Term key = peek().is("..") ? null : term(name, keyType(columnType));
+        if (accept("..")) {
+          if (!(columnType instanceof MapType) && !(columnType instanceof SetType)) {
+            throw new InvalidQueryException(null, "Slice selection is only allowed on sets and maps, but " + name + " is a " + columnType.asCql(true, true));
+          }
+          Term upperKey = peek().is("]") ? null : term(name, keyType(columnType));
+          selector = sliceSelector(column, columnType, key, upperKey);
+          type = columnType;
+        } else {
+          type = elementType(columnType);
+          selector = elementSelector(column, columnType, key);
+        }
+        expect("]");
+      } else {
+        selector = (row, execution) -> row.get(column, execution.getNow());
+        type = columnType;
+      }
+    }
+    String resultName = query.substring(start, tokens.get(position - 1).getEnd()).replace(" ", "");
+    if (accept("as")) {
+      resultName = identifier();
+    }
+    selectors.add(selector);
+    resultColumns.add(new InMemoryColumnDefinition(table.getKeyspace(), table.getName(), resultName, type));
+  }
+
+  private static Selector elementSelector(final int column, final DataType type, final Term key) {
+    return (row, execution) -> {
+      Object collection = CqlValues.decode(type, row.get(column, execution.getNow()));
+      ByteBuffer keyValue = key.bind(execution);
+      if (collection == null || keyValue == null || Execution.isUnset(keyValue)) {
+        return null;
+      }
+      if (type instanceof MapType) {
+        MapType mapType = (MapType) type;
+        return CqlValues.encode(mapType.getValueType(), ((Map<?, ?>) collection).get(CqlValues.decode(mapType.getKeyType(), keyValue)));
+      }
+      if (type instanceof ListType) {
+        List<?> list = (List<?>) collection;
+        int index = CqlValues.toInt(keyValue);
+        return index >= 0 && index < list.size() ? CqlValues.encode(((ListType) type).getElementType(), list.get(index)) : null;
+      }
+      return ((Collection<?>) collection).contains(CqlValues.decode(((SetType) type).getElementType(), keyValue)) ? keyValue : null;
+    };
+  }
+
+  private static Selector sliceSelector(final int column, final DataType type, final Term from, final Term to) {
+    DataType keyType = keyType(type);
+    Comparator<ByteBuffer> comparator = CqlValues.comparator(keyType);
+    return (row, execution) -> {
+      Object collection = CqlValues.decode(type, row.get(column, execution.getNow()));
+      if (collection == null) {
+        return null;
+      }
+      ByteBuffer fromValue = bindBound(from, execution);
+      ByteBuffer toValue = bindBound(to, execution);
+      Predicate<Object> inSlice = key -> {
+        ByteBuffer keyValue = CqlValues.encode(keyType, key);
+        return (fromValue == null || comparator.compare(keyValue, fromValue) >= 0) && (toValue == null || comparator.compare(keyValue, toValue) <= 0);
+      };
+      Object slice;
+      if (type instanceof MapType) {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        ((Map<?, ?>) collection).forEach((key, value) -> {
+          if (inSlice.test(key)) {
+            map.put(key, value);
+          }
+        });
+        slice = map.isEmpty() ? null : map;
+      } else {
+        Set<Object> set = new LinkedHashSet<>();
+        for (Object element : (Collection<?>) collection) {
+          if (inSlice.test(element)) {
+            set.add(element);
+          }
+        }
+        slice = set.isEmpty() ? null : set;
+      }
+      return slice == null ? null : CqlValues.encode(type, slice);
+    };
+  }
+
+  private static ByteBuffer bindBound(final Term bound, final Execution execution) {
+    if (bound == null) {
+      return null;
+    }
+    ByteBuffer value = bound.bind(execution);
+    return Execution.isUnset(value) ? null : value;
+  }
+
+  private boolean parseOrderings() {
+    Boolean reversed = null;
+    do {
+      int column = column(identifier());
+      boolean descending = accept("desc");
+      if (!descending) {
+        accept("asc");
+      }
+      int clusteringIndex = indexOf(table.getClusteringColumns(), column);
+      if (clusteringIndex < 0) {
+        throw new InvalidQueryException(null, "Order by is currently only supported on the clustered columns of the PRIMARY KEY");
+      }
+      boolean columnReversed = descending != table.isClusteringDescending(clusteringIndex);
+      if (reversed != null && reversed != columnReversed) {
+        throw new InvalidQueryException(null, "Unsupported order by relation");
+      }
+      reversed = columnReversed;
+    } while (accept(","));
+    return reversed;
+  }
+
+  // ---------------------------------------------------------------- INSERT
+
+  private InMemoryStatement parseInsert() {
+    expect("into");
+    table = resolveTable(qualifiedName());
+    if (peek().is("json")) {
+      throw unsupported();
+    }
+    List<Integer> columns = new ArrayList<>();
+    expect("(");
+    do {
+      columns.add(column(identifier()));
+    } while (accept(","));
+    expect(")");
+    expect("values");
+    expect("(");
+    List<Relation> relations = new ArrayList<>();
+    List<Operation> operations = new ArrayList<>();
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        expect(",");
+      }
+      int column = columns.get(i);
+      InMemoryColumnDefinition columnDefinition = table.getColumn(column);
+      int marker = variables.size();
+      Term term = term(columnDefinition.getName().asInternal(), columnDefinition.getType());
+      if (table.isPrimaryKey(column)) {
+        relations.add(new Relation(column, columnDefinition.getType(), Operator.EQ, term, null));
+        recordPartitionKeyMarker(column, marker);
+      } else {
+        operations.add(Operation.set(column, term));
+      }
+    }
+    expect(")");
+
+    Condition condition = Condition.NONE;
+    Term[] using = new Term[2];
+    while (true) {
+      if (accept("if")) {
+        expect("not");
+        expect("exists");
+        condition = Condition.IF_NOT_EXISTS;
+      } else if (accept("using")) {
+        parseUsing(using, true);
+      } else {
+        break;
+      }
+    }
+    Restrictions restrictions = new Restrictions(table, relations, Collections.emptyList());
+    checkPrimaryKeyRestricted(restrictions, true);
+    return new ModificationStatement(variables, resolvePartitionKeyIndices(), resultColumns(condition), table, Kind.INSERT, restrictions, operations,
+                                     condition, Collections.emptyList(), using[0], using[1]);
+  }
+
+  /**
+   * Parse {@code USING} clause into ttl and timestamp terms.
+   */
+  private void parseUsing(final Term[] using, final boolean ttlAllowed) {
+    do {
+      if (ttlAllowed && accept("ttl")) {
+        using[0] = term("[ttl]", DataTypes.INT);
+      } else {
+        expect("timestamp");
+        using[1] = term("[timestamp]", DataTypes.BIGINT);
+      }
+    } while (accept("and"));
+  }
+
+  // ---------------------------------------------------------------- UPDATE
+
+  private InMemoryStatement parseUpdate() {
+    table = resolveTable(qualifiedName());
+    Term[] using = new Term[2];
+    if (accept("using")) {
+      parseUsing(using, true);
+    }
+    expect("set");
+    List<Operation> operations = new ArrayList<>();
+    do {
+      operations.add(parseAssignment());
+    } while (accept(","));
+    Restrictions restrictions = parseWhere(true);
+    checkPrimaryKeyRestricted(restrictions, true);
+    List<Relation> conditions = new ArrayList<>();
+    Condition condition = parseConditions(conditions);
+    return new ModificationStatement(variables, resolvePartitionKeyIndices(), resultColumns(condition), table, Kind.UPDATE, restrictions, operations,
+                                     condition, conditions, using[0], using[1]);
+  }
+
+  private Operation parseAssignment() {
+    String name = identifier();
+    int column = column(name);
+    if (table.isPrimaryKey(column)) {
+      throw new InvalidQueryException(null, "PRIMARY KEY part " + name + " found in SET part");
+    }
+    DataType type = table.getColumn(column).getType();
+    if (accept("[")) {
+      Term key = term("key(" + name + ")", type instanceof ListType ? DataTypes.INT : keyType(type));
+      expect("]");
+      expect("=");
+      return Operation.setElement(column, type, key, term("value(" + name + ")", elementType(type)));
+    }
+    if (accept(".")) {
+      UserDefinedType udtType = udtType(type);
+      String fieldName = identifier();
+      int field = field(udtType, fieldName);
+      expect("=");
+      return Operation.setField(column, udtType, field, term(name + "." + fieldName, udtType.getFieldTypes().get(field)));
+    }
+    if (accept("+=")) {
+      return Operation.append(column, type, term(name, operandType(type, false)));
+    }
+    if (accept("-=")) {
+      return Operation.remove(column, type, operandType(type, true), term(name, operandType(type, true)));
+    }
+    expect("=");
+    if (peek().getKind() == CqlTokenizer.Kind.IDENTIFIER && peek().getText().equals(name) && (peek(1).is("+") || peek(1).is("-"))) {
+      position++;
+      if (accept("+")) {
+        return Operation.append(column, type, term(name, operandType(type, false)));
+      }
+      expect("-");
+      return Operation.remove(column, type, operandType(type, true), term(name, operandType(type, true)));
+    }
+    Term term = term(name, type);
+    if (accept("+")) {
+      if (!(type instanceof ListType) || !identifier().equals(name)) {
+        throw new InvalidQueryException(null, "Invalid operation for column " + name);
+      }
+      return Operation.prepend(column, type, term);
+    }
+    return Operation.set(column, term);
+  }
+
+  private static DataType operandType(final DataType type, final boolean removal) {
+    if (type.getProtocolCode() == ProtocolConstants.DataType.COUNTER) {
+      return DataTypes.BIGINT;
+    }
+    if (removal && type instanceof MapType) {
+      return DataTypes.setOf(((MapType) type).getKeyType());
+    }
+    return type;
+  }
+
+  // ---------------------------------------------------------------- DELETE
+
+  private InMemoryStatement parseDelete() {
+    int selectionPosition = position;
+    skipToKeyword("from");
+    table = resolveTable(qualifiedName());
+    int afterTablePosition = position;
+    position = selectionPosition;
+
+    List<Operation> operations = new ArrayList<>();
+    if (!peek().is("from")) {
+      do {
+        String name = identifier();
+        int column = column(name);
+        if (table.isPrimaryKey(column)) {
+          throw new InvalidQueryException(null, "Invalid identifier " + name + " for deletion (should not be a PRIMARY KEY part)");
+        }
+        DataType type = table.getColumn(column).getType();
+        if (accept("[")) {
+          operations.add(Operation.deleteElement(column, type, term("key(" + name + ")", type instanceof ListType ? DataTypes.INT : keyType(type))));
+          expect("]");
+        } else {
+          operations.add(Operation.delete(column));
+        }
+      } while (accept(","));
+    }
+    expect("from");
+    position = afterTablePosition;
+
+    Term[] using = new Term[2];
+    if (accept("using")) {
+      parseUsing(using, false);
+    }
+    Restrictions restrictions = parseWhere(true);
+    List<Relation> conditions = new ArrayList<>();
+    Condition condition = parseConditions(conditions);
+    checkPrimaryKeyRestricted(restrictions, !operations.isEmpty() || condition != Condition.NONE);
+    return new ModificationStatement(variables, resolvePartitionKeyIndices(), resultColumns(condition), table, Kind.DELETE, restrictions, operations,
+                                     condition, conditions, null, using[1]);
+  }
+
+  private Condition parseConditions(final List<Relation> conditions) {
+    if (!accept("if")) {
+      return Condition.NONE;
+    }
+    if (accept("exists")) {
+      return Condition.IF_EXISTS;
+    }
+    do {
+      String name = identifier();
+      int column = column(name);
+      DataType type = table.getColumn(column).getType();
+      conditions.add(parseOperation(name, column, type));
+    } while (accept("and"));
+    return Condition.IF_CONDITIONS;
+  }
+
+  // ---------------------------------------------------------------- WHERE
+
+  /**
+   * @param modification true if where clause belongs to a modification statement, which only accepts primary key restrictions.
+   */
+  private Restrictions parseWhere(final boolean modification) {
+    List<Relation> relations = new ArrayList<>();
+    List<Relation> tokenRelations = new ArrayList<>();
+    if (accept("where")) {
+      do {
+        if (peek().is("(")) {
+          throw new InvalidQueryException(null, "Multi-column relations are not supported in in-memory session");
+        }
+        if (peek().is("token") && peek(1).is("(") && !modification) {
+          tokenRelations.add(parseTokenRelation());
+          continue;
+        }
+        String name = identifier();
+        int column = column(name);
+        if (modification && !table.isPrimaryKey(column)) {
+          throw new InvalidQueryException(null, "Non PRIMARY KEY columns found in where clause: " + name);
+        }
+        int marker = variables.size();
+        Relation relation = parseOperation(name, column, table.getColumn(column).getType());
+        if (relation.getOperator() == Operator.EQ && variables.size() == marker + 1) {
+          recordPartitionKeyMarker(column, marker);
+        }
+        relations.add(relation);
+      } while (accept("and"));
+    }
+    return new Restrictions(table, relations, tokenRelations);
+  }
+
+  private Relation parseTokenRelation() {
+    expect("token");
+    expect("(");
+    int[] partitionKeyColumns = table.getPartitionKeyColumns();
+    for (int i = 0; i < partitionKeyColumns.length; i++) {
+      if (i > 0) {
+        expect(",");
+      }
+      if (column(identifier()) != partitionKeyColumns[i]) {
+        throw new InvalidQueryException(null, "The token function arguments must be the partition key columns, in order");
+      }
+    }
+    expect(")");
+    Operator operator = operator(next());
+    return new Relation(-1, DataTypes.BIGINT, operator, term("partition key token", DataTypes.BIGINT), null);
+  }
+
+  private Relation parseOperation(final String name, final int column, final DataType type) {
+    if (accept("in")) {
+      if (accept("(")) {
+        List<Term> terms = new ArrayList<>();
+        if (!accept(")")) {
+          do {
+            terms.add(term(name, type));
+          } while (accept(","));
+          expect(")");
+        }
+        return new Relation(column, type, Operator.IN, null, Terms.of(terms));
+      }
+      return new Relation(column, type, Operator.IN, null, Terms.ofList(term(name, DataTypes.listOf(type)), type));
+    }
+    if (accept("contains")) {
+      if (accept("key")) {
+        return new Relation(column, type, Operator.CONTAINS_KEY, term(name, keyType(type)), null);
+      }
+      return new Relation(column, type, Operator.CONTAINS, term(name, elementType(type)), null);
+    }
+    if (accept("like")) {
+      return new Relation(column, type, Operator.LIKE, term(name, type), null);
+    }
+    if (accept("is")) {
+      expect("not");
+      expect("null");
+      return new Relation(column, type, Operator.IS_NOT_NULL, null, null);
+    }
+    Operator operator = operator(next());
+    return new Relation(column, type, operator, term(name, type), null);
+  }
+
+  private Operator operator(final Token token) {
+    switch (token.getText()) {
+      case "=":
+        return Operator.EQ;
+      case "!=":
+        return Operator.NOT_EQ;
+      case "<":
+        return Operator.LT;
+      case "<=":
+        return Operator.LTE;
+      case ">":
+        return Operator.GT;
+      case ">=":
+        return Operator.GTE;
+      default:
+        position--;
+        throw syntaxError("relation operator");
+    }
+  }
+
+  // ---------------------------------------------------------------- CREATE / DROP
+
+  private InMemoryStatement parseCreate() {
+    if (accept("keyspace") || accept("schema")) {
+      boolean ifNotExists = parseIfNotExists();
+      String keyspace = identifier();
+      skipToEnd();
+      return new SchemaStatement(database, db -> db.createKeyspace(keyspace, ifNotExists));
+    }
+    if (accept("type")) {
+      boolean ifNotExists = parseIfNotExists();
+      String[] name = qualifiedName();
+      List<CqlIdentifier> fieldNames = new ArrayList<>();
+      List<DataType> fieldTypes = new ArrayList<>();
+      expect("(");
+      do {
+        fieldNames.add(CqlIdentifier.fromInternal(identifier()));
+        fieldTypes.add(type(name[0]));
+      } while (accept(","));
+      expect(")");
+      UserDefinedType type = new DefaultUserDefinedType(CqlIdentifier.fromInternal(name[0]), CqlIdentifier.fromInternal(name[1]), false, fieldNames,
+                                                        fieldTypes);
+      return new SchemaStatement(database, db -> db.createType(type, ifNotExists));
+    }
+    if (accept("table") || accept("columnfamily")) {
+      return parseCreateTable();
+    }
+    if (accept("custom")) {
+      expect("index");
+      skipToEnd();
+      return new SchemaStatement(database, db -> { });
+    }
+    if (accept("index")) {
+      // Indexes are ignored, as any column can be filtered
+      skipToEnd();
+      return new SchemaStatement(database, db -> { });
+    }
+    throw unsupported();
+  }
+
+  private InMemoryStatement parseCreateTable() {
+    boolean ifNotExists = parseIfNotExists();
+    String[] name = qualifiedName();
+    List<InMemoryColumnDefinition> columns = new ArrayList<>();
+    List<String> partitionKey = new ArrayList<>();
+    List<String> clusteringKey = new ArrayList<>();
+    expect("(");
+    do {
+      if (accept("primary")) {
+        expect("key");
+        expect("(");
+        if (accept("(")) {
+          do {
+            partitionKey.add(identifier());
+          } while (accept(","));
+          expect(")");
+        } else {
+          partitionKey.add(identifier());
+        }
+        while (accept(",")) {
+          clusteringKey.add(identifier());
+        }
+        expect(")");
+      } else {
+        String columnName = identifier();
+        DataType columnType = type(name[0]);
+        if (peek().is("static")) {
+          throw new InvalidQueryException(null, "Static columns are not supported in in-memory session");
+        }
+        if (accept("primary")) {
+          expect("key");
+          partitionKey.add(columnName);
+        }
+        columns.add(new InMemoryColumnDefinition(CqlIdentifier.fromInternal(name[0]), CqlIdentifier.fromInternal(name[1]), columnName, columnType));
+      }
+    } while (accept(","));
+    expect(")");
+
+    Map<String, Boolean> clusteringOrders = new HashMap<>();
+    int defaultTtl = 0;
+    if (accept("with")) {
+      do {
+        if (accept("clustering")) {
+          expect("order");
+          expect("by");
+          expect("(");
+          do {
+            String column = identifier();
+            boolean descending = accept("desc");
+            if (!descending) {
+              expect("asc");
+            }
+            clusteringOrders.put(column, descending);
+          } while (accept(","));
+          expect(")");
+        } else if (accept("compact")) {
+          expect("storage");
+        } else {
+          String option = identifier();
+          expect("=");
+          int start = peek().getStart();
+          skipLiteral();
+          if (option.equals("default_time_to_live")) {
+            defaultTtl = Integer.parseInt(query.substring(start, tokens.get(position - 1).getEnd()).trim());
+          }
+        }
+      } while (accept("and"));
+    }
+
+    if (partitionKey.isEmpty()) {
+      throw new InvalidQueryException(null, "No PRIMARY KEY specified for table " + name[1]);
+    }
+    Map<String, Integer> columnIndices = new HashMap<>();
+    for (int i = 0; i < columns.size(); i++) {
+      columnIndices.put(columns.get(i).getName().asInternal(), i);
+    }
+    int[] partitionKeyColumns = resolveColumns(columnIndices, partitionKey);
+    int[] clusteringColumns = resolveColumns(columnIndices, clusteringKey);
+    boolean[] clusteringDescending = new boolean[clusteringKey.size()];
+    for (int i = 0; i < clusteringKey.size(); i++) {
+      clusteringDescending[i] = clusteringOrders.getOrDefault(clusteringKey.get(i), false);
+    }
+    InMemoryTable newTable = new InMemoryTable(CqlIdentifier.fromInternal(name[0]), CqlIdentifier.fromInternal(name[1]), columns, partitionKeyColumns,
+                                               clusteringColumns, clusteringDescending, defaultTtl);
+    return new SchemaStatement(database, db -> db.createTable(newTable, ifNotExists));
+  }
+
+  private static int[] resolveColumns(final Map<String, Integer> columnIndices, final List<String> columnNames) {
+    int[] columns = new int[columnNames.size()];
+    for (int i = 0; i < columns.length; i++) {
+      Integer column = columnIndices.get(columnNames.get(i));
+      if (column == null) {
+        throw new InvalidQueryException(null, "Unknown definition " + columnNames.get(i) + " referenced in PRIMARY KEY");
+      }
+      columns[i] = column;
+    }
+    return columns;
+  }
+
+  private InMemoryStatement parseDrop() {
+    if (accept("keyspace") || accept("schema")) {
+      boolean ifExists = parseIfExists();
+      String keyspace = identifier();
+      return new SchemaStatement(database, db -> db.dropKeyspace(keyspace, ifExists));
+    }
+    if (accept("type")) {
+      boolean ifExists = parseIfExists();
+      String[] name = qualifiedName();
+      return new SchemaStatement(database, db -> db.dropType(name[0], name[1], ifExists));
+    }
+    if (accept("table") || accept("columnfamily")) {
+      boolean ifExists = parseIfExists();
+      String[] name = qualifiedName();
+      return new SchemaStatement(database, db -> db.dropTable(name[0], name[1], ifExists));
+    }
+    if (accept("index")) {
+      skipToEnd();
+      return new SchemaStatement(database, db -> { });
+    }
+    throw unsupported();
+  }
+
+  private boolean parseIfNotExists() {
+    if (accept("if")) {
+      expect("not");
+      expect("exists");
+      return true;
+    }
+    return false;
+  }
+
+  private boolean parseIfExists() {
+    if (accept("if")) {
+      expect("exists");
+      return true;
+    }
+    return false;
+  }
+
+  private DataType type(final String keyspace) {
+    String name = identifier();
+    switch (name) {
+      case "frozen": {
+        expect("<");
+        DataType type = type(keyspace);
+        expect(">");
+        return freeze(type);
+      }
+      case "list": {
+        expect("<");
+        DataType elementType = type(keyspace);
+        expect(">");
+        return DataTypes.listOf(elementType);
+      }
+      case "set": {
+        expect("<");
+        DataType elementType = type(keyspace);
+        expect(">");
+        return DataTypes.setOf(elementType);
+      }
+      case "map": {
+        expect("<");
+        DataType keyType = type(keyspace);
+        expect(",");
+        DataType valueType = type(keyspace);
+        expect(">");
+        return DataTypes.mapOf(keyType, valueType);
+      }
+      case "tuple": {
+        expect("<");
+        List<DataType> componentTypes = new ArrayList<>();
+        do {
+          componentTypes.add(type(keyspace));
+        } while (accept(","));
+        expect(">");
+        return DataTypes.tupleOf(componentTypes.toArray(new DataType[0]));
+      }
+      default:
+        DataType primitiveType = PRIMITIVE_TYPES.get(name);
+        if (primitiveType != null) {
+          return primitiveType;
+        }
+        if (accept(".")) {
+          return database.getType(name, identifier());
+        }
+        return database.getType(keyspace, name);
+    }
+  }
+
+  private static DataType freeze(final DataType type) {
+    if (type instanceof ListType) {
+      return DataTypes.frozenListOf(((ListType) type).getElementType());
+    }
+    if (type instanceof SetType) {
+      return DataTypes.frozenSetOf(((SetType) type).getElementType());
+    }
+    if (type instanceof MapType) {
+      return DataTypes.frozenMapOf(((MapType) type).getKeyType(), ((MapType) type).getValueType());
+    }
+    if (type instanceof UserDefinedType) {
+      return ((UserDefinedType) type).copy(true);
+    }
+    return type;
+  }
+
+  // ---------------------------------------------------------------- Terms
+
+  private Term term(final String name, final DataType type) {
+    if (accept("?")) {
+      return Term.bindMarker(addVariable(name, type));
+    }
+    if (accept(":")) {
+      return Term.bindMarker(addVariable(identifier(), type));
+    }
+    int start = peek().getStart();
+    skipLiteral();
+    String literal = query.substring(start, tokens.get(position - 1).getEnd());
+    return Term.literal("null".equalsIgnoreCase(literal) ? null : CqlValues.parse(type, literal));
+  }
+
+  private int addVariable(final String name, final DataType type) {
+    variables.add(new InMemoryColumnDefinition(table.getKeyspace(), table.getName(), name, type));
+    return variables.size() - 1;
+  }
+
+  private void skipLiteral() {
+    Token token = next();
+    if (token.is("-")) {
+      token = next();
+    }
+    if (token.is("[") || token.is("{") || token.is("(")) {
+      int depth = 1;
+      while (depth > 0) {
+        Token nestedToken = next();
+        if (nestedToken.getKind() == CqlTokenizer.Kind.EOF) {
+          throw syntaxError("end of literal");
+        }
+        if (nestedToken.is("[") || nestedToken.is("{") || nestedToken.is("(")) {
+          depth++;
+        } else if (nestedToken.is("]") || nestedToken.is("}") || nestedToken.is(")")) {
+          depth--;
+        }
+      }
+    } else if (token.getKind() == CqlTokenizer.Kind.SYMBOL || token.getKind() == CqlTokenizer.Kind.EOF) {
+      position--;
+      throw syntaxError("value");
+    }
+  }
+
+  // ---------------------------------------------------------------- Schema helpers
+
+  private InMemoryTable resolveTable(final String[] name) {
+    return database.getTable(name[0], name[1]);
+  }
+
+  private int column(final String name) {
+    int column = table.indexOf(name);
+    if (column < 0) {
+      throw new InvalidQueryException(null, "Undefined column name " + name);
+    }
+    return column;
+  }
+
+  private static int field(final UserDefinedType type, final String name) {
+    int field = type.firstIndexOf(CqlIdentifier.fromInternal(name));
+    if (field < 0) {
+      throw new InvalidQueryException(null, "Field " + name + " not found in type " + type.getName().asInternal());
+    }
+    return field;
+  }
+
+  private static UserDefinedType udtType(final DataType type) {
+    if (!(type instanceof UserDefinedType)) {
+      throw new InvalidQueryException(null, "Invalid field selection: " + type.asCql(true, true) + " is not a user type");
+    }
+    return (UserDefinedType) type;
+  }
+
+  private static DataType keyType(final DataType type) {
+    if (type instanceof MapType) {
+      return ((MapType) type).getKeyType();
+    }
+    if (type instanceof ListType) {
+      return DataTypes.INT;
+    }
+    if (type instanceof SetType) {
+      return ((SetType) type).getElementType();
+    }
+    throw new InvalidQueryException(null, "Invalid element selection: " + type.asCql(true, true) + " is not a collection");
+  }
+
+  private static DataType elementType(final DataType type) {
+    if (type instanceof MapType) {
+      return ((MapType) type).getValueType();
+    }
+    if (type instanceof ListType) {
+      return ((ListType) type).getElementType();
+    }
+    if (type instanceof SetType) {
+      return ((SetType) type).getElementType();
+    }
+    throw new InvalidQueryException(null, "Invalid element selection: " + type.asCql(true, true) + " is not a collection");
+  }
+
+  private static int indexOf(final int[] columns, final int column) {
+    for (int i = 0; i < columns.length; i++) {
+      if (columns[i] == column) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void checkPrimaryKeyRestricted(final Restrictions restrictions, final boolean clusteringRequired) {
+    if (!restrictions.isPartitionRestricted()) {
+      throw new InvalidQueryException(null, "Some partition key parts are missing in query: " + query);
+    }
+    if (clusteringRequired && !restrictions.isClusteringRestricted()) {
+      throw new InvalidQueryException(null, "Some clustering keys are missing in query: " + query);
+    }
+  }
+
+  private void recordPartitionKeyMarker(final int column, final int marker) {
+    int partitionKeyIndex = indexOf(table.getPartitionKeyColumns(), column);
+    if (partitionKeyIndex >= 0) {
+      if (partitionKeyMarkers == null) {
+        partitionKeyMarkers = new Integer[table.getPartitionKeyColumns().length];
+      }
+      partitionKeyMarkers[partitionKeyIndex] = marker;
+    }
+  }
+
+  private List<Integer> resolvePartitionKeyIndices() {
+    if (partitionKeyMarkers == null) {
+      return Collections.emptyList();
+    }
+    List<Integer> partitionKeyIndices = new ArrayList<>();
+    for (Integer marker : partitionKeyMarkers) {
+      if (marker == null) {
+        return Collections.emptyList();
+      }
+      partitionKeyIndices.add(marker);
+    }
+    return partitionKeyIndices;
+  }
+
+  private List<ColumnDefinition> resultColumns(final Condition condition) {
+    if (condition == Condition.NONE) {
+      return Collections.emptyList();
+    }
+    return Collections.singletonList(new InMemoryColumnDefinition(table.getKeyspace(), table.getName(), "[applied]", DataTypes.BOOLEAN));
+  }
+
+  // ---------------------------------------------------------------- Tokens
+
+  private Token peek() {
+    return tokens.get(position);
+  }
+
+  private Token peek(final int offset) {
+    return tokens.get(Math.min(position + offset, tokens.size() - 1));
+  }
+
+  private Token next() {
+    Token token = tokens.get(position);
+    if (token.getKind() != CqlTokenizer.Kind.EOF) {
+      position++;
+    }
+    return token;
+  }
+
+  private boolean accept(final String keywordOrSymbol) {
+    if (peek().is(keywordOrSymbol)) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  private void expect(final String keywordOrSymbol) {
+    if (!accept(keywordOrSymbol)) {
+      throw syntaxError("'" + keywordOrSymbol + "'");
+    }
+  }
+
+  private String identifier() {
+    Token token = peek();
+    if (token.getKind() != CqlTokenizer.Kind.IDENTIFIER && token.getKind() != CqlTokenizer.Kind.QUOTED_IDENTIFIER) {
+      throw syntaxError("identifier");
+    }
+    position++;
+    return token.getText();
+  }
+
+  /**
+   * @return keyspace and name of a qualified table or type name.
+   */
+  private String[] qualifiedName() {
+    String name = identifier();
+    if (accept(".")) {
+      return new String[]{ name, identifier() };
+    }
+    throw new InvalidQueryException(null, "No keyspace has been specified for " + name + ", names must be qualified in in-memory session");
+  }
+
+  private void skipToKeyword(final String keyword) {
+    int depth = 0;
+    while (peek().getKind() != CqlTokenizer.Kind.EOF) {
+      Token token = peek();
+      if (token.is("(") || token.is("[") || token.is("{")) {
+        depth++;
+      } else if (token.is(")") || token.is("]") || token.is("}")) {
+        depth--;
+      } else if (depth == 0 && token.is(keyword)) {
+        position++;
+        return;
+      }
+      position++;
+    }
+    throw syntaxError("'" + keyword + "'");
+  }
+
+  private void skipToEnd() {
+    while (peek().getKind() != CqlTokenizer.Kind.EOF && !peek().is(";")) {
+      position++;
+    }
+  }
+
+  private SyntaxError syntaxError(final String expected) {
+    return new SyntaxError(null, "line 1:" + peek().getStart() + " mismatched input " + peek() + " expecting " + expected + " in query: " + query);
+  }
+
+  private InvalidQueryException unsupported() {
+    return new InvalidQueryException(null, "Unsupported statement in in-memory session: " + query);
+  }
+}
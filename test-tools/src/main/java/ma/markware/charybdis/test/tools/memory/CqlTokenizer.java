@@ -0,0 +1,170 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.servererrors.SyntaxError;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a cql query into tokens.
+ *
+ * @author Oussama Markad
+ */
+class CqlTokenizer {
+
+  private static final Pattern UUID_PATTERN = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+  private static final Pattern NUMBER_PATTERN = Pattern.compile("[0-9]+(\\.(?!\\.)[0-9]*)?([eE][+-]?[0-9]+)?");
+  private static final Pattern HEX_PATTERN = Pattern.compile("0[xX][0-9a-fA-F]*");
+  private static final String[] TWO_CHARS_SYMBOLS = { "<=", ">=", "!=", "+=", "-=", ".." };
+
+  enum Kind {
+    IDENTIFIER, QUOTED_IDENTIFIER, STRING, NUMBER, SYMBOL, EOF
+  }
+
+  static final class Token {
+
+    private final Kind kind;
+    private final String text;
+    private final int start;
+    private final int end;
+
+    private Token(final Kind kind, final String text, final int start, final int end) {
+      this.kind = kind;
+      this.text = text;
+      this.start = start;
+      this.end = end;
+    }
+
+    Kind getKind() {
+      return kind;
+    }
+
+    /**
+     * @return token text, lower-cased for unquoted identifiers and unquoted for quoted identifiers.
+     */
+    String getText() {
+      return text;
+    }
+
+    int getStart() {
+      return start;
+    }
+
+    int getEnd() {
+      return end;
+    }
+
+    boolean is(final String keywordOrSymbol) {
+      return (kind == Kind.IDENTIFIER || kind == Kind.SYMBOL) && text.equals(keywordOrSymbol);
+    }
+
+    @Override
+    public String toString() {
+      return kind == Kind.EOF ? "end of query" : "'" + text + "'";
+    }
+  }
+
+  private CqlTokenizer() {
+  }
+
+  static List<Token> tokenize(final String query) {
+    List<Token> tokens = new ArrayList<>();
+    Matcher uuidMatcher = UUID_PATTERN.matcher(query);
+    Matcher numberMatcher = NUMBER_PATTERN.matcher(query);
+    Matcher hexMatcher = HEX_PATTERN.matcher(query);
+    int length = query.length();
+    int i = 0;
+    while (i < length) {
+      char c = query.charAt(i);
+      if (Character.isWhitespace(c)) {
+        i++;
+      } else if (query.startsWith("--", i) || query.startsWith("//", i)) {
+        int endOfLine = query.indexOf('\n', i);
+        i = endOfLine < 0 ? length : endOfLine + 1;
+      } else if (query.startsWith("/*", i)) {
+        int endOfComment = query.indexOf("*/", i + 2);
+        if (endOfComment < 0) {
+          throw new SyntaxError(null, "Unterminated comment in query: " + query);
+        }
+        i = endOfComment + 2;
+      } else if (uuidMatcher.region(i, length).lookingAt()) {
+        tokens.add(new Token(Kind.NUMBER, uuidMatcher.group(), i, uuidMatcher.end()));
+        i = uuidMatcher.end();
+      } else if (hexMatcher.region(i, length).lookingAt()) {
+        tokens.add(new Token(Kind.NUMBER, hexMatcher.group(), i, hexMatcher.end()));
+        i = hexMatcher.end();
+      } else if (numberMatcher.region(i, length).lookingAt()) {
+        tokens.add(new Token(Kind.NUMBER, numberMatcher.group(), i, numberMatcher.end()));
+        i = numberMatcher.end();
+      } else if (Character.isLetter(c) || c == '_') {
+        int start = i;
+        while (i < length && (Character.isLetterOrDigit(query.charAt(i)) || query.charAt(i) == '_')) {
+          i++;
+        }
+        tokens.add(new Token(Kind.IDENTIFIER, query.substring(start, i).toLowerCase(Locale.ROOT), start, i));
+      } else if (c == '"' || c == '\'') {
+        int start = i;
+        StringBuilder text = new StringBuilder();
+        i = readQuoted(query, i, c, text);
+        tokens.add(new Token(c == '"' ? Kind.QUOTED_IDENTIFIER : Kind.STRING, text.toString(), start, i));
+      } else if (query.startsWith("$$", i)) {
+        int endOfString = query.indexOf("$$", i + 2);
+        if (endOfString < 0) {
+          throw new SyntaxError(null, "Unterminated string in query: " + query);
+        }
+        tokens.add(new Token(Kind.STRING, query.substring(i + 2, endOfString), i, endOfString + 2));
+        i = endOfString + 2;
+      } else {
+        String symbol = String.valueOf(c);
+        for (String twoCharsSymbol : TWO_CHARS_SYMBOLS) {
+          if (query.startsWith(twoCharsSymbol, i)) {
+            symbol = twoCharsSymbol;
+            break;
+          }
+        }
+        tokens.add(new Token(Kind.SYMBOL, symbol, i, i + symbol.length()));
+        i += symbol.length();
+      }
+    }
+    tokens.add(new Token(Kind.EOF, "", length, length));
+    return tokens;
+  }
+
+  private static int readQuoted(final String query, final int start, final char quote, final StringBuilder text) {
+    int i = start + 1;
+    while (i < query.length()) {
+      char c = query.charAt(i);
+      if (c == quote) {
+        if (i + 1 < query.length() && query.charAt(i + 1) == quote) {
+          text.append(quote);
+          i += 2;
+          continue;
+        }
+        return i + 1;
+      }
+      text.append(c);
+      i++;
+    }
+    throw new SyntaxError(null, "Unterminated quoted text in query: " + query);
+  }
+}
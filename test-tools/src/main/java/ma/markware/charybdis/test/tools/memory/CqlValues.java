@@ -0,0 +1,159 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+
+/**
+ * Encoding, decoding and comparison of serialized cql values.
+ *
+ * @author Oussama Markad
+ */
+final class CqlValues {
+
+  private static final Comparator<ByteBuffer> UNSIGNED = CqlValues::compareUnsigned;
+  private static final Comparator<ByteBuffer> SIGNED = CqlValues::compareSigned;
+  private static final Comparator<ByteBuffer> TIMEUUID = CqlValues::compareTimeUuids;
+
+  private CqlValues() {
+  }
+
+  static TypeCodec<Object> codec(final DataType type) {
+    return CodecRegistry.DEFAULT.codecFor(type);
+  }
+
+  static Object decode(final DataType type, final ByteBuffer value) {
+    return value == null ? null : codec(type).decode(value.duplicate(), ProtocolVersion.DEFAULT);
+  }
+
+  static ByteBuffer encode(final DataType type, final Object value) {
+    return value == null ? null : codec(type).encode(value, ProtocolVersion.DEFAULT);
+  }
+
+  /**
+   * Encode a cql literal, such as {@code 'text'}, {@code 42} or {@code [1,2]}.
+   */
+  static ByteBuffer parse(final DataType type, final String literal) {
+    try {
+      return encode(type, codec(type).parse(literal));
+    } catch (RuntimeException e) {
+      throw new InvalidQueryException(null, "Invalid literal " + literal + " for type " + type.asCql(true, true) + ": " + e.getMessage());
+    }
+  }
+
+  static ByteBuffer ofInt(final int value) {
+    ByteBuffer buffer = ByteBuffer.allocate(4);
+    buffer.putInt(0, value);
+    return buffer;
+  }
+
+  static ByteBuffer ofLong(final long value) {
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    buffer.putLong(0, value);
+    return buffer;
+  }
+
+  static ByteBuffer ofBoolean(final boolean value) {
+    return ByteBuffer.wrap(new byte[]{ (byte) (value ? 1 : 0) });
+  }
+
+  static int toInt(final ByteBuffer value) {
+    return value.getInt(value.position());
+  }
+
+  static long toLong(final ByteBuffer value) {
+    return value.getLong(value.position());
+  }
+
+  /**
+   * Comparator following cassandra ordering for most types, nulls first.
+   * Collections, tuples and udts are ordered by their serialized form.
+   */
+  static Comparator<ByteBuffer> comparator(final DataType type) {
+    Comparator<ByteBuffer> comparator;
+    switch (type.getProtocolCode()) {
+      case ProtocolConstants.DataType.BIGINT:
+      case ProtocolConstants.DataType.COUNTER:
+      case ProtocolConstants.DataType.INT:
+      case ProtocolConstants.DataType.SMALLINT:
+      case ProtocolConstants.DataType.TINYINT:
+      case ProtocolConstants.DataType.TIME:
+      case ProtocolConstants.DataType.TIMESTAMP:
+        comparator = SIGNED;
+        break;
+      case ProtocolConstants.DataType.FLOAT:
+      case ProtocolConstants.DataType.DOUBLE:
+      case ProtocolConstants.DataType.DECIMAL:
+      case ProtocolConstants.DataType.VARINT:
+        comparator = decodingComparator(type);
+        break;
+      case ProtocolConstants.DataType.TIMEUUID:
+        comparator = TIMEUUID;
+        break;
+      default:
+        comparator = UNSIGNED;
+    }
+    return Comparator.nullsFirst(comparator);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Comparator<ByteBuffer> decodingComparator(final DataType type) {
+    return (value1, value2) -> ((Comparable<Object>) decode(type, value1)).compareTo(decode(type, value2));
+  }
+
+  static int compareUnsigned(final ByteBuffer value1, final ByteBuffer value2) {
+    int length1 = value1.remaining();
+    int length2 = value2.remaining();
+    int length = Math.min(length1, length2);
+    for (int i = 0; i < length; i++) {
+      int comparison = Integer.compare(value1.get(value1.position() + i) & 0xFF, value2.get(value2.position() + i) & 0xFF);
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return Integer.compare(length1, length2);
+  }
+
+  private static int compareSigned(final ByteBuffer value1, final ByteBuffer value2) {
+    if (value1.remaining() == 0 || value2.remaining() == 0 || value1.remaining() != value2.remaining()) {
+      return compareUnsigned(value1, value2);
+    }
+    int comparison = Byte.compare(value1.get(value1.position()), value2.get(value2.position()));
+    return comparison != 0 ? comparison : compareUnsigned(value1, value2);
+  }
+
+  private static int compareTimeUuids(final ByteBuffer value1, final ByteBuffer value2) {
+    if (value1.remaining() != 16 || value2.remaining() != 16) {
+      return compareUnsigned(value1, value2);
+    }
+    int comparison = Long.compare(uuidTimestamp(value1.getLong(value1.position())), uuidTimestamp(value2.getLong(value2.position())));
+    return comparison != 0 ? comparison : compareUnsigned(value1, value2);
+  }
+
+  private static long uuidTimestamp(final long mostSignificantBits) {
+    return (mostSignificantBits & 0x0FFFL) << 48 | ((mostSignificantBits >>> 16) & 0xFFFFL) << 32 | mostSignificantBits >>> 32;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Parameters of a statement execution: bound values, paging and time.
+ *
+ * @author Oussama Markad
+ */
+final class Execution {
+
+  private final List<ByteBuffer> values;
+  private final ByteBuffer pagingState;
+  private final int pageSize;
+  private final long timestamp;
+  private final long now;
+
+  /**
+   * @param timestamp default write timestamp in microseconds.
+   * @param now current time in milliseconds, used to expire cells.
+   */
+  Execution(final List<ByteBuffer> values, final ByteBuffer pagingState, final int pageSize, final long timestamp, final long now) {
+    this.values = values;
+    this.pagingState = pagingState;
+    this.pageSize = pageSize;
+    this.timestamp = timestamp;
+    this.now = now;
+  }
+
+  static boolean isUnset(final ByteBuffer value) {
+    return value == ProtocolConstants.UNSET_VALUE;
+  }
+
+  /**
+   * @return value bound to variable at index, may be {@code null} or unset.
+   */
+  ByteBuffer getValue(final int index) {
+    return index < values.size() ? values.get(index) : ProtocolConstants.UNSET_VALUE;
+  }
+
+  ByteBuffer getPagingState() {
+    return pagingState;
+  }
+
+  int getPageSize() {
+    return pageSize;
+  }
+
+  long getTimestamp() {
+    return timestamp;
+  }
+
+  long getNow() {
+    return now;
+  }
+}
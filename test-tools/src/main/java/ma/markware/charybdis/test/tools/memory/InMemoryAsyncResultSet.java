@@ -0,0 +1,111 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.internal.core.cql.DefaultRow;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A page of rows returned by {@link InMemoryCqlSession}. Next page is fetched by re-executing the statement with the page's paging state.
+ *
+ * @author Oussama Markad
+ */
+final class InMemoryAsyncResultSet implements AsyncResultSet {
+
+  private final InMemoryCqlSession session;
+  private final Statement<?> statement;
+  private final ColumnDefinitions columnDefinitions;
+  private final ExecutionInfo executionInfo;
+  private final List<Row> rows;
+  private final boolean applied;
+  private int position;
+
+  InMemoryAsyncResultSet(final InMemoryCqlSession session, final Statement<?> statement, final ColumnDefinitions columnDefinitions,
+      final InMemoryResult result) {
+    this.session = session;
+    this.statement = statement;
+    this.columnDefinitions = columnDefinitions;
+    this.executionInfo = new InMemoryExecutionInfo(statement, result.getPagingState());
+    this.rows = new ArrayList<>(result.getRows().size());
+    result.getRows().forEach(values -> rows.add(new DefaultRow(columnDefinitions, values, AttachmentPoint.NONE)));
+    this.applied = result.wasApplied();
+  }
+
+  @Override
+  public ColumnDefinitions getColumnDefinitions() {
+    return columnDefinitions;
+  }
+
+  @Override
+  public ExecutionInfo getExecutionInfo() {
+    return executionInfo;
+  }
+
+  @Override
+  public int remaining() {
+    return rows.size() - position;
+  }
+
+  @Override
+  public Iterable<Row> currentPage() {
+    // Same iterator is returned on each call, as rows are consumed once
+    return () -> new Iterator<Row>() {
+      @Override
+      public boolean hasNext() {
+        return position < rows.size();
+      }
+
+      @Override
+      public Row next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return rows.get(position++);
+      }
+    };
+  }
+
+  @Override
+  public boolean hasMorePages() {
+    return executionInfo.getPagingState() != null;
+  }
+
+  @Override
+  public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
+    if (!hasMorePages()) {
+      throw new IllegalStateException("No next page. Use #hasMorePages before calling this method to avoid this error.");
+    }
+    return session.executeAsync(statement.setPagingState(executionInfo.getPagingState()));
+  }
+
+  @Override
+  public boolean wasApplied() {
+    return applied;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.DataType;
+
+/**
+ * Definition of a bind variable or a result column.
+ *
+ * @author Oussama Markad
+ */
+class InMemoryColumnDefinition implements ColumnDefinition {
+
+  private final CqlIdentifier keyspace;
+  private final CqlIdentifier table;
+  private final CqlIdentifier name;
+  private final DataType type;
+
+  InMemoryColumnDefinition(final CqlIdentifier keyspace, final CqlIdentifier table, final String name, final DataType type) {
+    this.keyspace = keyspace;
+    this.table = table;
+    this.name = CqlIdentifier.fromInternal(name);
+    this.type = type;
+  }
+
+  @Override
+  public CqlIdentifier getKeyspace() {
+    return keyspace;
+  }
+
+  @Override
+  public CqlIdentifier getTable() {
+    return table;
+  }
+
+  @Override
+  public CqlIdentifier getName() {
+    return name;
+  }
+
+  @Override
+  public DataType getType() {
+    return type;
+  }
+
+  @Override
+  public boolean isDetached() {
+    return false;
+  }
+
+  @Override
+  public void attach(final AttachmentPoint attachmentPoint) {
+  }
+
+  @Override
+  public String toString() {
+    return name.asInternal() + " " + type.asCql(true, true);
+  }
+}
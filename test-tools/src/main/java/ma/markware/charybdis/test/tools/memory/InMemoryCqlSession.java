@@ -0,0 +1,334 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PrepareRequest;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metrics.Metrics;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.session.Request;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.driver.internal.core.cql.DefaultPreparedStatement;
+import com.datastax.oss.driver.internal.core.cql.ResultSets;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * In-process {@link CqlSession} stand-in, backed by sorted in-memory partitions instead of a Cassandra cluster.
+ * It understands the statements generated by Charybdis: schema creation from cql scripts, inserts, updates, deletes and selects by key,
+ * with ttl, writetime, lightweight transaction conditions, batches and paging state.
+ * <p>
+ * It is meant to load test and unit test code built on top of Charybdis without a database, so that measures exclude
+ * network and server costs. Statements are executed synchronously in the calling thread, asynchronous executions return completed stages.
+ * Unlike Cassandra, deletions leave no tombstones, conditional statements are not supported in batches, and aggregates,
+ * secondary index semantics and cluster metadata are not available. Collections, udts and tuples are ordered by their serialized form.
+ *
+ * @author Oussama Markad
+ */
+public class InMemoryCqlSession implements CqlSession {
+
+  private static final AtomicInteger SESSION_COUNTER = new AtomicInteger();
+  private static final int DEFAULT_PAGE_SIZE = 5000;
+
+  private final String name;
+  private final InMemoryDatabase database = new InMemoryDatabase();
+  private final Map<String, PreparedQuery> preparedQueries = new ConcurrentHashMap<>();
+  private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+
+  /**
+   * Create an in-memory session with a unique name.
+   */
+  public InMemoryCqlSession() {
+    this("in-memory" + SESSION_COUNTER.incrementAndGet());
+  }
+
+  /**
+   * Create an in-memory session. As Charybdis caches prepared statements by session name, names should be unique.
+   *
+   * @param name session name.
+   */
+  public InMemoryCqlSession(final String name) {
+    this.name = name;
+  }
+
+  /**
+   * Execute each statement of a cql script, statements being separated by {@code ";\n"}.
+   *
+   * @param script cql script, e.g. a ddl file content.
+   */
+  public void executeScript(final String script) {
+    for (String query : script.split(";\n")) {
+      if (!query.trim().isEmpty()) {
+        execute(query);
+      }
+    }
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Metadata getMetadata() {
+    throw new UnsupportedOperationException("Metadata is not available in in-memory session");
+  }
+
+  @Override
+  public boolean isSchemaMetadataEnabled() {
+    return false;
+  }
+
+  @Override
+  public CompletionStage<Metadata> setSchemaMetadataEnabled(final Boolean newValue) {
+    return CompletableFutures.failedFuture(new UnsupportedOperationException("Metadata is not available in in-memory session"));
+  }
+
+  @Override
+  public CompletionStage<Metadata> refreshSchemaAsync() {
+    return CompletableFutures.failedFuture(new UnsupportedOperationException("Metadata is not available in in-memory session"));
+  }
+
+  @Override
+  public CompletionStage<Boolean> checkSchemaAgreementAsync() {
+    return CompletableFuture.completedFuture(true);
+  }
+
+  /**
+   * @return {@code null}, there is no driver context in in-memory session.
+   */
+  @Override
+  public DriverContext getContext() {
+    return null;
+  }
+
+  @Override
+  public Optional<CqlIdentifier> getKeyspace() {
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<Metrics> getMetrics() {
+    return Optional.empty();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <RequestT extends Request, ResultT> ResultT execute(final RequestT request, final GenericType<ResultT> resultType) {
+    if (closeFuture.isDone()) {
+      throw new IllegalStateException("Session is closed");
+    }
+    if (request instanceof PrepareRequest) {
+      if (resultType.equals(PrepareRequest.SYNC)) {
+        return (ResultT) resolve(((PrepareRequest) request).getQuery()).preparedStatement;
+      }
+      if (resultType.equals(PrepareRequest.ASYNC)) {
+        return (ResultT) completedOrFailed(() -> resolve(((PrepareRequest) request).getQuery()).preparedStatement);
+      }
+    } else if (request instanceof Statement) {
+      if (resultType.equals(Statement.SYNC)) {
+        return (ResultT) ResultSets.newInstance(executeStatement((Statement<?>) request));
+      }
+      if (resultType.equals(Statement.ASYNC)) {
+        return (ResultT) completedOrFailed(() -> executeStatement((Statement<?>) request));
+      }
+    }
+    throw new IllegalArgumentException("Unsupported request type " + request.getClass().getName() + " with result type " + resultType);
+  }
+
+  private static <T> CompletionStage<T> completedOrFailed(final Supplier<T> execution) {
+    try {
+      return CompletableFuture.completedFuture(execution.get());
+    } catch (RuntimeException e) {
+      return CompletableFutures.failedFuture(e);
+    }
+  }
+
+  private PreparedQuery resolve(final String query) {
+    PreparedQuery preparedQuery = preparedQueries.get(query);
+    if (preparedQuery == null) {
+      preparedQuery = new PreparedQuery(query, CqlParser.parse(database, query));
+      if (!(preparedQuery.statement instanceof SchemaStatement)) {
+        preparedQueries.put(query, preparedQuery);
+      }
+    }
+    return preparedQuery;
+  }
+
+  private AsyncResultSet executeStatement(final Statement<?> statement) {
+    long timestamp = statement.getQueryTimestamp() != Long.MIN_VALUE ? statement.getQueryTimestamp() : System.currentTimeMillis() * 1000;
+    long now = System.currentTimeMillis();
+    if (statement instanceof BatchStatement) {
+      executeBatch((BatchStatement) statement, timestamp, now);
+      return new InMemoryAsyncResultSet(this, statement, DefaultColumnDefinitions.valueOf(Collections.emptyList()), InMemoryResult.EMPTY);
+    }
+    PreparedQuery preparedQuery;
+    List<ByteBuffer> values;
+    if (statement instanceof BoundStatement) {
+      BoundStatement boundStatement = (BoundStatement) statement;
+      preparedQuery = resolve(boundStatement.getPreparedStatement().getQuery());
+      values = boundStatement.getValues();
+    } else if (statement instanceof SimpleStatement) {
+      SimpleStatement simpleStatement = (SimpleStatement) statement;
+      preparedQuery = resolve(simpleStatement.getQuery());
+      values = encodeValues(simpleStatement, preparedQuery.statement.getVariables());
+    } else {
+      throw new IllegalArgumentException("Unsupported statement type " + statement.getClass().getName());
+    }
+    int pageSize = statement.getPageSize() > 0 ? statement.getPageSize() : DEFAULT_PAGE_SIZE;
+    InMemoryResult result = execute(preparedQuery.statement, new Execution(values, statement.getPagingState(), pageSize, timestamp, now));
+    return new InMemoryAsyncResultSet(this, statement, preparedQuery.resultDefinitions, result);
+  }
+
+  private void executeBatch(final BatchStatement batchStatement, final long timestamp, final long now) {
+    List<InMemoryStatement> statements = new ArrayList<>(batchStatement.size());
+    List<Execution> executions = new ArrayList<>(batchStatement.size());
+    for (BatchableStatement<?> innerStatement : batchStatement) {
+      if (!(innerStatement instanceof BoundStatement) && !(innerStatement instanceof SimpleStatement)) {
+        throw new IllegalArgumentException("Unsupported batch statement type " + innerStatement.getClass().getName());
+      }
+      String query = innerStatement instanceof BoundStatement ? ((BoundStatement) innerStatement).getPreparedStatement().getQuery()
+          : ((SimpleStatement) innerStatement).getQuery();
+      InMemoryStatement statement = resolve(query).statement;
+      if (!statement.isModification()) {
+        throw new InvalidQueryException(null, "Only INSERT, UPDATE and DELETE statements are allowed in batches: " + query);
+      }
+      if (statement.isConditional()) {
+        throw new InvalidQueryException(null, "Conditional statements are not supported in in-memory batches: " + query);
+      }
+      List<ByteBuffer> values = innerStatement instanceof BoundStatement ? ((BoundStatement) innerStatement).getValues()
+          : encodeValues((SimpleStatement) innerStatement, statement.getVariables());
+      long statementTimestamp = innerStatement.getQueryTimestamp() != Long.MIN_VALUE ? innerStatement.getQueryTimestamp() : timestamp;
+      statements.add(statement);
+      executions.add(new Execution(values, null, DEFAULT_PAGE_SIZE, statementTimestamp, now));
+    }
+    for (int i = 0; i < statements.size(); i++) {
+      execute(statements.get(i), executions.get(i));
+    }
+  }
+
+  private InMemoryResult execute(final InMemoryStatement statement, final Execution execution) {
+    InMemoryResult result = statement.execute(execution);
+    if (statement instanceof SchemaStatement) {
+      preparedQueries.clear();
+    }
+    return result;
+  }
+
+  private static List<ByteBuffer> encodeValues(final SimpleStatement statement, final List<ColumnDefinition> variables) {
+    List<ByteBuffer> values = new ArrayList<>(variables.size());
+    if (!statement.getNamedValues().isEmpty()) {
+      for (ColumnDefinition variable : variables) {
+        CqlIdentifier variableName = variable.getName();
+        if (!statement.getNamedValues().containsKey(variableName)) {
+          throw new InvalidQueryException(null, "Missing value for bind marker " + variableName.asCql(true));
+        }
+        values.add(encode(variable, statement.getNamedValues().get(variableName)));
+      }
+      return values;
+    }
+    List<Object> positionalValues = statement.getPositionalValues();
+    if (positionalValues.size() != variables.size()) {
+      throw new InvalidQueryException(null, "Invalid amount of bind variables: expected " + variables.size() + ", got " + positionalValues.size());
+    }
+    for (int i = 0; i < variables.size(); i++) {
+      values.add(encode(variables.get(i), positionalValues.get(i)));
+    }
+    return values;
+  }
+
+  private static ByteBuffer encode(final ColumnDefinition variable, final Object value) {
+    if (value == null) {
+      return null;
+    }
+    return CodecRegistry.DEFAULT.codecFor(variable.getType(), value).encode(value, ProtocolVersion.DEFAULT);
+  }
+
+  @Override
+  public CompletionStage<Void> closeFuture() {
+    return closeFuture;
+  }
+
+  @Override
+  public CompletionStage<Void> closeAsync() {
+    closeFuture.complete(null);
+    return closeFuture;
+  }
+
+  @Override
+  public CompletionStage<Void> forceCloseAsync() {
+    return closeAsync();
+  }
+
+  /**
+   * Driver prepared statement, along with the parsed statement it executes.
+   */
+  private final class PreparedQuery {
+
+    private final PreparedStatement preparedStatement;
+    private final InMemoryStatement statement;
+    private final ColumnDefinitions resultDefinitions;
+
+    private PreparedQuery(final String query, final InMemoryStatement statement) {
+      this.statement = statement;
+      this.resultDefinitions = DefaultColumnDefinitions.valueOf(statement.getResultColumns());
+      this.preparedStatement = new DefaultPreparedStatement(queryId(query), query, DefaultColumnDefinitions.valueOf(statement.getVariables()),
+                                                            statement.getPartitionKeyIndices(), null, resultDefinitions, null, Collections.emptyMap(),
+                                                            null, null, null, null, null, Collections.emptyMap(), null, null, null,
+                                                            DEFAULT_PAGE_SIZE, null, null, false, CodecRegistry.DEFAULT, ProtocolVersion.DEFAULT);
+    }
+  }
+
+  private static ByteBuffer queryId(final String query) {
+    try {
+      return ByteBuffer.wrap(MessageDigest.getInstance("MD5").digest(query.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
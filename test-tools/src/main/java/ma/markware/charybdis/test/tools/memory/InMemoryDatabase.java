@@ -0,0 +1,113 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.servererrors.AlreadyExistsException;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keyspaces, user defined types and tables of an in-memory session.
+ * Schema changes are synchronized, lookups are lock-free.
+ *
+ * @author Oussama Markad
+ */
+class InMemoryDatabase {
+
+  private final Set<String> keyspaces = ConcurrentHashMap.newKeySet();
+  private final Map<String, UserDefinedType> types = new ConcurrentHashMap<>();
+  private final Map<String, InMemoryTable> tables = new ConcurrentHashMap<>();
+
+  boolean hasKeyspace(final String keyspace) {
+    return keyspaces.contains(keyspace);
+  }
+
+  synchronized void createKeyspace(final String keyspace, final boolean ifNotExists) {
+    if (!keyspaces.add(keyspace) && !ifNotExists) {
+      throw new AlreadyExistsException(null, keyspace, "");
+    }
+  }
+
+  synchronized void dropKeyspace(final String keyspace, final boolean ifExists) {
+    if (!keyspaces.remove(keyspace)) {
+      if (!ifExists) {
+        throw new InvalidQueryException(null, "Keyspace '" + keyspace + "' doesn't exist");
+      }
+      return;
+    }
+    String prefix = keyspace + ".";
+    types.keySet().removeIf(name -> name.startsWith(prefix));
+    tables.keySet().removeIf(name -> name.startsWith(prefix));
+  }
+
+  UserDefinedType getType(final String keyspace, final String name) {
+    UserDefinedType type = types.get(keyspace + "." + name);
+    if (type == null) {
+      throw new InvalidQueryException(null, "Unknown type " + keyspace + "." + name);
+    }
+    return type;
+  }
+
+  synchronized void createType(final UserDefinedType type, final boolean ifNotExists) {
+    String keyspace = type.getKeyspace().asInternal();
+    checkKeyspace(keyspace);
+    String name = type.getName().asInternal();
+    if (types.putIfAbsent(keyspace + "." + name, type) != null && !ifNotExists) {
+      throw new AlreadyExistsException(null, keyspace, name);
+    }
+  }
+
+  synchronized void dropType(final String keyspace, final String name, final boolean ifExists) {
+    if (types.remove(keyspace + "." + name) == null && !ifExists) {
+      throw new InvalidQueryException(null, "No user type named " + keyspace + "." + name + " exists.");
+    }
+  }
+
+  InMemoryTable getTable(final String keyspace, final String name) {
+    InMemoryTable table = tables.get(keyspace + "." + name);
+    if (table == null) {
+      throw new InvalidQueryException(null, "unconfigured table " + name);
+    }
+    return table;
+  }
+
+  synchronized void createTable(final InMemoryTable table, final boolean ifNotExists) {
+    String keyspace = table.getKeyspace().asInternal();
+    checkKeyspace(keyspace);
+    String name = table.getName().asInternal();
+    if (tables.putIfAbsent(keyspace + "." + name, table) != null && !ifNotExists) {
+      throw new AlreadyExistsException(null, keyspace, name);
+    }
+  }
+
+  synchronized void dropTable(final String keyspace, final String name, final boolean ifExists) {
+    if (tables.remove(keyspace + "." + name) == null && !ifExists) {
+      throw new InvalidQueryException(null, "Table '" + keyspace + "." + name + "' doesn't exist");
+    }
+  }
+
+  private void checkKeyspace(final String keyspace) {
+    if (!keyspaces.contains(keyspace)) {
+      throw new InvalidQueryException(null, "Keyspace " + keyspace + " doesn't exist");
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.QueryTrace;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.session.Request;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Execution info of an in-memory statement, executed without coordinator, retries nor tracing.
+ *
+ * @author Oussama Markad
+ */
+final class InMemoryExecutionInfo implements ExecutionInfo {
+
+  private final Request request;
+  private final ByteBuffer pagingState;
+
+  InMemoryExecutionInfo(final Request request, final ByteBuffer pagingState) {
+    this.request = request;
+    this.pagingState = pagingState;
+  }
+
+  @Override
+  public Request getRequest() {
+    return request;
+  }
+
+  @Override
+  public Statement<?> getStatement() {
+    return (Statement<?>) request;
+  }
+
+  @Override
+  public Node getCoordinator() {
+    return null;
+  }
+
+  @Override
+  public int getSpeculativeExecutionCount() {
+    return 0;
+  }
+
+  @Override
+  public int getSuccessfulExecutionIndex() {
+    return 0;
+  }
+
+  @Override
+  public List<Entry<Node, Throwable>> getErrors() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public ByteBuffer getPagingState() {
+    return pagingState == null ? null : pagingState.duplicate();
+  }
+
+  @Override
+  public List<String> getWarnings() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public Map<String, ByteBuffer> getIncomingPayload() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public boolean isSchemaInAgreement() {
+    return true;
+  }
+
+  @Override
+  public UUID getTracingId() {
+    return null;
+  }
+
+  @Override
+  public CompletionStage<QueryTrace> getQueryTraceAsync() {
+    return CompletableFutures.failedFuture(new IllegalStateException("Tracing is not supported by in-memory session"));
+  }
+
+  @Override
+  public int getResponseSizeInBytes() {
+    return -1;
+  }
+
+  @Override
+  public int getCompressedResponseSizeInBytes() {
+    return -1;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of result rows, with the paging state of the next page.
+ *
+ * @author Oussama Markad
+ */
+final class InMemoryResult {
+
+  static final InMemoryResult EMPTY = new InMemoryResult(Collections.emptyList(), null, true);
+
+  private final List<List<ByteBuffer>> rows;
+  private final ByteBuffer pagingState;
+  private final boolean applied;
+
+  InMemoryResult(final List<List<ByteBuffer>> rows, final ByteBuffer pagingState, final boolean applied) {
+    this.rows = rows;
+    this.pagingState = pagingState;
+    this.applied = applied;
+  }
+
+  /**
+   * @return result of a conditional statement, as a single {@code [applied]} row.
+   */
+  static InMemoryResult applied(final boolean applied) {
+    return new InMemoryResult(Collections.singletonList(Collections.singletonList(CqlValues.ofBoolean(applied))), null, applied);
+  }
+
+  List<List<ByteBuffer>> getRows() {
+    return rows;
+  }
+
+  /**
+   * @return paging state of next page, {@code null} if this is the last page.
+   */
+  ByteBuffer getPagingState() {
+    return pagingState;
+  }
+
+  boolean wasApplied() {
+    return applied;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import java.util.List;
+
+/**
+ * A parsed cql statement, executed against in-memory tables.
+ *
+ * @author Oussama Markad
+ */
+abstract class InMemoryStatement {
+
+  private final List<ColumnDefinition> variables;
+  private final List<Integer> partitionKeyIndices;
+  private final List<ColumnDefinition> resultColumns;
+
+  /**
+   * @param variables definitions of bind markers.
+   * @param partitionKeyIndices indices of bind markers making up the partition key, empty if partition key is not fully bound.
+   * @param resultColumns definitions of result columns.
+   */
+  InMemoryStatement(final List<ColumnDefinition> variables, final List<Integer> partitionKeyIndices, final List<ColumnDefinition> resultColumns) {
+    this.variables = variables;
+    this.partitionKeyIndices = partitionKeyIndices;
+    this.resultColumns = resultColumns;
+  }
+
+  List<ColumnDefinition> getVariables() {
+    return variables;
+  }
+
+  List<Integer> getPartitionKeyIndices() {
+    return partitionKeyIndices;
+  }
+
+  List<ColumnDefinition> getResultColumns() {
+    return resultColumns;
+  }
+
+  /**
+   * @return true if statement is a data modification, that can be added to a batch.
+   */
+  boolean isModification() {
+    return false;
+  }
+
+  /**
+   * @return true if statement is a lightweight transaction.
+   */
+  boolean isConditional() {
+    return false;
+  }
+
+  abstract InMemoryResult execute(Execution execution);
+}
@@ -0,0 +1,372 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenFactory;
+import com.datastax.oss.driver.internal.core.util.RoutingKey;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Schema and data of an in-memory table.
+ * Partitions are sorted by token, rows of a partition are sorted by clustering key.
+ * Writes and reads of a partition are synchronized on the partition.
+ *
+ * @author Oussama Markad
+ */
+class InMemoryTable {
+
+  static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+  private static final Murmur3TokenFactory TOKEN_FACTORY = new Murmur3TokenFactory();
+
+  private final CqlIdentifier keyspace;
+  private final CqlIdentifier name;
+  private final List<InMemoryColumnDefinition> columns;
+  private final Map<String, Integer> columnIndices;
+  private final int[] partitionKeyColumns;
+  private final int[] clusteringColumns;
+  private final boolean[] clusteringDescending;
+  private final boolean[] primaryKeyColumns;
+  private final List<Comparator<ByteBuffer>> comparators;
+  private final Comparator<ClusteringKey> clusteringKeyComparator;
+  private final int defaultTtl;
+  private final ConcurrentSkipListMap<PartitionKey, Partition> partitions;
+
+  InMemoryTable(final CqlIdentifier keyspace, final CqlIdentifier name, final List<InMemoryColumnDefinition> columns, final int[] partitionKeyColumns,
+      final int[] clusteringColumns, final boolean[] clusteringDescending, final int defaultTtl) {
+    this.keyspace = keyspace;
+    this.name = name;
+    this.columns = columns;
+    this.partitionKeyColumns = partitionKeyColumns;
+    this.clusteringColumns = clusteringColumns;
+    this.clusteringDescending = clusteringDescending;
+    this.defaultTtl = defaultTtl;
+    this.columnIndices = new HashMap<>();
+    this.comparators = new ArrayList<>();
+    for (int i = 0; i < columns.size(); i++) {
+      columnIndices.put(columns.get(i).getName().asInternal(), i);
+      comparators.add(CqlValues.comparator(columns.get(i).getType()));
+    }
+    this.primaryKeyColumns = new boolean[columns.size()];
+    for (int column : partitionKeyColumns) {
+      primaryKeyColumns[column] = true;
+    }
+    for (int column : clusteringColumns) {
+      primaryKeyColumns[column] = true;
+    }
+    this.clusteringKeyComparator = clusteringKeyComparator();
+    this.partitions = new ConcurrentSkipListMap<>();
+  }
+
+  private Comparator<ClusteringKey> clusteringKeyComparator() {
+    return (key1, key2) -> {
+      for (int i = 0; i < clusteringColumns.length; i++) {
+        int comparison = comparators.get(clusteringColumns[i]).compare(key1.components[i], key2.components[i]);
+        if (comparison != 0) {
+          return clusteringDescending[i] ? -comparison : comparison;
+        }
+      }
+      return 0;
+    };
+  }
+
+  CqlIdentifier getKeyspace() {
+    return keyspace;
+  }
+
+  CqlIdentifier getName() {
+    return name;
+  }
+
+  List<InMemoryColumnDefinition> getColumns() {
+    return columns;
+  }
+
+  int getColumnsSize() {
+    return columns.size();
+  }
+
+  InMemoryColumnDefinition getColumn(final int index) {
+    return columns.get(index);
+  }
+
+  /**
+   * @return index of column, -1 if table has no such column.
+   */
+  int indexOf(final String columnName) {
+    Integer index = columnIndices.get(columnName);
+    return index == null ? -1 : index;
+  }
+
+  int[] getPartitionKeyColumns() {
+    return partitionKeyColumns;
+  }
+
+  int[] getClusteringColumns() {
+    return clusteringColumns;
+  }
+
+  /**
+   * @return is clustering column at given position of {@link #getClusteringColumns()} in descending order.
+   */
+  boolean isClusteringDescending(final int clusteringIndex) {
+    return clusteringDescending[clusteringIndex];
+  }
+
+  boolean isPrimaryKey(final int column) {
+    return primaryKeyColumns[column];
+  }
+
+  Comparator<ByteBuffer> getComparator(final int column) {
+    return comparators.get(column);
+  }
+
+  int getDefaultTtl() {
+    return defaultTtl;
+  }
+
+  /**
+   * @return partitions sorted by token (must not be modified).
+   */
+  ConcurrentNavigableMap<PartitionKey, Partition> getPartitions() {
+    return partitions;
+  }
+
+  Partition getPartition(final PartitionKey partitionKey) {
+    return partitions.get(partitionKey);
+  }
+
+  Partition getOrCreatePartition(final PartitionKey partitionKey) {
+    Partition partition = partitions.get(partitionKey);
+    return partition != null ? partition : partitions.computeIfAbsent(partitionKey, key -> new Partition(clusteringKeyComparator));
+  }
+
+  void truncate() {
+    partitions.clear();
+  }
+
+  PartitionKey partitionKey(final ByteBuffer[] components) {
+    ByteBuffer routingKey = components.length == 1 ? components[0] : RoutingKey.compose(components);
+    long token = ((Murmur3Token) TOKEN_FACTORY.hash(routingKey.duplicate())).getValue();
+    return new PartitionKey(components, routingKey, token, 0);
+  }
+
+  /**
+   * Create a row with primary key cells set, to be added in partition.
+   */
+  StoredRow newRow(final PartitionKey partitionKey, final ClusteringKey clusteringKey) {
+    StoredRow row = new StoredRow(columns.size());
+    for (int i = 0; i < partitionKeyColumns.length; i++) {
+      row.cells[partitionKeyColumns[i]] = partitionKey.components[i];
+    }
+    for (int i = 0; i < clusteringColumns.length; i++) {
+      row.cells[clusteringColumns[i]] = clusteringKey.components[i];
+    }
+    return row;
+  }
+
+  /**
+   * Partition key, ordered by token.
+   * Boundaries are not actual keys, they sort before or after all keys of a token.
+   */
+  static final class PartitionKey implements Comparable<PartitionKey> {
+
+    private final ByteBuffer[] components;
+    private final ByteBuffer routingKey;
+    private final long token;
+    private final int boundary;
+
+    private PartitionKey(final ByteBuffer[] components, final ByteBuffer routingKey, final long token, final int boundary) {
+      this.components = components;
+      this.routingKey = routingKey;
+      this.token = token;
+      this.boundary = boundary;
+    }
+
+    static PartitionKey beforeToken(final long token) {
+      return new PartitionKey(null, null, token, -1);
+    }
+
+    static PartitionKey afterToken(final long token) {
+      return new PartitionKey(null, null, token, 1);
+    }
+
+    ByteBuffer[] getComponents() {
+      return components;
+    }
+
+    long getToken() {
+      return token;
+    }
+
+    @Override
+    public int compareTo(final PartitionKey other) {
+      int comparison = Long.compare(token, other.token);
+      if (comparison != 0) {
+        return comparison;
+      }
+      if (boundary != 0 || other.boundary != 0) {
+        return Integer.compare(boundary, other.boundary);
+      }
+      return CqlValues.compareUnsigned(routingKey, other.routingKey);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final PartitionKey that = (PartitionKey) o;
+      return token == that.token && boundary == that.boundary && Objects.equals(routingKey, that.routingKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(token);
+    }
+  }
+
+  static final class ClusteringKey {
+
+    static final ClusteringKey EMPTY = new ClusteringKey(new ByteBuffer[0]);
+
+    private final ByteBuffer[] components;
+
+    ClusteringKey(final ByteBuffer[] components) {
+      this.components = components;
+    }
+
+    ByteBuffer[] getComponents() {
+      return components;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return this == o || (o instanceof ClusteringKey && Arrays.equals(components, ((ClusteringKey) o).components));
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(components);
+    }
+  }
+
+  static final class Partition {
+
+    private final TreeMap<ClusteringKey, StoredRow> rows;
+
+    private Partition(final Comparator<ClusteringKey> clusteringKeyComparator) {
+      this.rows = new TreeMap<>(clusteringKeyComparator);
+    }
+
+    /**
+     * @return rows sorted by clustering key, to be accessed while holding partition lock.
+     */
+    TreeMap<ClusteringKey, StoredRow> getRows() {
+      return rows;
+    }
+  }
+
+  /**
+   * Cells of a row, with their write timestamp (in microseconds) and expiration time (in milliseconds, 0 if cell never expires).
+   * The row marker, written by inserts, keeps the row alive even when all its regular cells are null.
+   */
+  static final class StoredRow {
+
+    private final ByteBuffer[] cells;
+    private final long[] timestamps;
+    private final long[] expirations;
+    private long markerTimestamp = NO_TIMESTAMP;
+    private long markerExpiration;
+
+    private StoredRow(final int size) {
+      this.cells = new ByteBuffer[size];
+      this.timestamps = new long[size];
+      this.expirations = new long[size];
+      Arrays.fill(timestamps, NO_TIMESTAMP);
+    }
+
+    boolean isLive(final InMemoryTable table, final long now) {
+      if (markerTimestamp != NO_TIMESTAMP && (markerExpiration == 0 || markerExpiration > now)) {
+        return true;
+      }
+      for (int i = 0; i < cells.length; i++) {
+        if (!table.isPrimaryKey(i) && isLive(i, now)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    boolean isLive(final int column, final long now) {
+      return cells[column] != null && (expirations[column] == 0 || expirations[column] > now);
+    }
+
+    /**
+     * @return cell value, {@code null} if cell is expired.
+     */
+    ByteBuffer get(final int column, final long now) {
+      return isLive(column, now) ? cells[column] : null;
+    }
+
+    long getTimestamp(final int column) {
+      return timestamps[column];
+    }
+
+    /**
+     * @return remaining time to live in seconds, 0 if cell never expires.
+     */
+    int getTtl(final int column, final long now) {
+      return expirations[column] == 0 ? 0 : (int) Math.max(1, (expirations[column] - now + 999) / 1000);
+    }
+
+    void writeMarker(final long timestamp, final long expiration) {
+      if (timestamp >= markerTimestamp) {
+        markerTimestamp = timestamp;
+        markerExpiration = expiration;
+      }
+    }
+
+    /**
+     * Write a cell, unless it was written with a more recent timestamp. A {@code null} value deletes the cell.
+     */
+    void write(final int column, final ByteBuffer value, final long timestamp, final long expiration) {
+      if (timestamp >= timestamps[column]) {
+        cells[column] = value;
+        timestamps[column] = timestamp;
+        expirations[column] = value == null ? 0 : expiration;
+      }
+    }
+  }
+}
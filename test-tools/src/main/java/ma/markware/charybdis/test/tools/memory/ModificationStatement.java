@@ -0,0 +1,174 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.ClusteringKey;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.Partition;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.PartitionKey;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.StoredRow;
+
+/**
+ * Insert, update or delete statement, optionally conditional.
+ * Conditions are checked and rows are written while holding the partition lock, so lightweight transactions are atomic.
+ *
+ * @author Oussama Markad
+ */
+class ModificationStatement extends InMemoryStatement {
+
+  enum Kind {
+    INSERT, UPDATE, DELETE
+  }
+
+  enum Condition {
+    NONE, IF_EXISTS, IF_NOT_EXISTS, IF_CONDITIONS
+  }
+
+  private final InMemoryTable table;
+  private final Kind kind;
+  private final Restrictions restrictions;
+  private final List<Operation> operations;
+  private final Condition condition;
+  private final List<Relation> conditions;
+  private final Term ttl;
+  private final Term timestamp;
+
+  ModificationStatement(final List<ColumnDefinition> variables, final List<Integer> partitionKeyIndices, final List<ColumnDefinition> resultColumns,
+      final InMemoryTable table, final Kind kind, final Restrictions restrictions, final List<Operation> operations, final Condition condition,
+      final List<Relation> conditions, final Term ttl, final Term timestamp) {
+    super(variables, partitionKeyIndices, resultColumns);
+    this.table = table;
+    this.kind = kind;
+    this.restrictions = restrictions;
+    this.operations = operations;
+    this.condition = condition;
+    this.conditions = conditions;
+    this.ttl = ttl;
+    this.timestamp = timestamp;
+  }
+
+  @Override
+  boolean isModification() {
+    return true;
+  }
+
+  @Override
+  boolean isConditional() {
+    return condition != Condition.NONE;
+  }
+
+  @Override
+  InMemoryResult execute(final Execution execution) {
+    long writeTimestamp = resolveTimestamp(execution);
+    long expiration = resolveExpiration(execution);
+    List<PartitionKey> partitionKeys = restrictions.partitionKeys(execution);
+    boolean applied = true;
+    if (restrictions.isClusteringRestricted()) {
+      List<ClusteringKey> clusteringKeys = restrictions.clusteringKeys(execution);
+      if (isConditional() && (partitionKeys.size() > 1 || clusteringKeys.size() > 1)) {
+        throw new InvalidQueryException(null, "IN on primary key columns is not supported in conditional statements");
+      }
+      for (PartitionKey partitionKey : partitionKeys) {
+        Partition partition = kind == Kind.DELETE && !isConditional() ? table.getPartition(partitionKey) : table.getOrCreatePartition(partitionKey);
+        if (partition != null) {
+          synchronized (partition) {
+            for (ClusteringKey clusteringKey : clusteringKeys) {
+              applied &= apply(partition, partitionKey, clusteringKey, execution, writeTimestamp, expiration);
+            }
+          }
+        }
+      }
+    } else {
+      // Deletion of a partition or of a range of rows
+      for (PartitionKey partitionKey : partitionKeys) {
+        Partition partition = table.getPartition(partitionKey);
+        if (partition != null) {
+          synchronized (partition) {
+            partition.getRows().values().removeIf(row -> restrictions.test(row, execution));
+          }
+        }
+      }
+    }
+    return isConditional() ? InMemoryResult.applied(applied) : InMemoryResult.EMPTY;
+  }
+
+  private boolean apply(final Partition partition, final PartitionKey partitionKey, final ClusteringKey clusteringKey, final Execution execution,
+      final long writeTimestamp, final long expiration) {
+    Map<ClusteringKey, StoredRow> rows = partition.getRows();
+    StoredRow row = rows.get(clusteringKey);
+    if (!checkCondition(row, execution)) {
+      return false;
+    }
+    if (kind == Kind.DELETE && operations.isEmpty()) {
+      rows.remove(clusteringKey);
+      return true;
+    }
+    if (row == null) {
+      if (kind == Kind.DELETE) {
+        return true;
+      }
+      row = table.newRow(partitionKey, clusteringKey);
+      rows.put(clusteringKey, row);
+    }
+    if (kind == Kind.INSERT) {
+      row.writeMarker(writeTimestamp, expiration);
+    }
+    for (Operation operation : operations) {
+      operation.apply(row, execution, writeTimestamp, expiration);
+    }
+    return true;
+  }
+
+  private boolean checkCondition(final StoredRow row, final Execution execution) {
+    long now = execution.getNow();
+    switch (condition) {
+      case IF_EXISTS:
+        return row != null && row.isLive(table, now);
+      case IF_NOT_EXISTS:
+        return row == null || !row.isLive(table, now);
+      case IF_CONDITIONS:
+        for (Relation relation : conditions) {
+          if (!relation.test(row == null ? null : row.get(relation.getColumn(), now), execution)) {
+            return false;
+          }
+        }
+        return true;
+      default:
+        return true;
+    }
+  }
+
+  private long resolveTimestamp(final Execution execution) {
+    ByteBuffer value = timestamp == null ? null : timestamp.bind(execution);
+    return value == null || Execution.isUnset(value) ? execution.getTimestamp() : CqlValues.toLong(value);
+  }
+
+  private long resolveExpiration(final Execution execution) {
+    ByteBuffer value = ttl == null ? null : ttl.bind(execution);
+    int seconds = value == null || Execution.isUnset(value) ? table.getDefaultTtl() : CqlValues.toInt(value);
+    if (seconds < 0) {
+      throw new InvalidQueryException(null, "A TTL must be greater or equal to 0, but was " + seconds);
+    }
+    return seconds == 0 ? 0 : execution.getNow() + seconds * 1000L;
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.MapType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.StoredRow;
+
+/**
+ * Write of a column in a row: assignment, collection or counter update, or deletion.
+ *
+ * @author Oussama Markad
+ */
+@FunctionalInterface
+interface Operation {
+
+  /**
+   * @param timestamp write timestamp in microseconds.
+   * @param expiration expiration time in milliseconds, 0 if written cells never expire.
+   */
+  void apply(StoredRow row, Execution execution, long timestamp, long expiration);
+
+  /**
+   * {@code column = value}, ignored if value is unset.
+   */
+  static Operation set(final int column, final Term term) {
+    return (row, execution, timestamp, expiration) -> {
+      ByteBuffer value = term.bind(execution);
+      if (!Execution.isUnset(value)) {
+        row.write(column, value, timestamp, expiration);
+      }
+    };
+  }
+
+  /**
+   * {@code DELETE column}.
+   */
+  static Operation delete(final int column) {
+    return (row, execution, timestamp, expiration) -> row.write(column, null, timestamp, 0);
+  }
+
+  /**
+   * {@code column = column + value} on collections and counters.
+   */
+  static Operation append(final int column, final DataType type, final Term term) {
+    return update(column, type, type, term, (current, operand) -> {
+      if (type.getProtocolCode() == ProtocolConstants.DataType.COUNTER) {
+        return (current == null ? 0L : (Long) current) + (operand == null ? 0L : (Long) operand);
+      }
+      if (type instanceof MapType) {
+        Map<Object, Object> map = current == null ? new LinkedHashMap<>() : new LinkedHashMap<>((Map<?, ?>) current);
+        map.putAll(operand == null ? Collections.emptyMap() : (Map<?, ?>) operand);
+        return map;
+      }
+      Collection<Object> collection = type instanceof SetType ? new LinkedHashSet<>() : new ArrayList<>();
+      collection.addAll(current == null ? Collections.emptyList() : (Collection<?>) current);
+      collection.addAll(operand == null ? Collections.emptyList() : (Collection<?>) operand);
+      return collection;
+    });
+  }
+
+  /**
+   * {@code column = value + column} on lists.
+   */
+  static Operation prepend(final int column, final DataType type, final Term term) {
+    return update(column, type, type, term, (current, operand) -> {
+      List<Object> list = new ArrayList<>();
+      list.addAll(operand == null ? Collections.emptyList() : (List<?>) operand);
+      list.addAll(current == null ? Collections.emptyList() : (List<?>) current);
+      return list;
+    });
+  }
+
+  /**
+   * {@code column = column - value} on collections and counters, value being a set of keys for maps.
+   */
+  static Operation remove(final int column, final DataType type, final DataType operandType, final Term term) {
+    return update(column, type, operandType, term, (current, operand) -> {
+      if (type.getProtocolCode() == ProtocolConstants.DataType.COUNTER) {
+        return (current == null ? 0L : (Long) current) - (operand == null ? 0L : (Long) operand);
+      }
+      if (current == null || operand == null) {
+        return current;
+      }
+      if (type instanceof MapType) {
+        Map<Object, Object> map = new LinkedHashMap<>((Map<?, ?>) current);
+        map.keySet().removeAll((Collection<?>) operand);
+        return map;
+      }
+      Collection<Object> collection = type instanceof SetType ? new LinkedHashSet<>((Collection<?>) current) : new ArrayList<>((Collection<?>) current);
+      collection.removeAll((Collection<?>) operand);
+      return collection;
+    });
+  }
+
+  /**
+   * {@code column[key] = value} on maps and lists, a {@code null} value removes the element.
+   */
+  static Operation setElement(final int column, final DataType type, final Term keyTerm, final Term valueTerm) {
+    return (row, execution, timestamp, expiration) -> {
+      ByteBuffer key = keyTerm.bind(execution);
+      ByteBuffer value = valueTerm.bind(execution);
+      if (Execution.isUnset(key) || Execution.isUnset(value)) {
+        return;
+      }
+      Object current = CqlValues.decode(type, row.get(column, execution.getNow()));
+      Object updated;
+      if (type instanceof MapType) {
+        MapType mapType = (MapType) type;
+        Map<Object, Object> map = current == null ? new LinkedHashMap<>() : new LinkedHashMap<>((Map<?, ?>) current);
+        Object decodedKey = CqlValues.decode(mapType.getKeyType(), key);
+        if (value == null) {
+          map.remove(decodedKey);
+        } else {
+          map.put(decodedKey, CqlValues.decode(mapType.getValueType(), value));
+        }
+        updated = map;
+      } else {
+        List<Object> list = current == null ? new ArrayList<>() : new ArrayList<>((List<?>) current);
+        int index = key == null ? -1 : CqlValues.toInt(key);
+        if (index < 0 || index >= list.size()) {
+          throw new InvalidQueryException(null, "List index " + index + " out of bound, list has size " + list.size());
+        }
+        if (value == null) {
+          list.remove(index);
+        } else {
+          list.set(index, CqlValues.decode(((ListType) type).getElementType(), value));
+        }
+        updated = list;
+      }
+      row.write(column, encodeCollection(type, updated), timestamp, expiration);
+    };
+  }
+
+  /**
+   * {@code DELETE column[key]} on maps and lists.
+   */
+  static Operation deleteElement(final int column, final DataType type, final Term keyTerm) {
+    return setElement(column, type, keyTerm, Term.literal(null));
+  }
+
+  /**
+   * {@code column.field = value} on udts.
+   */
+  static Operation setField(final int column, final UserDefinedType type, final int field, final Term term) {
+    return (row, execution, timestamp, expiration) -> {
+      ByteBuffer value = term.bind(execution);
+      if (Execution.isUnset(value)) {
+        return;
+      }
+      UdtValue current = (UdtValue) CqlValues.decode(type, row.get(column, execution.getNow()));
+      UdtValue updated = (current == null ? type.newValue() : current).setBytesUnsafe(field, value);
+      row.write(column, CqlValues.encode(type, updated), timestamp, expiration);
+    };
+  }
+
+  static Operation update(final int column, final DataType type, final DataType operandType, final Term term,
+      final BinaryOperator<Object> function) {
+    return (row, execution, timestamp, expiration) -> {
+      ByteBuffer operand = term.bind(execution);
+      if (Execution.isUnset(operand)) {
+        return;
+      }
+      Object current = CqlValues.decode(type, row.get(column, execution.getNow()));
+      Object updated = function.apply(current, CqlValues.decode(operandType, operand));
+      row.write(column, encodeCollection(type, updated), timestamp, expiration);
+    };
+  }
+
+  /**
+   * Encode an updated value, empty collections being null.
+   */
+  static ByteBuffer encodeCollection(final DataType type, final Object value) {
+    if ((value instanceof Collection && ((Collection<?>) value).isEmpty()) || (value instanceof Map && ((Map<?, ?>) value).isEmpty())) {
+      return null;
+    }
+    return CqlValues.encode(type, value);
+  }
+}
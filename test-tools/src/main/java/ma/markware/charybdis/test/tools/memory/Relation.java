@@ -0,0 +1,142 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.MapType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A relation of a where clause, or a condition of a lightweight transaction, on a column value.
+ *
+ * @author Oussama Markad
+ */
+final class Relation {
+
+  enum Operator {
+    EQ, NOT_EQ, LT, LTE, GT, GTE, IN, CONTAINS, CONTAINS_KEY, LIKE, IS_NOT_NULL
+  }
+
+  private final int column;
+  private final DataType type;
+  private final Operator operator;
+  private final Term term;
+  private final Terms terms;
+  private final Comparator<ByteBuffer> comparator;
+
+  Relation(final int column, final DataType type, final Operator operator, final Term term, final Terms terms) {
+    this.column = column;
+    this.type = type;
+    this.operator = operator;
+    this.term = term;
+    this.terms = terms;
+    this.comparator = CqlValues.comparator(type);
+  }
+
+  int getColumn() {
+    return column;
+  }
+
+  Operator getOperator() {
+    return operator;
+  }
+
+  Term getTerm() {
+    return term;
+  }
+
+  Terms getTerms() {
+    return terms;
+  }
+
+  /**
+   * @param value column value, {@code null} if column is null or row doesn't exist.
+   */
+  boolean test(final ByteBuffer value, final Execution execution) {
+    switch (operator) {
+      case IS_NOT_NULL:
+        return value != null;
+      case IN:
+        for (ByteBuffer operand : terms.bind(execution)) {
+          if (comparator.compare(value, operand) == 0) {
+            return true;
+          }
+        }
+        return false;
+      default:
+        ByteBuffer operand = term.bind(execution);
+        if (Execution.isUnset(operand)) {
+          return true;
+        }
+        return test(value, operand);
+    }
+  }
+
+  private boolean test(final ByteBuffer value, final ByteBuffer operand) {
+    switch (operator) {
+      case EQ:
+        return comparator.compare(value, operand) == 0;
+      case NOT_EQ:
+        return comparator.compare(value, operand) != 0;
+      case LT:
+        return value != null && operand != null && comparator.compare(value, operand) < 0;
+      case LTE:
+        return value != null && operand != null && comparator.compare(value, operand) <= 0;
+      case GT:
+        return value != null && operand != null && comparator.compare(value, operand) > 0;
+      case GTE:
+        return value != null && operand != null && comparator.compare(value, operand) >= 0;
+      case CONTAINS:
+        return value != null && contains(value, operand);
+      case CONTAINS_KEY:
+        return value != null && ((Map<?, ?>) CqlValues.decode(type, value)).containsKey(CqlValues.decode(((MapType) type).getKeyType(), operand));
+      case LIKE:
+        return value != null && like((String) CqlValues.decode(type, value), (String) CqlValues.decode(type, operand));
+      default:
+        throw new IllegalStateException("Unexpected operator " + operator);
+    }
+  }
+
+  private boolean contains(final ByteBuffer value, final ByteBuffer operand) {
+    Object collection = CqlValues.decode(type, value);
+    if (type instanceof MapType) {
+      return ((Map<?, ?>) collection).containsValue(CqlValues.decode(((MapType) type).getValueType(), operand));
+    }
+    DataType elementType = type instanceof ListType ? ((ListType) type).getElementType() : ((SetType) type).getElementType();
+    return ((Collection<?>) collection).contains(CqlValues.decode(elementType, operand));
+  }
+
+  private static boolean like(final String value, final String pattern) {
+    String[] parts = pattern.split("%", -1);
+    StringBuilder regex = new StringBuilder();
+    for (int i = 0; i < parts.length; i++) {
+      if (i > 0) {
+        regex.append(".*");
+      }
+      regex.append(Pattern.quote(parts[i]));
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL).matcher(value).matches();
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.ClusteringKey;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.PartitionKey;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.StoredRow;
+import ma.markware.charybdis.test.tools.memory.Relation.Operator;
+
+/**
+ * Restrictions of a where clause: partition key and clustering key values, token range and row filters.
+ *
+ * @author Oussama Markad
+ */
+final class Restrictions {
+
+  private final InMemoryTable table;
+  private final List<Relation> relations;
+  private final Terms[] partitionKeyTerms;
+  private final Terms[] clusteringTerms;
+  private final boolean partitionRestricted;
+  private final boolean clusteringRestricted;
+  private Term lowerToken;
+  private boolean lowerTokenInclusive;
+  private Term upperToken;
+  private boolean upperTokenInclusive;
+
+  /**
+   * @param relations relations on columns.
+   * @param tokenRelations relations on partition key token.
+   */
+  Restrictions(final InMemoryTable table, final List<Relation> relations, final List<Relation> tokenRelations) {
+    this.table = table;
+    this.relations = relations;
+    this.partitionKeyTerms = resolveTerms(table.getPartitionKeyColumns());
+    this.clusteringTerms = resolveTerms(table.getClusteringColumns());
+    this.partitionRestricted = isRestricted(partitionKeyTerms);
+    this.clusteringRestricted = isRestricted(clusteringTerms);
+    for (Relation tokenRelation : tokenRelations) {
+      Operator operator = tokenRelation.getOperator();
+      if (operator == Operator.GT || operator == Operator.GTE || operator == Operator.EQ) {
+        lowerToken = tokenRelation.getTerm();
+        lowerTokenInclusive = operator != Operator.GT;
+      }
+      if (operator == Operator.LT || operator == Operator.LTE || operator == Operator.EQ) {
+        upperToken = tokenRelation.getTerm();
+        upperTokenInclusive = operator != Operator.LT;
+      }
+      if (operator != Operator.GT && operator != Operator.GTE && operator != Operator.LT && operator != Operator.LTE && operator != Operator.EQ) {
+        throw new InvalidQueryException(null, "Unsupported operator " + operator + " on token relation");
+      }
+    }
+  }
+
+  private Terms[] resolveTerms(final int[] columns) {
+    Terms[] terms = new Terms[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      for (Relation relation : relations) {
+        if (relation.getColumn() == columns[i] && relation.getOperator() == Operator.EQ) {
+          terms[i] = Terms.of(relation.getTerm());
+        } else if (relation.getColumn() == columns[i] && relation.getOperator() == Operator.IN) {
+          terms[i] = relation.getTerms();
+        }
+      }
+    }
+    return terms;
+  }
+
+  private static boolean isRestricted(final Terms[] terms) {
+    for (Terms term : terms) {
+      if (term == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return true if all partition key columns are restricted by {@code =} or {@code IN} relations.
+   */
+  boolean isPartitionRestricted() {
+    return partitionRestricted;
+  }
+
+  /**
+   * @return true if all clustering columns are restricted by {@code =} or {@code IN} relations.
+   */
+  boolean isClusteringRestricted() {
+    return clusteringRestricted;
+  }
+
+  List<PartitionKey> partitionKeys(final Execution execution) {
+    List<PartitionKey> partitionKeys = new ArrayList<>();
+    for (ByteBuffer[] components : cartesianProduct(table.getPartitionKeyColumns(), partitionKeyTerms, execution)) {
+      partitionKeys.add(table.partitionKey(components));
+    }
+    return partitionKeys;
+  }
+
+  List<ClusteringKey> clusteringKeys(final Execution execution) {
+    if (clusteringTerms.length == 0) {
+      return Collections.singletonList(ClusteringKey.EMPTY);
+    }
+    List<ClusteringKey> clusteringKeys = new ArrayList<>();
+    for (ByteBuffer[] components : cartesianProduct(table.getClusteringColumns(), clusteringTerms, execution)) {
+      clusteringKeys.add(new ClusteringKey(components));
+    }
+    return clusteringKeys;
+  }
+
+  private List<ByteBuffer[]> cartesianProduct(final int[] columns, final Terms[] terms, final Execution execution) {
+    List<ByteBuffer[]> keys = Collections.singletonList(new ByteBuffer[columns.length]);
+    for (int i = 0; i < columns.length; i++) {
+      List<ByteBuffer> values = terms[i].bind(execution);
+      for (ByteBuffer value : values) {
+        if (value == null || Execution.isUnset(value)) {
+          throw new InvalidQueryException(null, "Invalid null or unset value for primary key column " + table.getColumn(columns[i]).getName().asInternal());
+        }
+      }
+      if (values.size() == 1) {
+        for (ByteBuffer[] key : keys) {
+          key[i] = values.get(0);
+        }
+      } else {
+        List<ByteBuffer[]> combinedKeys = new ArrayList<>(keys.size() * values.size());
+        for (ByteBuffer[] key : keys) {
+          for (ByteBuffer value : values) {
+            ByteBuffer[] combinedKey = key.clone();
+            combinedKey[i] = value;
+            combinedKeys.add(combinedKey);
+          }
+        }
+        keys = combinedKeys;
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * @return partitions in token range, all partitions if token is not restricted.
+   */
+  <V> NavigableMap<PartitionKey, V> restrictTokenRange(final NavigableMap<PartitionKey, V> partitions, final Execution execution) {
+    NavigableMap<PartitionKey, V> restrictedPartitions = partitions;
+    if (lowerToken != null) {
+      long token = bindToken(lowerToken, execution);
+      restrictedPartitions = restrictedPartitions.tailMap(lowerTokenInclusive ? PartitionKey.beforeToken(token) : PartitionKey.afterToken(token), false);
+    }
+    if (upperToken != null) {
+      long token = bindToken(upperToken, execution);
+      restrictedPartitions = restrictedPartitions.headMap(upperTokenInclusive ? PartitionKey.afterToken(token) : PartitionKey.beforeToken(token), false);
+    }
+    return restrictedPartitions;
+  }
+
+  private static long bindToken(final Term term, final Execution execution) {
+    ByteBuffer value = term.bind(execution);
+    if (value == null || Execution.isUnset(value)) {
+      throw new InvalidQueryException(null, "Invalid null or unset value for token relation");
+    }
+    return CqlValues.toLong(value);
+  }
+
+  /**
+   * @return true if row matches all relations.
+   */
+  boolean test(final StoredRow row, final Execution execution) {
+    for (Relation relation : relations) {
+      if (!relation.test(row.get(relation.getColumn(), execution.getNow()), execution)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
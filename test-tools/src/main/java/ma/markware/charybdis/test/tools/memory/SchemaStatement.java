@@ -0,0 +1,45 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import java.util.Collections;
+import java.util.function.Consumer;
+
+/**
+ * A schema change or a truncation, applied when executed.
+ *
+ * @author Oussama Markad
+ */
+class SchemaStatement extends InMemoryStatement {
+
+  private final InMemoryDatabase database;
+  private final Consumer<InMemoryDatabase> change;
+
+  SchemaStatement(final InMemoryDatabase database, final Consumer<InMemoryDatabase> change) {
+    super(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    this.database = database;
+    this.change = change;
+  }
+
+  @Override
+  InMemoryResult execute(final Execution execution) {
+    change.accept(database);
+    return InMemoryResult.EMPTY;
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.ClusteringKey;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.Partition;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.PartitionKey;
+import ma.markware.charybdis.test.tools.memory.InMemoryTable.StoredRow;
+
+/**
+ * Select statement.
+ * Rows are read in token order, then clustering order, and paged by position: the paging state holds the primary key of the
+ * last returned row, so that writes between pages don't shift results.
+ *
+ * @author Oussama Markad
+ */
+class SelectStatement extends InMemoryStatement {
+
+  static final int DEFAULT_PAGE_SIZE = 5000;
+
+  private final InMemoryTable table;
+  private final Restrictions restrictions;
+  private final List<Selector> selectors;
+  private final boolean distinct;
+  private final boolean reversed;
+  private final Term limit;
+
+  /**
+   * Extracts a result column value from a row.
+   */
+  @FunctionalInterface
+  interface Selector {
+
+    ByteBuffer select(StoredRow row, Execution execution);
+  }
+
+  SelectStatement(final List<ColumnDefinition> variables, final List<Integer> partitionKeyIndices, final List<ColumnDefinition> resultColumns,
+      final InMemoryTable table, final Restrictions restrictions, final List<Selector> selectors, final boolean distinct, final boolean reversed,
+      final Term limit) {
+    super(variables, partitionKeyIndices, resultColumns);
+    this.table = table;
+    this.restrictions = restrictions;
+    this.selectors = selectors;
+    this.distinct = distinct;
+    this.reversed = reversed;
+    this.limit = limit;
+  }
+
+  @Override
+  InMemoryResult execute(final Execution execution) {
+    int maxRows = resolveLimit(execution);
+    PagingState pagingState = PagingState.decode(table, execution.getPagingState());
+    int returnedRows = pagingState == null ? 0 : pagingState.returnedRows;
+    int pageSize = execution.getPageSize() > 0 ? execution.getPageSize() : DEFAULT_PAGE_SIZE;
+    int rowsToFetch = Math.min(pageSize, maxRows - returnedRows);
+
+    List<List<ByteBuffer>> rows = new ArrayList<>();
+    PartitionKey lastPartitionKey = null;
+    ClusteringKey lastClusteringKey = null;
+    boolean hasMorePages = false;
+    long now = execution.getNow();
+    partitions:
+    for (Map.Entry<PartitionKey, Partition> partitionEntry : resolvePartitions(execution, pagingState)) {
+      PartitionKey partitionKey = partitionEntry.getKey();
+      ClusteringKey resumeAfter = null;
+      if (pagingState != null && partitionKey.equals(pagingState.partitionKey)) {
+        if (pagingState.clusteringKey == null) {
+          continue;
+        }
+        resumeAfter = pagingState.clusteringKey;
+      }
+      Partition partition = partitionEntry.getValue();
+      synchronized (partition) {
+        for (Map.Entry<ClusteringKey, StoredRow> rowEntry : resolveRows(partition, resumeAfter, execution)) {
+          StoredRow row = rowEntry.getValue();
+          if (!row.isLive(table, now) || !restrictions.test(row, execution)) {
+            continue;
+          }
+          if (rows.size() >= rowsToFetch) {
+            hasMorePages = returnedRows + rows.size() < maxRows;
+            break partitions;
+          }
+          rows.add(select(row, execution));
+          lastPartitionKey = partitionKey;
+          lastClusteringKey = distinct ? null : rowEntry.getKey();
+          if (distinct) {
+            break;
+          }
+        }
+      }
+    }
+    ByteBuffer nextPagingState = hasMorePages ? PagingState.encode(returnedRows + rows.size(), lastPartitionKey, lastClusteringKey) : null;
+    return new InMemoryResult(rows, nextPagingState, true);
+  }
+
+  private int resolveLimit(final Execution execution) {
+    if (limit == null) {
+      return Integer.MAX_VALUE;
+    }
+    ByteBuffer value = limit.bind(execution);
+    if (value == null || Execution.isUnset(value)) {
+      return Integer.MAX_VALUE;
+    }
+    int maxRows = CqlValues.toInt(value);
+    if (maxRows <= 0) {
+      throw new InvalidQueryException(null, "LIMIT must be strictly positive");
+    }
+    return maxRows;
+  }
+
+  private Iterable<Map.Entry<PartitionKey, Partition>> resolvePartitions(final Execution execution, final PagingState pagingState) {
+    NavigableMap<PartitionKey, Partition> partitions;
+    if (restrictions.isPartitionRestricted()) {
+      partitions = new TreeMap<>();
+      for (PartitionKey partitionKey : restrictions.partitionKeys(execution)) {
+        Partition partition = table.getPartition(partitionKey);
+        if (partition != null) {
+          partitions.put(partitionKey, partition);
+        }
+      }
+    } else {
+      partitions = restrictions.restrictTokenRange(table.getPartitions(), execution);
+    }
+    if (pagingState != null) {
+      partitions = partitions.tailMap(pagingState.partitionKey, true);
+    }
+    return partitions.entrySet();
+  }
+
+  private Collection<Map.Entry<ClusteringKey, StoredRow>> resolveRows(final Partition partition, final ClusteringKey resumeAfter,
+      final Execution execution) {
+    NavigableMap<ClusteringKey, StoredRow> rows = reversed ? partition.getRows().descendingMap() : partition.getRows();
+    if (resumeAfter != null) {
+      rows = rows.tailMap(resumeAfter, false);
+    }
+    if (!restrictions.isClusteringRestricted() || distinct) {
+      return rows.entrySet();
+    }
+    List<ClusteringKey> clusteringKeys = restrictions.clusteringKeys(execution);
+    if (clusteringKeys.size() == 1) {
+      ClusteringKey clusteringKey = clusteringKeys.get(0);
+      StoredRow row = rows.get(clusteringKey);
+      return row == null ? Collections.emptyList() : Collections.singletonList(new SimpleImmutableEntry<>(clusteringKey, row));
+    }
+    return rows.entrySet();
+  }
+
+  private List<ByteBuffer> select(final StoredRow row, final Execution execution) {
+    List<ByteBuffer> values = new ArrayList<>(selectors.size());
+    for (Selector selector : selectors) {
+      ByteBuffer value = selector.select(row, execution);
+      values.add(value == null ? null : value.duplicate());
+    }
+    return values;
+  }
+
+  /**
+   * Position of the last returned row.
+   */
+  private static final class PagingState {
+
+    private final int returnedRows;
+    private final PartitionKey partitionKey;
+    private final ClusteringKey clusteringKey;
+
+    private PagingState(final int returnedRows, final PartitionKey partitionKey, final ClusteringKey clusteringKey) {
+      this.returnedRows = returnedRows;
+      this.partitionKey = partitionKey;
+      this.clusteringKey = clusteringKey;
+    }
+
+    static ByteBuffer encode(final int returnedRows, final PartitionKey partitionKey, final ClusteringKey clusteringKey) {
+      ByteBuffer[] partitionKeyComponents = partitionKey.getComponents();
+      ByteBuffer[] clusteringKeyComponents = clusteringKey == null ? null : clusteringKey.getComponents();
+      int size = 8 + sizeOf(partitionKeyComponents) + 4 + (clusteringKeyComponents == null ? 0 : sizeOf(clusteringKeyComponents));
+      ByteBuffer pagingState = ByteBuffer.allocate(size);
+      pagingState.putInt(returnedRows);
+      write(pagingState, partitionKeyComponents);
+      if (clusteringKeyComponents == null) {
+        pagingState.putInt(-1);
+      } else {
+        write(pagingState, clusteringKeyComponents);
+      }
+      pagingState.flip();
+      return pagingState;
+    }
+
+    static PagingState decode(final InMemoryTable table, final ByteBuffer pagingState) {
+      if (pagingState == null) {
+        return null;
+      }
+      try {
+        ByteBuffer buffer = pagingState.duplicate();
+        int returnedRows = buffer.getInt();
+        PartitionKey partitionKey = table.partitionKey(read(buffer, buffer.getInt()));
+        int clusteringKeySize = buffer.getInt();
+        ClusteringKey clusteringKey = clusteringKeySize < 0 ? null : new ClusteringKey(read(buffer, clusteringKeySize));
+        return new PagingState(returnedRows, partitionKey, clusteringKey);
+      } catch (RuntimeException e) {
+        throw new InvalidQueryException(null, "Invalid paging state");
+      }
+    }
+
+    private static int sizeOf(final ByteBuffer[] components) {
+      int size = 0;
+      for (ByteBuffer component : components) {
+        size += 4 + component.remaining();
+      }
+      return size;
+    }
+
+    private static void write(final ByteBuffer buffer, final ByteBuffer[] components) {
+      buffer.putInt(components.length);
+      for (ByteBuffer component : components) {
+        buffer.putInt(component.remaining());
+        buffer.put(component.duplicate());
+      }
+    }
+
+    private static ByteBuffer[] read(final ByteBuffer buffer, final int size) {
+      ByteBuffer[] components = new ByteBuffer[size];
+      for (int i = 0; i < size; i++) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        components[i] = ByteBuffer.wrap(bytes);
+      }
+      return components;
+    }
+  }
+}
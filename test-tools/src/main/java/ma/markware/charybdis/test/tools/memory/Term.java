@@ -0,0 +1,43 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A value in a statement, either a bind marker or a literal.
+ *
+ * @author Oussama Markad
+ */
+@FunctionalInterface
+interface Term {
+
+  /**
+   * @return serialized value, may be {@code null} or unset.
+   */
+  ByteBuffer bind(Execution execution);
+
+  static Term bindMarker(final int index) {
+    return execution -> execution.getValue(index);
+  }
+
+  static Term literal(final ByteBuffer value) {
+    return execution -> value;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Values of an {@code IN} relation, either a list of terms or a single bind marker of list type.
+ *
+ * @author Oussama Markad
+ */
+@FunctionalInterface
+interface Terms {
+
+  /**
+   * @return serialized values, to be checked for {@code null} or unset values.
+   */
+  List<ByteBuffer> bind(Execution execution);
+
+  static Terms of(final Term term) {
+    return execution -> Collections.singletonList(term.bind(execution));
+  }
+
+  static Terms of(final List<Term> terms) {
+    return execution -> {
+      List<ByteBuffer> values = new ArrayList<>(terms.size());
+      for (Term term : terms) {
+        values.add(term.bind(execution));
+      }
+      return values;
+    };
+  }
+
+  static Terms ofList(final Term listTerm, final DataType elementType) {
+    DataType listType = DataTypes.listOf(elementType);
+    return execution -> {
+      ByteBuffer value = listTerm.bind(execution);
+      if (value == null || Execution.isUnset(value)) {
+        throw new InvalidQueryException(null, "Invalid null or unset value for IN relation");
+      }
+      List<ByteBuffer> values = new ArrayList<>();
+      for (Object element : (List<?>) CqlValues.decode(listType, value)) {
+        values.add(CqlValues.encode(elementType, element));
+      }
+      return values;
+    };
+  }
+}
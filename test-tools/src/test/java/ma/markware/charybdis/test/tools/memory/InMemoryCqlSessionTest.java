@@ -0,0 +1,300 @@
+/*
+ * Charybdis - Cassandra ORM framework
+ *
+ * Copyright (C) 2020 Charybdis authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package ma.markware.charybdis.test.tools.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.servererrors.SyntaxError;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryCqlSessionTest {
+
+  private InMemoryCqlSession session;
+
+  @BeforeEach
+  void setup() {
+    session = new InMemoryCqlSession();
+    session.executeScript("CREATE KEYSPACE IF NOT EXISTS ks WITH REPLICATION={'class' : 'SimpleStrategy', 'replication_factor' : 1};\n"
+                              + "CREATE TYPE IF NOT EXISTS ks.address(street text,number int);\n"
+                              + "CREATE TABLE IF NOT EXISTS ks.events(id uuid,day int,seq int,label text,tags set<text>,scores list<int>,"
+                              + "props map<text,int>,address frozen<address>,PRIMARY KEY((id,day),seq))WITH CLUSTERING ORDER BY(seq DESC);\n"
+                              + "CREATE INDEX IF NOT EXISTS events_label_idx ON ks.events(label);\n");
+  }
+
+  @Test
+  void insert_and_select_by_key() {
+    // Given
+    PreparedStatement insert = session.prepare("INSERT INTO ks.events (id,day,seq,label,address) VALUES (?,?,?,?,?)");
+    UUID id = UUID.randomUUID();
+
+    // When
+    session.execute(insert.bind(id, 1, 1, "first", null));
+    ResultSet resultSet = session.execute(SimpleStatement.newInstance("SELECT label,seq FROM ks.events WHERE id=? AND day=?", id, 1));
+
+    // Then
+    Row row = resultSet.one();
+    assertThat(row).isNotNull();
+    assertThat(row.getString("label")).isEqualTo("first");
+    assertThat(row.getInt("seq")).isEqualTo(1);
+    assertThat(resultSet.one()).isNull();
+  }
+
+  @Test
+  void select_should_follow_clustering_order() {
+    // Given
+    UUID id = UUID.randomUUID();
+    for (int seq = 0; seq < 5; seq++) {
+      session.execute(SimpleStatement.newInstance("INSERT INTO ks.events (id,day,seq) VALUES (?,?,?)", id, 1, seq));
+    }
+
+    // When
+    List<Integer> descending = seqs(session.execute(SimpleStatement.newInstance("SELECT seq FROM ks.events WHERE id=? AND day=?", id, 1)));
+    List<Integer> ascending = seqs(session.execute(
+        SimpleStatement.newInstance("SELECT seq FROM ks.events WHERE id=? AND day=? AND seq>=? ORDER BY seq ASC LIMIT 3", id, 1, 1)));
+
+    // Then
+    assertThat(descending).containsExactly(4, 3, 2, 1, 0);
+    assertThat(ascending).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void select_should_page_with_paging_state() {
+    // Given
+    UUID id = UUID.randomUUID();
+    for (int seq = 0; seq < 10; seq++) {
+      session.execute(SimpleStatement.newInstance("INSERT INTO ks.events (id,day,seq) VALUES (?,?,?)", id, 1, seq));
+    }
+    SimpleStatement select = SimpleStatement.newInstance("SELECT seq FROM ks.events WHERE id=? AND day=?", id, 1).setPageSize(4);
+
+    // When
+    ResultSet firstPage = session.execute(select);
+    int firstPageSize = firstPage.getAvailableWithoutFetching();
+    List<Integer> firstPageSeqs = seqs(firstPage, 4);
+    ResultSet secondPage = session.execute(select.setPagingState(firstPage.getExecutionInfo().getPagingState()));
+    ResultSet allPages = session.execute(select.setPagingState((ByteBuffer) null));
+
+    // Then
+    assertThat(firstPageSize).isEqualTo(4);
+    assertThat(firstPageSeqs).containsExactly(9, 8, 7, 6);
+    assertThat(seqs(secondPage, 4)).containsExactly(5, 4, 3, 2);
+    assertThat(seqs(allPages)).hasSize(10);
+  }
+
+  @Test
+  void select_should_fetch_next_pages_asynchronously() {
+    // Given
+    UUID id = UUID.randomUUID();
+    for (int seq = 0; seq < 3; seq++) {
+      session.execute(SimpleStatement.newInstance("INSERT INTO ks.events (id,day,seq) VALUES (?,?,?)", id, 1, seq));
+    }
+
+    // When
+    AsyncResultSet firstPage = session.executeAsync(SimpleStatement.newInstance("SELECT seq FROM ks.events WHERE id=? AND day=?", id, 1)
+                                                                   .setPageSize(2)).toCompletableFuture().join();
+    AsyncResultSet secondPage = firstPage.fetchNextPage().toCompletableFuture().join();
+
+    // Then
+    assertThat(firstPage.remaining()).isEqualTo(2);
+    assertThat(firstPage.hasMorePages()).isTrue();
+    assertThat(secondPage.remaining()).isEqualTo(1);
+    assertThat(secondPage.hasMorePages()).isFalse();
+  }
+
+  @Test
+  void insert_if_not_exists_should_not_overwrite() {
+    // Given
+    UUID id = UUID.randomUUID();
+    String insert = "INSERT INTO ks.events (id,day,seq,label) VALUES (?,?,?,?) IF NOT EXISTS";
+
+    // When
+    boolean firstApplied = session.execute(SimpleStatement.newInstance(insert, id, 1, 1, "first")).wasApplied();
+    boolean secondApplied = session.execute(SimpleStatement.newInstance(insert, id, 1, 1, "second")).wasApplied();
+
+    // Then
+    assertThat(firstApplied).isTrue();
+    assertThat(secondApplied).isFalse();
+    assertThat(label(id)).isEqualTo("first");
+  }
+
+  @Test
+  void update_if_exists_should_not_create_row() {
+    // Given
+    UUID id = UUID.randomUUID();
+    String update = "UPDATE ks.events SET label=? WHERE id=? AND day=? AND seq=? IF EXISTS";
+
+    // When
+    boolean applied = session.execute(SimpleStatement.newInstance(update, "updated", id, 1, 1)).wasApplied();
+
+    // Then
+    assertThat(applied).isFalse();
+    assertThat(session.execute(SimpleStatement.newInstance("SELECT * FROM ks.events WHERE id=? AND day=?", id, 1)).one()).isNull();
+  }
+
+  @Test
+  void update_should_modify_collections_and_udt() {
+    // Given
+    UUID id = UUID.randomUUID();
+    session.execute(SimpleStatement.newInstance("INSERT INTO ks.events (id,day,seq,tags,scores,props) VALUES (?,?,?,{'a','b'},[1,2],{'x':1})",
+                                                id, 1, 1));
+
+    // When
+    session.execute(SimpleStatement.newInstance(
+        "UPDATE ks.events SET tags=tags-?,scores=scores+?,props[?]=?,address={street:'main',number:3} WHERE id=? AND day=? AND seq=?",
+        Collections.singleton("a"), Collections.singletonList(3), "y", 2, id, 1, 1));
+    Row row = session.execute(SimpleStatement.newInstance("SELECT tags,scores,props,address.street,props['y'] FROM ks.events WHERE id=? AND day=?",
+                                                          id, 1)).one();
+
+    // Then
+    assertThat(row).isNotNull();
+    assertThat(row.getSet("tags", String.class)).containsExactly("b");
+    assertThat(row.getList("scores", Integer.class)).containsExactly(1, 2, 3);
+    assertThat(row.getMap("props", String.class, Integer.class)).containsEntry("x", 1).containsEntry("y", 2);
+    assertThat(row.getString("address.street")).isEqualTo("main");
+    assertThat(row.getInt(4)).isEqualTo(2);
+  }
+
+  @Test
+  void insert_with_ttl_and_timestamp() {
+    // Given
+    UUID id = UUID.randomUUID();
+
+    // When
+    session.execute(SimpleStatement.newInstance("INSERT INTO ks.events (id,day,seq,label) VALUES (?,?,?,?) USING TIMESTAMP 42 AND TTL 100",
+                                                id, 1, 1, "first"));
+    Row row = session.execute(SimpleStatement.newInstance("SELECT writetime(label),ttl(label) AS remaining FROM ks.events WHERE id=? AND day=?",
+                                                          id, 1)).one();
+
+    // Then
+    assertThat(row).isNotNull();
+    assertThat(row.getLong("writetime(label)")).isEqualTo(42L);
+    assertThat(row.getInt("remaining")).isBetween(99, 100);
+  }
+
+  @Test
+  void write_with_older_timestamp_should_be_ignored() {
+    // Given
+    UUID id = UUID.randomUUID();
+    session.execute(SimpleStatement.newInstance("INSERT INTO ks.events (id,day,seq,label) VALUES (?,?,?,?) USING TIMESTAMP 10", id, 1, 1, "new"));
+
+    // When
+    session.execute(SimpleStatement.newInstance("UPDATE ks.events USING TIMESTAMP 5 SET label=? WHERE id=? AND day=? AND seq=?", "old", id, 1, 1));
+
+    // Then
+    assertThat(label(id)).isEqualTo("new");
+  }
+
+  @Test
+  void delete_should_remove_rows() {
+    // Given
+    UUID id = UUID.randomUUID();
+    for (int seq = 0; seq < 4; seq++) {
+      session.execute(SimpleStatement.newInstance("INSERT INTO ks.events (id,day,seq,label) VALUES (?,?,?,?)", id, 1, seq, "label"));
+    }
+
+    // When
+    session.execute(SimpleStatement.newInstance("DELETE FROM ks.events WHERE id=? AND day=? AND seq=?", id, 1, 3));
+    session.execute(SimpleStatement.newInstance("DELETE label FROM ks.events WHERE id=? AND day=? AND seq=?", id, 1, 2));
+    boolean applied = session.execute(SimpleStatement.newInstance("DELETE FROM ks.events WHERE id=? AND day=? AND seq=? IF EXISTS", id, 1, 3))
+                             .wasApplied();
+    session.execute(SimpleStatement.newInstance("DELETE FROM ks.events WHERE id=? AND day=? AND seq<?", id, 1, 1));
+
+    // Then
+    assertThat(applied).isFalse();
+    assertThat(seqs(session.execute(SimpleStatement.newInstance("SELECT seq FROM ks.events WHERE id=? AND day=?", id, 1)))).containsExactly(2, 1);
+    assertThat(label(id)).isNull();
+  }
+
+  @Test
+  void batch_should_apply_all_statements() {
+    // Given
+    UUID id = UUID.randomUUID();
+    PreparedStatement insert = session.prepare("INSERT INTO ks.events (id,day,seq) VALUES (?,?,?)");
+    BatchStatement batch = BatchStatement.newInstance(DefaultBatchType.UNLOGGED, insert.bind(id, 1, 1), insert.bind(id, 1, 2));
+
+    // When
+    session.execute(batch);
+
+    // Then
+    assertThat(seqs(session.execute(SimpleStatement.newInstance("SELECT seq FROM ks.events WHERE id=? AND day=?", id, 1)))).containsExactly(2, 1);
+  }
+
+  @Test
+  void bound_statement_should_compute_routing_key() {
+    // Given
+    PreparedStatement insert = session.prepare("INSERT INTO ks.events (id,day,seq) VALUES (?,?,?)");
+
+    // When
+    ByteBuffer routingKey = insert.bind(UUID.randomUUID(), 1, 1).getRoutingKey();
+
+    // Then
+    assertThat(insert.getPartitionKeyIndices()).containsExactly(0, 1);
+    assertThat(routingKey).isNotNull();
+  }
+
+  @Test
+  void truncate_should_remove_all_rows() {
+    // Given
+    UUID id = UUID.randomUUID();
+    session.execute(SimpleStatement.newInstance("INSERT INTO ks.events (id,day,seq) VALUES (?,?,?)", id, 1, 1));
+
+    // When
+    session.execute("TRUNCATE ks.events");
+
+    // Then
+    assertThat(session.execute("SELECT * FROM ks.events").all()).isEmpty();
+  }
+
+  @Test
+  void invalid_queries_should_fail() {
+    assertThatExceptionOfType(InvalidQueryException.class).isThrownBy(() -> session.execute("SELECT * FROM ks.unknown"));
+    assertThatExceptionOfType(InvalidQueryException.class).isThrownBy(() -> session.execute("SELECT unknown FROM ks.events"));
+    assertThatExceptionOfType(InvalidQueryException.class).isThrownBy(
+        () -> session.execute(SimpleStatement.newInstance("UPDATE ks.events SET label=? WHERE id=?", "label", UUID.randomUUID())));
+    assertThatExceptionOfType(SyntaxError.class).isThrownBy(() -> session.execute("SELECT * ks.events"));
+  }
+
+  private String label(final UUID id) {
+    Row row = session.execute(SimpleStatement.newInstance("SELECT label FROM ks.events WHERE id=? AND day=?", id, 1)).one();
+    return row == null ? null : row.getString("label");
+  }
+
+  private static List<Integer> seqs(final ResultSet resultSet) {
+    return resultSet.all().stream().map(row -> row.getInt("seq")).collect(Collectors.toList());
+  }
+
+  private static List<Integer> seqs(final ResultSet resultSet, final int count) {
+    return Arrays.stream(new int[count]).mapToObj(i -> resultSet.one().getInt("seq")).collect(Collectors.toList());
+  }
+}